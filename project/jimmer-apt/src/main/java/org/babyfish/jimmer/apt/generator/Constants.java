@@ -12,7 +12,6 @@ import org.babyfish.jimmer.impl.util.FlatUtils;
 import org.babyfish.jimmer.meta.PropId;
 import org.babyfish.jimmer.meta.TypedProp;
 import org.babyfish.jimmer.runtime.DraftContext;
-import org.babyfish.jimmer.runtime.Visibility;
 import org.babyfish.jimmer.sql.JoinType;
 import org.babyfish.jimmer.impl.validation.Validator;
 import org.babyfish.jimmer.sql.collection.IdViewList;
@@ -76,9 +75,6 @@ class Constants {
     public static final ClassName RUNTIME_TYPE_CLASS_NAME =
             ClassName.get(org.babyfish.jimmer.meta.ImmutableType.class);
 
-    public static final ClassName VISIBILITY_CLASS_NAME =
-            ClassName.get(Visibility.class);
-
     public static final ClassName PROP_ID_CLASS_NAME =
             ClassName.get(PropId.class);
 
@@ -32,11 +32,17 @@ public class DraftImplGenerator {
 
     private final ClassName draftSpiClassName;
 
+    private final StateBits loadedStates;
+
+    private final StateBits hiddenStates;
+
     private TypeSpec.Builder typeBuilder;
 
     public DraftImplGenerator(ImmutableType type) {
         this.type = type;
         draftSpiClassName = ClassName.get(DraftSpi.class);
+        loadedStates = StateBits.loaded(type);
+        hiddenStates = StateBits.hidden(type);
     }
 
     public void generate(TypeSpec.Builder parentBuilder) {
@@ -544,7 +550,7 @@ public class DraftImplGenerator {
                 builder.addStatement("__tmpModified.$L = $L", prop.getName(), prop.getName());
             }
             if (prop.isLoadedStateRequired()) {
-                builder.addStatement("__tmpModified.$L = true", prop.getLoadedStateName());
+                builder.addStatement("$L", loadedStates.set("__tmpModified", prop));
             }
         }
         builder.addStatement("return this");
@@ -664,18 +670,6 @@ public class DraftImplGenerator {
                 .addAnnotation(Override.class)
                 .addParameter(argType, "prop")
                 .addParameter(TypeName.BOOLEAN, "visible");
-        builder.addStatement("$T __visibility = $L.__visibility", VISIBILITY_CLASS_NAME, UNMODIFIED);
-        builder.beginControlFlow("if (__visibility == null)", UNMODIFIED);
-        builder.beginControlFlow("if (visible)");
-        builder.addStatement("return");
-        builder.endControlFlow();
-        builder.addStatement(
-                "$L().__visibility = __visibility = $T.of($L)",
-                DRAFT_FIELD_MODIFIED,
-                VISIBILITY_CLASS_NAME,
-                type.getProps().size()
-        );
-        builder.endControlFlow();
         CaseAppender appender = new CaseAppender(builder, type, argType);
         if (argType == PropId.class) {
             builder.addStatement("int __propIndex = prop.asIndex()");
@@ -689,8 +683,9 @@ public class DraftImplGenerator {
         for (ImmutableProp prop : type.getPropsOrderById()) {
             appender.addCase(prop);
             builder.addStatement(
-                    "__visibility.show($L, visible);break",
-                    prop.getSlotName()
+                    "if (visible != ($L)) $L;break",
+                    hiddenStates.isClear(UNMODIFIED, prop),
+                    hiddenStates.toggle(DRAFT_FIELD_MODIFIED + "()", prop)
             );
         }
         builder.addStatement(
@@ -732,9 +727,8 @@ public class DraftImplGenerator {
                 builder.addStatement("break");
             } else if (prop.isLoadedStateRequired()) {
                 builder.addStatement(
-                        "$L().$L = false;break",
-                        DRAFT_FIELD_MODIFIED,
-                        prop.getLoadedStateName()
+                        "$L;break",
+                        loadedStates.clear(DRAFT_FIELD_MODIFIED + "()", prop)
                 );
             } else {
                 builder.addStatement(
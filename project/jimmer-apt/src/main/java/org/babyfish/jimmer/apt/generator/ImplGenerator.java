@@ -25,11 +25,17 @@ public class ImplGenerator {
 
     private final ClassName unloadedExceptionClassName;
 
+    private final StateBits loadedStates;
+
+    private final StateBits hiddenStates;
+
     private TypeSpec.Builder typeBuilder;
 
     public ImplGenerator(ImmutableType type) {
         this.type = type;
         unloadedExceptionClassName = ClassName.get(UnloadedException.class);
+        loadedStates = StateBits.loaded(type);
+        hiddenStates = StateBits.hidden(type);
     }
 
     public void generate(TypeSpec.Builder parentBuilder) {
@@ -59,12 +65,6 @@ public class ImplGenerator {
     }
 
     private void addFields() {
-        typeBuilder.addField(
-                FieldSpec
-                        .builder(VISIBILITY_CLASS_NAME, "__visibility")
-                        .addModifiers(Modifier.PRIVATE)
-                        .build()
-        );
         for (ImmutableProp prop : type.getProps().values()) {
             if (prop.isValueRequired()) {
                 FieldSpec.Builder valueBuilder = FieldSpec.builder(
@@ -78,13 +78,20 @@ public class ImplGenerator {
                 );
                 typeBuilder.addField(valueBuilder.build());
             }
-            if (prop.isLoadedStateRequired()) {
-                FieldSpec.Builder stateBuilder = FieldSpec.builder(
-                        boolean.class,
-                        prop.getLoadedStateName()
-                ).initializer("false");
-                typeBuilder.addField(stateBuilder.build());
-            }
+        }
+        for (String fieldName : loadedStates.getFieldNames()) {
+            typeBuilder.addField(
+                    FieldSpec
+                            .builder(long.class, fieldName)
+                            .build()
+            );
+        }
+        for (String fieldName : hiddenStates.getFieldNames()) {
+            typeBuilder.addField(
+                    FieldSpec
+                            .builder(long.class, fieldName)
+                            .build()
+            );
         }
     }
 
@@ -95,13 +102,7 @@ public class ImplGenerator {
         MethodSpec.Builder builder = MethodSpec.constructorBuilder();
         for (ImmutableProp prop : type.getProps().values()) {
             if (!prop.isValueRequired()) {
-                builder.addStatement("__visibility = $T.of($L)", VISIBILITY_CLASS_NAME, type.getProps().size());
-                break;
-            }
-        }
-        for (ImmutableProp prop : type.getProps().values()) {
-            if (!prop.isValueRequired()) {
-                builder.addStatement("__visibility.show($L, false)", prop.getSlotName());
+                builder.addStatement("$L", hiddenStates.set("this", prop));
             }
         }
         typeBuilder.addMethod(builder.build());
@@ -144,7 +145,7 @@ public class ImplGenerator {
             }
         } else {
             if (prop.isLoadedStateRequired()) {
-                builder.beginControlFlow("if (!$L)", prop.getLoadedStateName());
+                builder.beginControlFlow("if ($L)", loadedStates.isClear(prop));
             } else {
                 builder.beginControlFlow("if ($L == null)", prop.getName());
             }
@@ -246,7 +247,7 @@ public class ImplGenerator {
                 }
                 builder.addStatement("$<");
             } else if (prop.isLoadedStateRequired()) {
-                builder.addStatement("return $L", prop.getLoadedStateName());
+                builder.addStatement("return $L", loadedStates.isSet(prop));
             } else {
                 builder.addStatement("return $L != null", prop.getName());
             }
@@ -269,10 +270,6 @@ public class ImplGenerator {
                 .addAnnotation(Override.class)
                 .addParameter(argType, "prop")
                 .returns(boolean.class);
-        builder
-                .beginControlFlow("if (__visibility == null)")
-                .addStatement("return true")
-                .endControlFlow();
         CaseAppender appender = new CaseAppender(builder, type, argType);
         if (argType == PropId.class) {
             builder.addStatement("int __propIndex = prop.asIndex()");
@@ -284,7 +281,7 @@ public class ImplGenerator {
         }
         for (ImmutableProp prop : type.getPropsOrderById()) {
             appender.addCase(prop);
-            builder.addStatement("return __visibility.visible($L)", prop.getSlotName());
+            builder.addStatement("return $L", hiddenStates.isClear(prop));
         }
         builder.addStatement("default: return true");
         builder.endControlFlow();
@@ -296,17 +293,20 @@ public class ImplGenerator {
                 .methodBuilder(shallow ? "__shallowHashCode" : "hashCode")
                 .addModifiers(shallow ? Modifier.PRIVATE : Modifier.PUBLIC)
                 .returns(int.class)
-                .addStatement("int hash = __visibility != null ? __visibility.hashCode() : 0");
+                .addStatement("int hash = 0");
         if (!shallow) {
             builder.addAnnotation(Override.class);
         }
+        for (String fieldName : hiddenStates.getFieldNames()) {
+            builder.addStatement("hash = 31 * hash + $T.hashCode($L)", Long.class, fieldName);
+        }
         for (ImmutableProp prop : type.getProps().values()) {
             if (!prop.isValueRequired()) {
                 continue;
             }
             Class<?> boxType = prop.getBoxType();
             if (boxType != null) {
-                builder.beginControlFlow("if ($L)", prop.getLoadedStateName());
+                builder.beginControlFlow("if ($L)", loadedStates.isSet(prop));
                 builder.addStatement("hash = 31 * hash + $T.hashCode($L)", boxType, prop.getName());
                 if (!shallow) {
                     if (prop.getAnnotation(Id.class) != null) {
@@ -317,7 +317,7 @@ public class ImplGenerator {
                 builder.endControlFlow();
             } else if (shallow) {
                 if (prop.isLoadedStateRequired()) {
-                    builder.beginControlFlow("if ($L)", prop.getLoadedStateName());
+                    builder.beginControlFlow("if ($L)", loadedStates.isSet(prop));
                 } else {
                     builder.beginControlFlow("if ($L != null)", prop.getName());
                 }
@@ -327,7 +327,7 @@ public class ImplGenerator {
                 if (prop.isLoadedStateRequired()) {
                     builder.beginControlFlow(
                             "if ($L && $L != null)",
-                            prop.getLoadedStateName(),
+                            loadedStates.isSet(prop),
                             prop.getName()
                     );
                 } else {
@@ -377,7 +377,7 @@ public class ImplGenerator {
                 continue;
             }
             if (prop.isLoadedStateRequired()) {
-                builder.addStatement("boolean $L = this.$L", prop.getLoadedStateName(), prop.getLoadedStateName());
+                builder.addStatement("boolean $L = $L", prop.getLoadedStateName(), loadedStates.isSet(prop));
             } else {
                 builder.addStatement("boolean $L = $L != null", prop.getLoadedStateName(true), prop.getName());
             }
@@ -2,17 +2,22 @@ package org.babyfish.jimmer.apt.generator;
 
 import com.squareup.javapoet.*;
 import org.babyfish.jimmer.JimmerVersion;
+import org.babyfish.jimmer.apt.MetaException;
 import org.babyfish.jimmer.apt.meta.ImmutableProp;
 import org.babyfish.jimmer.apt.meta.ImmutableType;
+import org.babyfish.jimmer.jackson.JsonConverter;
 import org.babyfish.jimmer.meta.ImmutablePropCategory;
 import org.babyfish.jimmer.runtime.Internal;
-import org.babyfish.jimmer.sql.Key;
-import org.babyfish.jimmer.sql.ManyToOne;
-import org.babyfish.jimmer.sql.OneToOne;
+import org.babyfish.jimmer.sql.*;
 
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 
+import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.babyfish.jimmer.apt.generator.Constants.*;
 
@@ -227,6 +232,11 @@ public class ProducerGenerator {
                 );
             }
         }
+        for (ImmutableProp prop : type.getDeclaredProps().values()) {
+            if (type.getPrimarySuperType() == null || !type.getPrimarySuperType().getProps().containsKey(prop.getName())) {
+                addMapping(builder, prop);
+            }
+        }
         builder.add(".build()")
                 .unindent();
         typeBuilder.addField(
@@ -243,6 +253,115 @@ public class ProducerGenerator {
         );
     }
 
+    private void addMapping(CodeBlock.Builder builder, ImmutableProp prop) {
+        Column column = prop.getAnnotation(Column.class);
+        if (column != null && !column.name().isEmpty()) {
+            builder.add(".column($S, $S)\n", prop.getName(), column.name());
+        }
+        for (JoinColumn joinColumn : prop.getAnnotations(JoinColumn.class)) {
+            builder.add(
+                    ".joinColumn($S, $S, $S, $T.$L)\n",
+                    prop.getName(),
+                    joinColumn.name(),
+                    joinColumn.referencedColumnName(),
+                    ForeignKeyType.class,
+                    joinColumn.foreignKeyType().name()
+            );
+        }
+        JoinTable joinTable = prop.getAnnotation(JoinTable.class);
+        if (joinTable != null) {
+            builder.add(
+                    ".joinTable($S, $S, $S, $S, $L, $L)\n",
+                    prop.getName(),
+                    joinTable.name(),
+                    joinTable.joinColumnName(),
+                    joinTable.inverseJoinColumnName(),
+                    joinTable.preventDeletionBySource(),
+                    joinTable.preventDeletionByTarget()
+            );
+            addJoinTableColumns(builder, prop, false, joinTable.joinColumns());
+            addJoinTableColumns(builder, prop, true, joinTable.inverseColumns());
+        }
+        String mappedBy = mappedBy(prop);
+        if (!mappedBy.isEmpty()) {
+            builder.add(".mappedBy($S, $S)\n", prop.getName(), mappedBy);
+        }
+        AnnotationMirror converterAnnotation = null;
+        AnnotationMirror jsonConverter = null;
+        for (AnnotationMirror mirror : prop.getAnnotations()) {
+            AnnotationMirror deeperMirror;
+            if (Annotations.qualifiedName(mirror).equals(JsonConverter.class.getName())) {
+                deeperMirror = mirror;
+            } else {
+                deeperMirror = jsonConverter(mirror.getAnnotationType().asElement().getAnnotationMirrors());
+            }
+            if (deeperMirror != null) {
+                if (converterAnnotation != null) {
+                    throw new MetaException(
+                            prop.toElement(),
+                            "duplicate converter annotation @" +
+                                    Annotations.qualifiedName(converterAnnotation) +
+                                    " and @" +
+                                    Annotations.qualifiedName(mirror)
+                    );
+                }
+                converterAnnotation = mirror;
+                jsonConverter = deeperMirror;
+            }
+        }
+        if (converterAnnotation != null) {
+            DeclaredType converterType = Annotations.annotationValue(jsonConverter, "value", null);
+            builder.add(
+                    ".converter($S, $T.class, $T.class)\n",
+                    prop.getName(),
+                    ClassName.get((TypeElement) converterAnnotation.getAnnotationType().asElement()),
+                    ClassName.get((TypeElement) converterType.asElement())
+            );
+        }
+    }
+
+    private static void addJoinTableColumns(
+            CodeBlock.Builder builder,
+            ImmutableProp prop,
+            boolean inverse,
+            JoinColumn[] joinColumns
+    ) {
+        for (JoinColumn joinColumn : joinColumns) {
+            builder.add(
+                    ".joinTableColumn($S, $L, $S, $S, $T.$L)\n",
+                    prop.getName(),
+                    inverse,
+                    joinColumn.name(),
+                    joinColumn.referencedColumnName(),
+                    ForeignKeyType.class,
+                    joinColumn.foreignKeyType().name()
+            );
+        }
+    }
+
+    private static AnnotationMirror jsonConverter(List<? extends AnnotationMirror> mirrors) {
+        for (AnnotationMirror mirror : mirrors) {
+            if (Annotations.qualifiedName(mirror).equals(JsonConverter.class.getName())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String mappedBy(ImmutableProp prop) {
+        Annotation annotation = prop.getAssociationAnnotation();
+        if (annotation instanceof OneToOne) {
+            return ((OneToOne) annotation).mappedBy();
+        }
+        if (annotation instanceof OneToMany) {
+            return ((OneToMany) annotation).mappedBy();
+        }
+        if (annotation instanceof ManyToMany) {
+            return ((ManyToMany) annotation).mappedBy();
+        }
+        return "";
+    }
+
     private void addConstructor() {
         MethodSpec.Builder builder = MethodSpec.constructorBuilder();
         builder.modifiers.add(Modifier.PRIVATE);
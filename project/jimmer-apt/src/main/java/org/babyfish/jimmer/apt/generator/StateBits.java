@@ -0,0 +1,102 @@
+package org.babyfish.jimmer.apt.generator;
+
+import org.babyfish.jimmer.apt.meta.ImmutableProp;
+import org.babyfish.jimmer.apt.meta.ImmutableType;
+
+import java.util.*;
+
+/**
+ * Per-property boolean states of the generated `Impl` class packed
+ * into `long` fields, 64 properties per field.
+ *
+ * <ul>
+ *     <li>{@link #loaded(ImmutableType)}: the loaded states of properties
+ *     which cannot be decided by `value != null`</li>
+ *     <li>{@link #hidden(ImmutableType)}: the visibility of all properties,
+ *     a set bit means the property is hidden</li>
+ * </ul>
+ */
+public class StateBits {
+
+    private final String fieldPrefix;
+
+    private final Map<String, Integer> indexMap;
+
+    private final List<String> fieldNames;
+
+    private StateBits(String fieldPrefix, Map<String, Integer> indexMap) {
+        List<String> fieldNames = new ArrayList<>();
+        for (int i = 0; i < indexMap.size(); i += 64) {
+            fieldNames.add(fieldPrefix + (i >>> 6));
+        }
+        this.fieldPrefix = fieldPrefix;
+        this.indexMap = indexMap;
+        this.fieldNames = Collections.unmodifiableList(fieldNames);
+    }
+
+    public static StateBits loaded(ImmutableType type) {
+        Map<String, Integer> indexMap = new HashMap<>();
+        for (ImmutableProp prop : type.getProps().values()) {
+            if (prop.isLoadedStateRequired()) {
+                indexMap.put(prop.getName(), indexMap.size());
+            }
+        }
+        return new StateBits("__loadedState", indexMap);
+    }
+
+    public static StateBits hidden(ImmutableType type) {
+        Map<String, Integer> indexMap = new HashMap<>();
+        for (ImmutableProp prop : type.getProps().values()) {
+            indexMap.put(prop.getName(), indexMap.size());
+        }
+        return new StateBits("__hiddenState", indexMap);
+    }
+
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    public String fieldName(ImmutableProp prop) {
+        return fieldPrefix + (index(prop) >>> 6);
+    }
+
+    public String mask(ImmutableProp prop) {
+        return "0x" + Long.toHexString(1L << (index(prop) & 63)) + 'L';
+    }
+
+    public String isSet(ImmutableProp prop) {
+        return isSet("this", prop);
+    }
+
+    public String isSet(String owner, ImmutableProp prop) {
+        return "(" + owner + '.' + fieldName(prop) + " & " + mask(prop) + ") != 0L";
+    }
+
+    public String isClear(ImmutableProp prop) {
+        return isClear("this", prop);
+    }
+
+    public String isClear(String owner, ImmutableProp prop) {
+        return "(" + owner + '.' + fieldName(prop) + " & " + mask(prop) + ") == 0L";
+    }
+
+    public String set(String owner, ImmutableProp prop) {
+        return owner + '.' + fieldName(prop) + " |= " + mask(prop);
+    }
+
+    public String clear(String owner, ImmutableProp prop) {
+        return owner + '.' + fieldName(prop) + " &= ~" + mask(prop);
+    }
+
+    public String toggle(String owner, ImmutableProp prop) {
+        return owner + '.' + fieldName(prop) + " ^= " + mask(prop);
+    }
+
+    private int index(ImmutableProp prop) {
+        Integer index = indexMap.get(prop.getName());
+        if (index == null) {
+            throw new IllegalStateException("The property \"" + prop + "\" does not has packed state");
+        }
+        return index;
+    }
+}
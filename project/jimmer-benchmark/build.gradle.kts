@@ -0,0 +1,49 @@
+plugins {
+    java
+}
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    implementation(project(":jimmer-sql"))
+    annotationProcessor(project(":jimmer-apt"))
+    implementation("org.jetbrains:annotations:23.0.0")
+    implementation("org.openjdk.jmh:jmh-core:1.35")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.35")
+    implementation("com.h2database:h2:2.1.212")
+}
+
+tasks.withType<JavaCompile> {
+    options.compilerArgs.add("-parameters")
+}
+
+/*
+ * ./gradlew :jimmer-benchmark:jmh
+ * ./gradlew :jimmer-benchmark:jmh -Pjmh.includes=DraftBenchmark
+ *
+ * The result is written to build/reports/jmh/result.json so that
+ * the reports of two releases can be compared
+ */
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks of jimmer internals"
+    dependsOn("classes")
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = file("$buildDir/reports/jmh/result.json")
+    doFirst {
+        resultFile.parentFile.mkdirs()
+    }
+    args = listOfNotNull(
+        project.findProperty("jmh.includes")?.toString(),
+        "-rf", "json",
+        "-rff", resultFile.absolutePath
+    )
+}
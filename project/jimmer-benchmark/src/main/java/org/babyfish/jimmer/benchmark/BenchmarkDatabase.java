@@ -0,0 +1,158 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.dialect.H2Dialect;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * In-memory H2 database shared by the benchmarks,
+ * each instance uses its own database so that the states do not affect each other.
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+
+    public static final int STORE_COUNT = 10;
+
+    public static final int BOOK_COUNT_PER_STORE = 100;
+
+    public static final int BOOK_COUNT = STORE_COUNT * BOOK_COUNT_PER_STORE;
+
+    public static final int AUTHOR_COUNT = 100;
+
+    private final Connection con;
+
+    public BenchmarkDatabase() {
+        try {
+            con = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            createSchema();
+            insertData();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Cannot initialize the benchmark database", ex);
+        }
+    }
+
+    public Connection connection() {
+        return con;
+    }
+
+    public JSqlClient sqlClient() {
+        return sqlClient(null);
+    }
+
+    public JSqlClient sqlClient(Consumer<JSqlClient.Builder> block) {
+        JSqlClient.Builder builder = JSqlClient
+                .newBuilder()
+                .setDialect(new H2Dialect());
+        if (block != null) {
+            block.accept(builder);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (Statement stmt = con.createStatement()) {
+            stmt.execute("shutdown");
+        } finally {
+            con.close();
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement stmt = con.createStatement()) {
+            stmt.execute(
+                    "create table book_store(" +
+                            "id bigint auto_increment primary key, " +
+                            "name varchar(50) not null unique" +
+                            ")"
+            );
+            stmt.execute(
+                    "create table book(" +
+                            "id bigint auto_increment primary key, " +
+                            "name varchar(50) not null, " +
+                            "edition int not null, " +
+                            "price numeric(10, 2) not null, " +
+                            "store_id bigint references book_store(id), " +
+                            "unique(name, edition)" +
+                            ")"
+            );
+            stmt.execute(
+                    "create table author(" +
+                            "id bigint auto_increment primary key, " +
+                            "first_name varchar(50) not null, " +
+                            "last_name varchar(50) not null, " +
+                            "unique(first_name, last_name)" +
+                            ")"
+            );
+            stmt.execute(
+                    "create table book_author_mapping(" +
+                            "book_id bigint not null references book(id), " +
+                            "author_id bigint not null references author(id), " +
+                            "primary key(book_id, author_id)" +
+                            ")"
+            );
+        }
+    }
+
+    private void insertData() throws SQLException {
+        try (PreparedStatement stmt = con.prepareStatement(
+                "insert into book_store(id, name) values(?, ?)"
+        )) {
+            for (int i = 1; i <= STORE_COUNT; i++) {
+                stmt.setLong(1, i);
+                stmt.setString(2, "Store-" + i);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = con.prepareStatement(
+                "insert into author(id, first_name, last_name) values(?, ?, ?)"
+        )) {
+            for (int i = 1; i <= AUTHOR_COUNT; i++) {
+                stmt.setLong(1, i);
+                stmt.setString(2, "FirstName-" + i);
+                stmt.setString(3, "LastName-" + i);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = con.prepareStatement(
+                "insert into book(id, name, edition, price, store_id) values(?, ?, ?, ?, ?)"
+        )) {
+            for (int i = 1; i <= BOOK_COUNT; i++) {
+                stmt.setLong(1, i);
+                stmt.setString(2, "Book-" + i);
+                stmt.setInt(3, 1);
+                stmt.setBigDecimal(4, BigDecimal.valueOf(i % 90 + 10));
+                stmt.setLong(5, (i - 1) / BOOK_COUNT_PER_STORE + 1);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        try (PreparedStatement stmt = con.prepareStatement(
+                "insert into book_author_mapping(book_id, author_id) values(?, ?)"
+        )) {
+            for (int i = 1; i <= BOOK_COUNT; i++) {
+                stmt.setLong(1, i);
+                stmt.setLong(2, (i - 1) % AUTHOR_COUNT + 1);
+                stmt.addBatch();
+                stmt.setLong(1, i);
+                stmt.setLong(2, i % AUTHOR_COUNT + 1);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        try (Statement stmt = con.createStatement()) {
+            stmt.execute("alter table book_store alter column id restart with " + (STORE_COUNT + 1));
+            stmt.execute("alter table book alter column id restart with " + (BOOK_COUNT + 1));
+            stmt.execute("alter table author alter column id restart with " + (AUTHOR_COUNT + 1));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.benchmark.model.AuthorFetcher;
+import org.babyfish.jimmer.benchmark.model.Book;
+import org.babyfish.jimmer.benchmark.model.BookFetcher;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.Entities;
+import org.babyfish.jimmer.sql.cache.Cache;
+import org.babyfish.jimmer.sql.cache.CacheFactory;
+import org.babyfish.jimmer.sql.cache.chain.ChainCacheBuilder;
+import org.babyfish.jimmer.sql.cache.chain.SimpleBinder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of ChainCacheImpl after warm-up, all the keys are hit so that no SQL is executed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChainCacheBenchmark {
+
+    private BenchmarkDatabase database;
+
+    private Entities entities;
+
+    private List<Long> ids;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase();
+        entities = database
+                .sqlClient(builder -> builder.setCacheFactory(new MapCacheFactory()))
+                .getEntities()
+                .forConnection(database.connection());
+        ids = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            ids.add(id);
+        }
+        findObjects();
+        findObjectsWithAssociations();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Book> findObjects() {
+        return entities.findByIds(Book.class, ids);
+    }
+
+    @Benchmark
+    public List<Book> findObjectsWithAssociations() {
+        return entities.findByIds(
+                BookFetcher.$
+                        .allScalarFields()
+                        .authors(AuthorFetcher.$.allScalarFields()),
+                ids
+        );
+    }
+
+    private static class MapCacheFactory implements CacheFactory {
+
+        @Override
+        public @Nullable Cache<?, ?> createObjectCache(@NotNull ImmutableType type) {
+            return new ChainCacheBuilder<>()
+                    .add(new MapBinder<>())
+                    .build();
+        }
+
+        @Override
+        public @Nullable Cache<?, ?> createAssociatedIdCache(@NotNull ImmutableProp prop) {
+            return new ChainCacheBuilder<>()
+                    .add(new MapBinder<>())
+                    .build();
+        }
+
+        @Override
+        public @Nullable Cache<?, List<?>> createAssociatedIdListCache(@NotNull ImmutableProp prop) {
+            return new ChainCacheBuilder<Object, List<?>>()
+                    .add(new MapBinder<>())
+                    .build();
+        }
+    }
+
+    /*
+     * The values are kept in memory directly, so the benchmark
+     * measures the cache chain instead of the serialization
+     */
+    private static class MapBinder<K, V> implements SimpleBinder<K, V> {
+
+        private final Map<K, V> map = new HashMap<>();
+
+        @Override
+        public synchronized Map<K, V> getAll(Collection<K> keys) {
+            Map<K, V> resultMap = new HashMap<>((keys.size() * 4 + 2) / 3);
+            for (K key : keys) {
+                V value = map.get(key);
+                if (value != null || map.containsKey(key)) {
+                    resultMap.put(key, value);
+                }
+            }
+            return resultMap;
+        }
+
+        @Override
+        public synchronized void setAll(Map<K, V> map) {
+            this.map.putAll(map);
+        }
+
+        @Override
+        public synchronized void deleteAll(Collection<K> keys, Object reason) {
+            map.keySet().removeAll(keys);
+        }
+    }
+}
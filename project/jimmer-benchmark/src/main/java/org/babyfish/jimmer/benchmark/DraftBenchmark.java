@@ -0,0 +1,71 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.benchmark.model.Book;
+import org.babyfish.jimmer.benchmark.model.BookDraft;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of immutable objects by DraftContext, and the resolving of modified drafts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DraftBenchmark {
+
+    private static final int AUTHOR_COUNT = 5;
+
+    private Book book;
+
+    @Setup
+    public void setup() {
+        book = produce();
+    }
+
+    @Benchmark
+    public Book produce() {
+        return BookDraft.$.produce(draft -> {
+            draft.setId(1L);
+            draft.setName("Book-1");
+            draft.setEdition(1);
+            draft.setPrice(BigDecimal.TEN);
+            draft.applyStore(store -> store.setId(1L).setName("Store-1"));
+            for (int i = 1; i <= AUTHOR_COUNT; i++) {
+                long authorId = i;
+                draft.addIntoAuthors(author ->
+                        author
+                                .setId(authorId)
+                                .setFirstName("FirstName-" + authorId)
+                                .setLastName("LastName-" + authorId)
+                );
+            }
+        });
+    }
+
+    @Benchmark
+    public Book modifyScalar() {
+        return BookDraft.$.produce(book, draft -> {
+            draft.setPrice(draft.price().add(BigDecimal.ONE));
+        });
+    }
+
+    @Benchmark
+    public Book modifyAssociation() {
+        return BookDraft.$.produce(book, draft -> {
+            draft.authors(true).get(AUTHOR_COUNT - 1).setFirstName("Changed");
+        });
+    }
+
+    @Benchmark
+    public Book resolveUnchanged() {
+        return BookDraft.$.produce(book, draft -> {
+            draft.setName(draft.name());
+            draft.authors(true).get(0).setFirstName(draft.authors().get(0).firstName());
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.benchmark.model.*;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch loading of associations by FetcherTask.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FetcherBenchmark {
+
+    @Param({"16", "128"})
+    private int batchSize;
+
+    private BenchmarkDatabase database;
+
+    private JSqlClient sqlClient;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase();
+        sqlClient = database.sqlClient(builder ->
+                builder
+                        .setDefaultBatchSize(batchSize)
+                        .setDefaultListBatchSize(batchSize)
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Book> fetchManyToOne() {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .select(
+                        table.fetch(
+                                BookFetcher.$
+                                        .allScalarFields()
+                                        .store(BookStoreFetcher.$.allScalarFields())
+                        )
+                )
+                .execute(database.connection());
+    }
+
+    @Benchmark
+    public List<BookStore> fetchNestedLists() {
+        BookStoreTable table = BookStoreTable.$;
+        return sqlClient
+                .createQuery(table)
+                .select(
+                        table.fetch(
+                                BookStoreFetcher.$
+                                        .allScalarFields()
+                                        .books(
+                                                BookFetcher.$
+                                                        .allScalarFields()
+                                                        .authors(AuthorFetcher.$.allScalarFields())
+                                        )
+                        )
+                )
+                .execute(database.connection());
+    }
+}
@@ -0,0 +1,74 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.benchmark.model.Book;
+import org.babyfish.jimmer.benchmark.model.BookFetcher;
+import org.babyfish.jimmer.benchmark.model.BookTable;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple3;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of JDBC rows to entities and tuples by the object readers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectReaderBenchmark {
+
+    private BenchmarkDatabase database;
+
+    private JSqlClient sqlClient;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase();
+        sqlClient = database.sqlClient();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Book> readEntities() {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .select(table)
+                .execute(database.connection());
+    }
+
+    @Benchmark
+    public List<Book> readFetchedEntities() {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .select(
+                        table.fetch(
+                                BookFetcher.$
+                                        .name()
+                                        .price()
+                                        .store()
+                        )
+                )
+                .execute(database.connection());
+    }
+
+    @Benchmark
+    public List<Tuple3<Long, String, BigDecimal>> readTuples() {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .select(table.id(), table.name(), table.price())
+                .execute(database.connection());
+    }
+}
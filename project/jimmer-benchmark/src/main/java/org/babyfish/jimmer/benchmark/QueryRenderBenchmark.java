@@ -0,0 +1,82 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.benchmark.model.Book;
+import org.babyfish.jimmer.benchmark.model.BookFetcher;
+import org.babyfish.jimmer.benchmark.model.BookStoreFetcher;
+import org.babyfish.jimmer.benchmark.model.BookTable;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.runtime.Executor;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL rendering by SqlBuilder, the statement is not executed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryRenderBenchmark {
+
+    private BenchmarkDatabase database;
+
+    private JSqlClient sqlClient;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase();
+        sqlClient = database.sqlClient(builder -> builder.setExecutor(new RenderOnlyExecutor()));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Book> renderSimpleQuery() {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .where(table.id().eq(1L))
+                .select(table)
+                .execute(database.connection());
+    }
+
+    @Benchmark
+    public List<Book> renderComplexQuery() {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .where(table.name().like("Book"))
+                .where(table.price().between(BigDecimal.TEN, new BigDecimal(50)))
+                .where(table.store().name().eq("Store-1"))
+                .orderBy(table.name().asc(), table.edition().desc())
+                .select(
+                        table.fetch(
+                                BookFetcher.$
+                                        .allScalarFields()
+                                        .store(BookStoreFetcher.$.name())
+                        )
+                )
+                .limit(10, 20)
+                .execute(database.connection());
+    }
+
+    private static class RenderOnlyExecutor implements Executor {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R> R execute(@NotNull Args<R> args) {
+            return (R) Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.babyfish.jimmer.benchmark;
+
+import org.babyfish.jimmer.benchmark.model.Book;
+import org.babyfish.jimmer.benchmark.model.BookDraft;
+import org.babyfish.jimmer.sql.Entities;
+import org.babyfish.jimmer.sql.ast.mutation.BatchSaveResult;
+import org.babyfish.jimmer.sql.ast.mutation.SaveMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch updating by the saver, the price is changed by each invocation
+ * so that every row is really updated.
+ *
+ * <p>The batch size 0 saves each object by its own statement,
+ * it is the baseline of the JDBC batches.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SaveBenchmark {
+
+    @Param({"10", "100"})
+    private int bookCount;
+
+    @Param({"0", "10", "100"})
+    private int batchSize;
+
+    private BenchmarkDatabase database;
+
+    private Entities entities;
+
+    private long invocationCount;
+
+    @Setup
+    public void setup() {
+        database = new BenchmarkDatabase();
+        entities = database
+                .sqlClient()
+                .getEntities()
+                .forConnection(database.connection());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    @Benchmark
+    public BatchSaveResult<Book> updateBooks() {
+        BigDecimal price = invocationCount++ % 2 == 0 ? BigDecimal.ONE : BigDecimal.TEN;
+        List<Book> books = new ArrayList<>(bookCount);
+        for (long id = 1; id <= bookCount; id++) {
+            long bookId = id;
+            books.add(
+                    BookDraft.$.produce(draft -> {
+                        draft.setId(bookId);
+                        draft.setPrice(price);
+                    })
+            );
+        }
+        return entities
+                .batchSaveCommand(books)
+                .setMode(SaveMode.UPDATE_ONLY)
+                .setBatchSize(batchSize)
+                .execute();
+    }
+}
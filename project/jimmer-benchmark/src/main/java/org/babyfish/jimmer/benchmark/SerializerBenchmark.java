@@ -0,0 +1,69 @@
+package org.babyfish.jimmer.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.babyfish.jimmer.benchmark.model.AuthorFetcher;
+import org.babyfish.jimmer.benchmark.model.Book;
+import org.babyfish.jimmer.benchmark.model.BookFetcher;
+import org.babyfish.jimmer.benchmark.model.BookStoreFetcher;
+import org.babyfish.jimmer.benchmark.model.BookTable;
+import org.babyfish.jimmer.jackson.ImmutableModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON output by ImmutableSerializer and input by ImmutableDeserializer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+    private static final TypeReference<List<Book>> BOOK_LIST_TYPE =
+            new TypeReference<List<Book>>() {};
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ImmutableModule());
+
+    private List<Book> books;
+
+    private String json;
+
+    @Setup
+    public void setup() throws SQLException, JsonProcessingException {
+        try (BenchmarkDatabase database = new BenchmarkDatabase()) {
+            BookTable table = BookTable.$;
+            books = database
+                    .sqlClient()
+                    .createQuery(table)
+                    .orderBy(table.id())
+                    .select(
+                            table.fetch(
+                                    BookFetcher.$
+                                            .allScalarFields()
+                                            .store(BookStoreFetcher.$.name())
+                                            .authors(AuthorFetcher.$.allScalarFields())
+                            )
+                    )
+                    .limit(100, 0)
+                    .execute(database.connection());
+        }
+        json = mapper.writeValueAsString(books);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return mapper.writeValueAsString(books);
+    }
+
+    @Benchmark
+    public List<Book> deserialize() throws JsonProcessingException {
+        return mapper.readValue(json, BOOK_LIST_TYPE);
+    }
+}
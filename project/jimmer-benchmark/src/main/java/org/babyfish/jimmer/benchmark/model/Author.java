@@ -0,0 +1,22 @@
+package org.babyfish.jimmer.benchmark.model;
+
+import org.babyfish.jimmer.sql.*;
+
+import java.util.List;
+
+@Entity
+public interface Author {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    long id();
+
+    @Key
+    String firstName();
+
+    @Key
+    String lastName();
+
+    @ManyToMany(mappedBy = "authors")
+    List<Book> books();
+}
@@ -0,0 +1,35 @@
+package org.babyfish.jimmer.benchmark.model;
+
+import org.babyfish.jimmer.sql.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Entity
+public interface Book {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    long id();
+
+    @Key
+    String name();
+
+    @Key
+    int edition();
+
+    BigDecimal price();
+
+    @Nullable
+    @ManyToOne
+    BookStore store();
+
+    @ManyToMany
+    @JoinTable(
+            name = "BOOK_AUTHOR_MAPPING",
+            joinColumnName = "BOOK_ID",
+            inverseJoinColumnName = "AUTHOR_ID"
+    )
+    List<Author> authors();
+}
@@ -0,0 +1,19 @@
+package org.babyfish.jimmer.benchmark.model;
+
+import org.babyfish.jimmer.sql.*;
+
+import java.util.List;
+
+@Entity
+public interface BookStore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    long id();
+
+    @Key
+    String name();
+
+    @OneToMany(mappedBy = "store")
+    List<Book> books();
+}
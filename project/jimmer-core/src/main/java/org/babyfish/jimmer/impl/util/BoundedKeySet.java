@@ -0,0 +1,45 @@
+package org.babyfish.jimmer.impl.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Negative cache of {@link StaticCache}, {@link TypeCache} and {@link PropCache}.
+ *
+ * <p>{@link #contains(Object)} can be called without lock,
+ * {@link #add(Object)} must be called by the owner's write lock.
+ * When the capacity is exceeded, the earliest added key is evicted.</p>
+ */
+class BoundedKeySet<K> {
+
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private final int capacity;
+
+    private final Set<K> keys = ConcurrentHashMap.newKeySet();
+
+    private final Queue<K> order = new ArrayDeque<>();
+
+    BoundedKeySet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    BoundedKeySet(int capacity) {
+        this.capacity = capacity;
+    }
+
+    boolean contains(K key) {
+        return keys.contains(key);
+    }
+
+    void add(K key) {
+        if (keys.add(key)) {
+            order.add(key);
+            if (order.size() > capacity) {
+                keys.remove(order.poll());
+            }
+        }
+    }
+}
@@ -2,29 +2,33 @@ package org.babyfish.jimmer.impl.util;
 
 import org.babyfish.jimmer.meta.ImmutableProp;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /*
  * Fight with spring-dev-tools
+ *
+ * After warm-up, `get` does not take any lock,
+ * the lock is only used to create the missing value.
  */
 public class PropCache<V> {
 
+    private static final Object NULL_KEY = new Object();
+
     private final Function<ImmutableProp, V> creator;
 
-    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
+    private final Lock createLock = new ReentrantLock();
 
-    private final Map<ImmutableProp, V> positiveMap = new HashMap<>();
+    private final Map<Object, V> positiveMap = new ConcurrentHashMap<>();
 
-    private final Map<String, V> positiveMap2 = new HashMap<>();
+    private final Map<Object, V> positiveMap2 = new ConcurrentHashMap<>();
 
-    private final Map<ImmutableProp, Void> negativeMap;
+    private final BoundedKeySet<Object> negativeKeys;
 
-    private final Map<String, Void> negativeMap2;
+    private final BoundedKeySet<Object> negativeKeys2;
 
     public PropCache(Function<ImmutableProp, V> creator) {
         this(creator, false);
@@ -32,67 +36,55 @@ public class PropCache<V> {
 
     public PropCache(Function<ImmutableProp, V> creator, boolean nullable) {
         this.creator = creator;
-        negativeMap = nullable ? new LRUMap<>() : null;
-        negativeMap2 = nullable ? new LRUMap<>() : null;
+        negativeKeys = nullable ? new BoundedKeySet<>() : null;
+        negativeKeys2 = nullable ? new BoundedKeySet<>() : null;
     }
 
     public V get(ImmutableProp key) {
 
-        String keyString = key != null ? key.toString() : null;
-        V value;
-        Lock lock;
-
-        (lock = cacheLock.readLock()).lock();
-        try {
-            if (negativeMap != null && negativeMap.containsKey(key)) {
-                return null;
-            }
-            if (negativeMap2 != null && negativeMap2.containsKey(keyString)) {
-                negativeMap.put(key, null);
-            }
-            value = positiveMap.get(key);
-            if (value == null) {
-                value = positiveMap2.get(keyString);
-                if (value != null) {
-                    positiveMap.put(key, value);
-                }
-            }
-        } finally {
-            lock.unlock();
+        Object mapKey = key != null ? key : NULL_KEY;
+        V value = positiveMap.get(mapKey);
+        if (value != null) {
+            return value;
+        }
+        if (negativeKeys != null && negativeKeys.contains(mapKey)) {
+            return null;
         }
 
-        if (value == null) {
-            (lock = cacheLock.writeLock()).lock();
-            try {
-                if (negativeMap != null && negativeMap.containsKey(key)) {
+        Object mapKey2 = key != null ? key.toString() : NULL_KEY;
+        createLock.lock();
+        try {
+            if (negativeKeys != null) {
+                if (negativeKeys.contains(mapKey)) {
                     return null;
                 }
-                if (negativeMap2 != null && negativeMap2.containsKey(keyString)) {
-                    negativeMap.put(key, null);
+                if (negativeKeys2.contains(mapKey2)) {
+                    negativeKeys.add(mapKey);
+                    return null;
                 }
-                value = positiveMap.get(key);
-                if (value == null) {
-                    value = positiveMap2.get(keyString);
+            }
+            value = positiveMap.get(mapKey);
+            if (value == null) {
+                value = positiveMap2.get(mapKey2);
+                if (value != null) {
+                    positiveMap.put(mapKey, value);
+                } else {
+                    value = creator.apply(key);
                     if (value != null) {
-                        positiveMap.put(key, value);
+                        positiveMap.put(mapKey, value);
+                        positiveMap2.put(mapKey2, value);
+                    } else if (negativeKeys != null) {
+                        negativeKeys.add(mapKey);
+                        negativeKeys2.add(mapKey2);
                     } else {
-                        value = creator.apply(key);
-                        if (value != null) {
-                            positiveMap.put(key, value);
-                            positiveMap2.put(keyString, value);
-                        } else if (negativeMap != null) {
-                            negativeMap.put(key, null);
-                            negativeMap2.put(keyString, null);
-                        } else {
-                            throw new IllegalStateException(
-                                    "The creator cannot return null because current type cache does not accept null values"
-                            );
-                        }
+                        throw new IllegalStateException(
+                                "The creator cannot return null because current type cache does not accept null values"
+                        );
                     }
                 }
-            } finally {
-                lock.unlock();
             }
+        } finally {
+            createLock.unlock();
         }
 
         return value;
@@ -1,74 +1,100 @@
 package org.babyfish.jimmer.impl.util;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /**
  * Internal until class, it should not be used by programmer directly.
  *
+ * <p>After warm-up, {@link #get(Object)} does not take any lock,
+ * the lock is only used to create the missing value.</p>
+ *
+ * <p>If the capacity is specified, the earliest created value
+ * is evicted when the capacity is exceeded.</p>
+ *
  * @param <K> Key Type
  * @param <V> Value Type
  */
 public class StaticCache<K, V> {
 
+    private static final Object NULL_KEY = new Object();
+
     private final Function<K, V> creator;
 
-    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
-    
-    private final Map<K, V> positiveMap = new HashMap<>();
+    private final Lock createLock = new ReentrantLock();
+
+    private final Map<Object, V> positiveMap = new ConcurrentHashMap<>();
+
+    private final BoundedKeySet<Object> negativeKeys;
 
-    private final Map<K, Void> negativeMap;
+    private final int capacity;
+
+    // Creation order of the keys of positiveMap, only used when capacity is specified
+    private final Queue<Object> positiveOrder;
 
     public StaticCache(Function<K, V> creator) {
         this(creator, true);
     }
 
     public StaticCache(Function<K, V> creator, boolean nullable) {
+        this(creator, nullable, 0);
+    }
+
+    /**
+     * @param capacity The max count of cached values, 0 means unlimited
+     */
+    public StaticCache(Function<K, V> creator, boolean nullable, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity cannot be negative");
+        }
         this.creator = creator;
-        negativeMap = nullable ? new LRUMap<>() : null;
+        this.negativeKeys = nullable ? new BoundedKeySet<>() : null;
+        this.capacity = capacity;
+        this.positiveOrder = capacity != 0 ? new ArrayDeque<>() : null;
     }
-    
+
     public V get(K key) {
 
-        V value;
-        Lock lock;
+        Object mapKey = key != null ? key : NULL_KEY;
+        V value = positiveMap.get(mapKey);
+        if (value != null) {
+            return value;
+        }
+        if (negativeKeys != null && negativeKeys.contains(mapKey)) {
+            return null;
+        }
 
-        (lock = cacheLock.readLock()).lock();
+        createLock.lock();
         try {
-            if (negativeMap != null && negativeMap.containsKey(key)) {
+            if (negativeKeys != null && negativeKeys.contains(mapKey)) {
                 return null;
             }
-            value = positiveMap.get(key);
-        } finally {
-            lock.unlock();
-        }
-
-        if (value == null) {
-            (lock = cacheLock.writeLock()).lock();
-            try {
-                if (negativeMap != null && negativeMap.containsKey(key)) {
-                    return null;
-                }
-                value = positiveMap.get(key);
-                if (value == null) {
-                    value = creator.apply(key);
-                    if (value != null) {
-                        positiveMap.put(key, value);
-                    } else if (negativeMap != null) {
-                        negativeMap.put(key, null);
-                    } else {
-                        throw new IllegalStateException(
-                                "The creator cannot return null because current static cache does not accept null values"
-                        );
+            value = positiveMap.get(mapKey);
+            if (value == null) {
+                value = creator.apply(key);
+                if (value != null) {
+                    positiveMap.put(mapKey, value);
+                    if (positiveOrder != null) {
+                        positiveOrder.add(mapKey);
+                        if (positiveOrder.size() > capacity) {
+                            positiveMap.remove(positiveOrder.poll());
+                        }
                     }
+                } else if (negativeKeys != null) {
+                    negativeKeys.add(mapKey);
+                } else {
+                    throw new IllegalStateException(
+                            "The creator cannot return null because current static cache does not accept null values"
+                    );
                 }
-            } finally {
-                lock.unlock();
             }
+        } finally {
+            createLock.unlock();
         }
         return value;
     }
@@ -3,6 +3,9 @@ package org.babyfish.jimmer.jackson;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
@@ -15,17 +18,24 @@ import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
 import org.babyfish.jimmer.jackson.meta.BeanProps;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.PropId;
 import org.babyfish.jimmer.meta.TargetLevel;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ImmutableSerializer extends StdSerializer<ImmutableSpi> {
 
+    private static final PropWriter[] EMPTY_WRITERS = new PropWriter[0];
+
     private final ImmutableType immutableType;
 
     private final PropNameConverter propNameConverter;
 
+    private volatile PropWriter[] writers;
+
     @SuppressWarnings("unchecked")
     public ImmutableSerializer(ImmutableType immutableType, PropNameConverter propNameConverter) {
         super((Class<ImmutableSpi>)immutableType.getJavaClass());
@@ -58,67 +68,126 @@ public class ImmutableSerializer extends StdSerializer<ImmutableSpi> {
 
     @SuppressWarnings("unchecked")
     private void serializeFields(ImmutableSpi immutable, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        for (ImmutableProp prop : immutableType.getProps().values()) {
-            JsonIgnore ignore = prop.getAnnotation(JsonIgnore.class);
-            if (ignore != null && ignore.value()) {
-                continue;
-            }
-            if (immutable.__isLoaded(prop.getId()) && immutable.__isVisible(prop.getId())) {
-                Object value = immutable.__get(prop.getId());
-                if (value != null && prop.getConverter() != null) {
-                    value = ((Converter<Object>)prop.getConverter()).output(value);
+        for (PropWriter writer : writers(provider)) {
+            PropId propId = writer.propId;
+            if (immutable.__isLoaded(propId) && immutable.__isVisible(propId)) {
+                Object value = immutable.__get(propId);
+                if (value != null && writer.converter != null) {
+                    value = writer.converter.output(value);
                 }
+                gen.writeFieldName(writer.name);
                 if (value == null) {
-                    provider.defaultSerializeField(propNameConverter.fieldName(prop), null, gen);
-                } else if (prop.isAssociation(TargetLevel.OBJECT) || prop.isScalarList()) {
+                    provider.defaultSerializeNull(gen);
+                } else if (writer.serializer != null) {
+                    writer.serializer.serialize(value, gen, provider);
+                } else {
                     TypeSerializer typeSer = null;
-                    gen.writeFieldName(propNameConverter.fieldName(prop));
-                    if (!prop.isReferenceList(TargetLevel.OBJECT) &&
+                    if (writer.isReference &&
                             value instanceof ImmutableSpi &&
                             ((ImmutableSpi)value).__type() != immutableType) {
-                        typeSer = provider.findTypeSerializer(PropUtils.getJacksonType(prop));
+                        typeSer = provider.findTypeSerializer(writer.jacksonType);
                     }
                     if (typeSer != null) {
                         provider.findValueSerializer(value.getClass()).serializeWithType(value, gen, provider, typeSer);
                     } else {
-                        provider.findValueSerializer(PropUtils.getJacksonType(prop)).serialize(value, gen, provider);
-                    }
-                } else {
-                    gen.writeFieldName(propNameConverter.fieldName(prop));
-                    JsonSerializer<?> serializer = provider.findTypedValueSerializer(
-                            prop.getElementClass(),
-                            true,
-                            BeanProps.get(provider.getTypeFactory(), prop)
-                    );
-                    if (serializer instanceof DateSerializer) {
-                        serializer = ((DateSerializer) serializer).createContextual(
-                                provider,
-                                BeanProps.get(provider.getTypeFactory(), prop)
-                        );
-                    } else if (serializer instanceof LocalDateSerializer) {
-                        serializer = ((LocalDateSerializer) serializer).createContextual(
-                                provider,
-                                BeanProps.get(provider.getTypeFactory(), prop)
-                        );
-                    } else if (serializer instanceof LocalDateTimeSerializer) {
-                        serializer = ((LocalDateTimeSerializer) serializer).createContextual(
-                                provider,
-                                BeanProps.get(provider.getTypeFactory(), prop)
-                        );
-                    } else if (serializer instanceof OffsetDateTimeSerializer) {
-                        serializer = ((OffsetDateTimeSerializer) serializer).createContextual(
-                                provider,
-                                BeanProps.get(provider.getTypeFactory(), prop)
-                        );
-                    } else if (serializer instanceof ZonedDateTimeSerializer) {
-                        serializer = ((ZonedDateTimeSerializer) serializer).createContextual(
-                                provider,
-                                BeanProps.get(provider.getTypeFactory(), prop)
-                        );
+                        provider.findValueSerializer(writer.jacksonType).serialize(value, gen, provider);
                     }
-                    ((JsonSerializer<Object>) serializer).serialize(value, gen, provider);
                 }
             }
         }
     }
+
+    /*
+     * The writers depend on the configuration of the provider only,
+     * and current serializer is cached by the serializer cache of
+     * that configuration, so that they can be created only once.
+     * Concurrent creation is harmless because the results are same.
+     */
+    private PropWriter[] writers(SerializerProvider provider) throws JsonMappingException {
+        PropWriter[] writers = this.writers;
+        if (writers == null) {
+            this.writers = writers = createWriters(provider);
+        }
+        return writers;
+    }
+
+    private PropWriter[] createWriters(SerializerProvider provider) throws JsonMappingException {
+        List<PropWriter> writers = new ArrayList<>();
+        for (ImmutableProp prop : immutableType.getProps().values()) {
+            JsonIgnore ignore = prop.getAnnotation(JsonIgnore.class);
+            if (ignore != null && ignore.value()) {
+                continue;
+            }
+            JsonSerializer<Object> serializer = null;
+            if (!prop.isAssociation(TargetLevel.OBJECT) && !prop.isScalarList()) {
+                serializer = scalarSerializer(prop, provider);
+            }
+            writers.add(new PropWriter(prop, propNameConverter.fieldName(prop), serializer));
+        }
+        return writers.toArray(EMPTY_WRITERS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonSerializer<Object> scalarSerializer(
+            ImmutableProp prop,
+            SerializerProvider provider
+    ) throws JsonMappingException {
+        JsonSerializer<?> serializer = provider.findTypedValueSerializer(
+                prop.getElementClass(),
+                true,
+                BeanProps.get(provider.getTypeFactory(), prop)
+        );
+        if (serializer instanceof DateSerializer) {
+            serializer = ((DateSerializer) serializer).createContextual(
+                    provider,
+                    BeanProps.get(provider.getTypeFactory(), prop)
+            );
+        } else if (serializer instanceof LocalDateSerializer) {
+            serializer = ((LocalDateSerializer) serializer).createContextual(
+                    provider,
+                    BeanProps.get(provider.getTypeFactory(), prop)
+            );
+        } else if (serializer instanceof LocalDateTimeSerializer) {
+            serializer = ((LocalDateTimeSerializer) serializer).createContextual(
+                    provider,
+                    BeanProps.get(provider.getTypeFactory(), prop)
+            );
+        } else if (serializer instanceof OffsetDateTimeSerializer) {
+            serializer = ((OffsetDateTimeSerializer) serializer).createContextual(
+                    provider,
+                    BeanProps.get(provider.getTypeFactory(), prop)
+            );
+        } else if (serializer instanceof ZonedDateTimeSerializer) {
+            serializer = ((ZonedDateTimeSerializer) serializer).createContextual(
+                    provider,
+                    BeanProps.get(provider.getTypeFactory(), prop)
+            );
+        }
+        return (JsonSerializer<Object>) serializer;
+    }
+
+    private static class PropWriter {
+
+        final PropId propId;
+
+        final SerializedString name;
+
+        final Converter<Object> converter;
+
+        final boolean isReference;
+
+        final JavaType jacksonType;
+
+        final JsonSerializer<Object> serializer;
+
+        @SuppressWarnings("unchecked")
+        PropWriter(ImmutableProp prop, String name, JsonSerializer<Object> serializer) {
+            this.propId = prop.getId();
+            this.name = new SerializedString(name);
+            this.converter = (Converter<Object>) prop.getConverter();
+            this.isReference = prop.isAssociation(TargetLevel.OBJECT) && !prop.isReferenceList(TargetLevel.OBJECT);
+            this.jacksonType = serializer == null ? PropUtils.getJacksonType(prop) : null;
+            this.serializer = serializer;
+        }
+    }
 }
@@ -1,10 +1,13 @@
 package org.babyfish.jimmer.meta;
 
 import kotlin.reflect.KClass;
+import kotlin.reflect.KProperty1;
 import org.babyfish.jimmer.Draft;
 import org.babyfish.jimmer.JimmerVersion;
+import org.babyfish.jimmer.jackson.Converter;
 import org.babyfish.jimmer.meta.impl.Metadata;
 import org.babyfish.jimmer.runtime.DraftContext;
+import org.babyfish.jimmer.sql.ForeignKeyType;
 import org.babyfish.jimmer.sql.meta.IdGenerator;
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
 import org.jetbrains.annotations.NotNull;
@@ -200,6 +203,78 @@ public interface ImmutableType {
                 boolean nullable
         );
 
+        /*
+         * The following methods are called by the generated code to register the
+         * information of the properties added by this builder, which is resolved
+         * at compile time so that it is not read by reflection at runtime.
+         *
+         * The version of generated code is always same with the runtime,
+         * so the properties without registered mapping information have
+         * no such annotations.
+         */
+
+        /**
+         * Register the kotlin property, so that it is not searched
+         * in all the members of the kotlin class.
+         */
+        Builder kotlinProp(String name, KProperty1<?, ?> kotlinProp);
+
+        /**
+         * Register the {@code name} of {@code @Column}.
+         */
+        Builder column(String name, String columnName);
+
+        /**
+         * Register one {@code @JoinColumn}, it is called in declaration order
+         * if there are several ones.
+         */
+        Builder joinColumn(
+                String name,
+                String columnName,
+                String referencedColumnName,
+                ForeignKeyType foreignKeyType
+        );
+
+        /**
+         * Register {@code @JoinTable}, its {@code joinColumns} and {@code inverseColumns}
+         * are registered by {@link #joinTableColumn(String, boolean, String, String, ForeignKeyType)}.
+         */
+        Builder joinTable(
+                String name,
+                String tableName,
+                String joinColumnName,
+                String inverseJoinColumnName,
+                boolean preventDeletionBySource,
+                boolean preventDeletionByTarget
+        );
+
+        /**
+         * Register one of {@code joinColumns}(inverse is false) or
+         * {@code inverseColumns}(inverse is true) of {@code @JoinTable}.
+         */
+        Builder joinTableColumn(
+                String name,
+                boolean inverse,
+                String columnName,
+                String referencedColumnName,
+                ForeignKeyType foreignKeyType
+        );
+
+        /**
+         * Register the non-empty {@code mappedBy} of association annotation.
+         */
+        Builder mappedBy(String name, String mappedBy);
+
+        /**
+         * Register the converter specified by {@code @JsonConverter}
+         * or an annotation decorated by {@code @JsonConverter}.
+         */
+        Builder converter(
+                String name,
+                Class<? extends Annotation> annotationType,
+                Class<? extends Converter<?>> converterType
+        );
+
         ImmutableType build();
     }
 }
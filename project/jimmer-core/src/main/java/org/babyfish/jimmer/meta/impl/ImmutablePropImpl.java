@@ -84,6 +84,9 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
 
     private boolean oppositeResolved;
 
+    // Registered by the generated code, null if this property is not created by it
+    private final StaticMapping staticMapping;
+
     private List<Dependency> dependencies;
 
     private List<ImmutableProp> propsDependOnSelf;
@@ -113,7 +116,9 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
             ImmutablePropCategory category,
             Class<?> elementClass,
             boolean nullable,
-            Class<? extends Annotation> associationType
+            Class<? extends Annotation> associationType,
+            KProperty1<?, ?> kotlinProp,
+            StaticMapping staticMapping
     ) {
         this.declaringType = declaringType;
         this.id = id;
@@ -121,9 +126,12 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
         this.category = category;
         this.elementClass = elementClass;
         this.nullable = nullable;
+        this.staticMapping = staticMapping;
 
         KClass<?> kotlinClass = declaringType.getKotlinClass();
-        if (kotlinClass != null) {
+        if (kotlinProp != null) {
+            this.kotlinProp = kotlinProp;
+        } else if (kotlinClass != null) {
             kotlinProp = KClasses.getDeclaredMemberProperties(kotlinClass)
                     .stream()
                     .filter(it -> name.equals(it.getName()))
@@ -290,6 +298,7 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
         this.sqlTemplate = original.sqlTemplate;
         this.hasTransientResolver = original.hasTransientResolver;
         this.dissociateAction = original.dissociateAction;
+        this.staticMapping = original.staticMapping;
         this.original = original;
     }
 
@@ -762,31 +771,39 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
             return converter;
         }
         Class<? extends Annotation> annotationType = null;
-        JsonConverter jsonConverter = getAnnotation(JsonConverter.class);
-        if (jsonConverter != null) {
-            annotationType = JsonConverter.class;
-        }
-        for (Annotation anno : getAnnotations()) {
-            if (anno.annotationType() != JsonConverter.class) {
-                JsonConverter deepAnno = anno.annotationType().getAnnotation(JsonConverter.class);
-                if (deepAnno != null) {
-                    if (annotationType != null) {
-                        throw new ModelException(
-                                "Illegal property \"" +
-                                        this +
-                                        "\", duplicate converter annotation @" +
-                                        annotationType.getName() +
-                                        " and @" +
-                                        anno.annotationType().getName()
-                        );
+        Class<? extends Converter<?>> converterType = null;
+        if (staticMapping != null) {
+            annotationType = staticMapping.getConverterAnnotationType();
+            converterType = staticMapping.getConverterType();
+        } else {
+            JsonConverter jsonConverter = getAnnotation(JsonConverter.class);
+            if (jsonConverter != null) {
+                annotationType = JsonConverter.class;
+            }
+            for (Annotation anno : getAnnotations()) {
+                if (anno.annotationType() != JsonConverter.class) {
+                    JsonConverter deepAnno = anno.annotationType().getAnnotation(JsonConverter.class);
+                    if (deepAnno != null) {
+                        if (annotationType != null) {
+                            throw new ModelException(
+                                    "Illegal property \"" +
+                                            this +
+                                            "\", duplicate converter annotation @" +
+                                            annotationType.getName() +
+                                            " and @" +
+                                            anno.annotationType().getName()
+                            );
+                        }
+                        jsonConverter = deepAnno;
+                        annotationType = anno.annotationType();
                     }
-                    jsonConverter = deepAnno;
-                    annotationType = anno.annotationType();
                 }
             }
+            if (jsonConverter != null) {
+                converterType = jsonConverter.value();
+            }
         }
-        if (jsonConverter != null) {
-            Class<? extends Converter<?>> converterType = jsonConverter.value();
+        if (converterType != null) {
             Collection<Type> genericArguments = TypeUtils.getTypeArguments(converterType, Converter.class).values();
             if (genericArguments.isEmpty() || !(genericArguments.iterator().next() instanceof Class<?>)) {
                 throw new ModelException(
@@ -880,7 +897,7 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
                     getMappedBy() != null
             ) {
                 result = 1;
-            } else if (!(associationAnnotation instanceof ManyToMany) && getAnnotation(JoinTable.class) == null) {
+            } else if (!(associationAnnotation instanceof ManyToMany) && !hasJoinTable()) {
                 result = 2;
             } else {
                 result = 3;
@@ -1081,6 +1098,9 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
     }
 
     String getMappedByValue() {
+        if (staticMapping != null) {
+            return staticMapping.getMappedBy();
+        }
         String mappedBy = "";
         OneToOne oneToOne = getAnnotation(OneToOne.class);
         if (oneToOne != null) {
@@ -1101,6 +1121,17 @@ class ImmutablePropImpl implements ImmutableProp, ImmutablePropImplementor {
         return mappedBy;
     }
 
+    private boolean hasJoinTable() {
+        if (staticMapping != null) {
+            return staticMapping.getJoinTable() != null;
+        }
+        return getAnnotation(JoinTable.class) != null;
+    }
+
+    StaticMapping getStaticMapping() {
+        return staticMapping;
+    }
+
     private void acceptMappedBy(ImmutableProp prop) {
         if (acceptedMappedBy != null) {
             throw new ModelException(
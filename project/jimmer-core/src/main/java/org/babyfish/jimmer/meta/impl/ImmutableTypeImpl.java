@@ -2,9 +2,11 @@ package org.babyfish.jimmer.meta.impl;
 
 import kotlin.jvm.internal.ClassBasedDeclarationContainer;
 import kotlin.reflect.KClass;
+import kotlin.reflect.KProperty1;
 import org.babyfish.jimmer.Draft;
 import org.babyfish.jimmer.Immutable;
 import org.babyfish.jimmer.View;
+import org.babyfish.jimmer.jackson.Converter;
 import org.babyfish.jimmer.meta.*;
 import org.babyfish.jimmer.runtime.DraftContext;
 import org.babyfish.jimmer.sql.*;
@@ -1037,6 +1039,111 @@ class ImmutableTypeImpl extends AbstractImmutableTypeImpl {
             return this;
         }
 
+        @Override
+        public Builder kotlinProp(String name, KProperty1<?, ?> kotlinProp) {
+            propBuilder(name).kotlinProp = kotlinProp;
+            return this;
+        }
+
+        @Override
+        public Builder column(String name, String columnName) {
+            propBuilder(name).mapping.setColumnName(columnName);
+            return this;
+        }
+
+        @Override
+        public Builder joinColumn(
+                String name,
+                String columnName,
+                String referencedColumnName,
+                ForeignKeyType foreignKeyType
+        ) {
+            propBuilder(name).mapping.addJoinColumn(
+                    new StaticMapping.JoinColumnInfo(columnName, referencedColumnName, foreignKeyType)
+            );
+            return this;
+        }
+
+        @Override
+        public Builder joinTable(
+                String name,
+                String tableName,
+                String joinColumnName,
+                String inverseJoinColumnName,
+                boolean preventDeletionBySource,
+                boolean preventDeletionByTarget
+        ) {
+            PropBuilder propBuilder = propBuilder(name);
+            propBuilder.joinTableColumns = new ArrayList<>();
+            propBuilder.joinTableInverseColumns = new ArrayList<>();
+            propBuilder.mapping.setJoinTable(
+                    new StaticMapping.JoinTableInfo(
+                            tableName,
+                            joinColumnName,
+                            inverseJoinColumnName,
+                            Collections.unmodifiableList(propBuilder.joinTableColumns),
+                            Collections.unmodifiableList(propBuilder.joinTableInverseColumns),
+                            preventDeletionBySource,
+                            preventDeletionByTarget
+                    )
+            );
+            return this;
+        }
+
+        @Override
+        public Builder joinTableColumn(
+                String name,
+                boolean inverse,
+                String columnName,
+                String referencedColumnName,
+                ForeignKeyType foreignKeyType
+        ) {
+            PropBuilder propBuilder = propBuilder(name);
+            if (propBuilder.joinTableColumns == null) {
+                throw new IllegalStateException(
+                        "The join table of property \"" +
+                                javaClass.getName() +
+                                "." +
+                                name +
+                                "\" is not registered"
+                );
+            }
+            (inverse ? propBuilder.joinTableInverseColumns : propBuilder.joinTableColumns).add(
+                    new StaticMapping.JoinColumnInfo(columnName, referencedColumnName, foreignKeyType)
+            );
+            return this;
+        }
+
+        @Override
+        public Builder mappedBy(String name, String mappedBy) {
+            propBuilder(name).mapping.setMappedBy(mappedBy);
+            return this;
+        }
+
+        @Override
+        public Builder converter(
+                String name,
+                Class<? extends Annotation> annotationType,
+                Class<? extends Converter<?>> converterType
+        ) {
+            propBuilder(name).mapping.setConverter(annotationType, converterType);
+            return this;
+        }
+
+        private PropBuilder propBuilder(String name) {
+            PropBuilder propBuilder = propBuilderMap.get(name);
+            if (propBuilder == null) {
+                throw new IllegalArgumentException(
+                        "The property \"" +
+                                javaClass.getName() +
+                                "." +
+                                name +
+                                "\" is not added by this builder"
+                );
+            }
+            return propBuilder;
+        }
+
         private static ImmutablePropCategory category(Class<?> elementType) {
             return elementType.isAnnotationPresent(Embeddable.class) ?
                     ImmutablePropCategory.REFERENCE :
@@ -1109,6 +1216,10 @@ class ImmutableTypeImpl extends AbstractImmutableTypeImpl {
         final Class<?> elementType;
         final boolean nullable;
         final Class<? extends Annotation> associationType;
+        final StaticMapping mapping = new StaticMapping();
+        KProperty1<?, ?> kotlinProp;
+        List<StaticMapping.JoinColumnInfo> joinTableColumns;
+        List<StaticMapping.JoinColumnInfo> joinTableInverseColumns;
 
         PropBuilder(
                 PropId id,
@@ -1134,7 +1245,9 @@ class ImmutableTypeImpl extends AbstractImmutableTypeImpl {
                     category,
                     elementType,
                     nullable,
-                    associationType
+                    associationType,
+                    kotlinProp,
+                    mapping
             );
         }
     }
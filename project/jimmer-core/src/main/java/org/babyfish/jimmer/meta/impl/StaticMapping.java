@@ -0,0 +1,238 @@
+package org.babyfish.jimmer.meta.impl;
+
+import org.babyfish.jimmer.jackson.Converter;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.sql.ForeignKeyType;
+import org.babyfish.jimmer.sql.JoinColumn;
+import org.babyfish.jimmer.sql.JoinTable;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The mapping information of a property declared by annotations,
+ * registered by the generated code at compile time,
+ * see {@link org.babyfish.jimmer.meta.ImmutableType.Builder}.
+ *
+ * <p>Only the explicit values of annotations are kept here, the default values
+ * derived from naming strategy and foreign key strategy are still decided at runtime.</p>
+ */
+public class StaticMapping {
+
+    private String columnName;
+
+    private final List<JoinColumnInfo> joinColumns = new ArrayList<>();
+
+    private JoinTableInfo joinTable;
+
+    private String mappedBy = "";
+
+    private Class<? extends Annotation> converterAnnotationType;
+
+    private Class<? extends Converter<?>> converterType;
+
+    StaticMapping() {}
+
+    /**
+     * Get the static mapping of property.
+     *
+     * @return The static mapping, or null if the property is not created
+     * by the generated code so that its annotations must be read.
+     */
+    @Nullable
+    public static StaticMapping of(ImmutableProp prop) {
+        if (prop instanceof ImmutablePropImpl) {
+            return ((ImmutablePropImpl) prop).getStaticMapping();
+        }
+        return null;
+    }
+
+    /**
+     * The name of `@Column`, null if it is not specified
+     */
+    @Nullable
+    public String getColumnName() {
+        return columnName;
+    }
+
+    /**
+     * The `@JoinColumn`s in declaration order, empty if it is not specified
+     */
+    public List<JoinColumnInfo> getJoinColumns() {
+        return Collections.unmodifiableList(joinColumns);
+    }
+
+    /**
+     * The `@JoinTable`, null if it is not specified
+     */
+    @Nullable
+    public JoinTableInfo getJoinTable() {
+        return joinTable;
+    }
+
+    /**
+     * The `mappedBy` of association annotation, empty if it is not specified
+     */
+    public String getMappedBy() {
+        return mappedBy;
+    }
+
+    /**
+     * The annotation which specifies the converter, it is
+     * `@JsonConverter` or an annotation decorated by `@JsonConverter`
+     */
+    @Nullable
+    public Class<? extends Annotation> getConverterAnnotationType() {
+        return converterAnnotationType;
+    }
+
+    @Nullable
+    public Class<? extends Converter<?>> getConverterType() {
+        return converterType;
+    }
+
+    void setColumnName(String columnName) {
+        this.columnName = columnName;
+    }
+
+    void addJoinColumn(JoinColumnInfo joinColumn) {
+        joinColumns.add(joinColumn);
+    }
+
+    void setJoinTable(JoinTableInfo joinTable) {
+        this.joinTable = joinTable;
+    }
+
+    void setMappedBy(String mappedBy) {
+        this.mappedBy = mappedBy;
+    }
+
+    void setConverter(
+            Class<? extends Annotation> converterAnnotationType,
+            Class<? extends Converter<?>> converterType
+    ) {
+        this.converterAnnotationType = converterAnnotationType;
+        this.converterType = converterType;
+    }
+
+    public static class JoinColumnInfo {
+
+        private final String name;
+
+        private final String referencedColumnName;
+
+        private final ForeignKeyType foreignKeyType;
+
+        public JoinColumnInfo(String name, String referencedColumnName, ForeignKeyType foreignKeyType) {
+            this.name = name;
+            this.referencedColumnName = referencedColumnName;
+            this.foreignKeyType = foreignKeyType;
+        }
+
+        public static JoinColumnInfo of(JoinColumn joinColumn) {
+            return new JoinColumnInfo(
+                    joinColumn.name(),
+                    joinColumn.referencedColumnName(),
+                    joinColumn.foreignKeyType()
+            );
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getReferencedColumnName() {
+            return referencedColumnName;
+        }
+
+        public ForeignKeyType getForeignKeyType() {
+            return foreignKeyType;
+        }
+    }
+
+    public static class JoinTableInfo {
+
+        private final String name;
+
+        private final String joinColumnName;
+
+        private final String inverseJoinColumnName;
+
+        private final List<JoinColumnInfo> joinColumns;
+
+        private final List<JoinColumnInfo> inverseColumns;
+
+        private final boolean preventDeletionBySource;
+
+        private final boolean preventDeletionByTarget;
+
+        public JoinTableInfo(
+                String name,
+                String joinColumnName,
+                String inverseJoinColumnName,
+                List<JoinColumnInfo> joinColumns,
+                List<JoinColumnInfo> inverseColumns,
+                boolean preventDeletionBySource,
+                boolean preventDeletionByTarget
+        ) {
+            this.name = name;
+            this.joinColumnName = joinColumnName;
+            this.inverseJoinColumnName = inverseJoinColumnName;
+            this.joinColumns = joinColumns;
+            this.inverseColumns = inverseColumns;
+            this.preventDeletionBySource = preventDeletionBySource;
+            this.preventDeletionByTarget = preventDeletionByTarget;
+        }
+
+        public static JoinTableInfo of(JoinTable joinTable) {
+            List<JoinColumnInfo> joinColumns = new ArrayList<>();
+            for (JoinColumn joinColumn : joinTable.joinColumns()) {
+                joinColumns.add(JoinColumnInfo.of(joinColumn));
+            }
+            List<JoinColumnInfo> inverseColumns = new ArrayList<>();
+            for (JoinColumn inverseColumn : joinTable.inverseColumns()) {
+                inverseColumns.add(JoinColumnInfo.of(inverseColumn));
+            }
+            return new JoinTableInfo(
+                    joinTable.name(),
+                    joinTable.joinColumnName(),
+                    joinTable.inverseJoinColumnName(),
+                    joinColumns,
+                    inverseColumns,
+                    joinTable.preventDeletionBySource(),
+                    joinTable.preventDeletionByTarget()
+            );
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getJoinColumnName() {
+            return joinColumnName;
+        }
+
+        public String getInverseJoinColumnName() {
+            return inverseJoinColumnName;
+        }
+
+        public List<JoinColumnInfo> getJoinColumns() {
+            return joinColumns;
+        }
+
+        public List<JoinColumnInfo> getInverseColumns() {
+            return inverseColumns;
+        }
+
+        public boolean isPreventDeletionBySource() {
+            return preventDeletionBySource;
+        }
+
+        public boolean isPreventDeletionByTarget() {
+            return preventDeletionByTarget;
+        }
+    }
+}
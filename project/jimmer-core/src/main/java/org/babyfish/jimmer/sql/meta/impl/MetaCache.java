@@ -1,30 +1,30 @@
 package org.babyfish.jimmer.sql.meta.impl;
 
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
-import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /*
  * Often there is only ONE key,
  * so ConcurrentHashMap is not cost-effective.
+ *
+ * The primary entry and the other map are immutable snapshots
+ * published by volatile fields, so `get` does not take any lock
+ * after warm-up.
  */
 public class MetaCache<T> {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final Lock createLock = new ReentrantLock();
 
     private final Function<MetadataStrategy, T> creator;
 
-    private MetadataStrategy primaryKey;
+    private volatile Primary<T> primary;
 
-    private T primaryValue;
-
-    private Map<MetadataStrategy, T> otherMap;
+    private volatile Map<MetadataStrategy, T> otherMap;
 
     public MetaCache(Function<MetadataStrategy, T> creator) {
         this.creator = creator;
@@ -32,49 +32,53 @@ public class MetaCache<T> {
 
     public T get(MetadataStrategy strategy) {
 
-        Lock lock;
-        T value;
-
-        (lock = readWriteLock.readLock()).lock();
-        try {
-            value = strategy.equals(primaryKey) ?
-                    primaryValue :
-                    otherMap != null ?
-                            otherMap.get(strategy) :
-                            null;
-        } finally {
-            lock.unlock();
+        T value = find(strategy);
+        if (value != null) {
+            return value;
         }
 
-        if (value == null) {
-            (lock = readWriteLock.writeLock()).lock();
-            try {
-                value = strategy.equals(primaryKey) ?
-                        primaryValue :
-                        otherMap != null ?
-                                otherMap.get(strategy) :
-                                null;
+        createLock.lock();
+        try {
+            value = find(strategy);
+            if (value == null) {
+                value = creator.apply(strategy);
                 if (value == null) {
-                    value = creator.apply(strategy);
-                    if (value == null) {
-                        throw new AssertionError("Internal bug: creator of MetaCache cannot return null");
-                    }
-                    if (primaryKey == null) {
-                        primaryKey = strategy;
-                        primaryValue = value;
-                    } else {
-                        Map<MetadataStrategy, T> om = otherMap;
-                        if (om == null) {
-                            otherMap = om = new HashMap<>();
-                        }
-                        om.put(strategy, value);
-                    }
+                    throw new AssertionError("Internal bug: creator of MetaCache cannot return null");
+                }
+                if (primary == null) {
+                    primary = new Primary<>(strategy, value);
+                } else {
+                    Map<MetadataStrategy, T> om = otherMap;
+                    om = om != null ? new HashMap<>(om) : new HashMap<>();
+                    om.put(strategy, value);
+                    otherMap = om;
                 }
-            } finally {
-                lock.unlock();
             }
+        } finally {
+            createLock.unlock();
         }
 
         return value;
     }
+
+    private T find(MetadataStrategy strategy) {
+        Primary<T> p = primary;
+        if (p != null && strategy.equals(p.key)) {
+            return p.value;
+        }
+        Map<MetadataStrategy, T> om = otherMap;
+        return om != null ? om.get(strategy) : null;
+    }
+
+    private static class Primary<T> {
+
+        final MetadataStrategy key;
+
+        final T value;
+
+        Primary(MetadataStrategy key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import org.babyfish.jimmer.meta.EmbeddedLevel;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.meta.ModelException;
+import org.babyfish.jimmer.meta.impl.StaticMapping;
 import org.babyfish.jimmer.sql.*;
 import org.babyfish.jimmer.sql.meta.*;
 
@@ -24,9 +25,8 @@ public class Storages {
             if (prop.isEmbedded(EmbeddedLevel.SCALAR)) {
                 return new EmbeddedTree(prop).toEmbeddedColumns(namingStrategy);
             }
-            org.babyfish.jimmer.sql.Column column = prop.getAnnotation(org.babyfish.jimmer.sql.Column.class);
-            String columnName = column != null ? column.name() : "";
-            if (columnName.isEmpty()) {
+            String columnName = columnName(prop);
+            if (columnName == null || columnName.isEmpty()) {
                 columnName = namingStrategy.columnName(prop);
             }
             return new SingleColumn(columnName, false);
@@ -50,16 +50,13 @@ public class Storages {
             MetadataStrategy strategy,
             boolean force
     ) {
-        JoinColumn joinColumn = prop.getAnnotation(JoinColumn.class);
-        JoinColumns joinColumns = prop.getAnnotation(JoinColumns.class);
-        if (joinColumn == null && joinColumns == null && !force) {
+        List<StaticMapping.JoinColumnInfo> joinColumns = joinColumns(prop);
+        if (joinColumns.isEmpty() && !force) {
             return null;
         }
         DatabaseNamingStrategy namingStrategy = strategy.getNamingStrategy();
         ForeignKeyStrategy foreignKeyStrategy = strategy.getForeignKeyStrategy();
-        JoinColumnObj[] columns = joinColumns != null ?
-                JoinColumnObj.array(prop, false, joinColumns.value(), foreignKeyStrategy) :
-                JoinColumnObj.array(prop, false, joinColumn, foreignKeyStrategy);
+        JoinColumnObj[] columns = JoinColumnObj.array(prop, false, joinColumns, foreignKeyStrategy);
         ColumnDefinition definition;
         try {
             definition= joinDefinition(columns, prop.getTargetType(), strategy);
@@ -131,7 +128,7 @@ public class Storages {
             MetadataStrategy strategy,
             boolean force
     ) {
-        JoinTable joinTable = prop.getAnnotation(JoinTable.class);
+        StaticMapping.JoinTableInfo joinTable = joinTable(prop);
         if (joinTable == null && !force) {
             return null;
         }
@@ -140,7 +137,7 @@ public class Storages {
         JoinColumnObj[] joinColumns;
         JoinColumnObj[] inverseJoinColumns;
         if (joinTable != null) {
-            if (!joinTable.joinColumnName().isEmpty() && joinTable.joinColumns().length != 0) {
+            if (!joinTable.getJoinColumnName().isEmpty() && !joinTable.getJoinColumns().isEmpty()) {
                 throw new ModelException(
                         "Illegal property \"" +
                                 prop +
@@ -149,7 +146,7 @@ public class Storages {
                                 "` cannot be specified at the same time"
                 );
             }
-            if (!joinTable.inverseJoinColumnName().isEmpty() && joinTable.inverseColumns().length != 0) {
+            if (!joinTable.getInverseJoinColumnName().isEmpty() && !joinTable.getInverseColumns().isEmpty()) {
                 throw new ModelException(
                         "Illegal property \"" +
                                 prop +
@@ -158,13 +155,13 @@ public class Storages {
                                 "` cannot be specified at the same time"
                 );
             }
-            joinColumns = JoinColumnObj.array(prop, true, joinTable.joinColumnName(), foreignKeyStrategy);
+            joinColumns = JoinColumnObj.array(prop, true, joinTable.getJoinColumnName(), foreignKeyStrategy);
             if (joinColumns == null) {
-                joinColumns = JoinColumnObj.array(prop, true, joinTable.joinColumns(), foreignKeyStrategy);
+                joinColumns = JoinColumnObj.array(prop, true, joinTable.getJoinColumns(), foreignKeyStrategy);
             }
-            inverseJoinColumns = JoinColumnObj.array(prop, false, joinTable.inverseJoinColumnName(), foreignKeyStrategy);
+            inverseJoinColumns = JoinColumnObj.array(prop, false, joinTable.getInverseJoinColumnName(), foreignKeyStrategy);
             if (inverseJoinColumns == null) {
-                inverseJoinColumns = JoinColumnObj.array(prop, false, joinTable.inverseColumns(), foreignKeyStrategy);
+                inverseJoinColumns = JoinColumnObj.array(prop, false, joinTable.getInverseColumns(), foreignKeyStrategy);
             }
         } else {
             joinColumns = null;
@@ -250,7 +247,7 @@ public class Storages {
                             ", their attribute `foreignKey` is different"
             );
         }
-        String tableName = joinTable != null ? joinTable.name() : "";
+        String tableName = joinTable != null ? joinTable.getName() : "";
         if (tableName.isEmpty()) {
             tableName = namingStrategy.middleTableName(prop);
         }
@@ -271,11 +268,49 @@ public class Storages {
                 tableName,
                 definition,
                 targetDefinition,
-                joinTable != null && joinTable.preventDeletionBySource(),
-                joinTable != null && joinTable.preventDeletionByTarget()
+                joinTable != null && joinTable.isPreventDeletionBySource(),
+                joinTable != null && joinTable.isPreventDeletionByTarget()
         );
     }
 
+    private static String columnName(ImmutableProp prop) {
+        StaticMapping mapping = StaticMapping.of(prop);
+        if (mapping != null) {
+            return mapping.getColumnName();
+        }
+        org.babyfish.jimmer.sql.Column column = prop.getAnnotation(org.babyfish.jimmer.sql.Column.class);
+        return column != null ? column.name() : null;
+    }
+
+    private static List<StaticMapping.JoinColumnInfo> joinColumns(ImmutableProp prop) {
+        StaticMapping mapping = StaticMapping.of(prop);
+        if (mapping != null) {
+            return mapping.getJoinColumns();
+        }
+        JoinColumns joinColumns = prop.getAnnotation(JoinColumns.class);
+        if (joinColumns != null) {
+            List<StaticMapping.JoinColumnInfo> list = new ArrayList<>();
+            for (JoinColumn joinColumn : joinColumns.value()) {
+                list.add(StaticMapping.JoinColumnInfo.of(joinColumn));
+            }
+            return list;
+        }
+        JoinColumn joinColumn = prop.getAnnotation(JoinColumn.class);
+        if (joinColumn != null) {
+            return Collections.singletonList(StaticMapping.JoinColumnInfo.of(joinColumn));
+        }
+        return Collections.emptyList();
+    }
+
+    private static StaticMapping.JoinTableInfo joinTable(ImmutableProp prop) {
+        StaticMapping mapping = StaticMapping.of(prop);
+        if (mapping != null) {
+            return mapping.getJoinTable();
+        }
+        JoinTable joinTable = prop.getAnnotation(JoinTable.class);
+        return joinTable != null ? StaticMapping.JoinTableInfo.of(joinTable) : null;
+    }
+
     private static ColumnDefinition joinDefinition(
             JoinColumnObj[] joinColumns,
             ImmutableType targetType,
@@ -375,35 +410,17 @@ public class Storages {
         static JoinColumnObj[] array(
                 ImmutableProp prop,
                 boolean backRef,
-                JoinColumn joinColumn,
-                ForeignKeyStrategy strategy
-        ) {
-            if (joinColumn == null) {
-                return null;
-            }
-            return new JoinColumnObj[] {
-                    new JoinColumnObj(
-                            joinColumn.name(),
-                            joinColumn.referencedColumnName(),
-                            isForeignKey(prop, backRef, joinColumn.foreignKeyType(), strategy)
-                    )
-            };
-        }
-
-        static JoinColumnObj[] array(
-                ImmutableProp prop,
-                boolean backRef,
-                JoinColumn[] arr,
+                List<StaticMapping.JoinColumnInfo> list,
                 ForeignKeyStrategy strategy
         ) {
-            if (arr.length == 0) {
+            if (list.isEmpty()) {
                 return null;
             }
-            return Arrays.stream(arr).map(it ->
+            return list.stream().map(it ->
                     new JoinColumnObj(
-                            it.name(),
-                            it.referencedColumnName(),
-                            isForeignKey(prop, backRef, it.foreignKeyType(), strategy)
+                            it.getName(),
+                            it.getReferencedColumnName(),
+                            isForeignKey(prop, backRef, it.getForeignKeyType(), strategy)
                     )
             ).toArray(JoinColumnObj[]::new);
         }
@@ -0,0 +1,112 @@
+package org.babyfish.jimmer;
+
+import org.babyfish.jimmer.model.WideData;
+import org.babyfish.jimmer.model.WideDataDraft;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class WideDataTest {
+
+    @Test
+    public void testLoadedStates() {
+        // `value63` uses the highest bit of `__loadedState0`,
+        // `value64` and `value69` use `__loadedState1`
+        WideData data = WideDataDraft.$.produce(draft -> {
+            draft.setValue63(63);
+            draft.setValue64(64);
+            draft.setValue69(0);
+        });
+        Assertions.assertFalse(ImmutableObjects.isLoaded(data, "value0"));
+        Assertions.assertFalse(ImmutableObjects.isLoaded(data, "value62"));
+        Assertions.assertTrue(ImmutableObjects.isLoaded(data, "value63"));
+        Assertions.assertTrue(ImmutableObjects.isLoaded(data, "value64"));
+        Assertions.assertFalse(ImmutableObjects.isLoaded(data, "value65"));
+        Assertions.assertTrue(ImmutableObjects.isLoaded(data, "value69"));
+        Assertions.assertEquals(63, data.value63());
+        Assertions.assertEquals(64, data.value64());
+        Assertions.assertEquals(0, data.value69());
+        Assertions.assertThrows(UnloadedException.class, data::value65);
+
+        WideData data2 = WideDataDraft.$.produce(data, draft -> {
+            DraftObjects.unload(draft, "value63");
+            draft.setValue65(65);
+        });
+        Assertions.assertFalse(ImmutableObjects.isLoaded(data2, "value63"));
+        Assertions.assertTrue(ImmutableObjects.isLoaded(data2, "value64"));
+        Assertions.assertTrue(ImmutableObjects.isLoaded(data2, "value65"));
+        Assertions.assertEquals(65, data2.value65());
+
+        // The original object is not changed
+        Assertions.assertTrue(ImmutableObjects.isLoaded(data, "value63"));
+        Assertions.assertFalse(ImmutableObjects.isLoaded(data, "value65"));
+    }
+
+    @Test
+    public void testShowAndHide() {
+        WideData data = WideDataDraft.$.produce(draft -> {
+            draft.setValue63(63);
+            draft.setValue64(64);
+        });
+        WideData hidden = WideDataDraft.$.produce(data, draft -> {
+            DraftObjects.hide(draft, "value63");
+            DraftObjects.hide(draft, "value64");
+            // Hide again, the state is not toggled back
+            DraftObjects.hide(draft, "value64");
+        });
+        Assertions.assertFalse(((ImmutableSpi) hidden).__isVisible("value63"));
+        Assertions.assertFalse(((ImmutableSpi) hidden).__isVisible("value64"));
+        Assertions.assertTrue(((ImmutableSpi) hidden).__isVisible("value65"));
+        Assertions.assertTrue(((ImmutableSpi) data).__isVisible("value63"));
+        Assertions.assertTrue(((ImmutableSpi) data).__isVisible("value64"));
+
+        WideData shown = WideDataDraft.$.produce(hidden, draft -> {
+            DraftObjects.show(draft, "value63");
+            DraftObjects.show(draft, "value64");
+            DraftObjects.show(draft, "value64");
+        });
+        Assertions.assertTrue(((ImmutableSpi) shown).__isVisible("value63"));
+        Assertions.assertTrue(((ImmutableSpi) shown).__isVisible("value64"));
+        Assertions.assertEquals(63, shown.value63());
+        Assertions.assertEquals(64, shown.value64());
+
+        // Nothing is changed, so the object is not copied
+        WideData unchanged = WideDataDraft.$.produce(data, draft -> {
+            DraftObjects.show(draft, "value64");
+        });
+        Assertions.assertSame(data, unchanged);
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        WideData data = WideDataDraft.$.produce(draft -> {
+            draft.setValue63(63);
+            draft.setValue64(64);
+        });
+        WideData data2 = WideDataDraft.$.produce(draft -> {
+            draft.setValue64(64);
+            draft.setValue63(63);
+        });
+        Assertions.assertEquals(data, data2);
+        Assertions.assertEquals(data.hashCode(), data2.hashCode());
+
+        // Loaded zero is different from unloaded property
+        WideData loadedZero = WideDataDraft.$.produce(data, draft -> {
+            draft.setValue65(0);
+        });
+        Assertions.assertNotEquals(data, loadedZero);
+        Assertions.assertNotEquals(data.hashCode(), loadedZero.hashCode());
+
+        WideData hidden = WideDataDraft.$.produce(data, draft -> {
+            DraftObjects.hide(draft, "value64");
+        });
+        Assertions.assertNotEquals(data, hidden);
+        Assertions.assertNotEquals(data.hashCode(), hidden.hashCode());
+
+        WideData shown = WideDataDraft.$.produce(hidden, draft -> {
+            DraftObjects.show(draft, "value64");
+        });
+        Assertions.assertEquals(data, shown);
+        Assertions.assertEquals(data.hashCode(), shown.hashCode());
+    }
+}
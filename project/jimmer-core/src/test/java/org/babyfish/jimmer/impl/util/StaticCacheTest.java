@@ -0,0 +1,55 @@
+package org.babyfish.jimmer.impl.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StaticCacheTest {
+
+    @Test
+    public void testValuesAreCreatedOnce() {
+        List<Integer> createdKeys = new ArrayList<>();
+        StaticCache<Integer, String> cache = new StaticCache<>(key -> {
+            createdKeys.add(key);
+            return key % 2 == 0 ? "value-" + key : null;
+        });
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("value-2", cache.get(2));
+            Assertions.assertNull(cache.get(3));
+        }
+        Assertions.assertEquals("[2, 3]", createdKeys.toString());
+    }
+
+    @Test
+    public void testNegativeKeysAreBounded() {
+        BoundedKeySet<Integer> keys = new BoundedKeySet<>(2);
+        keys.add(1);
+        keys.add(2);
+        keys.add(2);
+        Assertions.assertTrue(keys.contains(1));
+        Assertions.assertTrue(keys.contains(2));
+        keys.add(3);
+        Assertions.assertFalse(keys.contains(1));
+        Assertions.assertTrue(keys.contains(2));
+        Assertions.assertTrue(keys.contains(3));
+    }
+
+    @Test
+    public void testValuesAreBounded() {
+        List<Integer> createdKeys = new ArrayList<>();
+        StaticCache<Integer, String> cache = new StaticCache<>(key -> {
+            createdKeys.add(key);
+            return "value-" + key;
+        }, false, 2);
+        cache.get(1);
+        cache.get(2);
+        cache.get(1);
+        Assertions.assertEquals("[1, 2]", createdKeys.toString());
+        cache.get(3);
+        cache.get(2);
+        cache.get(1);
+        Assertions.assertEquals("[1, 2, 3, 1]", createdKeys.toString());
+    }
+}
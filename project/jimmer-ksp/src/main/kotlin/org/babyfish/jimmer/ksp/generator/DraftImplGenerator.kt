@@ -13,6 +13,10 @@ class DraftImplGenerator(
     private val type: ImmutableType,
     private val parent: TypeSpec.Builder
 ) {
+    private val loadedStates = StateBits.loaded(type)
+
+    private val hiddenStates = StateBits.hidden(type)
+
     fun generate() {
         parent.addType(
             TypeSpec
@@ -258,8 +262,8 @@ class DraftImplGenerator(
                                                         prop.name
                                                     )
                                                 }
-                                                prop.loadedFieldName?.let {
-                                                    addStatement("__tmpModified.%L = true", it)
+                                                if (prop.loadedFieldName !== null) {
+                                                    addStatement("%L", loadedStates.set(prop, "__tmpModified"))
                                                 }
                                             }
                                         }
@@ -367,7 +371,7 @@ class DraftImplGenerator(
                                     prop.isKotlinFormula ->
                                         addStatement("{}")
                                     prop.loadedFieldName !== null ->
-                                        addStatement("%L\n.%L = false", MODIFIED, prop.loadedFieldName)
+                                        addStatement("%L\n.let { %L }", MODIFIED, loadedStates.clear(prop, "it"))
                                     else ->
                                         addStatement("%L\n.%L = null", MODIFIED, prop.valueFieldName)
                                 }
@@ -440,23 +444,6 @@ class DraftImplGenerator(
                     CodeBlock
                         .builder()
                         .apply {
-                            add("val __visibility = %L.__visibility\n", UNMODIFIED)
-                            indent()
-                            add("?: if (visible) {\n")
-                            indent()
-                            add("null\n")
-                            unindent()
-                            add("} else {\n")
-                            indent()
-                            add("%T.of(%L).also{\n", VISIBILITY_CLASS_NAME, type.properties.size)
-                            indent()
-                            add("%L.__visibility = it", MODIFIED)
-                            unindent()
-                            add("}\n")
-                            unindent()
-                            add("}\n")
-                            addStatement("?: return")
-                            unindent()
                             val appender = CaseAppender(this, type, argType)
                             if (argType == PropId::class) {
                                 beginControlFlow("when (prop.asIndex())")
@@ -467,7 +454,9 @@ class DraftImplGenerator(
                             }
                             for (prop in type.propsOrderById) {
                                 appender.addCase(prop)
-                                addStatement("__visibility.show(%L, visible)", prop.slotName)
+                                beginControlFlow("if (visible != (%L))", hiddenStates.isClear(prop, UNMODIFIED))
+                                addStatement("%L\n.let { %L }", MODIFIED, hiddenStates.toggle(prop, "it"))
+                                endControlFlow()
                             }
                             add("else -> throw IllegalArgumentException(\n")
                             indent()
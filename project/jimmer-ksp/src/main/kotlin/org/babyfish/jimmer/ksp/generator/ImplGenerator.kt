@@ -12,6 +12,10 @@ class ImplGenerator(
     private val type: ImmutableType,
     private val parent: TypeSpec.Builder
 ) {
+    private val loadedStates = StateBits.loaded(type)
+
+    private val hiddenStates = StateBits.hidden(type)
+
     fun generate() {
         parent.addType(
             TypeSpec
@@ -21,23 +25,12 @@ class ImplGenerator(
                 .addSuperinterface(CLONEABLE_CLASS_NAME)
                 .addSuperinterface(Serializable::class)
                 .apply {
-                    addProperty(
-                        PropertySpec
-                            .builder("__visibility", VISIBILITY_CLASS_NAME.copy(nullable = true))
-                            .addModifiers(KModifier.INTERNAL)
-                            .mutable()
-                            .addAnnotation(
-                                AnnotationSpec
-                                    .builder(JSON_IGNORE_CLASS_NAME)
-                                    .useSiteTarget(AnnotationSpec.UseSiteTarget.GET)
-                                    .build()
-                            )
-                            .initializer("null")
-                            .build()
-                    )
                     for (prop in type.properties.values) {
                         addFields(prop)
                     }
+                    for (fieldName in loadedStates.fieldNames + hiddenStates.fieldNames) {
+                        addStateField(fieldName)
+                    }
                     addInit()
                     for (prop in type.properties.values) {
                         addProp(prop)
@@ -92,16 +85,23 @@ class ImplGenerator(
                     .build()
             )
         }
-        prop.loadedFieldName?.let {
-            addProperty(
-                PropertySpec
-                    .builder(it, BOOLEAN)
-                    .addModifiers(KModifier.INTERNAL)
-                    .initializer("false")
-                    .mutable()
-                    .build()
-            )
-        }
+    }
+
+    private fun TypeSpec.Builder.addStateField(fieldName: String) {
+        addProperty(
+            PropertySpec
+                .builder(fieldName, LONG)
+                .addModifiers(KModifier.INTERNAL)
+                .mutable()
+                .addAnnotation(
+                    AnnotationSpec
+                        .builder(JSON_IGNORE_CLASS_NAME)
+                        .useSiteTarget(AnnotationSpec.UseSiteTarget.GET)
+                        .build()
+                )
+                .initializer("0L")
+                .build()
+        )
     }
 
     private fun TypeSpec.Builder.addInit() {
@@ -114,14 +114,10 @@ class ImplGenerator(
             FunSpec
                 .constructorBuilder()
                 .apply {
-                    if (type.properties.values.any { it.valueFieldName == null }) {
-                        addStatement("val __visibility = %T.of(%L)", VISIBILITY_CLASS_NAME, type.properties.size)
-                        for (prop in type.properties.values) {
-                            if (prop.valueFieldName === null) {
-                                addStatement("__visibility.show(%L, false)", prop.slotName)
-                            }
+                    for (prop in type.properties.values) {
+                        if (prop.valueFieldName === null) {
+                            addStatement("%L", hiddenStates.set(prop, "this"))
                         }
-                        addStatement("this.__visibility = __visibility")
                     }
                 }
                 .build()
@@ -178,7 +174,7 @@ class ImplGenerator(
                                             }
                                             beginControlFlow(
                                                 when {
-                                                    prop.loadedFieldName !== null -> "if (!${prop.loadedFieldName})"
+                                                    prop.loadedFieldName !== null -> "if (${loadedStates.isClear(prop)})"
                                                     else -> "if (${prop.valueFieldName} === null)"
                                                 }
                                             )
@@ -288,7 +284,11 @@ class ImplGenerator(
                                         unindent()
                                     }
                                     else -> {
-                                        val cond = prop.loadedFieldName ?: "${prop.valueFieldName} !== null"
+                                        val cond = if (prop.loadedFieldName !== null) {
+                                            loadedStates.isSet(prop)
+                                        } else {
+                                            "${prop.valueFieldName} !== null"
+                                        }
                                         addStatement("%L", cond)
                                     }
                                 }
@@ -313,7 +313,6 @@ class ImplGenerator(
                     CodeBlock
                         .builder()
                         .apply {
-                            addStatement("val __visibility = this.__visibility ?: return true")
                             val appender = CaseAppender(this, type, argType)
                             add("return ")
                             if (argType == PropId::class) {
@@ -325,7 +324,7 @@ class ImplGenerator(
                             }
                             for (prop in type.propsOrderById) {
                                 appender.addCase(prop)
-                                addStatement("__visibility.visible(%L)", prop.slotName)
+                                addStatement("%L", hiddenStates.isClear(prop))
                             }
                             addStatement("else -> true")
                             endControlFlow()
@@ -350,14 +349,21 @@ class ImplGenerator(
                     CodeBlock
                         .builder()
                         .apply {
-                            addStatement("var hash = __visibility?.hashCode() ?: 0")
+                            addStatement("var hash = 0")
+                            for (fieldName in hiddenStates.fieldNames) {
+                                addStatement("hash = 31 * hash + %L.hashCode()", fieldName)
+                            }
                             for (prop in type.properties.values) {
                                 if (prop.valueFieldName === null) {
                                     continue
                                 }
                                 beginControlFlow(
                                     "if (%L)",
-                                    prop.loadedFieldName ?: "${prop.valueFieldName} !== null"
+                                    if (prop.loadedFieldName !== null) {
+                                        loadedStates.isSet(prop)
+                                    } else {
+                                        "${prop.valueFieldName} !== null"
+                                    }
                                 )
                                 add("hash = 31 * hash + ")
                                 if (shallow && prop.isAssociation(false)) {
@@ -428,9 +434,13 @@ class ImplGenerator(
                                     continue
                                 }
                                 val localLoadedName = "__${prop.name}Loaded"
-                                val objLoadedName = prop.loadedFieldName ?: "${prop.valueFieldName} !== null"
+                                val objLoaded = if (prop.loadedFieldName !== null) {
+                                    loadedStates.isSet(prop)
+                                } else {
+                                    "this.${prop.valueFieldName} !== null"
+                                }
                                 add("val %L = \n", localLoadedName)
-                                addStatement("    this.%L", objLoadedName)
+                                addStatement("    %L", objLoaded)
                                 beginControlFlow(
                                     "if (%L != (__other.__isLoaded(%T.byIndex(%L))))",
                                     localLoadedName,
@@ -1,9 +1,18 @@
 package org.babyfish.jimmer.ksp.generator
 
+import com.google.devtools.ksp.symbol.KSAnnotation
+import com.google.devtools.ksp.symbol.KSClassDeclaration
+import com.google.devtools.ksp.symbol.KSType
 import com.squareup.kotlinpoet.*
 import com.squareup.kotlinpoet.ParameterizedTypeName.Companion.parameterizedBy
 import org.babyfish.jimmer.Formula
 import org.babyfish.jimmer.JimmerVersion
+import org.babyfish.jimmer.jackson.JsonConverter
+import org.babyfish.jimmer.ksp.MetaException
+import org.babyfish.jimmer.ksp.className
+import org.babyfish.jimmer.ksp.fullName
+import org.babyfish.jimmer.ksp.get
+import org.babyfish.jimmer.ksp.getClassArgument
 import org.babyfish.jimmer.ksp.meta.ImmutableProp
 import org.babyfish.jimmer.ksp.meta.ImmutableType
 import org.babyfish.jimmer.sql.*
@@ -79,6 +88,9 @@ class ProducerGenerator(
         for (prop in type.declaredProperties.values) {
             addProp(prop)
         }
+        for (prop in type.declaredProperties.values) {
+            addMapping(prop)
+        }
         add(".build()")
         unindent()
     }
@@ -185,6 +197,107 @@ class ProducerGenerator(
         }
     }
 
+    private fun CodeBlock.Builder.addMapping(prop: ImmutableProp) {
+        if (type.classDeclaration.typeParameters.isEmpty()) {
+            add(".kotlinProp(%S, %T::%N)\n", prop.name, type.className, prop.name)
+        }
+        prop.annotation(Column::class)?.get(Column::name)?.takeIf { it.isNotEmpty() }?.let {
+            add(".column(%S, %S)\n", prop.name, it)
+        }
+        val joinColumns = prop.annotations(JoinColumns::class).flatMap {
+            it.get<List<KSAnnotation>>("value") ?: emptyList()
+        } + prop.annotations(JoinColumn::class)
+        for (joinColumn in joinColumns) {
+            add(
+                ".joinColumn(%S, %S, %S, %T.%L)\n",
+                prop.name,
+                joinColumn[JoinColumn::name] ?: "",
+                joinColumn[JoinColumn::referencedColumnName] ?: "",
+                ForeignKeyType::class,
+                joinColumn.foreignKeyType
+            )
+        }
+        prop.annotation(JoinTable::class)?.let { joinTable ->
+            add(
+                ".joinTable(%S, %S, %S, %S, %L, %L)\n",
+                prop.name,
+                joinTable[JoinTable::name] ?: "",
+                joinTable[JoinTable::joinColumnName] ?: "",
+                joinTable[JoinTable::inverseJoinColumnName] ?: "",
+                joinTable[JoinTable::preventDeletionBySource] ?: false,
+                joinTable[JoinTable::preventDeletionByTarget] ?: false
+            )
+            addJoinTableColumns(prop, false, joinTable.get<List<KSAnnotation>>("joinColumns"))
+            addJoinTableColumns(prop, true, joinTable.get<List<KSAnnotation>>("inverseColumns"))
+        }
+        prop.mappedBy?.takeIf { it.isNotEmpty() }?.let {
+            add(".mappedBy(%S, %S)\n", prop.name, it)
+        }
+        var converterAnnotation: KSAnnotation? = null
+        var jsonConverter: KSAnnotation? = null
+        for (anno in prop.annotations { true }) {
+            val deeperAnno = if (anno.fullName == JsonConverter::class.qualifiedName) {
+                anno
+            } else {
+                anno.annotationType.resolve().declaration.annotations.firstOrNull {
+                    it.fullName == JsonConverter::class.qualifiedName
+                }
+            }
+            if (deeperAnno !== null) {
+                if (converterAnnotation !== null) {
+                    throw MetaException(
+                        prop.propDeclaration,
+                        "duplicate converter annotation @${converterAnnotation.fullName} and @${anno.fullName}"
+                    )
+                }
+                converterAnnotation = anno
+                jsonConverter = deeperAnno
+            }
+        }
+        if (converterAnnotation !== null) {
+            add(
+                ".converter(%S, %T::class.java, %T::class.java)\n",
+                prop.name,
+                (converterAnnotation.annotationType.resolve().declaration as KSClassDeclaration).className(),
+                jsonConverter!!.getClassArgument(JsonConverter::value)!!.className()
+            )
+        }
+    }
+
+    private fun CodeBlock.Builder.addJoinTableColumns(
+        prop: ImmutableProp,
+        inverse: Boolean,
+        joinColumns: List<KSAnnotation>?
+    ) {
+        for (joinColumn in joinColumns ?: emptyList()) {
+            add(
+                ".joinTableColumn(%S, %L, %S, %S, %T.%L)\n",
+                prop.name,
+                inverse,
+                joinColumn[JoinColumn::name] ?: "",
+                joinColumn[JoinColumn::referencedColumnName] ?: "",
+                ForeignKeyType::class,
+                joinColumn.foreignKeyType
+            )
+        }
+    }
+
+    private val ImmutableProp.mappedBy: String?
+        get() = when (primaryAnnotationType) {
+            OneToOne::class.java -> annotation(OneToOne::class)?.get(OneToOne::mappedBy)
+            OneToMany::class.java -> annotation(OneToMany::class)?.get(OneToMany::mappedBy)
+            ManyToMany::class.java -> annotation(ManyToMany::class)?.get(ManyToMany::mappedBy)
+            else -> null
+        }
+
+    private val KSAnnotation.foreignKeyType: String
+        get() = when (val value = get<Any>("foreignKeyType")) {
+            null -> ForeignKeyType.AUTO.name
+            is KSType -> value.declaration.simpleName.asString()
+            is KSClassDeclaration -> value.simpleName.asString()
+            else -> value.toString().substringAfterLast('.')
+        }
+
     private fun TypeSpec.Builder.addProduceFun() {
         addFunction(
             FunSpec
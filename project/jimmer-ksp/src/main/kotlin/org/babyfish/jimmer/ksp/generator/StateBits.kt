@@ -0,0 +1,70 @@
+package org.babyfish.jimmer.ksp.generator
+
+import org.babyfish.jimmer.ksp.meta.ImmutableProp
+import org.babyfish.jimmer.ksp.meta.ImmutableType
+
+/**
+ * Per-property boolean states of the generated `Impl` class packed
+ * into `Long` fields, 64 properties per field.
+ *
+ * - [loaded]: the loaded states of properties which cannot be decided by `value !== null`
+ * - [hidden]: the visibility of all properties, a set bit means the property is hidden
+ */
+class StateBits private constructor(
+    private val fieldPrefix: String,
+    private val indexMap: Map<String, Int>
+) {
+    val fieldNames: List<String> =
+        (0 until (indexMap.size + 63) / 64).map { "$fieldPrefix$it" }
+
+    fun fieldName(prop: ImmutableProp): String =
+        "$fieldPrefix${index(prop) ushr 6}"
+
+    fun mask(prop: ImmutableProp): String =
+        (index(prop) and 63).let {
+            if (it == 63) {
+                "Long.MIN_VALUE"
+            } else {
+                "0x${java.lang.Long.toHexString(1L shl it)}L"
+            }
+        }
+
+    fun isSet(prop: ImmutableProp, owner: String = "this"): String =
+        "(${owner}.${fieldName(prop)} and ${mask(prop)}) != 0L"
+
+    fun isClear(prop: ImmutableProp, owner: String = "this"): String =
+        "(${owner}.${fieldName(prop)} and ${mask(prop)}) == 0L"
+
+    fun set(prop: ImmutableProp, owner: String): String =
+        "${owner}.${fieldName(prop)} = ${owner}.${fieldName(prop)} or ${mask(prop)}"
+
+    fun clear(prop: ImmutableProp, owner: String): String =
+        "${owner}.${fieldName(prop)} = ${owner}.${fieldName(prop)} and ${mask(prop)}.inv()"
+
+    fun toggle(prop: ImmutableProp, owner: String): String =
+        "${owner}.${fieldName(prop)} = ${owner}.${fieldName(prop)} xor ${mask(prop)}"
+
+    private fun index(prop: ImmutableProp): Int =
+        indexMap[prop.name]
+            ?: throw IllegalStateException("The property \"$prop\" does not has packed state")
+
+    companion object {
+
+        fun loaded(type: ImmutableType): StateBits =
+            StateBits(
+                "__loadedState",
+                type.properties.values
+                    .filter { it.loadedFieldName !== null }
+                    .withIndex()
+                    .associate { it.value.name to it.index }
+            )
+
+        fun hidden(type: ImmutableType): StateBits =
+            StateBits(
+                "__hiddenState",
+                type.properties.values
+                    .withIndex()
+                    .associate { it.value.name to it.index }
+            )
+    }
+}
@@ -3,6 +3,7 @@ package org.babyfish.jimmer.spring.cache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.cache.ValueSerializer;
 import org.babyfish.jimmer.sql.cache.spi.AbstractRemoteHashBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +30,17 @@ public class RedisHashBinder<K, V> extends AbstractRemoteHashBinder<K, V> {
             ImmutableType type,
             Duration duration
     ) {
-        super(objectMapper, type, null, duration, 30);
+        this(operations, objectMapper, type, duration, null);
+    }
+
+    public RedisHashBinder(
+            RedisOperations<String, byte[]> operations,
+            ObjectMapper objectMapper,
+            ImmutableType type,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, type, null, duration, 30, valueSerializer);
         this.operations = operations;
     }
 
@@ -39,7 +50,17 @@ public class RedisHashBinder<K, V> extends AbstractRemoteHashBinder<K, V> {
             ImmutableType type,
             Duration duration
     ) {
-        super(objectMapper, type, null, duration, 30);
+        this(connectionFactory, objectMapper, type, duration, null);
+    }
+
+    public RedisHashBinder(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            ImmutableType type,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, type, null, duration, 30, valueSerializer);
         this.operations = RedisCaches.cacheRedisTemplate(connectionFactory);
     }
 
@@ -49,7 +70,17 @@ public class RedisHashBinder<K, V> extends AbstractRemoteHashBinder<K, V> {
             ImmutableProp prop,
             Duration duration
     ) {
-        super(objectMapper, null, prop, duration, 30);
+        this(operations, objectMapper, prop, duration, null);
+    }
+
+    public RedisHashBinder(
+            RedisOperations<String, byte[]> operations,
+            ObjectMapper objectMapper,
+            ImmutableProp prop,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, null, prop, duration, 30, valueSerializer);
         this.operations = operations;
     }
 
@@ -59,7 +90,17 @@ public class RedisHashBinder<K, V> extends AbstractRemoteHashBinder<K, V> {
             ImmutableProp prop,
             Duration duration
     ) {
-        super(objectMapper, null, prop, duration, 30);
+        this(connectionFactory, objectMapper, prop, duration, null);
+    }
+
+    public RedisHashBinder(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            ImmutableProp prop,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, null, prop, duration, 30, valueSerializer);
         this.operations = RedisCaches.cacheRedisTemplate(connectionFactory);
     }
 
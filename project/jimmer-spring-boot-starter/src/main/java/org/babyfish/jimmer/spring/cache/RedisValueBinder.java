@@ -3,6 +3,7 @@ package org.babyfish.jimmer.spring.cache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.cache.ValueSerializer;
 import org.babyfish.jimmer.sql.cache.spi.AbstractRemoteValueBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,17 @@ public class RedisValueBinder<K, V> extends AbstractRemoteValueBinder<K, V> {
             ImmutableType type,
             Duration duration
     ) {
-        super(objectMapper,type, null, duration, 30);
+        this(operations, objectMapper, type, duration, null);
+    }
+
+    public RedisValueBinder(
+            RedisOperations<String, byte[]> operations,
+            ObjectMapper objectMapper,
+            ImmutableType type,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, type, null, duration, 30, valueSerializer);
         this.operations = operations;
     }
 
@@ -37,7 +48,17 @@ public class RedisValueBinder<K, V> extends AbstractRemoteValueBinder<K, V> {
             ImmutableType type,
             Duration duration
     ) {
-        super(objectMapper,type, null, duration, 30);
+        this(connectionFactory, objectMapper, type, duration, null);
+    }
+
+    public RedisValueBinder(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            ImmutableType type,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, type, null, duration, 30, valueSerializer);
         this.operations = RedisCaches.cacheRedisTemplate(connectionFactory);
     }
 
@@ -47,7 +68,17 @@ public class RedisValueBinder<K, V> extends AbstractRemoteValueBinder<K, V> {
             ImmutableProp prop,
             Duration duration
     ) {
-        super(objectMapper,null, prop, duration, 30);
+        this(operations, objectMapper, prop, duration, null);
+    }
+
+    public RedisValueBinder(
+            RedisOperations<String, byte[]> operations,
+            ObjectMapper objectMapper,
+            ImmutableProp prop,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, null, prop, duration, 30, valueSerializer);
         this.operations = operations;
     }
 
@@ -57,7 +88,17 @@ public class RedisValueBinder<K, V> extends AbstractRemoteValueBinder<K, V> {
             ImmutableProp prop,
             Duration duration
     ) {
-        super(objectMapper,null, prop, duration, 30);
+        this(connectionFactory, objectMapper, prop, duration, null);
+    }
+
+    public RedisValueBinder(
+            RedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            ImmutableProp prop,
+            Duration duration,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, null, prop, duration, 30, valueSerializer);
         this.operations = RedisCaches.cacheRedisTemplate(connectionFactory);
     }
 
@@ -55,11 +55,17 @@ public class JimmerProperties {
 
     private final boolean saveCommandPessimisticLock;
 
+    private final boolean metadataWarmUpEnabled;
+
     private final Collection<String> executorContextPrefixes;
 
     @NotNull
     private final String microServiceName;
 
+    private final int microServiceMaxInFlight;
+
+    private final int statementCacheCapacity;
+
     @NotNull
     private final ErrorTranslator errorTranslator;
 
@@ -84,8 +90,11 @@ public class JimmerProperties {
             @Nullable Integer offsetOptimizingThreshold,
             @Nullable Boolean isForeignKeyEnabledByDefault, // Default value is true, so use `Boolean`
             boolean saveCommandPessimisticLock,
+            boolean metadataWarmUpEnabled,
             @Nullable Collection<String> executorContextPrefixes,
             @Nullable String microServiceName,
+            @Nullable Integer microServiceMaxInFlight,
+            @Nullable Integer statementCacheCapacity,
             @Nullable ErrorTranslator errorTranslator,
             @Nullable Client client,
             @Nullable Map<String, Client> clients
@@ -153,7 +162,8 @@ public class JimmerProperties {
                                     databaseValidationMode :
                                     DatabaseValidationMode.NONE,
                             null,
-                            null
+                            null,
+                            false
                     );
         }
         this.triggerType = triggerType != null ? triggerType : TriggerType.BINLOG_ONLY;
@@ -186,11 +196,26 @@ public class JimmerProperties {
                     isForeignKeyEnabledByDefault :
                     true;
         this.saveCommandPessimisticLock = saveCommandPessimisticLock;
+        this.metadataWarmUpEnabled = metadataWarmUpEnabled;
         this.executorContextPrefixes = executorContextPrefixes;
         this.microServiceName =
                 microServiceName != null ?
                         microServiceName :
                         "";
+        if (microServiceMaxInFlight != null && microServiceMaxInFlight < 0) {
+            throw new IllegalArgumentException("`jimmer.micro-service-max-in-flight` cannot be negative");
+        }
+        this.microServiceMaxInFlight =
+                microServiceMaxInFlight != null ?
+                        microServiceMaxInFlight :
+                        0;
+        if (statementCacheCapacity != null && statementCacheCapacity < 0) {
+            throw new IllegalArgumentException("`jimmer.statement-cache-capacity` cannot be negative");
+        }
+        this.statementCacheCapacity =
+                statementCacheCapacity != null ?
+                        statementCacheCapacity :
+                        0;
         if (errorTranslator == null) {
             this.errorTranslator = new ErrorTranslator(null, null, null, null);
         } else {
@@ -299,6 +324,15 @@ public class JimmerProperties {
         return saveCommandPessimisticLock;
     }
 
+    /**
+     * Resolve the metadata of all entity types when the sql client is created,
+     * so that the first operation of each entity type does not pay for it and
+     * the model errors are reported at startup.
+     */
+    public boolean isMetadataWarmUpEnabled() {
+        return metadataWarmUpEnabled;
+    }
+
     /**
      * If this option is configured, when jimmer calls back
      * `org.babyfish.jimmer.sql.runtime.Executor.execute` before executing SQL,
@@ -327,6 +361,30 @@ public class JimmerProperties {
         return microServiceName;
     }
 
+    /**
+     * The max number of concurrent requests sent to each micro service,
+     * default value is 0 which means unlimited.
+     *
+     * <p>If it is specified, the default exchange sends the asynchronous requests
+     * of object fetcher by a thread pool whose size is this value, so that the
+     * requests of different remote associations are sent concurrently. Otherwise,
+     * no thread pool is created and the default exchange sends the requests
+     * by the calling thread one by one.</p>
+     */
+    public int getMicroServiceMaxInFlight() {
+        return microServiceMaxInFlight;
+    }
+
+    /**
+     * The max count of prepared statements reused for each connection
+     * borrowed by jimmer, default value is 0 which means statements are not reused.
+     *
+     * <p>See {@link JSqlClient.Builder#setStatementCacheCapacity(int)}</p>
+     */
+    public int getStatementCacheCapacity() {
+        return statementCacheCapacity;
+    }
+
     @NotNull
     public ErrorTranslator getErrorTranslator() {
         return errorTranslator;
@@ -352,8 +410,11 @@ public class JimmerProperties {
                 ", defaultListBatchSize=" + defaultListBatchSize +
                 ", offsetOptimizingThreshold=" + offsetOptimizingThreshold +
                 ", isForeignKeyEnabledByDefault=" + isForeignKeyEnabledByDefault +
+                ", metadataWarmUpEnabled=" + metadataWarmUpEnabled +
                 ", executorContextPrefixes=" + executorContextPrefixes +
                 ", microServiceName='" + microServiceName + '\'' +
+                ", microServiceMaxInFlight=" + microServiceMaxInFlight +
+                ", statementCacheCapacity=" + statementCacheCapacity +
                 ", errorTranslator=" + errorTranslator +
                 ", client=" + client +
                 ", clients=" + clients +
@@ -372,14 +433,18 @@ public class JimmerProperties {
         @Nullable
         private final String schema;
 
+        private final boolean bulkMetadata;
+
         public DatabaseValidation(
                 @Nullable DatabaseValidationMode mode,
                 @Nullable String catalog,
-                @Nullable String schema
+                @Nullable String schema,
+                boolean bulkMetadata
         ) {
             this.mode = mode != null ? mode : DatabaseValidationMode.NONE;
             this.catalog = catalog != null && !catalog.isEmpty() ? catalog : null;
             this.schema = schema != null && !schema.isEmpty() ? schema : null;
+            this.bulkMetadata = bulkMetadata;
         }
 
         @NotNull
@@ -397,11 +462,17 @@ public class JimmerProperties {
             return schema;
         }
 
+        public boolean isBulkMetadata() {
+            return bulkMetadata;
+        }
+
         @Override
         public String toString() {
             return "Validation{" +
                     "mode=" + mode +
                     ", catalog='" + catalog + '\'' +
+                    ", schema='" + schema + '\'' +
+                    ", bulkMetadata=" + bulkMetadata +
                     '}';
         }
     }
@@ -39,6 +39,10 @@ import org.springframework.web.client.RestTemplate;
 
 import javax.sql.DataSource;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Configuration
@@ -253,6 +257,7 @@ public class SqlClientConfig {
         builder.setOffsetOptimizingThreshold(properties.getOffsetOptimizingThreshold());
         builder.setForeignKeyEnabledByDefault(properties.isForeignKeyEnabledByDefault());
         builder.setSaveCommandPessimisticLock(properties.isSaveCommandPessimisticLock());
+        builder.setMetadataWarmUpEnabled(properties.isMetadataWarmUpEnabled());
         builder.setExecutorContextPrefixes(properties.getExecutorContextPrefixes());
         if (properties.isShowSql()) {
             builder.setExecutor(Executor.log(executor));
@@ -268,6 +273,8 @@ public class SqlClientConfig {
                 .setDatabaseValidationMode(properties.getDatabaseValidation().getMode())
                 .setDatabaseValidationCatalog(properties.getDatabaseValidation().getCatalog())
                 .setDatabaseValidationSchema(properties.getDatabaseValidation().getSchema())
+                .setDatabaseValidationBulkMetadataEnabled(properties.getDatabaseValidation().isBulkMetadata())
+                .setStatementCacheCapacity(properties.getStatementCacheCapacity())
                 .setCacheFactory(cacheFactory)
                 .setCacheOperator(cacheOperator)
                 .addCacheAbandonedCallbacks(callbacks);
@@ -284,6 +291,7 @@ public class SqlClientConfig {
         builder.setMicroServiceName(properties.getMicroServiceName());
         if (!properties.getMicroServiceName().isEmpty()) {
             builder.setMicroServiceExchange(exchange);
+            builder.setMicroServiceMaxInFlight(properties.getMicroServiceMaxInFlight());
         }
     }
 
@@ -298,16 +306,44 @@ public class SqlClientConfig {
     @Bean
     public MicroServiceExchange microServiceExchange(
             RestTemplate restTemplate,
-            ObjectMapper mapper
+            ObjectMapper mapper,
+            JimmerProperties properties
     ) {
-        return new SpringCloudExchange(restTemplate, mapper);
+        int maxInFlight = properties.getMicroServiceMaxInFlight();
+        return new SpringCloudExchange(
+                restTemplate,
+                mapper,
+                maxInFlight != 0 ? microServiceExecutor(maxInFlight) : null
+        );
+    }
+
+    /**
+     * Bounded by max-in-flight, idle threads are released, and the threads
+     * are daemon threads so that the executor needs not to be shutdown.
+     */
+    private static java.util.concurrent.Executor microServiceExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "jimmer-micro-service-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private static void postCreateSqlClient(
             JSqlClientImplementor sqlClient,
             ApplicationEventPublisher publisher
     ) {
-        if (!(sqlClient.getConnectionManager() instanceof SpringConnectionManager)) {
+        if (!(StatementCachingConnectionManager.unwrap(sqlClient.getConnectionManager()) instanceof SpringConnectionManager)) {
             throw new IllegalStateException(
                     "The connection manager of sqlClient must be \"" +
                             SpringConnectionManager.class.getName() +
@@ -316,7 +352,7 @@ public class SqlClientConfig {
         }
 
         if (sqlClient.getSlaveConnectionManager(false) != null &&
-                !(sqlClient.getSlaveConnectionManager(false) instanceof SpringConnectionManager)) {
+                !(StatementCachingConnectionManager.unwrap(sqlClient.getSlaveConnectionManager(false)) instanceof SpringConnectionManager)) {
             throw new IllegalStateException(
                     "The slave connection manager of sqlClient must be null or \"" +
                             SpringConnectionManager.class.getName() +
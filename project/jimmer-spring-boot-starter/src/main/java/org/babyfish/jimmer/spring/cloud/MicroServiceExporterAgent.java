@@ -0,0 +1,186 @@
+package org.babyfish.jimmer.spring.cloud;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.babyfish.jimmer.impl.util.Classes;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.compiler.FetcherCompiler;
+import org.babyfish.jimmer.sql.runtime.MicroServiceExporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared implementation of {@link MicroServiceExporterController}
+ * and {@link JakartaMicroServiceExporterController}.
+ *
+ * <p>The fetchers are sent as text, compiling them by ANTLR is expensive,
+ * so the compiled fetchers are kept by a small LRU cache.</p>
+ */
+class MicroServiceExporterAgent {
+
+    private static final int FETCHER_CACHE_CAPACITY = 256;
+
+    private final MicroServiceExporter exporter;
+
+    private final ObjectMapper mapper;
+
+    private final Map<String, Fetcher<?>> fetcherCache =
+            new LinkedHashMap<String, Fetcher<?>>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Fetcher<?>> eldest) {
+                    return size() > FETCHER_CACHE_CAPACITY;
+                }
+            };
+
+    MicroServiceExporterAgent(JSqlClient sqlClient, ObjectMapper mapper) {
+        this.exporter = new MicroServiceExporter(sqlClient);
+        this.mapper = mapper;
+    }
+
+    List<ImmutableSpi> findByIds(String idArrStr, String fetcherStr) throws IOException {
+        Fetcher<?> fetcher = fetcher(fetcherStr);
+        List<?> ids = mapper.readValue(idArrStr, idListType(fetcher.getImmutableType().getIdProp()));
+        return exporter.findByIds(ids, fetcher);
+    }
+
+    List<Tuple2<Object, ImmutableSpi>> findByAssociatedIds(
+            String prop,
+            String targetIdArrStr,
+            String fetcherStr
+    ) throws IOException {
+        Fetcher<?> fetcher = fetcher(fetcherStr);
+        ImmutableProp immutableProp = fetcher.getImmutableType().getProp(prop);
+        List<?> targetIds = mapper.readValue(
+                targetIdArrStr,
+                idListType(immutableProp.getTargetType().getIdProp())
+        );
+        return exporter.findByAssociatedIds(immutableProp, targetIds, fetcher);
+    }
+
+    /**
+     * Read the body `{"fetcher": ..., "ids": [...]}` by streaming
+     */
+    List<ImmutableSpi> findByIds(InputStream body) throws IOException {
+        Request request = readRequest(body, MicroServiceExporterController.IDS);
+        return exporter.findByIds(request.ids(), request.fetcher);
+    }
+
+    /**
+     * Read the body `{"prop": ..., "fetcher": ..., "targetIds": [...]}` by streaming
+     */
+    List<Tuple2<Object, ImmutableSpi>> findByAssociatedIds(InputStream body) throws IOException {
+        Request request = readRequest(body, MicroServiceExporterController.TARGET_IDS);
+        return exporter.findByAssociatedIds(request.prop(), request.ids(), request.fetcher);
+    }
+
+    private Request readRequest(InputStream body, String idsField) throws IOException {
+        Request request = new Request(idsField);
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("The request body must be a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(MicroServiceExporterController.FETCHER)) {
+                    request.fetcher = fetcher(parser.getValueAsString());
+                } else if (fieldName.equals(MicroServiceExporterController.PROP)) {
+                    request.propName = parser.getValueAsString();
+                } else if (fieldName.equals(idsField)) {
+                    JavaType idListType = request.idListType();
+                    if (idListType != null) {
+                        // The client writes the ids at the end so that they can be converted directly
+                        request.ids = mapper.readValue(parser, idListType);
+                    } else {
+                        request.idTree = mapper.readTree(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (request.fetcher == null) {
+            throw new IllegalArgumentException("The request body does not specify \"fetcher\"");
+        }
+        return request;
+    }
+
+    Fetcher<?> fetcher(String fetcherStr) {
+        synchronized (fetcherCache) {
+            Fetcher<?> fetcher = fetcherCache.get(fetcherStr);
+            if (fetcher != null) {
+                return fetcher;
+            }
+        }
+        Fetcher<?> fetcher = FetcherCompiler.compile(fetcherStr);
+        synchronized (fetcherCache) {
+            fetcherCache.put(fetcherStr, fetcher);
+        }
+        return fetcher;
+    }
+
+    private JavaType idListType(ImmutableProp idProp) {
+        return mapper.getTypeFactory().constructCollectionType(
+                List.class,
+                Classes.boxTypeOf(idProp.getElementClass())
+        );
+    }
+
+    private class Request {
+
+        final String idsField;
+
+        Fetcher<?> fetcher;
+
+        String propName;
+
+        List<?> ids;
+
+        JsonNode idTree;
+
+        Request(String idsField) {
+            this.idsField = idsField;
+        }
+
+        ImmutableProp prop() {
+            if (propName == null) {
+                throw new IllegalArgumentException("The request body does not specify \"prop\"");
+            }
+            return fetcher.getImmutableType().getProp(propName);
+        }
+
+        JavaType idListType() {
+            if (fetcher == null) {
+                return null;
+            }
+            if (idsField.equals(MicroServiceExporterController.IDS)) {
+                return idListType(fetcher.getImmutableType().getIdProp());
+            }
+            if (propName == null) {
+                return null;
+            }
+            return idListType(prop().getTargetType().getIdProp());
+        }
+
+        List<?> ids() throws IOException {
+            if (ids == null) {
+                if (idTree == null) {
+                    throw new IllegalArgumentException("The request body does not specify \"" + idsField + "\"");
+                }
+                ids = mapper.readValue(mapper.treeAsTokens(idTree), idListType());
+            }
+            return ids;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.babyfish.jimmer.spring.cloud;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.babyfish.jimmer.impl.util.Classes;
@@ -9,20 +11,56 @@ import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.runtime.MicroServiceExchange;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Collection;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Both ids and results are streamed by the body of POST request,
+ * neither the url length limit nor the intermediate json string is involved.
+ *
+ * <p>The servers of older versions only accept GET requests, when a server responds
+ * 405 during rolling upgrade, the request is sent again by GET and the later requests
+ * to that micro-service use GET for a while before POST is tried again.</p>
+ *
+ * <p>If an executor is specified, the asynchronous methods send the blocking
+ * requests by it, so that the requests issued by object fetcher for different
+ * remote associations are sent concurrently.</p>
+ */
 public class SpringCloudExchange implements MicroServiceExchange {
 
+    private static final long POST_RETRY_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     private final RestTemplate restTemplate;
 
     private final ObjectMapper mapper;
 
+    private final Executor asyncExecutor;
+
+    // Micro-service name -> The time to try POST again
+    private final ConcurrentMap<String, Long> getOnlyDeadlineMap = new ConcurrentHashMap<>();
+
     public SpringCloudExchange(RestTemplate restTemplate, ObjectMapper mapper) {
+        this(restTemplate, mapper, null);
+    }
+
+    public SpringCloudExchange(RestTemplate restTemplate, ObjectMapper mapper, Executor asyncExecutor) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
+        this.asyncExecutor = asyncExecutor;
     }
 
     @Override
@@ -30,22 +68,19 @@ public class SpringCloudExchange implements MicroServiceExchange {
             String microServiceName,
             Collection<?> ids,
             Fetcher<?> fetcher
-    ) throws JsonProcessingException {
-        String json = restTemplate.getForObject(
-                "http://" +
-                        microServiceName +
-                        MicroServiceExporterController.BY_IDS +
-                        "?" +
-                        MicroServiceExporterController.IDS +
-                        "={ids}&" +
-                        MicroServiceExporterController.FETCHER +
-                        "={fetcher}",
-                String.class,
-                mapper.writeValueAsString(ids),
-                fetcher.toString(true)
-        );
-        return mapper.readValue(
-                json,
+    ) {
+        return exchange(
+                microServiceName,
+                MicroServiceExporterController.BY_IDS,
+                gen -> {
+                    gen.writeStringField(MicroServiceExporterController.FETCHER, fetcher.toString(true));
+                    gen.writeFieldName(MicroServiceExporterController.IDS);
+                    mapper.writeValue(gen, ids);
+                },
+                params -> {
+                    params.put(MicroServiceExporterController.IDS, mapper.writeValueAsString(ids));
+                    params.put(MicroServiceExporterController.FETCHER, fetcher.toString(true));
+                },
                 mapper.getTypeFactory().constructParametricType(
                         List.class,
                         fetcher.getImmutableType().getJavaClass()
@@ -59,26 +94,22 @@ public class SpringCloudExchange implements MicroServiceExchange {
             ImmutableProp prop,
             Collection<?> targetIds,
             Fetcher<?> fetcher
-    ) throws JsonProcessingException {
-        String json = restTemplate.getForObject(
-                "http://" +
-                        microServiceName +
-                        MicroServiceExporterController.BY_ASSOCIATED_IDS +
-                        "?" +
-                        MicroServiceExporterController.PROP +
-                        "={prop}&" +
-                        MicroServiceExporterController.TARGET_IDS +
-                        "={targetIds}&" +
-                        MicroServiceExporterController.FETCHER +
-                        "={fetcher}",
-                String.class,
-                prop.getName(),
-                mapper.writeValueAsString(targetIds),
-                fetcher.toString(true)
-        );
+    ) {
         TypeFactory typeFactory = mapper.getTypeFactory();
-        return mapper.readValue(
-                json,
+        return exchange(
+                microServiceName,
+                MicroServiceExporterController.BY_ASSOCIATED_IDS,
+                gen -> {
+                    gen.writeStringField(MicroServiceExporterController.PROP, prop.getName());
+                    gen.writeStringField(MicroServiceExporterController.FETCHER, fetcher.toString(true));
+                    gen.writeFieldName(MicroServiceExporterController.TARGET_IDS);
+                    mapper.writeValue(gen, targetIds);
+                },
+                params -> {
+                    params.put(MicroServiceExporterController.PROP, prop.getName());
+                    params.put(MicroServiceExporterController.TARGET_IDS, mapper.writeValueAsString(targetIds));
+                    params.put(MicroServiceExporterController.FETCHER, fetcher.toString(true));
+                },
                 typeFactory.constructParametricType(
                         List.class,
                         typeFactory.constructParametricType(
@@ -89,4 +120,134 @@ public class SpringCloudExchange implements MicroServiceExchange {
                 )
         );
     }
+
+    @Override
+    public CompletableFuture<List<ImmutableSpi>> findByIdsAsync(
+            String microServiceName,
+            Collection<?> ids,
+            Fetcher<?> fetcher
+    ) {
+        if (asyncExecutor == null) {
+            return MicroServiceExchange.super.findByIdsAsync(microServiceName, ids, fetcher);
+        }
+        return CompletableFuture.supplyAsync(
+                () -> findByIds(microServiceName, ids, fetcher),
+                asyncExecutor
+        );
+    }
+
+    @Override
+    public CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> findByAssociatedIdsAsync(
+            String microServiceName,
+            ImmutableProp prop,
+            Collection<?> targetIds,
+            Fetcher<?> fetcher
+    ) {
+        if (asyncExecutor == null) {
+            return MicroServiceExchange.super.findByAssociatedIdsAsync(microServiceName, prop, targetIds, fetcher);
+        }
+        return CompletableFuture.supplyAsync(
+                () -> findByAssociatedIds(microServiceName, prop, targetIds, fetcher),
+                asyncExecutor
+        );
+    }
+
+    private <R> R exchange(
+            String microServiceName,
+            String path,
+            BodyWriter bodyWriter,
+            ParamWriter paramWriter,
+            JavaType resultType
+    ) {
+        Long getOnlyDeadline = getOnlyDeadlineMap.get(microServiceName);
+        if (getOnlyDeadline == null || System.nanoTime() - getOnlyDeadline >= 0) {
+            try {
+                R result = post(microServiceName, path, bodyWriter, resultType);
+                if (getOnlyDeadline != null) {
+                    getOnlyDeadlineMap.remove(microServiceName, getOnlyDeadline);
+                }
+                return result;
+            } catch (HttpClientErrorException.MethodNotAllowed ex) {
+                // The server has not been upgraded and only accepts GET
+                getOnlyDeadlineMap.put(microServiceName, System.nanoTime() + POST_RETRY_INTERVAL_NANOS);
+            }
+        }
+        return get(microServiceName, path, paramWriter, resultType);
+    }
+
+    /**
+     * The ids are always written as the last field so that
+     * the server can convert them directly while parsing
+     */
+    private <R> R post(
+            String microServiceName,
+            String path,
+            BodyWriter bodyWriter,
+            JavaType resultType
+    ) {
+        RequestCallback requestCallback = request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+            try (JsonGenerator gen = mapper.getFactory().createGenerator(StreamUtils.nonClosing(request.getBody()))) {
+                gen.writeStartObject();
+                bodyWriter.write(gen);
+                gen.writeEndObject();
+            }
+        };
+        ResponseExtractor<R> responseExtractor = response -> {
+            try (InputStream in = response.getBody()) {
+                return mapper.readValue(in, resultType);
+            }
+        };
+        return restTemplate.execute(
+                "http://" + microServiceName + path,
+                HttpMethod.POST,
+                requestCallback,
+                responseExtractor
+        );
+    }
+
+    private <R> R get(
+            String microServiceName,
+            String path,
+            ParamWriter paramWriter,
+            JavaType resultType
+    ) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        try {
+            paramWriter.write(params);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Cannot write the parameters of micro-service request", ex);
+        }
+        StringBuilder builder = new StringBuilder("http://").append(microServiceName).append(path);
+        char separator = '?';
+        for (String name : params.keySet()) {
+            builder.append(separator).append(name).append("={").append(name).append('}');
+            separator = '&';
+        }
+        RequestCallback requestCallback = request ->
+                request.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        ResponseExtractor<R> responseExtractor = response -> {
+            try (InputStream in = response.getBody()) {
+                return mapper.readValue(in, resultType);
+            }
+        };
+        return restTemplate.execute(
+                builder.toString(),
+                HttpMethod.GET,
+                requestCallback,
+                responseExtractor,
+                params
+        );
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ParamWriter {
+        void write(Map<String, Object> params) throws JsonProcessingException;
+    }
 }
@@ -15,6 +15,7 @@ import org.babyfish.jimmer.sql.meta.EmbeddedColumns;
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
 import org.babyfish.jimmer.sql.runtime.ConnectionManager;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+import org.babyfish.jimmer.sql.runtime.StatementCachingConnectionManager;
 import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
@@ -42,7 +43,7 @@ public class Utils {
 
     public static JSqlClientImplementor validateSqlClient(JSqlClient sqlClient) {
         JSqlClientImplementor implementor = (JSqlClientImplementor) sqlClient;
-        if (!(implementor.getConnectionManager() instanceof SpringConnectionManager)) {
+        if (!(StatementCachingConnectionManager.unwrap(implementor.getConnectionManager()) instanceof SpringConnectionManager)) {
             throw new IllegalArgumentException(
                     "The connection manager of sql client must be instance of \"" +
                             SpringConnectionManager.class.getName() +
@@ -57,7 +58,8 @@ public class Utils {
             );
         }
         ConnectionManager slaveConnectionManager = implementor.getSlaveConnectionManager(false);
-        if (slaveConnectionManager != null && !(slaveConnectionManager instanceof SpringConnectionManager)) {
+        if (slaveConnectionManager != null &&
+                !(StatementCachingConnectionManager.unwrap(slaveConnectionManager) instanceof SpringConnectionManager)) {
             throw new IllegalArgumentException(
                     "The slave connection manager of sql client must be null or instance of \"" +
                             SpringConnectionManager.class.getName() +
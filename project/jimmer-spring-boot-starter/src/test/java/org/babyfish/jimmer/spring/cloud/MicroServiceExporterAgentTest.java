@@ -0,0 +1,127 @@
+package org.babyfish.jimmer.spring.cloud;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.babyfish.jimmer.jackson.ImmutableModule;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.spring.AbstractTest;
+import org.babyfish.jimmer.spring.datasource.DataSources;
+import org.babyfish.jimmer.spring.java.model.BookFetcher;
+import org.babyfish.jimmer.spring.java.model.BookStoreFetcher;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.dialect.H2Dialect;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.runtime.ConnectionManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+public class MicroServiceExporterAgentTest extends AbstractTest {
+
+    private static final UUID MANNING_ID = UUID.fromString("2fa3955e-3e83-49b9-902e-0465c109c779");
+
+    private static final String STORE_FETCHER = BookStoreFetcher.$.name().toString(true);
+
+    private static final String BOOK_FETCHER = BookFetcher.$.name().edition().toString(true);
+
+    private static DataSource dataSource;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ImmutableModule());
+
+    @BeforeAll
+    public static void beforeAll() {
+        dataSource = DataSources.create(null);
+        initDatabase(dataSource);
+    }
+
+    @Test
+    public void testIdsAfterFetcher() throws IOException {
+        List<ImmutableSpi> stores = agent().findByIds(
+                body("{\"fetcher\":" + mapper.writeValueAsString(STORE_FETCHER) +
+                        ",\"ids\":[\"" + MANNING_ID + "\"]}")
+        );
+        Assertions.assertEquals(
+                "[{\"id\":\"" + MANNING_ID + "\",\"name\":\"MANNING\"}]",
+                mapper.writeValueAsString(stores)
+        );
+    }
+
+    @Test
+    public void testIdsBeforeFetcher() throws IOException {
+        // The id type is unknown when the ids are read, they are kept as json tree
+        List<ImmutableSpi> stores = agent().findByIds(
+                body("{\"ids\":[\"" + MANNING_ID + "\"]" +
+                        ",\"fetcher\":" + mapper.writeValueAsString(STORE_FETCHER) + "}")
+        );
+        Assertions.assertEquals(
+                "[{\"id\":\"" + MANNING_ID + "\",\"name\":\"MANNING\"}]",
+                mapper.writeValueAsString(stores)
+        );
+    }
+
+    @Test
+    public void testTargetIdsBeforeProp() throws IOException {
+        List<Tuple2<Object, ImmutableSpi>> tuples = agent().findByAssociatedIds(
+                body("{\"fetcher\":" + mapper.writeValueAsString(BOOK_FETCHER) +
+                        ",\"targetIds\":[\"" + MANNING_ID + "\"]" +
+                        ",\"prop\":\"store\"}")
+        );
+        Assertions.assertEquals(3, tuples.size());
+        for (Tuple2<Object, ImmutableSpi> tuple : tuples) {
+            Assertions.assertEquals(MANNING_ID, tuple.get_1());
+            Assertions.assertTrue(mapper.writeValueAsString(tuple.get_2()).contains("\"name\":\"GraphQL in Action\""));
+        }
+    }
+
+    @Test
+    public void testMissingFetcher() {
+        IllegalArgumentException ex = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> agent().findByIds(body("{\"ids\":[\"" + MANNING_ID + "\"]}"))
+        );
+        Assertions.assertEquals("The request body does not specify \"fetcher\"", ex.getMessage());
+    }
+
+    @Test
+    public void testFetcherCache() {
+        MicroServiceExporterAgent agent = agent();
+        Fetcher<?> fetcher = agent.fetcher(STORE_FETCHER);
+        Assertions.assertSame(fetcher, agent.fetcher(STORE_FETCHER));
+
+        // Different texts of same shape are cached separately
+        StringBuilder builder = new StringBuilder(STORE_FETCHER);
+        for (int i = 0; i < 255; i++) {
+            agent.fetcher(builder.append(' ').toString());
+        }
+        // Least recently used, rather than first inserted, is evicted
+        Assertions.assertSame(fetcher, agent.fetcher(STORE_FETCHER));
+        agent.fetcher(builder.append(' ').toString());
+        Assertions.assertSame(fetcher, agent.fetcher(STORE_FETCHER));
+
+        for (int i = 0; i < 256; i++) {
+            agent.fetcher(builder.append(' ').toString());
+        }
+        Assertions.assertNotSame(fetcher, agent.fetcher(STORE_FETCHER));
+    }
+
+    private MicroServiceExporterAgent agent() {
+        JSqlClient sqlClient = JSqlClient
+                .newBuilder()
+                .setConnectionManager(ConnectionManager.simpleConnectionManager(dataSource))
+                .setDialect(new H2Dialect())
+                .build();
+        return new MicroServiceExporterAgent(sqlClient, mapper);
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,73 @@
+package org.babyfish.jimmer.spring.cloud;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.babyfish.jimmer.jackson.ImmutableModule;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.spring.java.model.BookStoreFetcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+public class SpringCloudExchangeTest {
+
+    private static final UUID MANNING_ID = UUID.fromString("2fa3955e-3e83-49b9-902e-0465c109c779");
+
+    private static final String RESPONSE = "[{\"id\":\"" + MANNING_ID + "\",\"name\":\"MANNING\"}]";
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ImmutableModule());
+
+    @Test
+    public void testPost() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server
+                .expect(requestTo("http://store-service" + MicroServiceExporterController.BY_IDS))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.ids[0]").value(MANNING_ID.toString()))
+                .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+        List<ImmutableSpi> stores = new SpringCloudExchange(restTemplate, mapper)
+                .findByIds("store-service", Collections.singleton(MANNING_ID), BookStoreFetcher.$.name());
+        Assertions.assertEquals(RESPONSE, mapper.writeValueAsString(stores));
+        server.verify();
+    }
+
+    @Test
+    public void testGetFallbackOfOldServer() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server
+                .expect(requestTo("http://store-service" + MicroServiceExporterController.BY_IDS))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        for (int i = 0; i < 2; i++) {
+            // The second request is sent by GET directly
+            server
+                    .expect(requestTo(startsWith("http://store-service" + MicroServiceExporterController.BY_IDS + "?ids=")))
+                    .andExpect(method(HttpMethod.GET))
+                    .andExpect(queryParam(MicroServiceExporterController.FETCHER, startsWith("org.babyfish.jimmer")))
+                    .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+        }
+        SpringCloudExchange exchange = new SpringCloudExchange(restTemplate, mapper);
+        for (int i = 0; i < 2; i++) {
+            List<ImmutableSpi> stores = exchange.findByIds(
+                    "store-service",
+                    Collections.singleton(MANNING_ID),
+                    BookStoreFetcher.$.name()
+            );
+            Assertions.assertEquals(RESPONSE, mapper.writeValueAsString(stores));
+        }
+        server.verify();
+    }
+}
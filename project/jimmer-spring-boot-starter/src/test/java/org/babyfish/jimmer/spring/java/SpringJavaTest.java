@@ -73,6 +73,8 @@ import java.util.List;
         "jimmer.client.java-feign.path=/my-java.zip",
         "jimmer.client.java-feign.base-package=com.myapp.feign",
         "jimmer.dialect=org.babyfish.jimmer.sql.dialect.H2Dialect",
+        "jimmer.metadata-warm-up-enabled=true",
+        "jimmer.statement-cache-capacity=16",
         "spring.application.name=java-client",
         "jimmer.clients.first.ts.path=/my-ts1.zip",
         "jimmer.clients.second.ts.path=/my-ts2.zip"
@@ -224,6 +226,10 @@ public class SpringJavaTest extends AbstractTest {
                 "/my-ts.zip",
                 jimmerProperties.getClient().getTs().getPath()
         );
+        Assertions.assertTrue(jimmerProperties.isMetadataWarmUpEnabled());
+        // Unbounded by default, no thread pool is created for micro services
+        Assertions.assertEquals(0, jimmerProperties.getMicroServiceMaxInFlight());
+        Assertions.assertEquals(16, jimmerProperties.getStatementCacheCapacity());
     }
 
     @Test
@@ -15,8 +15,10 @@ dependencies {
     api(project(":jimmer-core-kotlin"))
     api(project(":jimmer-sql"))
     implementation("org.apache.commons:commons-lang3:3.12.0")
+    compileOnly("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.6.4")
 
     testImplementation(kotlin("test"))
+    testImplementation("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.6.4")
     kspTest(project(":jimmer-ksp"))
     testAnnotationProcessor(project(":jimmer-ksp"))
 
@@ -3,6 +3,7 @@ package org.babyfish.jimmer.sql.kt.ast.expression.impl
 import org.babyfish.jimmer.sql.ast.impl.Ast
 import org.babyfish.jimmer.sql.ast.impl.AstVisitor
 import org.babyfish.jimmer.sql.ast.impl.ExpressionImplementor
+import org.babyfish.jimmer.sql.ast.impl.InLists
 import org.babyfish.jimmer.sql.ast.table.spi.PropExpressionImplementor
 import org.babyfish.jimmer.sql.kt.ast.expression.KExpression
 import org.babyfish.jimmer.sql.kt.ast.query.KTypedSubQuery
@@ -27,19 +28,14 @@ internal class InCollectionPredicate(
         if (values.isEmpty()) {
             builder.sql(if (negative) "1 = 1" else "1 = 0")
         } else {
-            (expression as Ast).renderTo(builder)
-            builder.sql(if (negative) " not in (" else " in (")
-            var sp = ""
-            for (value in LiteralExpression.convert(values, expression, builder.astContext.sqlClient)) {
-                builder.sql(sp)
-                sp = ", "
-                if (value != null) {
-                    builder.variable(value)
-                } else {
-                    builder.nullVariable((expression as ExpressionImplementor<*>).type)
-                }
+            InLists.render(
+                builder,
+                negative,
+                LiteralExpression.convert(values, expression, builder.astContext.sqlClient),
+                (expression as ExpressionImplementor<*>).type
+            ) {
+                (expression as Ast).renderTo(builder)
             }
-            builder.sql(")")
         }
     }
 }
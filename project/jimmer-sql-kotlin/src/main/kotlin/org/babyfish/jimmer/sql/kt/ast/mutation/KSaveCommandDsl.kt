@@ -29,4 +29,17 @@ interface KSaveCommandDsl {
     fun setDissociateAction(prop: KProperty1<*, *>, action: DissociateAction)
 
     fun setPessimisticLock(pessimisticLock: Boolean = true)
+
+    /**
+     * Maximum number of rows sent by one JDBC batch when a batch save command
+     * saves its root objects, 0 means JDBC batch is disabled.
+     * This configuration is ignored by simple save command.
+     */
+    fun setBatchSize(batchSize: Int)
+
+    /**
+     * Save the objects of [SaveMode.UPSERT] by the insert-or-update statement
+     * of the dialect when it is possible, rather than finding them first.
+     */
+    fun setNativeUpsert(nativeUpsert: Boolean = true)
 }
\ No newline at end of file
@@ -52,5 +52,12 @@ internal class KSaveCommandDslImpl(
     override fun setPessimisticLock(pessimisticLock: Boolean) {
         javaCfg.setPessimisticLock(pessimisticLock)
     }
-}
 
+    override fun setBatchSize(batchSize: Int) {
+        javaCfg.setBatchSize(batchSize)
+    }
+
+    override fun setNativeUpsert(nativeUpsert: Boolean) {
+        javaCfg.setNativeUpsert(nativeUpsert)
+    }
+}
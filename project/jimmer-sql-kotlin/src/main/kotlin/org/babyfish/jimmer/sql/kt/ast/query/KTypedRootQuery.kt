@@ -39,4 +39,16 @@ interface KTypedRootQuery<R> : KExecutable<List<R>> {
         batchSize: Int = 0,
         block: (R) -> Unit
     )
+
+    /**
+     * Read the rows lazily by database cursor, only [batchSize] rows
+     * are read and fetched by object fetchers at a time.
+     *
+     * The sequence is only valid inside the block.
+     */
+    fun <X> stream(
+        con: Connection? = null,
+        batchSize: Int = 0,
+        block: (Sequence<R>) -> X
+    ): X
 }
\ No newline at end of file
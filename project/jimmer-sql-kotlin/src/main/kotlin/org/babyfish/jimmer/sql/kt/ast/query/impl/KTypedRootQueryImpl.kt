@@ -32,4 +32,9 @@ internal open class KTypedRootQueryImpl<R>(
     override fun forEach(con: Connection?, batchSize: Int, block: (R) -> Unit) {
         _javaQuery.forEach(con, batchSize, block)
     }
+
+    override fun <X> stream(con: Connection?, batchSize: Int, block: (Sequence<R>) -> X): X =
+        _javaQuery.stream(con, batchSize) {
+            block(it.iterator().asSequence())
+        }
 }
\ No newline at end of file
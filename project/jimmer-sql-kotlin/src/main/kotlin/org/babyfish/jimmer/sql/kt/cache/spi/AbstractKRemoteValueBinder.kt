@@ -3,6 +3,7 @@ package org.babyfish.jimmer.sql.kt.cache.spi
 import com.fasterxml.jackson.databind.ObjectMapper
 import org.babyfish.jimmer.meta.ImmutableProp
 import org.babyfish.jimmer.meta.ImmutableType
+import org.babyfish.jimmer.sql.cache.ValueSerializer
 import org.babyfish.jimmer.sql.cache.spi.AbstractRemoteValueBinder
 import java.time.Duration
 
@@ -11,13 +12,15 @@ abstract class AbstractKRemoteValueBinder<K, V>(
     type: ImmutableType?,
     prop: ImmutableProp?,
     duration: Duration,
-    randomPercent: Int
+    randomPercent: Int,
+    valueSerializer: ValueSerializer<V>? = null
 ) : AbstractRemoteValueBinder<K, V>(
     objectMapper,
     type,
     prop,
     duration,
-    randomPercent
+    randomPercent,
+    valueSerializer
 ) {
 
     abstract override fun read(keys: Collection<String>): List<ByteArray?>
@@ -268,6 +268,14 @@ class KSqlClientDsl internal constructor(
         javaBuilder.setDatabaseValidationSchema(schema)
     }
 
+    fun setDatabaseValidationBulkMetadataEnabled(enabled: Boolean) {
+        javaBuilder.setDatabaseValidationBulkMetadataEnabled(enabled)
+    }
+
+    fun setMetadataWarmUpEnabled(enabled: Boolean) {
+        javaBuilder.setMetadataWarmUpEnabled(enabled)
+    }
+
     /**
      * For RDBMS, pagination is slow if `offset` is large, especially for MySQL.
      *
@@ -295,6 +303,30 @@ class KSqlClientDsl internal constructor(
         javaBuilder.setOffsetOptimizingThreshold(threshold)
     }
 
+    /**
+     * Pad the values of `in(...)` list to the next power of two,
+     * see [JSqlClient.Builder.setInListPaddingEnabled]
+     */
+    fun setInListPaddingEnabled(enabled: Boolean = true) {
+        javaBuilder.setInListPaddingEnabled(enabled)
+    }
+
+    /**
+     * Render `expr in(?, ?, ...)` as `expr = any(?)` if the dialect supports it,
+     * see [JSqlClient.Builder.setInListToAnyEqualityEnabled]
+     */
+    fun setInListToAnyEqualityEnabled(enabled: Boolean = true) {
+        javaBuilder.setInListToAnyEqualityEnabled(enabled)
+    }
+
+    /**
+     * Reuse the prepared statements of each connection provided by the connection managers,
+     * see [JSqlClient.Builder.setStatementCacheCapacity]
+     */
+    fun setStatementCacheCapacity(capacity: Int) {
+        javaBuilder.setStatementCacheCapacity(capacity)
+    }
+
     fun setMicroServiceName(microServiceName: String) {
         javaBuilder.setMicroServiceName(microServiceName)
     }
@@ -303,6 +335,14 @@ class KSqlClientDsl internal constructor(
         javaBuilder.setMicroServiceExchange(exchange)
     }
 
+    fun setMicroServiceMaxInFlight(maxInFlight: Int) {
+        javaBuilder.setMicroServiceMaxInFlight(maxInFlight)
+    }
+
+    fun setFetcherExecutor(executor: java.util.concurrent.Executor?) {
+        javaBuilder.setFetcherExecutor(executor)
+    }
+
     @DslScope
     class ConnectionManagerDsl internal constructor(
         private val javaBlock: Function<Connection, *>
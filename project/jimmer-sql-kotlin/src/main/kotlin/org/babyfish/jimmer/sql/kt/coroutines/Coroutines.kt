@@ -0,0 +1,247 @@
+package org.babyfish.jimmer.sql.kt.coroutines
+
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.NonCancellable
+import kotlinx.coroutines.asExecutor
+import kotlinx.coroutines.channels.trySendBlocking
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.withContext
+import org.babyfish.jimmer.sql.ast.mutation.DeleteMode
+import org.babyfish.jimmer.sql.ast.mutation.SaveMode
+import org.babyfish.jimmer.sql.fetcher.Fetcher
+import org.babyfish.jimmer.sql.kt.KSqlClient
+import org.babyfish.jimmer.sql.kt.ast.KExecutable
+import org.babyfish.jimmer.sql.kt.ast.mutation.KDeleteCommandDsl
+import org.babyfish.jimmer.sql.kt.ast.mutation.KDeleteResult
+import org.babyfish.jimmer.sql.kt.ast.mutation.KSaveCommandDsl
+import org.babyfish.jimmer.sql.kt.ast.mutation.KSimpleSaveResult
+import org.babyfish.jimmer.sql.kt.ast.query.KTypedRootQuery
+import org.babyfish.jimmer.sql.runtime.StatementCanceller
+import java.sql.Connection
+import kotlin.reflect.KClass
+
+/*
+ * Suspend and flow APIs of jimmer, `kotlinx-coroutines-core` must be added
+ * into the dependencies of the application to use them.
+ *
+ * The JDBC operations are blocking, they are executed by the threads of
+ * the `dispatcher`, which is `Dispatchers.IO` by default. It can be replaced
+ * by a bounded dispatcher such as `Dispatchers.IO.limitedParallelism(n)`,
+ * or a dispatcher of virtual threads.
+ *
+ * When the coroutine is canceled, the running statements executed by
+ * `DefaultExecutor`, including the ones of the concurrent object fetcher workers,
+ * are canceled by `java.sql.Statement.cancel()`, and the later statements fail
+ * immediately, see `StatementCanceller`. The statements of custom executors which
+ * do not delegate to `DefaultExecutor` and the micro-service requests are not canceled.
+ *
+ * The block is executed by another thread, so the connection or transaction
+ * bound to the current thread is not visible in it. Except `await`, the functions
+ * of this file accept `con`, it must be specified to join the current transaction.
+ */
+
+/**
+ * Execute the blocking jimmer operations of the block by the [dispatcher].
+ *
+ * The block is executed outside the transaction of the current thread,
+ * use the other functions with `con` to join that transaction.
+ */
+suspend fun <R> KSqlClient.await(
+    dispatcher: CoroutineDispatcher = Dispatchers.IO,
+    block: KSqlClient.() -> R
+): R =
+    runJdbc(dispatcher) {
+        this.block()
+    }
+
+suspend fun <R> KExecutable<R>.awaitExecute(
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): R =
+    runJdbc(dispatcher) {
+        execute(con)
+    }
+
+suspend fun <R> KTypedRootQuery<R>.awaitFetchOne(
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): R =
+    runJdbc(dispatcher) {
+        fetchOne(con)
+    }
+
+suspend fun <R> KTypedRootQuery<R>.awaitFetchOneOrNull(
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): R? =
+    runJdbc(dispatcher) {
+        fetchOneOrNull(con)
+    }
+
+/**
+ * Read the rows lazily by database cursor, only [batchSize] rows
+ * are read and fetched by object fetchers at a time.
+ *
+ * The cursor is read by a thread of the [dispatcher], the rows are
+ * sent to the collector through a buffered channel. It is closed
+ * when the collection is completed or canceled.
+ */
+fun <R> KTypedRootQuery<R>.asFlow(
+    con: Connection? = null,
+    batchSize: Int = 0,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): Flow<R> =
+    channelFlow {
+        runJdbc(dispatcher) {
+            stream(con, batchSize) { rows ->
+                for (row in rows) {
+                    // Fails when the collector is canceled
+                    if (channel.trySendBlocking(row).isFailure) {
+                        break
+                    }
+                }
+            }
+        }
+    }
+
+suspend fun <E: Any> KSqlClient.awaitFindById(
+    type: KClass<E>,
+    id: Any,
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): E? =
+    runJdbc(dispatcher) {
+        entities.forConnection(con).findById(type, id)
+    }
+
+suspend fun <E: Any> KSqlClient.awaitFindById(
+    fetcher: Fetcher<E>,
+    id: Any,
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): E? =
+    runJdbc(dispatcher) {
+        entities.forConnection(con).findById(fetcher, id)
+    }
+
+suspend fun <E: Any> KSqlClient.awaitFindByIds(
+    type: KClass<E>,
+    ids: Collection<*>,
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): List<E> =
+    runJdbc(dispatcher) {
+        entities.forConnection(con).findByIds(type, ids)
+    }
+
+suspend fun <E: Any> KSqlClient.awaitFindByIds(
+    fetcher: Fetcher<E>,
+    ids: Collection<*>,
+    con: Connection? = null,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): List<E> =
+    runJdbc(dispatcher) {
+        entities.forConnection(con).findByIds(fetcher, ids)
+    }
+
+/**
+ * The `con` of the mutation functions has no default value, the caller must
+ * specify the connection of the current transaction, or null to save/delete
+ * outside the transaction of the current thread.
+ */
+suspend fun <E: Any> KSqlClient.awaitSave(
+    entity: E,
+    con: Connection?,
+    mode: SaveMode = SaveMode.UPSERT,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): KSimpleSaveResult<E> =
+    runJdbc(dispatcher) {
+        entities.save(entity, con) {
+            setMode(mode)
+        }
+    }
+
+suspend fun <E: Any> KSqlClient.awaitSave(
+    entity: E,
+    con: Connection?,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO,
+    block: KSaveCommandDsl.() -> Unit
+): KSimpleSaveResult<E> =
+    runJdbc(dispatcher) {
+        entities.save(entity, con, block)
+    }
+
+suspend fun <E: Any> KSqlClient.awaitDeleteById(
+    type: KClass<E>,
+    id: Any,
+    con: Connection?,
+    mode: DeleteMode = DeleteMode.AUTO,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): KDeleteResult =
+    runJdbc(dispatcher) {
+        entities.delete(type, id, con) {
+            setMode(mode)
+        }
+    }
+
+suspend fun <E: Any> KSqlClient.awaitDeleteById(
+    type: KClass<E>,
+    id: Any,
+    con: Connection?,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO,
+    block: KDeleteCommandDsl.() -> Unit
+): KDeleteResult =
+    runJdbc(dispatcher) {
+        entities.delete(type, id, con, block)
+    }
+
+suspend fun <E: Any> KSqlClient.awaitDeleteByIds(
+    type: KClass<E>,
+    ids: Collection<*>,
+    con: Connection?,
+    mode: DeleteMode = DeleteMode.AUTO,
+    dispatcher: CoroutineDispatcher = Dispatchers.IO
+): KDeleteResult =
+    runJdbc(dispatcher) {
+        entities.batchDelete(type, ids, con) {
+            setMode(mode)
+        }
+    }
+
+/**
+ * Unlike `withContext(dispatcher)`, the cancellation of the coroutine
+ * is propagated to the running statements, and it does not return
+ * until the JDBC operations stop so that the connection specified
+ * by the caller is not used any more.
+ */
+private suspend fun <R> runJdbc(
+    dispatcher: CoroutineDispatcher,
+    block: () -> R
+): R {
+    val canceller = StatementCanceller()
+    val deferred = CompletableDeferred<R>()
+    dispatcher.asExecutor().execute {
+        if (canceller.isCanceled) {
+            deferred.cancel()
+        } else {
+            try {
+                deferred.complete(canceller.execute { block() })
+            } catch (ex: Throwable) {
+                deferred.completeExceptionally(ex)
+            }
+        }
+    }
+    try {
+        return deferred.await()
+    } catch (ex: CancellationException) {
+        canceller.cancel()
+        withContext(NonCancellable) {
+            deferred.join()
+        }
+        throw ex
+    }
+}
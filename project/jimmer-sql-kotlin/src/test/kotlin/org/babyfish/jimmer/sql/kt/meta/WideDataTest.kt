@@ -0,0 +1,120 @@
+package org.babyfish.jimmer.sql.kt.meta
+
+import org.babyfish.jimmer.UnloadedException
+import org.babyfish.jimmer.kt.hide
+import org.babyfish.jimmer.kt.isLoaded
+import org.babyfish.jimmer.kt.new
+import org.babyfish.jimmer.kt.show
+import org.babyfish.jimmer.kt.unload
+import org.babyfish.jimmer.runtime.ImmutableSpi
+import org.babyfish.jimmer.sql.kt.model.WideData
+import org.babyfish.jimmer.sql.kt.model.by
+import kotlin.test.Test
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNotEquals
+import kotlin.test.assertSame
+import kotlin.test.expect
+
+class WideDataTest {
+
+    @Test
+    fun testLoadedStates() {
+        // `value63` uses the highest bit of `__loadedState0`,
+        // `value64` and `value69` use `__loadedState1`
+        val data = new(WideData::class).by {
+            value63 = 63
+            value64 = 64
+            value69 = 0
+        }
+        expect(false) { isLoaded(data, WideData::value0) }
+        expect(false) { isLoaded(data, WideData::value62) }
+        expect(true) { isLoaded(data, WideData::value63) }
+        expect(true) { isLoaded(data, WideData::value64) }
+        expect(false) { isLoaded(data, WideData::value65) }
+        expect(true) { isLoaded(data, WideData::value69) }
+        expect(63) { data.value63 }
+        expect(64) { data.value64 }
+        expect(0) { data.value69 }
+        assertFailsWith<UnloadedException> { data.value65 }
+
+        val data2 = new(WideData::class).by(data) {
+            unload(this, WideData::value63)
+            value65 = 65
+        }
+        expect(false) { isLoaded(data2, WideData::value63) }
+        expect(true) { isLoaded(data2, WideData::value64) }
+        expect(65) { data2.value65 }
+
+        // The original object is not changed
+        expect(true) { isLoaded(data, WideData::value63) }
+        expect(false) { isLoaded(data, WideData::value65) }
+    }
+
+    @Test
+    fun testShowAndHide() {
+        val data = new(WideData::class).by {
+            value63 = 63
+            value64 = 64
+        }
+        val hidden = new(WideData::class).by(data) {
+            hide(this, WideData::value63)
+            hide(this, WideData::value64)
+            // Hide again, the state is not toggled back
+            hide(this, WideData::value64)
+        }
+        expect(false) { (hidden as ImmutableSpi).__isVisible("value63") }
+        expect(false) { (hidden as ImmutableSpi).__isVisible("value64") }
+        expect(true) { (hidden as ImmutableSpi).__isVisible("value65") }
+        expect(true) { (data as ImmutableSpi).__isVisible("value64") }
+
+        val shown = new(WideData::class).by(hidden) {
+            show(this, WideData::value63)
+            show(this, WideData::value64)
+            show(this, WideData::value64)
+        }
+        expect(true) { (shown as ImmutableSpi).__isVisible("value63") }
+        expect(true) { (shown as ImmutableSpi).__isVisible("value64") }
+        expect(64) { shown.value64 }
+
+        // Nothing is changed, so the object is not copied
+        assertSame(
+            data,
+            new(WideData::class).by(data) {
+                show(this, WideData::value64)
+            }
+        )
+    }
+
+    @Test
+    fun testEqualsAndHashCode() {
+        val data = new(WideData::class).by {
+            value63 = 63
+            value64 = 64
+        }
+        val data2 = new(WideData::class).by {
+            value64 = 64
+            value63 = 63
+        }
+        expect(data) { data2 }
+        expect(data.hashCode()) { data2.hashCode() }
+
+        // Loaded zero is different from unloaded property
+        val loadedZero = new(WideData::class).by(data) {
+            value65 = 0
+        }
+        assertNotEquals(data, loadedZero)
+        assertNotEquals(data.hashCode(), loadedZero.hashCode())
+
+        val hidden = new(WideData::class).by(data) {
+            hide(this, WideData::value64)
+        }
+        assertNotEquals(data, hidden)
+        assertNotEquals(data.hashCode(), hidden.hashCode())
+
+        val shown = new(WideData::class).by(hidden) {
+            show(this, WideData::value64)
+        }
+        expect(data) { shown }
+        expect(data.hashCode()) { shown.hashCode() }
+    }
+}
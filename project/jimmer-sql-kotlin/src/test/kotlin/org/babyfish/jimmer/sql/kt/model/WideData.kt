@@ -0,0 +1,151 @@
+package org.babyfish.jimmer.sql.kt.model
+
+import org.babyfish.jimmer.Immutable
+
+/**
+ * More than 64 properties whose loaded states are packed,
+ * so that the states are split into two `Long` fields.
+ */
+@Immutable
+interface WideData {
+
+    val value0: Int
+
+    val value1: Int
+
+    val value2: Int
+
+    val value3: Int
+
+    val value4: Int
+
+    val value5: Int
+
+    val value6: Int
+
+    val value7: Int
+
+    val value8: Int
+
+    val value9: Int
+
+    val value10: Int
+
+    val value11: Int
+
+    val value12: Int
+
+    val value13: Int
+
+    val value14: Int
+
+    val value15: Int
+
+    val value16: Int
+
+    val value17: Int
+
+    val value18: Int
+
+    val value19: Int
+
+    val value20: Int
+
+    val value21: Int
+
+    val value22: Int
+
+    val value23: Int
+
+    val value24: Int
+
+    val value25: Int
+
+    val value26: Int
+
+    val value27: Int
+
+    val value28: Int
+
+    val value29: Int
+
+    val value30: Int
+
+    val value31: Int
+
+    val value32: Int
+
+    val value33: Int
+
+    val value34: Int
+
+    val value35: Int
+
+    val value36: Int
+
+    val value37: Int
+
+    val value38: Int
+
+    val value39: Int
+
+    val value40: Int
+
+    val value41: Int
+
+    val value42: Int
+
+    val value43: Int
+
+    val value44: Int
+
+    val value45: Int
+
+    val value46: Int
+
+    val value47: Int
+
+    val value48: Int
+
+    val value49: Int
+
+    val value50: Int
+
+    val value51: Int
+
+    val value52: Int
+
+    val value53: Int
+
+    val value54: Int
+
+    val value55: Int
+
+    val value56: Int
+
+    val value57: Int
+
+    val value58: Int
+
+    val value59: Int
+
+    val value60: Int
+
+    val value61: Int
+
+    val value62: Int
+
+    val value63: Int
+
+    val value64: Int
+
+    val value65: Int
+
+    val value66: Int
+
+    val value67: Int
+
+    val value68: Int
+
+    val value69: Int
+}
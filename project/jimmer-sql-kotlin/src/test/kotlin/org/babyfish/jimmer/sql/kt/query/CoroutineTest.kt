@@ -0,0 +1,162 @@
+package org.babyfish.jimmer.sql.kt.query
+
+import kotlinx.coroutines.CoroutineStart
+import kotlinx.coroutines.cancelAndJoin
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.runBlocking
+import org.babyfish.jimmer.sql.kt.ast.expression.asc
+import org.babyfish.jimmer.sql.kt.ast.expression.count
+import org.babyfish.jimmer.sql.kt.ast.expression.eq
+import org.babyfish.jimmer.sql.kt.common.AbstractQueryTest
+import org.babyfish.jimmer.sql.kt.coroutines.asFlow
+import org.babyfish.jimmer.sql.kt.coroutines.awaitExecute
+import org.babyfish.jimmer.sql.kt.coroutines.awaitFetchOne
+import org.babyfish.jimmer.sql.kt.model.classic.book.Book
+import org.babyfish.jimmer.sql.kt.model.classic.book.edition
+import org.babyfish.jimmer.sql.kt.model.classic.book.name
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.SQLException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.test.Test
+import kotlin.test.expect
+
+class CoroutineTest : AbstractQueryTest() {
+
+    @Test
+    fun testAwaitExecute() {
+        jdbc { con ->
+            runBlocking {
+                val names = sqlClient
+                    .createQuery(Book::class) {
+                        where(table.edition eq 3)
+                        orderBy(table.name.asc())
+                        select(table.name)
+                    }
+                    .awaitExecute(con)
+                expect(
+                    listOf(
+                        "Effective TypeScript",
+                        "GraphQL in Action",
+                        "Learning GraphQL",
+                        "Programming TypeScript"
+                    )
+                ) {
+                    names
+                }
+                expect(3L) {
+                    sqlClient
+                        .createQuery(Book::class) {
+                            where(table.name eq "Learning GraphQL")
+                            select(count(table))
+                        }
+                        .awaitFetchOne(con)
+                }
+            }
+        }
+    }
+
+    @Test
+    fun testFlow() {
+        jdbc { con ->
+            runBlocking {
+                val names = sqlClient
+                    .createQuery(Book::class) {
+                        orderBy(table.name.asc(), table.edition.asc())
+                        select(table.name)
+                    }
+                    .asFlow(con, batchSize = 2)
+                    .take(4)
+                    .toList()
+                expect(
+                    listOf(
+                        "Effective TypeScript",
+                        "Effective TypeScript",
+                        "Effective TypeScript",
+                        "GraphQL in Action"
+                    )
+                ) {
+                    names
+                }
+            }
+        }
+    }
+
+    @Test
+    fun testCancel() {
+        jdbc { con ->
+            val executing = CountDownLatch(1)
+            val canceled = CountDownLatch(1)
+            val blockingCon = blocking(con, executing, canceled)
+            runBlocking {
+                val job = launch(start = CoroutineStart.UNDISPATCHED) {
+                    sqlClient
+                        .createQuery(Book::class) {
+                            select(table.name)
+                        }
+                        .awaitExecute(blockingCon)
+                }
+                expect(true) {
+                    executing.await(10, TimeUnit.SECONDS)
+                }
+                job.cancelAndJoin()
+            }
+            expect(0L) {
+                canceled.count
+            }
+        }
+    }
+
+    /**
+     * The query of the returned connection blocks until
+     * the statement is canceled by another thread.
+     */
+    private fun blocking(
+        con: Connection,
+        executing: CountDownLatch,
+        canceled: CountDownLatch
+    ): Connection =
+        Proxy.newProxyInstance(
+            Connection::class.java.classLoader,
+            arrayOf(Connection::class.java)
+        ) { _, method, args ->
+            val result = invoke(con, method, args)
+            if (method.name == "prepareStatement") {
+                val stmt = result as PreparedStatement
+                Proxy.newProxyInstance(
+                    PreparedStatement::class.java.classLoader,
+                    arrayOf(PreparedStatement::class.java)
+                ) { _, stmtMethod, stmtArgs ->
+                    when (stmtMethod.name) {
+                        "executeQuery" -> {
+                            executing.countDown()
+                            if (canceled.await(10, TimeUnit.SECONDS)) {
+                                throw SQLException("The statement is canceled")
+                            }
+                            invoke(stmt, stmtMethod, stmtArgs)
+                        }
+                        "cancel" -> {
+                            canceled.countDown()
+                            invoke(stmt, stmtMethod, stmtArgs)
+                        }
+                        else -> invoke(stmt, stmtMethod, stmtArgs)
+                    }
+                }
+            } else {
+                result
+            }
+        } as Connection
+
+    private fun invoke(target: Any, method: Method, args: Array<out Any?>?): Any? =
+        try {
+            method.invoke(target, *(args ?: emptyArray()))
+        } catch (ex: InvocationTargetException) {
+            throw ex.targetException
+        }
+}
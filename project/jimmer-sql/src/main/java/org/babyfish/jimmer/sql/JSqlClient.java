@@ -391,12 +391,103 @@ public interface JSqlClient extends SubQueryProvider {
         @OldChain
         Builder setDatabaseValidationSchema(String schema);
 
+        /**
+         * Load the tables and columns of the whole catalog/schema by one
+         * metadata call each when the database is validated, instead of several
+         * calls for each table. It speeds up the startup for large schemas
+         * over remote connection, especially when
+         * {@link #setDatabaseValidationCatalog(String)} or
+         * {@link #setDatabaseValidationSchema(String)} is specified.
+         *
+         * <p>Only tables and columns are loaded in bulk, the foreign keys
+         * are still loaded by one call for each table declaring associations
+         * when the foreign key strategy is
+         * {@link org.babyfish.jimmer.sql.meta.ForeignKeyStrategy#REAL}.</p>
+         *
+         * <p>The default value is false</p>
+         */
+        @OldChain
+        Builder setDatabaseValidationBulkMetadataEnabled(boolean enabled);
+
+        /**
+         * Resolve the lazy metadata of all entity types when the sql client is created,
+         * see {@link EntityManager#warmUp(org.babyfish.jimmer.sql.meta.MetadataStrategy)}.
+         *
+         * <p>It makes the startup a little slower but the first operation of each
+         * entity type faster, and the model errors are reported at startup.
+         * The default value is false</p>
+         */
+        @OldChain
+        Builder setMetadataWarmUpEnabled(boolean enabled);
+
         @OldChain
         Builder setMicroServiceName(String microServiceName);
 
         @OldChain
         Builder setMicroServiceExchange(MicroServiceExchange exchange);
 
+        /**
+         * The max number of concurrent requests sent to each micro service
+         * by the {@link MicroServiceExchange}, the subsequent requests wait
+         * until a previous request of the same micro service is completed.
+         *
+         * <p>0 means unlimited, that is the default behavior.</p>
+         */
+        @OldChain
+        Builder setMicroServiceMaxInFlight(int maxInFlight);
+
+        /**
+         * Let object fetcher load the sibling associations concurrently.
+         *
+         * <p>Each round, the batches of different associations are loaded at the same time,
+         * one by the current thread and others by this executor. The associations loaded by
+         * this executor use their own connections obtained from the connection manager,
+         * so this feature is only used when the connection of the query is not
+         * in a transaction(auto commit is true).</p>
+         *
+         * <p>null means this feature is disabled, that is the default behavior.</p>
+         */
+        @OldChain
+        Builder setFetcherExecutor(java.util.concurrent.Executor executor);
+
+        /**
+         * Pad the values of `in(...)` list to the next power of two by repeating the last value,
+         * so that the collections with different sizes share fewer SQL shapes, and
+         * the statement cache of JDBC driver and the plan cache of database work better.
+         *
+         * <p>false means the list has one placeholder per value, that is the default behavior.
+         * Either way, a list longer than {@link Dialect#getMaxInListSize()} is split into
+         * several lists.</p>
+         */
+        @OldChain
+        Builder setInListPaddingEnabled(boolean enabled);
+
+        /**
+         * Render `expr in(?, ?, ...)` as `expr = any(?)` bound by one array parameter
+         * if the dialect supports it, see {@link Dialect#isAnyEqualityOfArraySupported()}.
+         * Only single-column lists of non-null numbers, strings and UUIDs are affected,
+         * other lists are still rendered as `in(...)`.
+         *
+         * <p>false means this feature is disabled, that is the default behavior.</p>
+         */
+        @OldChain
+        Builder setInListToAnyEqualityEnabled(boolean enabled);
+
+        /**
+         * Reuse the prepared statements of each connection provided by the connection managers,
+         * the scope of {@link org.babyfish.jimmer.sql.runtime.StatementCache} is opened
+         * every time the connection manager provides a connection and closed when it is given back.
+         *
+         * <p>Statements executed by the connections specified by user explicitly
+         * are not affected, use {@link org.babyfish.jimmer.sql.runtime.StatementCache#execute(java.sql.Connection, int, java.util.function.Supplier)}
+         * for them.</p>
+         *
+         * @param capacity The max count of open statements of each connection,
+         *                 0 means this feature is disabled, that is the default behavior.
+         */
+        @OldChain
+        Builder setStatementCacheCapacity(int capacity);
+
         JSqlClient build();
     }
 }
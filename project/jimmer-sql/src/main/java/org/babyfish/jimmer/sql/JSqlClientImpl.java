@@ -19,6 +19,7 @@ import org.babyfish.jimmer.sql.event.binlog.BinLog;
 import org.babyfish.jimmer.sql.event.binlog.impl.BinLogImpl;
 import org.babyfish.jimmer.sql.event.binlog.impl.BinLogParser;
 import org.babyfish.jimmer.sql.event.binlog.BinLogPropReader;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.filter.BuiltInFilters;
 import org.babyfish.jimmer.sql.filter.Filter;
 import org.babyfish.jimmer.sql.filter.FilterConfig;
@@ -45,6 +46,8 @@ import org.slf4j.LoggerFactory;
 import java.lang.reflect.Type;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
 class JSqlClientImpl implements JSqlClientImplementor {
@@ -57,6 +60,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
     private final Executor executor;
 
+    private final Executor trackingExecutor;
+
     private final List<String> executorContextPrefixes;
 
     private final SqlFormatter sqlFormatter;
@@ -99,10 +104,22 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
     private final MicroServiceExchange microServiceExchange;
 
+    private final java.util.concurrent.Executor fetcherExecutor;
+
+    private final boolean inListPaddingEnabled;
+
+    private final boolean inListToAnyEqualityEnabled;
+
     private final Loaders loaders = new LoadersImpl(this);
 
     private final ReaderManager readerManager = new ReaderManager(this);
 
+    private final ConcurrentMap<CacheDisableConfig, JSqlClientImplementor> cacheDisabledClientMap =
+            new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<FilterManager, JSqlClientImplementor> filteredClientMap =
+            new ConcurrentHashMap<>();
+
     private JSqlClientImpl(
             ConnectionManager connectionManager,
             ConnectionManager slaveConnectionManager,
@@ -128,7 +145,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
             boolean saveCommandPessimisticLock,
             DraftInterceptorManager draftInterceptorManager,
             String microServiceName,
-            MicroServiceExchange microServiceExchange
+            MicroServiceExchange microServiceExchange,
+            java.util.concurrent.Executor fetcherExecutor,
+            boolean inListPaddingEnabled,
+            boolean inListToAnyEqualityEnabled
     ) {
         this.connectionManager =
                 connectionManager != null ?
@@ -140,6 +160,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 executor != null ?
                         executor :
                         DefaultExecutor.INSTANCE;
+        this.trackingExecutor =
+                slaveConnectionManager != null ?
+                        ReplicaSet.trackModifications(this.executor) :
+                        this.executor;
         this.executorContextPrefixes =
                 executorContextPrefixes != null ?
                         Collections.unmodifiableList(executorContextPrefixes) :
@@ -167,6 +191,9 @@ class JSqlClientImpl implements JSqlClientImplementor {
         this.draftInterceptorManager = draftInterceptorManager;
         this.microServiceName = microServiceName;
         this.microServiceExchange = microServiceExchange;
+        this.fetcherExecutor = fetcherExecutor;
+        this.inListPaddingEnabled = inListPaddingEnabled;
+        this.inListToAnyEqualityEnabled = inListToAnyEqualityEnabled;
     }
 
     @Override
@@ -177,7 +204,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
     @Override
     public ConnectionManager getSlaveConnectionManager(boolean forUpdate) {
         ConnectionManager slave = slaveConnectionManager;
-        if (slave != null && !forUpdate) {
+        if (slave != null && !forUpdate && !ReplicaSet.isMasterRequired()) {
             return slave;
         }
         return connectionManager;
@@ -190,7 +217,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
     @Override
     public Executor getExecutor() {
-        return executor;
+        return trackingExecutor;
     }
 
     @Override
@@ -247,6 +274,21 @@ class JSqlClientImpl implements JSqlClientImplementor {
         return offsetOptimizingThreshold;
     }
 
+    @Override
+    public java.util.concurrent.Executor getFetcherExecutor() {
+        return fetcherExecutor;
+    }
+
+    @Override
+    public boolean isInListPaddingEnabled() {
+        return inListPaddingEnabled;
+    }
+
+    @Override
+    public boolean isInListToAnyEqualityEnabled() {
+        return inListToAnyEqualityEnabled;
+    }
+
     @Override
     public <T extends TableProxy<?>> MutableRootQuery<T> createQuery(T table) {
         if (table instanceof TableEx<?>) {
@@ -389,7 +431,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
         }
         CacheDisableConfig cfg = new CacheDisableConfig();
         block.accept(cfg);
-        return new JSqlClientImpl(
+        return cacheDisabledClientMap.computeIfAbsent(cfg, it -> new JSqlClientImpl(
                 connectionManager,
                 slaveConnectionManager,
                 dialect,
@@ -403,7 +445,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 offsetOptimizingThreshold,
                 entities,
                 entityManager,
-                new CachesImpl((CachesImpl) caches, cfg),
+                new CachesImpl((CachesImpl) caches, it),
                 triggers,
                 transactionTriggers,
                 metadataStrategy,
@@ -414,8 +456,11 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 saveCommandPessimisticLock,
                 draftInterceptorManager,
                 microServiceName,
-                microServiceExchange
-        );
+                microServiceExchange,
+                fetcherExecutor,
+                inListPaddingEnabled,
+                inListToAnyEqualityEnabled
+        ));
     }
 
     @Override
@@ -428,7 +473,7 @@ class JSqlClientImpl implements JSqlClientImplementor {
         if (cfg.getFilterManager() == filterManager) {
             return this;
         }
-        return new JSqlClientImpl(
+        return filteredClientMap.computeIfAbsent(cfg.getFilterManager(), it -> new JSqlClientImpl(
                 connectionManager,
                 slaveConnectionManager,
                 dialect,
@@ -447,14 +492,17 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 transactionTriggers,
                 metadataStrategy,
                 binLog,
-                cfg.getFilterManager(),
+                it,
                 transientResolverManager,
                 idOnlyTargetCheckingLevel,
                 saveCommandPessimisticLock,
                 draftInterceptorManager,
                 microServiceName,
-                microServiceExchange
-        );
+                microServiceExchange,
+                fetcherExecutor,
+                inListPaddingEnabled,
+                inListToAnyEqualityEnabled
+        ));
     }
 
     @Override
@@ -487,7 +535,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
                 saveCommandPessimisticLock,
                 draftInterceptorManager,
                 microServiceName,
-                microServiceExchange
+                microServiceExchange,
+                fetcherExecutor,
+                inListPaddingEnabled,
+                inListToAnyEqualityEnabled
         );
     }
 
@@ -531,6 +582,11 @@ class JSqlClientImpl implements JSqlClientImplementor {
         return readerManager.reader(prop);
     }
 
+    @Override
+    public Reader<?> getReader(Fetcher<?> fetcher) {
+        return readerManager.reader(fetcher);
+    }
+
     @Override
     public String getMicroServiceName() {
         return microServiceName;
@@ -622,10 +678,24 @@ class JSqlClientImpl implements JSqlClientImplementor {
 
         private String databaseValidationSchema;
 
+        private boolean databaseValidationBulkMetadataEnabled;
+
+        private boolean metadataWarmUpEnabled;
+
         private String microServiceName = "";
 
         private MicroServiceExchange microServiceExchange;
 
+        private int microServiceMaxInFlight;
+
+        private java.util.concurrent.Executor fetcherExecutor;
+
+        private boolean inListPaddingEnabled;
+
+        private boolean inListToAnyEqualityEnabled;
+
+        private int statementCacheCapacity;
+
         public BuilderImpl() {}
 
         @Override
@@ -1133,6 +1203,18 @@ class JSqlClientImpl implements JSqlClientImplementor {
             return this;
         }
 
+        @Override
+        public Builder setDatabaseValidationBulkMetadataEnabled(boolean enabled) {
+            this.databaseValidationBulkMetadataEnabled = enabled;
+            return this;
+        }
+
+        @Override
+        public Builder setMetadataWarmUpEnabled(boolean enabled) {
+            this.metadataWarmUpEnabled = enabled;
+            return this;
+        }
+
         @Override
         public Builder setMicroServiceName(String microServiceName) {
             this.microServiceName = microServiceName != null ? microServiceName : "";
@@ -1145,6 +1227,42 @@ class JSqlClientImpl implements JSqlClientImplementor {
             return this;
         }
 
+        @Override
+        public Builder setMicroServiceMaxInFlight(int maxInFlight) {
+            if (maxInFlight < 0) {
+                throw new IllegalArgumentException("`maxInFlight` cannot be negative");
+            }
+            this.microServiceMaxInFlight = maxInFlight;
+            return this;
+        }
+
+        @Override
+        public Builder setFetcherExecutor(java.util.concurrent.Executor executor) {
+            this.fetcherExecutor = executor;
+            return this;
+        }
+
+        @Override
+        public Builder setInListPaddingEnabled(boolean enabled) {
+            this.inListPaddingEnabled = enabled;
+            return this;
+        }
+
+        @Override
+        public Builder setInListToAnyEqualityEnabled(boolean enabled) {
+            this.inListToAnyEqualityEnabled = enabled;
+            return this;
+        }
+
+        @Override
+        public Builder setStatementCacheCapacity(int capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("`capacity` cannot be negative");
+            }
+            this.statementCacheCapacity = capacity;
+            return this;
+        }
+
         @Override
         public JSqlClient build() {
             for (Customizer customizer : customizers) {
@@ -1162,6 +1280,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
                         "The `microServiceExchange` must be configured when `microServiceName` is configured"
                 );
             }
+            MicroServiceExchange exchange = microServiceExchange;
+            if (exchange != null && microServiceMaxInFlight != 0) {
+                exchange = new InFlightLimitedMicroServiceExchange(exchange, microServiceMaxInFlight);
+            }
             ForeignKeyStrategy foreignKeyStrategy;
             if (!dialect.isForeignKeySupported()) {
                 foreignKeyStrategy = ForeignKeyStrategy.FORCED_FAKE;
@@ -1173,7 +1295,11 @@ class JSqlClientImpl implements JSqlClientImplementor {
             MetadataStrategy metadataStrategy =
                     new MetadataStrategy(databaseNamingStrategy, foreignKeyStrategy);
 
-            entityManager().validate(metadataStrategy);
+            if (metadataWarmUpEnabled) {
+                entityManager().warmUp(metadataStrategy);
+            } else {
+                entityManager().validate(metadataStrategy);
+            }
 
             FilterManager filterManager = createFilterManager();
             validateAssociations(filterManager);
@@ -1201,8 +1327,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
                                     DefaultTransientResolverProvider.INSTANCE
                     );
             JSqlClientImplementor sqlClient = new JSqlClientImpl(
-                    connectionManager,
-                    slaveConnectionManager,
+                    statementCaching(connectionManager),
+                    statementCaching(slaveConnectionManager),
                     dialect,
                     executor,
                     executorContextPrefixes,
@@ -1232,7 +1358,10 @@ class JSqlClientImpl implements JSqlClientImplementor {
                     saveCommandPessimisticLock,
                     new DraftInterceptorManager(interceptors),
                     microServiceName,
-                    microServiceExchange
+                    exchange,
+                    fetcherExecutor,
+                    inListPaddingEnabled,
+                    inListToAnyEqualityEnabled
             );
             CachesImpl.initialize(caches, sqlClient);
             filterManager.initialize(sqlClient);
@@ -1269,6 +1398,13 @@ class JSqlClientImpl implements JSqlClientImplementor {
             }
         }
 
+        private ConnectionManager statementCaching(ConnectionManager connectionManager) {
+            if (connectionManager == null || statementCacheCapacity == 0) {
+                return connectionManager;
+            }
+            return new StatementCachingConnectionManager(connectionManager, statementCacheCapacity);
+        }
+
         private FilterManager createFilterManager() {
             BuiltInFilters builtInFilters = new BuiltinFiltersImpl();
             if (ignoreBuiltInFilters) {
@@ -1327,7 +1463,8 @@ class JSqlClientImpl implements JSqlClientImplementor {
                                 metadataStrategy,
                                 databaseValidationCatalog,
                                 databaseValidationSchema,
-                                con
+                                con,
+                                databaseValidationBulkMetadataEnabled
                         );
                     } catch (SQLException ex) {
                         throw new ExecutionException(
@@ -43,21 +43,18 @@ class InCollectionPredicate extends AbstractPredicate {
         if (values.isEmpty()) {
             builder.sql(negative ? "1 = 1" : "1 = 0");
         } else {
-            renderChild((Ast) expression, builder);
-            builder.sql(negative ? " not in " : " in ").enter(SqlBuilder.ScopeType.LIST);
             Collection<?> convertedValues = this.convertedValues;
             if (convertedValues == null) {
                 convertedValues = Literals.convert(values, expression, builder.getAstContext().getSqlClient());
                 this.convertedValues = convertedValues;
             }
-            for (Object value : convertedValues) {
-                if (value != null) {
-                    builder.separator().variable(value);
-                } else {
-                    builder.separator().nullVariable(((ExpressionImplementor<?>)expression).getType());
-                }
-            }
-            builder.leave();
+            InLists.render(
+                    builder,
+                    negative,
+                    convertedValues,
+                    ((ExpressionImplementor<?>)expression).getType(),
+                    () -> renderChild((Ast) expression, builder)
+            );
         }
     }
 
@@ -0,0 +1,160 @@
+package org.babyfish.jimmer.sql.ast.impl;
+
+import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+import org.babyfish.jimmer.sql.runtime.SqlBuilder;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Renders `expr in(...)` of a value collection, shared by java and kotlin API.
+ *
+ * <ul>
+ *     <li>If {@link JSqlClientImplementor#isInListToAnyEqualityEnabled()} is true
+ *     and the dialect supports it, the values are bound by one array parameter:
+ *     `expr = any(?)`</li>
+ *     <li>Otherwise, if the size of the list is greater than
+ *     {@link org.babyfish.jimmer.sql.dialect.Dialect#getMaxInListSize()},
+ *     the list is split into several `in(...)` lists joined by `or`</li>
+ *     <li>If {@link JSqlClientImplementor#isInListPaddingEnabled()} is true,
+ *     each list is padded to the next power of two by repeating its last value</li>
+ * </ul>
+ */
+public class InLists {
+
+    private static final Set<Class<?>> ARRAY_ELEMENT_TYPES;
+
+    private InLists() {}
+
+    /**
+     * @param builder The sql builder
+     * @param negative Whether it is `not in`
+     * @param values The values which have been converted by scalar providers of properties
+     * @param nullType The type of null values
+     * @param expressionRenderer Renders the left expression
+     */
+    public static void render(
+            SqlBuilder builder,
+            boolean negative,
+            Collection<?> values,
+            Class<?> nullType,
+            Runnable expressionRenderer
+    ) {
+        JSqlClientImplementor sqlClient = builder.getAstContext().getSqlClient();
+        Object[] array = toArray(values, sqlClient);
+        if (array != null) {
+            expressionRenderer.run();
+            builder
+                    .sql(negative ? " <> all(" : " = any(")
+                    .arrayVariable(array)
+                    .sql(")");
+            return;
+        }
+        boolean padding = sqlClient.isInListPaddingEnabled();
+        int maxSize = Math.max(sqlClient.getDialect().getMaxInListSize(), 1);
+        if (values.size() <= maxSize) {
+            renderList(builder, negative, values, nullType, expressionRenderer, padding, maxSize);
+            return;
+        }
+        List<?> list = values instanceof List<?> ? (List<?>) values : new ArrayList<>(values);
+        builder.sql("(").enter(negative ? SqlBuilder.ScopeType.AND : SqlBuilder.ScopeType.OR);
+        for (int start = 0; start < list.size(); start += maxSize) {
+            builder.separator();
+            renderList(
+                    builder,
+                    negative,
+                    list.subList(start, Math.min(start + maxSize, list.size())),
+                    nullType,
+                    expressionRenderer,
+                    padding,
+                    maxSize
+            );
+        }
+        builder.leave().sql(")");
+    }
+
+    private static void renderList(
+            SqlBuilder builder,
+            boolean negative,
+            Collection<?> values,
+            Class<?> nullType,
+            Runnable expressionRenderer,
+            boolean padding,
+            int maxSize
+    ) {
+        expressionRenderer.run();
+        builder.sql(negative ? " not in " : " in ").enter(SqlBuilder.ScopeType.LIST);
+        Object lastValue = null;
+        for (Object value : values) {
+            renderValue(builder, value, nullType);
+            lastValue = value;
+        }
+        if (padding) {
+            int paddedSize = Math.min(paddedSize(values.size()), maxSize);
+            for (int i = values.size(); i < paddedSize; i++) {
+                renderValue(builder, lastValue, nullType);
+            }
+        }
+        builder.leave();
+    }
+
+    private static void renderValue(SqlBuilder builder, Object value, Class<?> nullType) {
+        if (value != null) {
+            builder.separator().variable(value);
+        } else {
+            builder.separator().nullVariable(nullType);
+        }
+    }
+
+    static int paddedSize(int size) {
+        if (size <= 1) {
+            return size;
+        }
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /*
+     * Only the simple types whose array element type names
+     * are known by the dialects are supported.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object[] toArray(Collection<?> values, JSqlClientImplementor sqlClient) {
+        if (!sqlClient.isInListToAnyEqualityEnabled() ||
+                !sqlClient.getDialect().isAnyEqualityOfArraySupported()) {
+            return null;
+        }
+        Class<?> elementType = null;
+        for (Object value : values) {
+            if (value == null) {
+                return null;
+            }
+            if (elementType == null) {
+                elementType = value.getClass();
+                if (!ARRAY_ELEMENT_TYPES.contains(elementType) ||
+                        sqlClient.getScalarProvider((Class<Object>) elementType) != null) {
+                    return null;
+                }
+            } else if (value.getClass() != elementType) {
+                return null;
+            }
+        }
+        if (elementType == null) {
+            return null;
+        }
+        return values.toArray((Object[]) Array.newInstance(elementType, values.size()));
+    }
+
+    static {
+        Set<Class<?>> set = new HashSet<>();
+        set.add(Long.class);
+        set.add(Integer.class);
+        set.add(Short.class);
+        set.add(Double.class);
+        set.add(Float.class);
+        set.add(BigDecimal.class);
+        set.add(String.class);
+        set.add(UUID.class);
+        ARRAY_ELEMENT_TYPES = Collections.unmodifiableSet(set);
+    }
+}
@@ -69,6 +69,10 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
 
         private boolean pessimisticLock;
 
+        private int batchSize;
+
+        private boolean nativeUpsert;
+
         Data(JSqlClientImplementor sqlClient) {
             this.sqlClient = sqlClient;
             this.triggers = sqlClient.getTriggerType() == TriggerType.BINLOG_ONLY ?
@@ -83,6 +87,8 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
             this.appendOnlySet = new HashSet<>();
             this.dissociateActionMap = new LinkedHashMap<>();
             this.pessimisticLock = false;
+            this.batchSize = 0;
+            this.nativeUpsert = false;
         }
 
         Data(Data base) {
@@ -98,6 +104,8 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
             this.appendOnlySet = base.appendOnlySet;
             this.dissociateActionMap = new LinkedHashMap<>(base.dissociateActionMap);
             this.pessimisticLock = base.pessimisticLock;
+            this.batchSize = base.batchSize;
+            this.nativeUpsert = base.nativeUpsert;
             this.frozen = false;
         }
 
@@ -156,6 +164,14 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
             return pessimisticLock;
         }
 
+        int getBatchSize() {
+            return batchSize;
+        }
+
+        boolean isNativeUpsert() {
+            return nativeUpsert;
+        }
+
         @Override
         public Cfg setMode(SaveMode mode) {
             validate();
@@ -282,6 +298,23 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
             return this;
         }
 
+        @Override
+        public Cfg setBatchSize(int batchSize) {
+            validate();
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("batchSize cannot be negative");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        @Override
+        public Cfg setNativeUpsert(boolean nativeUpsert) {
+            validate();
+            this.nativeUpsert = nativeUpsert;
+            return this;
+        }
+
         public Data freeze() {
             if (!frozen) {
                 keyPropMultiMap = Collections.unmodifiableMap(keyPropMultiMap);
@@ -301,6 +334,8 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
             return autoCheckingAll == data.autoCheckingAll &&
                     appendOnlyAll == data.appendOnlyAll &&
                     pessimisticLock == data.pessimisticLock &&
+                    batchSize == data.batchSize &&
+                    nativeUpsert == data.nativeUpsert &&
                     sqlClient.equals(data.sqlClient) &&
                     Objects.equals(triggers, data.triggers) &&
                     mode == data.mode &&
@@ -324,7 +359,9 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
                     appendOnlyAll,
                     appendOnlySet,
                     dissociateActionMap,
-                    pessimisticLock
+                    pessimisticLock,
+                    batchSize,
+                    nativeUpsert
             );
         }
 
@@ -340,6 +377,8 @@ abstract class AbstractEntitySaveCommandImpl implements AbstractEntitySaveComman
                     ", autoCheckingSet=" + autoCheckingSet +
                     ", dissociateActionMap=" + dissociateActionMap +
                     ", pessimisticLock=" + pessimisticLock +
+                    ", batchSize=" + batchSize +
+                    ", nativeUpsert=" + nativeUpsert +
                     '}';
         }
 
@@ -1,6 +1,7 @@
 package org.babyfish.jimmer.sql.ast.impl.mutation;
 
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.runtime.DraftSpi;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.runtime.Internal;
 import org.babyfish.jimmer.sql.ast.mutation.*;
@@ -84,13 +85,20 @@ public class BatchEntitySaveCommandImpl<E>
         Map<AffectedTable, Integer> affectedRowCountMap = new LinkedHashMap<>();
         int size = entities.size();
         List<SimpleSaveResult<E>> oldSimpleResults = new ArrayList<>(size);
+        List<Map<AffectedTable, Integer>> rootAffectedRowCountMaps = new ArrayList<>(size);
         Saver saver = new Saver(data, con, type, cache, false, affectedRowCountMap);
+        boolean jdbcBatch = data.getBatchSize() > 0;
         List<Object> modifiedEntities = Internal.produceList(
                 ((ImmutableSpi) entities.iterator().next()).__type(),
                 entities,
                 list -> {
-                    for (Object o : list) {
-                        oldSimpleResults.add(saver.save((E)o));
+                    if (jdbcBatch) {
+                        rootAffectedRowCountMaps.addAll(saver.saveAll((List<DraftSpi>) list));
+                    } else {
+                        saver.preload((List<DraftSpi>) list);
+                        for (Object o : list) {
+                            oldSimpleResults.add(saver.save((E)o));
+                        }
                     }
                 }
         );
@@ -98,10 +106,11 @@ public class BatchEntitySaveCommandImpl<E>
         List<SimpleSaveResult<E>> newSimpleResults = new ArrayList<>(size);
         int index = 0;
         for (E entity : entities) {
-            SimpleSaveResult<E> oldResult = oldSimpleResults.get(index);
             newSimpleResults.add(
                     new SimpleSaveResult<>(
-                            oldResult.getAffectedRowCountMap(),
+                            jdbcBatch ?
+                                    rootAffectedRowCountMaps.get(index) :
+                                    oldSimpleResults.get(index).getAffectedRowCountMap(),
                             entity,
                             (E)modifiedEntities.get(index)
                     )
@@ -1,5 +1,6 @@
 package org.babyfish.jimmer.sql.ast.impl.mutation;
 
+import org.babyfish.jimmer.lang.Ref;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.meta.PropId;
@@ -28,6 +29,9 @@ class MutationCache {
 
     private final IdentityHashMap<Object, Object> savedMap = new IdentityHashMap<>();
 
+    // Key: TypedId or TypedKey with column values, value: null means the row does not exist
+    private final Map<Object, ImmutableSpi> preloadedMap = new HashMap<>();
+
     public MutationCache(JSqlClientImplementor sqlClient, boolean pessimisticLockRequired) {
         this.sqlClientWithoutCache = sqlClient.caches(CacheDisableConfig::disableAll);
         this.pessimisticLockRequired = pessimisticLockRequired;
@@ -54,6 +58,40 @@ class MutationCache {
         return keyObjMap.get(key);
     }
 
+    /**
+     * @return null if the object is not preloaded,
+     * otherwise, a reference to the existing object or null value.
+     */
+    public Ref<ImmutableSpi> findPreloaded(ImmutableSpi example) {
+        if (preloadedMap.isEmpty()) {
+            return null;
+        }
+        Object key = preloadedKey(example);
+        if (key == null || !preloadedMap.containsKey(key)) {
+            return null;
+        }
+        return Ref.of(preloadedMap.get(key));
+    }
+
+    public void preload(Object key, ImmutableSpi spi) {
+        if (spi != null) {
+            save(spi, false);
+        }
+        preloadedMap.put(key, spi);
+    }
+
+    private Object preloadedKey(ImmutableSpi spi) {
+        ImmutableType type = spi.__type();
+        PropId idPropId = type.getIdProp().getId();
+        if (spi.__isLoaded(idPropId)) {
+            Object id = spi.__get(idPropId);
+            if (id != null) {
+                return new TypedId(type, id);
+            }
+        }
+        return TypedKey.ofNonNullColumnValues(spi, keyProps(type));
+    }
+
     @SuppressWarnings("unchecked")
     public List<ImmutableSpi> loadByIds(ImmutableType type, Collection<Object> ids, Connection con) {
         if (!(ids instanceof Set<?>)) {
@@ -133,6 +171,14 @@ class MutationCache {
             savedMap.put(spi, null);
         }
 
+        if (!preloadedMap.isEmpty()) {
+            preloadedMap.remove(typedId);
+            TypedKey columnKey = TypedKey.ofNonNullColumnValues(spi, keyProps);
+            if (columnKey != null) {
+                preloadedMap.remove(columnKey);
+            }
+        }
+
         return spi;
     }
 
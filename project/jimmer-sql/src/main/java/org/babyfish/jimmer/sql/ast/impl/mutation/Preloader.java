@@ -0,0 +1,349 @@
+package org.babyfish.jimmer.sql.ast.impl.mutation;
+
+import org.babyfish.jimmer.meta.*;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.runtime.Internal;
+import org.babyfish.jimmer.sql.ast.Expression;
+import org.babyfish.jimmer.sql.ast.Predicate;
+import org.babyfish.jimmer.sql.ast.impl.query.Queries;
+import org.babyfish.jimmer.sql.ast.mutation.SaveMode;
+import org.babyfish.jimmer.sql.ast.table.Table;
+import org.babyfish.jimmer.sql.ast.tuple.*;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.impl.FetcherImplementor;
+import org.babyfish.jimmer.sql.meta.JoinTemplate;
+import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
+
+import java.sql.Connection;
+import java.util.*;
+
+/**
+ * Before saving the objects of a batch save command one by one,
+ * find the existing objects by bulk queries so that
+ * {@link Saver} does not need to query them one by one.
+ *
+ * <p>Only the objects whose ids or key properties are known before saving
+ * can be preloaded, others are still found by {@link Saver} itself.</p>
+ */
+class Preloader {
+
+    private static final int MAX_TUPLE_SIZE = 9;
+
+    private final AbstractEntitySaveCommandImpl.Data data;
+
+    private final Connection con;
+
+    private final MutationCache cache;
+
+    private final boolean fullObjectRequired;
+
+    private final Map<ImmutableType, Group> groupMap = new LinkedHashMap<>();
+
+    private final IdentityHashMap<ImmutableSpi, Object> visitedMap = new IdentityHashMap<>();
+
+    Preloader(
+            AbstractEntitySaveCommandImpl.Data data,
+            Connection con,
+            MutationCache cache,
+            boolean fullObjectRequired
+    ) {
+        this.data = data;
+        this.con = con;
+        this.cache = cache;
+        this.fullObjectRequired = fullObjectRequired;
+    }
+
+    public void execute(Collection<? extends ImmutableSpi> spiList) {
+        for (ImmutableSpi spi : spiList) {
+            if (spi != null) {
+                add(spi, true);
+            }
+        }
+        for (Group group : groupMap.values()) {
+            group.load();
+        }
+        groupMap.clear();
+        visitedMap.clear();
+    }
+
+    private void add(ImmutableSpi spi, boolean root) {
+        if (visitedMap.put(spi, Boolean.TRUE) != null) {
+            return;
+        }
+        ImmutableType type = spi.__type();
+        if (isFindingRequired(spi, root)) {
+            groupMap.computeIfAbsent(type, Group::new).add(spi);
+        }
+        for (ImmutableProp prop : type.getProps().values()) {
+            if (prop.isAssociation(TargetLevel.ENTITY) &&
+                    !prop.isRemote() &&
+                    !(prop.getSqlTemplate() instanceof JoinTemplate) &&
+                    spi.__isLoaded(prop.getId())
+            ) {
+                Object associatedValue = spi.__get(prop.getId());
+                if (associatedValue instanceof List<?>) {
+                    for (Object associatedObject : (List<?>) associatedValue) {
+                        if (isNonIdPropLoaded((ImmutableSpi) associatedObject)) {
+                            add((ImmutableSpi) associatedObject, false);
+                        }
+                    }
+                } else if (associatedValue != null) {
+                    if (isNonIdPropLoaded((ImmutableSpi) associatedValue)) {
+                        add((ImmutableSpi) associatedValue, false);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isFindingRequired(ImmutableSpi spi, boolean root) {
+        if (!root) {
+            // Associated objects are always saved by upsert mode
+            return !isNativeUpsert(spi);
+        }
+        SaveMode mode = data.getMode();
+        if (mode == SaveMode.INSERT_ONLY) {
+            return false;
+        }
+        if (mode == SaveMode.UPSERT && data.getBatchSize() == 0 && isNativeUpsert(spi)) {
+            // Unless the root objects are saved by JDBC batch, which never uses native upsert
+            return false;
+        }
+        return fullObjectRequired ||
+                mode != SaveMode.UPDATE_ONLY ||
+                !spi.__isLoaded(spi.__type().getIdProp().getId());
+    }
+
+    /**
+     * The objects saved by the upsert statement of dialect need not be found,
+     * see {@link Saver#isNativeUpsertSupported(AbstractEntitySaveCommandImpl.Data, ImmutableSpi)}
+     */
+    private boolean isNativeUpsert(ImmutableSpi spi) {
+        // Trigger requires the original objects, native upsert is disabled
+        return !fullObjectRequired && Saver.isNativeUpsertSupported(data, spi);
+    }
+
+    private static boolean isNonIdPropLoaded(ImmutableSpi spi) {
+        for (ImmutableProp prop : spi.__type().getProps().values()) {
+            if (!prop.isId() && spi.__isLoaded(prop.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private class Group {
+
+        private final ImmutableType type;
+
+        private final Set<Object> ids = new LinkedHashSet<>();
+
+        private final Set<TypedKey> keys = new LinkedHashSet<>();
+
+        Group(ImmutableType type) {
+            this.type = type;
+        }
+
+        void add(ImmutableSpi spi) {
+            PropId idPropId = type.getIdProp().getId();
+            if (spi.__isLoaded(idPropId)) {
+                Object id = spi.__get(idPropId);
+                if (id != null) {
+                    ids.add(id);
+                    return;
+                }
+            }
+            TypedKey key = TypedKey.ofNonNullColumnValues(spi, data.getKeyProps(type));
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        void load() {
+            int maxInListSize = Math.max(data.getSqlClient().getDialect().getMaxInListSize(), 1);
+            // Single object can be found by `Saver` itself with the same cost
+            if (ids.size() > 1) {
+                List<Object> idList = new ArrayList<>(ids);
+                for (int start = 0; start < idList.size(); start += maxInListSize) {
+                    loadByIds(idList.subList(start, Math.min(start + maxInListSize, idList.size())));
+                }
+            }
+            Set<ImmutableProp> keyProps = data.getKeyProps(type);
+            if (keys.size() > 1 && isBulkKeySupported(keyProps)) {
+                List<TypedKey> keyList = new ArrayList<>(keys);
+                for (int start = 0; start < keyList.size(); start += maxInListSize) {
+                    loadByKeys(
+                            new ArrayList<>(keyProps),
+                            keyList.subList(start, Math.min(start + maxInListSize, keyList.size()))
+                    );
+                }
+            }
+        }
+
+        private void loadByIds(List<Object> idList) {
+            ImmutableProp idProp = type.getIdProp();
+            List<ImmutableSpi> rows = query((q, table) -> table.<Expression<Object>>get(idProp.getName()).in(idList));
+            Set<Object> foundIds = new HashSet<>();
+            for (ImmutableSpi row : rows) {
+                Object id = row.__get(idProp.getId());
+                foundIds.add(id);
+                cache.preload(new TypedId(type, id), row);
+            }
+            for (Object id : idList) {
+                if (!foundIds.contains(id)) {
+                    cache.preload(new TypedId(type, id), null);
+                }
+            }
+        }
+
+        private void loadByKeys(List<ImmutableProp> keyProps, List<TypedKey> keyList) {
+            List<ImmutableSpi> rows = query((q, table) -> keyPredicate(table, keyProps, keyList));
+            Set<ImmutableProp> keyPropSet = data.getKeyProps(type);
+            Map<TypedKey, ImmutableSpi> rowMap = new HashMap<>();
+            Set<TypedKey> conflictKeys = new HashSet<>();
+            for (ImmutableSpi row : rows) {
+                TypedKey key = TypedKey.ofNonNullColumnValues(row, keyPropSet);
+                if (key != null && rowMap.put(key, row) != null) {
+                    conflictKeys.add(key);
+                }
+            }
+            for (TypedKey key : keyList) {
+                // Let `Saver` report the error of non-unique key
+                if (!conflictKeys.contains(key)) {
+                    cache.preload(key, rowMap.get(key));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<ImmutableSpi> query(
+                java.util.function.BiFunction<Object, Table<?>, Predicate> predicateCreator
+        ) {
+            return Internal.requiresNewDraftContext(ctx -> {
+                List<ImmutableSpi> list = Queries.createQuery(
+                        data.getSqlClient(),
+                        type,
+                        ExecutionPurpose.MUTATE,
+                        true,
+                        (q, table) -> {
+                            q.where(predicateCreator.apply(q, table));
+                            if (fullObjectRequired) {
+                                return q.select((Table<ImmutableSpi>) table);
+                            }
+                            return q.select(((Table<ImmutableSpi>) table).fetch(fetcher()));
+                        }
+                ).forUpdate(data.isPessimisticLockRequired()).execute(con);
+                return ctx.resolveList(list);
+            });
+        }
+
+        private Fetcher<ImmutableSpi> fetcher() {
+            FetcherImplementor<ImmutableSpi> fetcher =
+                    (FetcherImplementor<ImmutableSpi>) IdAndKeyFetchers.getFetcher(type);
+            for (ImmutableProp keyProp : data.getKeyProps(type)) {
+                if (!fetcher.getFieldMap().containsKey(keyProp.getName())) {
+                    fetcher = fetcher.add(keyProp.getName());
+                }
+            }
+            return fetcher;
+        }
+    }
+
+    private static boolean isBulkKeySupported(Set<ImmutableProp> keyProps) {
+        if (keyProps == null || keyProps.isEmpty() || keyProps.size() > MAX_TUPLE_SIZE) {
+            return false;
+        }
+        for (ImmutableProp keyProp : keyProps) {
+            if (keyProp.isEmbedded(EmbeddedLevel.BOTH)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Expression<Object> keyExpression(Table<?> table, ImmutableProp keyProp) {
+        if (keyProp.isReference(TargetLevel.PERSISTENT)) {
+            return table
+                    .<Table<?>>join(keyProp.getName())
+                    .get(keyProp.getTargetType().getIdProp().getName());
+        }
+        return table.get(keyProp.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate keyPredicate(
+            Table<?> table,
+            List<ImmutableProp> keyProps,
+            List<TypedKey> keys
+    ) {
+        int size = keyProps.size();
+        Expression<Object>[] exprs = new Expression[size];
+        for (int i = 0; i < size; i++) {
+            exprs[i] = keyExpression(table, keyProps.get(i));
+        }
+        List<Object> values = new ArrayList<>(keys.size());
+        for (TypedKey key : keys) {
+            Object[] arr = key.values();
+            switch (size) {
+                case 1:
+                    values.add(arr[0]);
+                    break;
+                case 2:
+                    values.add(new Tuple2<>(arr[0], arr[1]));
+                    break;
+                case 3:
+                    values.add(new Tuple3<>(arr[0], arr[1], arr[2]));
+                    break;
+                case 4:
+                    values.add(new Tuple4<>(arr[0], arr[1], arr[2], arr[3]));
+                    break;
+                case 5:
+                    values.add(new Tuple5<>(arr[0], arr[1], arr[2], arr[3], arr[4]));
+                    break;
+                case 6:
+                    values.add(new Tuple6<>(arr[0], arr[1], arr[2], arr[3], arr[4], arr[5]));
+                    break;
+                case 7:
+                    values.add(new Tuple7<>(arr[0], arr[1], arr[2], arr[3], arr[4], arr[5], arr[6]));
+                    break;
+                case 8:
+                    values.add(new Tuple8<>(arr[0], arr[1], arr[2], arr[3], arr[4], arr[5], arr[6], arr[7]));
+                    break;
+                default:
+                    values.add(new Tuple9<>(arr[0], arr[1], arr[2], arr[3], arr[4], arr[5], arr[6], arr[7], arr[8]));
+                    break;
+            }
+        }
+        Expression<?> expr;
+        switch (size) {
+            case 1:
+                expr = exprs[0];
+                break;
+            case 2:
+                expr = Expression.tuple(exprs[0], exprs[1]);
+                break;
+            case 3:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2]);
+                break;
+            case 4:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2], exprs[3]);
+                break;
+            case 5:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2], exprs[3], exprs[4]);
+                break;
+            case 6:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2], exprs[3], exprs[4], exprs[5]);
+                break;
+            case 7:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2], exprs[3], exprs[4], exprs[5], exprs[6]);
+                break;
+            case 8:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2], exprs[3], exprs[4], exprs[5], exprs[6], exprs[7]);
+                break;
+            default:
+                expr = Expression.tuple(exprs[0], exprs[1], exprs[2], exprs[3], exprs[4], exprs[5], exprs[6], exprs[7], exprs[8]);
+                break;
+        }
+        return ((Expression<Object>) expr).in(values);
+    }
+}
@@ -2,6 +2,7 @@ package org.babyfish.jimmer.sql.ast.impl.mutation;
 
 import org.babyfish.jimmer.Draft;
 import org.babyfish.jimmer.UnloadedException;
+import org.babyfish.jimmer.lang.Ref;
 import org.babyfish.jimmer.meta.*;
 import org.babyfish.jimmer.runtime.DraftSpi;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
@@ -44,10 +45,15 @@ class Saver {
 
     private final Map<AffectedTable, Integer> affectedRowCountMap;
 
+    // The affected row counts of the current root object, used by `saveAll`
+    private Map<AffectedTable, Integer> rootAffectedRowCountMap;
+
     private final SavePath path;
 
     private boolean triggerSubmitted;
 
+    private Batch batch;
+
     Saver(
             AbstractEntitySaveCommandImpl.Data data,
             Connection con,
@@ -80,6 +86,7 @@ class Saver {
         this.trigger = base.trigger;
         this.triggerSubmitImmediately = this.trigger != null;
         this.affectedRowCountMap = base.affectedRowCountMap;
+        this.rootAffectedRowCountMap = base.rootAffectedRowCountMap;
         this.path = base.path.to(prop);
     }
 
@@ -100,6 +107,60 @@ class Saver {
         return new SimpleSaveResult<>(affectedRowCountMap, entity, newEntity);
     }
 
+    /**
+     * Save the drafts of root objects by JDBC batch,
+     * it can only be invoked inside the draft context which created those drafts.
+     *
+     * @return The affected row counts of each root object
+     */
+    public List<Map<AffectedTable, Integer>> saveAll(List<DraftSpi> draftSpiList) {
+        if (trigger != null) {
+            Internal.currentDraftContext().addDisposer(trigger::prepareSubmit);
+        }
+        int size = draftSpiList.size();
+        ObjectType[] objectTypes = new ObjectType[size];
+        List<Map<AffectedTable, Integer>> rootAffectedRowCountMaps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rootAffectedRowCountMaps.add(new LinkedHashMap<>());
+        }
+        try {
+            for (int i = 0; i < size; i++) {
+                rootAffectedRowCountMap = rootAffectedRowCountMaps.get(i);
+                saveAssociations(draftSpiList.get(i), ObjectType.EXISTING, true);
+            }
+            rootAffectedRowCountMap = null;
+            preload(draftSpiList);
+            batch = new Batch(data.getBatchSize());
+            try {
+                for (int i = 0; i < size; i++) {
+                    rootAffectedRowCountMap = rootAffectedRowCountMaps.get(i);
+                    objectTypes[i] = saveSelf(draftSpiList.get(i));
+                }
+                batch.flush();
+            } finally {
+                batch = null;
+            }
+            for (int i = 0; i < size; i++) {
+                rootAffectedRowCountMap = rootAffectedRowCountMaps.get(i);
+                saveAssociations(draftSpiList.get(i), objectTypes[i], false);
+            }
+        } finally {
+            rootAffectedRowCountMap = null;
+        }
+        if (triggerSubmitImmediately) {
+            submitTrigger();
+        }
+        return rootAffectedRowCountMaps;
+    }
+
+    /**
+     * Find the existing objects of the whole object trees by bulk queries,
+     * so that they need not be found one by one later.
+     */
+    public void preload(Collection<? extends ImmutableSpi> spiList) {
+        new Preloader(data, con, cache, trigger != null).execute(spiList);
+    }
+
     public void submitTrigger() {
         if (trigger != null && !triggerSubmitted) {
             trigger.submit(data.getSqlClient(), con);
@@ -243,6 +304,7 @@ class Saver {
                                 currentId,
                                 associatedObjectIds
                         );
+                        Map<AffectedTable, Integer> deletedRowCountMap = new LinkedHashMap<>();
                         Deleter deleter = new Deleter(
                                 new DeleteCommandImpl.Data(
                                         data.getSqlClient(),
@@ -252,10 +314,13 @@ class Saver {
                                 con,
                                 cache,
                                 trigger,
-                                affectedRowCountMap
+                                deletedRowCountMap
                         );
                         deleter.addPreHandleInput(prop.getTargetType(), detachedTargetIds);
                         deleter.execute(false);
+                        for (Map.Entry<AffectedTable, Integer> e : deletedRowCountMap.entrySet()) {
+                            addOutput(e.getKey(), e.getValue());
+                        }
                     } else if (dissociateAction == DissociateAction.SET_NULL) {
                         int rowCount = childTableOperator.unsetParent(currentId, associatedObjectIds);
                         addOutput(AffectedTable.of(targetType), rowCount);
@@ -378,6 +443,12 @@ class Saver {
             return ObjectType.EXISTING;
         }
 
+        if (batch != null && batch.isPending(draftSpi)) {
+            // The cache does not know the pending objects,
+            // flush them so that the current object can be found.
+            batch.flush();
+        }
+
         if (data.getMode() == SaveMode.INSERT_ONLY) {
             if (trigger != null) {
                 trigger.modifyEntityTable(null, draftSpi);
@@ -393,6 +464,13 @@ class Saver {
             return ObjectType.EXISTING;
         }
 
+        if (isNativeUpsertAllowed(draftSpi)) {
+            // Whether the object is inserted or updated is unknown,
+            // so it is treated as existing object
+            upsert(draftSpi);
+            return ObjectType.EXISTING;
+        }
+
         ImmutableSpi existingSpi = find(draftSpi);
         if (existingSpi != null) {
             boolean updated;
@@ -491,31 +569,7 @@ class Saver {
         for (ImmutableProp prop : draftSpi.__type().getProps().values()) {
             if (prop.isColumnDefinition() && draftSpi.__isLoaded(prop.getId())) {
                 props.add(prop);
-                Object value = draftSpi.__get(prop.getId());
-                ScalarProvider<Object, Object> scalarProvider;
-                if (prop.isReference(TargetLevel.ENTITY)) {
-                    scalarProvider = data.getSqlClient().getScalarProvider(prop.getTargetType().getIdProp());
-                    if (value != null) {
-                        value = ((ImmutableSpi) value).__get(prop.getTargetType().getIdProp().getId());
-                    }
-                } else {
-                    scalarProvider = data.getSqlClient().getScalarProvider(prop);
-                }
-                if (scalarProvider != null) {
-                    try {
-                        value = value != null ? scalarProvider.toSql(value) : new DbNull(scalarProvider.getSqlType());
-                    } catch (Exception ex) {
-                        throw new ExecutionException(
-                                "Cannot convert the value of \"" +
-                                        prop +
-                                        "\" by the scalar provider \"" +
-                                        scalarProvider.getClass().getName() +
-                                        "\"",
-                                ex
-                        );
-                    }
-                }
-                values.add(value);
+                values.add(columnValue(draftSpi, prop));
             }
         }
         if (props.isEmpty()) {
@@ -571,6 +625,10 @@ class Saver {
         }
 
         Tuple3<String, List<Object>, List<Integer>> sqlResult = builder.build();
+        if (batch != null) {
+            batch.add(draftSpi, sqlResult, true, generateKeys, null);
+            return;
+        }
         Object insertedResult = data.getSqlClient().getExecutor().execute(
                 new Executor.Args<>(
                         data.getSqlClient(),
@@ -597,16 +655,19 @@ class Saver {
                         }
                 )
         );
-        int rowCount = insertedResult instanceof Tuple2<?, ?> ?
-                ((Tuple2<Integer, ?>)insertedResult).get_1() :
-                (Integer)insertedResult;
-        addOutput(AffectedTable.of(type), rowCount);
-
         if (insertedResult instanceof Tuple2<?, ?>) {
-            id = ((Tuple2<?, Object>)insertedResult).get_2();
-            setDraftId(draftSpi, id);
+            Tuple2<Integer, Object> tuple = (Tuple2<Integer, Object>) insertedResult;
+            afterInsert(draftSpi, tuple.get_1(), true, tuple.get_2());
+        } else {
+            afterInsert(draftSpi, (Integer) insertedResult, false, null);
         }
+    }
 
+    private void afterInsert(DraftSpi draftSpi, int rowCount, boolean generateKeys, Object generatedId) {
+        addOutput(AffectedTable.of(draftSpi.__type()), rowCount);
+        if (generateKeys) {
+            setDraftId(draftSpi, generatedId);
+        }
         cache.save(draftSpi, true);
     }
 
@@ -634,31 +695,7 @@ class Saver {
                     version = (Integer) draftSpi.__get(prop.getId());
                 } else if (!prop.isId() && !excludeProps.contains(prop)) {
                     updatedProps.add(prop);
-                    Object value = draftSpi.__get(prop.getId());
-                    ScalarProvider<Object, Object> scalarProvider;
-                    if (prop.isReference(TargetLevel.ENTITY)) {
-                        scalarProvider = data.getSqlClient().getScalarProvider(prop.getTargetType().getIdProp());
-                        if (value != null) {
-                            value = ((ImmutableSpi)value).__get(prop.getTargetType().getIdProp().getId());
-                        }
-                    } else {
-                        scalarProvider = data.getSqlClient().getScalarProvider(prop);
-                    }
-                    if (scalarProvider != null) {
-                        try {
-                            value = value != null ? scalarProvider.toSql(value) : new DbNull(scalarProvider.getSqlType());
-                        } catch (Exception ex) {
-                            throw new ExecutionException(
-                                    "Cannot convert the value of \"" +
-                                            prop +
-                                            "\" by the scalar provider \"" +
-                                            scalarProvider.getClass().getName() +
-                                            "\"",
-                                    ex
-                            );
-                        }
-                    }
-                    updatedValues.add(value);
+                    updatedValues.add(columnValue(draftSpi, prop));
                 }
             }
         }
@@ -713,6 +750,10 @@ class Saver {
         builder.leave();
 
         Tuple3<String, List<Object>, List<Integer>> sqlResult = builder.build();
+        if (batch != null && (version == null || batch.isVersionCheckable())) {
+            batch.add(draftSpi, sqlResult, false, false, version);
+            return true;
+        }
         int rowCount = data.getSqlClient().getExecutor().execute(
                 new Executor.Args<>(
                         data.getSqlClient(),
@@ -725,6 +766,12 @@ class Saver {
                         PreparedStatement::executeUpdate
                 )
         );
+        afterUpdate(draftSpi, rowCount, version);
+        return true;
+    }
+
+    private void afterUpdate(DraftSpi draftSpi, int rowCount, Integer version) {
+        ImmutableType type = draftSpi.__type();
         if (rowCount != 0) {
             addOutput(AffectedTable.of(type), rowCount);
             if (version != null) {
@@ -744,9 +791,121 @@ class Saver {
                             "\""
             );
         }
+    }
+
+    private boolean isNativeUpsertAllowed(DraftSpi draftSpi) {
+        if (data.getMode() != SaveMode.UPSERT ||
+                trigger != null ||
+                batch != null ||
+                !isNativeUpsertSupported(data, draftSpi)) {
+            return false;
+        }
+        // The known objects can be saved by the default way without finding
+        return cache.find(draftSpi, false) == null && cache.findPreloaded(draftSpi) == null;
+    }
+
+    /**
+     * Whether the object can be saved by the upsert statement of dialect,
+     * regardless of the save mode and the objects found before.
+     *
+     * <p>It is shared by {@link Preloader} so that the objects which will be
+     * saved by native upsert are not found in advance.</p>
+     */
+    static boolean isNativeUpsertSupported(AbstractEntitySaveCommandImpl.Data data, ImmutableSpi spi) {
+        if (!data.isNativeUpsert() || !data.getSqlClient().getDialect().isUpsertSupported()) {
+            return false;
+        }
+        ImmutableType type = spi.__type();
+        PropId idPropId = type.getIdProp().getId();
+        if (!spi.__isLoaded(idPropId) || spi.__get(idPropId) == null) {
+            return false;
+        }
+        if (type.getVersionProp() != null || data.getSqlClient().getDraftInterceptor(type) != null) {
+            return false;
+        }
+        MetadataStrategy strategy = data.getSqlClient().getMetadataStrategy();
+        for (ImmutableProp prop : type.getProps().values()) {
+            if (prop.isColumnDefinition() &&
+                    spi.__isLoaded(prop.getId()) &&
+                    !(prop.getStorage(strategy) instanceof SingleColumn)) {
+                return false;
+            }
+        }
         return true;
     }
 
+    private void upsert(DraftSpi draftSpi) {
+
+        callInterceptor(draftSpi, false);
+
+        ImmutableType type = draftSpi.__type();
+        MetadataStrategy strategy = data.getSqlClient().getMetadataStrategy();
+        List<ImmutableProp> props = new ArrayList<>();
+        List<String> columnNames = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (ImmutableProp prop : type.getProps().values()) {
+            if (prop.isColumnDefinition() && draftSpi.__isLoaded(prop.getId())) {
+                props.add(prop);
+                columnNames.add(prop.<SingleColumn>getStorage(strategy).getName());
+                values.add(columnValue(draftSpi, prop));
+            }
+        }
+        SqlBuilder builder = new SqlBuilder(new AstContext(data.getSqlClient()));
+        data.getSqlClient().getDialect().upsert(
+                new UpsertContextImpl(
+                        builder,
+                        type.getTableName(strategy),
+                        props,
+                        columnNames,
+                        values
+                )
+        );
+        Tuple3<String, List<Object>, List<Integer>> sqlResult = builder.build();
+        int rowCount = data.getSqlClient().getExecutor().execute(
+                new Executor.Args<>(
+                        data.getSqlClient(),
+                        con,
+                        sqlResult.get_1(),
+                        sqlResult.get_2(),
+                        sqlResult.get_3(),
+                        ExecutionPurpose.MUTATE,
+                        null,
+                        PreparedStatement::executeUpdate
+                )
+        );
+        // Some databases, such as MySQL, return 2 when the existing row is updated
+        addOutput(AffectedTable.of(type), Math.min(rowCount, 1));
+        cache.save(draftSpi, true);
+    }
+
+    private Object columnValue(DraftSpi draftSpi, ImmutableProp prop) {
+        Object value = draftSpi.__get(prop.getId());
+        ScalarProvider<Object, Object> scalarProvider;
+        if (prop.isReference(TargetLevel.ENTITY)) {
+            scalarProvider = data.getSqlClient().getScalarProvider(prop.getTargetType().getIdProp());
+            if (value != null) {
+                value = ((ImmutableSpi)value).__get(prop.getTargetType().getIdProp().getId());
+            }
+        } else {
+            scalarProvider = data.getSqlClient().getScalarProvider(prop);
+        }
+        if (scalarProvider != null) {
+            try {
+                value = value != null ? scalarProvider.toSql(value) : new DbNull(scalarProvider.getSqlType());
+            } catch (Exception ex) {
+                throw new ExecutionException(
+                        "Cannot convert the value of \"" +
+                                prop +
+                                "\" by the scalar provider \"" +
+                                scalarProvider.getClass().getName() +
+                                "\"",
+                        ex
+                );
+            }
+        }
+        return value;
+    }
+
     @SuppressWarnings("unchecked")
     private void callInterceptor(DraftSpi draftSpi, boolean insert) {
         ImmutableType type = draftSpi.__type();
@@ -785,6 +944,10 @@ class Saver {
         if (cached != null) {
             return cached;
         }
+        Ref<ImmutableSpi> preloaded = cache.findPreloaded(example);
+        if (preloaded != null) {
+            return preloaded.getValue();
+        }
 
         ImmutableType type = example.__type();
         Collection<ImmutableProp> actualKeyProps = actualKeyProps(example, requiresKey);
@@ -874,6 +1037,9 @@ class Saver {
     private void addOutput(AffectedTable affectTable, int affectedRowCount) {
         if (affectedRowCount != 0) {
             affectedRowCountMap.merge(affectTable, affectedRowCount, Integer::sum);
+            if (rootAffectedRowCountMap != null) {
+                rootAffectedRowCountMap.merge(affectTable, affectedRowCount, Integer::sum);
+            }
         }
     }
 
@@ -943,6 +1109,243 @@ class Saver {
         );
     }
 
+    private class Batch {
+
+        private final int batchSize;
+
+        private final Map<String, BatchGroup> groupMap = new LinkedHashMap<>();
+
+        private final Set<Object> pendingKeys = new HashSet<>();
+
+        // Becomes true if the driver returns `SUCCESS_NO_INFO`
+        private boolean rowCountUnknown;
+
+        Batch(int batchSize) {
+            this.batchSize = batchSize;
+            this.rowCountUnknown = !data.getSqlClient().getDialect().isBatchUpdateCountSupported();
+        }
+
+        /**
+         * Whether the affected row counts of JDBC batch can be used to
+         * check optimistic lock, otherwise, the objects with version
+         * must be updated one by one.
+         */
+        boolean isVersionCheckable() {
+            return !rowCountUnknown;
+        }
+
+        boolean isPending(DraftSpi draftSpi) {
+            if (pendingKeys.isEmpty()) {
+                return false;
+            }
+            ImmutableType type = draftSpi.__type();
+            PropId idPropId = type.getIdProp().getId();
+            if (draftSpi.__isLoaded(idPropId)) {
+                Object id = draftSpi.__get(idPropId);
+                if (id != null && pendingKeys.contains(new TypedId(type, id))) {
+                    return true;
+                }
+            }
+            TypedKey key = TypedKey.of(draftSpi, data.getKeyProps(type), false);
+            return key != null && pendingKeys.contains(key);
+        }
+
+        void add(
+                DraftSpi draftSpi,
+                Tuple3<String, List<Object>, List<Integer>> sqlResult,
+                boolean insert,
+                boolean generateKeys,
+                Integer version
+        ) {
+            ImmutableType type = draftSpi.__type();
+            PropId idPropId = type.getIdProp().getId();
+            if (draftSpi.__isLoaded(idPropId)) {
+                Object id = draftSpi.__get(idPropId);
+                if (id != null) {
+                    pendingKeys.add(new TypedId(type, id));
+                }
+            }
+            TypedKey key = TypedKey.of(draftSpi, data.getKeyProps(type), false);
+            if (key != null) {
+                pendingKeys.add(key);
+            }
+            groupMap
+                    .computeIfAbsent(
+                            sqlResult.get_1(),
+                            sql -> new BatchGroup(sql, insert, generateKeys)
+                    )
+                    .add(draftSpi, sqlResult.get_2(), version, rootAffectedRowCountMap);
+        }
+
+        @SuppressWarnings("unchecked")
+        void flush() {
+            if (groupMap.isEmpty()) {
+                return;
+            }
+            JSqlClientImplementor sqlClient = data.getSqlClient();
+            for (BatchGroup group : groupMap.values()) {
+                if (!group.insert && group.versions.get(0) != null && rowCountUnknown) {
+                    // The previous group shows that the driver does not return row counts
+                    updateOneByOne(group);
+                    continue;
+                }
+                int size = group.draftSpiList.size();
+                for (int start = 0; start < size; start += batchSize) {
+                    int end = Math.min(start + batchSize, size);
+                    Tuple2<int[], List<Object>> result = sqlClient.getExecutor().executeBatch(
+                            new Executor.BatchArgs<>(
+                                    sqlClient,
+                                    con,
+                                    group.sql,
+                                    group.variableLists.subList(start, end),
+                                    ExecutionPurpose.MUTATE,
+                                    group.generateKeys ?
+                                            (c, s) ->
+                                                    c.prepareStatement(s, Statement.RETURN_GENERATED_KEYS) :
+                                            null,
+                                    stmt -> {
+                                        int[] rowCounts = stmt.executeBatch();
+                                        List<Object> generatedIds = null;
+                                        if (group.generateKeys) {
+                                            generatedIds = new ArrayList<>(rowCounts.length);
+                                            try (ResultSet rs = stmt.getGeneratedKeys()) {
+                                                while (rs.next()) {
+                                                    generatedIds.add(rs.getObject(1));
+                                                }
+                                            }
+                                        }
+                                        return new Tuple2<>(rowCounts, generatedIds);
+                                    },
+                                    this::combine
+                            )
+                    );
+                    int[] rowCounts = result.get_1();
+                    List<Object> generatedIds = result.get_2();
+                    if (generatedIds != null && generatedIds.size() != end - start) {
+                        throw new ExecutionException(
+                                "The JDBC driver returns " +
+                                        generatedIds.size() +
+                                        " generated id(s) for the batch insertion of " +
+                                        (end - start) +
+                                        " row(s), the JDBC batch cannot be used to save \"" +
+                                        group.draftSpiList.get(start).__type() +
+                                        "\" whose id is generated by database"
+                        );
+                    }
+                    Map<AffectedTable, Integer> oldRootAffectedRowCountMap = rootAffectedRowCountMap;
+                    try {
+                        for (int i = start; i < end; i++) {
+                            int rowCount = rowCounts[i - start];
+                            DraftSpi draftSpi = group.draftSpiList.get(i);
+                            if (rowCount == Statement.SUCCESS_NO_INFO) {
+                                if (group.versions.get(i) != null) {
+                                    throw new ExecutionException(
+                                            "The JDBC driver does not return the affected row count " +
+                                                    "of the batch update of \"" +
+                                                    draftSpi.__type() +
+                                                    "\", the optimistic lock cannot be checked"
+                                    );
+                                }
+                                rowCountUnknown = true;
+                                rowCount = 1;
+                            }
+                            rootAffectedRowCountMap = group.rootAffectedRowCountMaps.get(i);
+                            if (group.insert) {
+                                afterInsert(
+                                        draftSpi,
+                                        rowCount,
+                                        group.generateKeys,
+                                        generatedIds != null ? generatedIds.get(i - start) : null
+                                );
+                            } else {
+                                afterUpdate(draftSpi, rowCount, group.versions.get(i));
+                            }
+                        }
+                    } finally {
+                        rootAffectedRowCountMap = oldRootAffectedRowCountMap;
+                    }
+                }
+            }
+            groupMap.clear();
+            pendingKeys.clear();
+        }
+
+        private void updateOneByOne(BatchGroup group) {
+            JSqlClientImplementor sqlClient = data.getSqlClient();
+            Map<AffectedTable, Integer> oldRootAffectedRowCountMap = rootAffectedRowCountMap;
+            try {
+                int size = group.draftSpiList.size();
+                for (int i = 0; i < size; i++) {
+                    int rowCount = sqlClient.getExecutor().execute(
+                            new Executor.Args<>(
+                                    sqlClient,
+                                    con,
+                                    group.sql,
+                                    group.variableLists.get(i),
+                                    null,
+                                    ExecutionPurpose.MUTATE,
+                                    null,
+                                    PreparedStatement::executeUpdate
+                            )
+                    );
+                    rootAffectedRowCountMap = group.rootAffectedRowCountMaps.get(i);
+                    afterUpdate(group.draftSpiList.get(i), rowCount, group.versions.get(i));
+                }
+            } finally {
+                rootAffectedRowCountMap = oldRootAffectedRowCountMap;
+            }
+        }
+
+        private Tuple2<int[], List<Object>> combine(
+                Tuple2<int[], List<Object>> a,
+                Tuple2<int[], List<Object>> b
+        ) {
+            int[] rowCounts = Arrays.copyOf(a.get_1(), a.get_1().length + b.get_1().length);
+            System.arraycopy(b.get_1(), 0, rowCounts, a.get_1().length, b.get_1().length);
+            List<Object> generatedIds = null;
+            if (a.get_2() != null) {
+                generatedIds = new ArrayList<>(a.get_2());
+                generatedIds.addAll(b.get_2());
+            }
+            return new Tuple2<>(rowCounts, generatedIds);
+        }
+    }
+
+    private static class BatchGroup {
+
+        final String sql;
+
+        final boolean insert;
+
+        final boolean generateKeys;
+
+        final List<DraftSpi> draftSpiList = new ArrayList<>();
+
+        final List<List<Object>> variableLists = new ArrayList<>();
+
+        final List<Integer> versions = new ArrayList<>();
+
+        final List<Map<AffectedTable, Integer>> rootAffectedRowCountMaps = new ArrayList<>();
+
+        BatchGroup(String sql, boolean insert, boolean generateKeys) {
+            this.sql = sql;
+            this.insert = insert;
+            this.generateKeys = generateKeys;
+        }
+
+        void add(
+                DraftSpi draftSpi,
+                List<Object> variables,
+                Integer version,
+                Map<AffectedTable, Integer> rootAffectedRowCountMap
+        ) {
+            draftSpiList.add(draftSpi);
+            variableLists.add(variables);
+            versions.add(version);
+            rootAffectedRowCountMaps.add(rootAffectedRowCountMap);
+        }
+    }
+
     private enum ObjectType {
         UNKNOWN,
         NEW,
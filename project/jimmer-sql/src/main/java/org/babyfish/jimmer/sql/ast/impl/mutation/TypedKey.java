@@ -2,6 +2,8 @@ package org.babyfish.jimmer.sql.ast.impl.mutation;
 
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.PropId;
+import org.babyfish.jimmer.meta.TargetLevel;
 import org.babyfish.jimmer.runtime.ImmutableSpi;
 import org.babyfish.jimmer.sql.Key;
 import org.babyfish.jimmer.sql.runtime.ExecutionException;
@@ -76,4 +78,42 @@ class TypedKey {
         }
         return new TypedKey(type, arr);
     }
+
+    /**
+     * Different with {@link #of(ImmutableSpi, Set, boolean)},
+     * the associated object of reference key property is replaced by its id,
+     * so that the key can be compared with the key of the object loaded from database.
+     *
+     * @return The key or null if some key properties are unloaded or null.
+     */
+    public static TypedKey ofNonNullColumnValues(
+            ImmutableSpi spi,
+            Set<ImmutableProp> keyProps
+    ) {
+        if (keyProps == null || keyProps.isEmpty()) {
+            return null;
+        }
+        Object[] arr = new Object[keyProps.size()];
+        int index = 0;
+        for (ImmutableProp keyProp : keyProps) {
+            if (!spi.__isLoaded(keyProp.getId())) {
+                return null;
+            }
+            Object value = spi.__get(keyProp.getId());
+            if (value != null && keyProp.isReference(TargetLevel.PERSISTENT)) {
+                ImmutableSpi target = (ImmutableSpi) value;
+                PropId targetIdPropId = target.__type().getIdProp().getId();
+                value = target.__isLoaded(targetIdPropId) ? target.__get(targetIdPropId) : null;
+            }
+            if (value == null) {
+                return null;
+            }
+            arr[index++] = value;
+        }
+        return new TypedKey(spi.__type(), arr);
+    }
+
+    Object[] values() {
+        return arr;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package org.babyfish.jimmer.sql.ast.impl.mutation;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.sql.dialect.UpsertContext;
+import org.babyfish.jimmer.sql.runtime.SqlBuilder;
+
+import java.util.List;
+
+class UpsertContextImpl implements UpsertContext {
+
+    private final SqlBuilder builder;
+
+    private final String tableName;
+
+    private final List<ImmutableProp> props;
+
+    private final List<String> columnNames;
+
+    private final List<Object> values;
+
+    UpsertContextImpl(
+            SqlBuilder builder,
+            String tableName,
+            List<ImmutableProp> props,
+            List<String> columnNames,
+            List<Object> values
+    ) {
+        this.builder = builder;
+        this.tableName = tableName;
+        this.props = props;
+        this.columnNames = columnNames;
+        this.values = values;
+    }
+
+    @Override
+    public boolean hasUpdatedColumns() {
+        for (ImmutableProp prop : props) {
+            if (!prop.isId()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public UpsertContext sql(String sql) {
+        builder.sql(sql);
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendTableName() {
+        builder.sql(tableName);
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendInsertedColumns(String prefix) {
+        int size = props.size();
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                builder.sql(", ");
+            }
+            builder.sql(prefix).sql(columnNames.get(i));
+        }
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendConflictColumns() {
+        boolean addComma = false;
+        int size = props.size();
+        for (int i = 0; i < size; i++) {
+            if (props.get(i).isId()) {
+                if (addComma) {
+                    builder.sql(", ");
+                } else {
+                    addComma = true;
+                }
+                builder.sql(columnNames.get(i));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendInsertingValues() {
+        int size = props.size();
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                builder.sql(", ");
+            }
+            appendValue(i);
+        }
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendInsertingValuesAsColumns() {
+        int size = props.size();
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                builder.sql(", ");
+            }
+            appendValue(i);
+            builder.sql(" ").sql(columnNames.get(i));
+        }
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendConflictPredicate(String targetAlias, String sourceAlias) {
+        boolean addAnd = false;
+        int size = props.size();
+        for (int i = 0; i < size; i++) {
+            if (props.get(i).isId()) {
+                if (addAnd) {
+                    builder.sql(" and ");
+                } else {
+                    addAnd = true;
+                }
+                String columnName = columnNames.get(i);
+                builder
+                        .sql(targetAlias)
+                        .sql(".")
+                        .sql(columnName)
+                        .sql(" = ")
+                        .sql(sourceAlias)
+                        .sql(".")
+                        .sql(columnName);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public UpsertContext appendUpdatingAssignments(String prefix, String suffix) {
+        boolean addComma = false;
+        int size = props.size();
+        for (int i = 0; i < size; i++) {
+            if (!props.get(i).isId()) {
+                if (addComma) {
+                    builder.sql(", ");
+                } else {
+                    addComma = true;
+                }
+                String columnName = columnNames.get(i);
+                builder
+                        .sql(columnName)
+                        .sql(" = ")
+                        .sql(prefix)
+                        .sql(columnName)
+                        .sql(suffix);
+            }
+        }
+        return this;
+    }
+
+    private void appendValue(int index) {
+        Object value = values.get(index);
+        if (value != null) {
+            builder.variable(value);
+        } else {
+            builder.nullVariable(props.get(index));
+        }
+    }
+}
@@ -60,6 +60,9 @@ class AbstractConfigurableTypedQueryImpl implements TypedQueryImplementor {
                 for (Selection<?> selection : data.selections) {
                     Ast.from(selection, visitor.getAstContext()).accept(visitor);
                 }
+                if (data.partitionExpression != null) {
+                    ((Ast) data.partitionExpression).accept(visitor);
+                }
                 baseQuery.accept(visitor, data.oldSelections, data.withoutSortingAndPaging);
             }
         } finally {
@@ -72,7 +75,11 @@ class AbstractConfigurableTypedQueryImpl implements TypedQueryImplementor {
         AstContext astContext = builder.getAstContext();
         astContext.pushStatement(getBaseQuery());
         try {
-            if (data.withoutSortingAndPaging || data.limit == Integer.MAX_VALUE) {
+            if (data.withoutSortingAndPaging || (data.limit == Integer.MAX_VALUE && data.offset == 0)) {
+                renderWithoutPaging(builder, null);
+            } else if (data.partitionExpression != null) {
+                renderPartitionedQuery(builder);
+            } else if (data.limit == Integer.MAX_VALUE) {
                 renderWithoutPaging(builder, null);
             } else {
                 PropExpressionImplementor<?> idPropExpr = idOnlyPropExprByOffset();
@@ -144,6 +151,69 @@ class AbstractConfigurableTypedQueryImpl implements TypedQueryImplementor {
         baseQuery.renderTo(builder, data.withoutSortingAndPaging, data.reverseSorting);
     }
 
+    private void renderPartitionedQuery(SqlBuilder builder) {
+        int size = data.selections.size();
+        builder.enter(SqlBuilder.ScopeType.SELECT);
+        for (int i = 0; i < size; i++) {
+            builder
+                    .separator()
+                    .sql(PartitionWriter.ALIAS)
+                    .sql(".")
+                    .sql(PartitionWriter.columnAlias(i));
+        }
+        builder.leave();
+        builder.from().enter(SqlBuilder.ScopeType.SUB_QUERY);
+        builder.enter(SqlBuilder.ScopeType.SELECT);
+        for (int i = 0; i < size; i++) {
+            builder.separator();
+            Ast ast = Ast.from(data.selections.get(i), builder.getAstContext());
+            ((PropExpressionImplementor<?>) ast).renderTo(builder, true);
+            builder.sql(" ").sql(PartitionWriter.columnAlias(i));
+        }
+        builder.separator().sql("row_number() over(partition by ");
+        ((Ast) data.partitionExpression).renderTo(builder);
+        if (baseQuery.getOrders().isEmpty()) {
+            // Some databases, such as Oracle, require the "order by" clause of "row_number()"
+            builder.sql(" order by ");
+            ((Ast) data.partitionExpression).renderTo(builder);
+        } else {
+            baseQuery.renderOrderBy(builder, data.reverseSorting);
+        }
+        builder.sql(") ").sql(PartitionWriter.ROW_NUMBER_ALIAS);
+        builder.leave();
+        baseQuery.renderTo(builder, true, false);
+        builder
+                .leave()
+                .sql(" ")
+                .sql(PartitionWriter.ALIAS)
+                .enter(SqlBuilder.ScopeType.WHERE);
+        if (data.offset != 0) {
+            builder
+                    .sql(PartitionWriter.ALIAS)
+                    .sql(".")
+                    .sql(PartitionWriter.ROW_NUMBER_ALIAS)
+                    .sql(" > ")
+                    .variable(data.offset);
+        }
+        if (data.limit != Integer.MAX_VALUE) {
+            builder
+                    .separator()
+                    .sql(PartitionWriter.ALIAS)
+                    .sql(".")
+                    .sql(PartitionWriter.ROW_NUMBER_ALIAS)
+                    .sql(" <= ")
+                    .variable(data.offset + data.limit);
+        }
+        builder.leave();
+        builder
+                .enter(SqlBuilder.ScopeType.ORDER_BY)
+                .sql(PartitionWriter.ALIAS)
+                .sql(".")
+                .sql(PartitionWriter.ROW_NUMBER_ALIAS)
+                .sql(" asc")
+                .leave();
+    }
+
     private PropExpressionImplementor<?> idOnlyPropExprByOffset() {
         if (data.offset >= baseQuery.getSqlClient().getOffsetOptimizingThreshold()) {
             return data.getIdOnlyExpression();
@@ -236,6 +306,17 @@ class AbstractConfigurableTypedQueryImpl implements TypedQueryImplementor {
         }
     }
 
+    private static class PartitionWriter {
+
+        private static final String ALIAS = "partition_";
+
+        private static final String ROW_NUMBER_ALIAS = "partition_row_number_";
+
+        public static String columnAlias(int index) {
+            return "partition_col_" + index + '_';
+        }
+    }
+
     private static class OffsetOptimizationWriter {
 
         private static final String ALIAS = "optimize_";
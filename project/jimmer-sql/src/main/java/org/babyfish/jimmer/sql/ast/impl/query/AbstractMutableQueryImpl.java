@@ -239,7 +239,13 @@ public abstract class AbstractMutableQueryImpl
             ((Ast)havingPredicate).renderTo(builder);
             builder.leave();
         }
-        if (!withoutSortingAndPaging && !orders.isEmpty()) {
+        if (!withoutSortingAndPaging) {
+            renderOrderBy(builder, reverseOrder);
+        }
+    }
+
+    void renderOrderBy(SqlBuilder builder, boolean reverseOrder) {
+        if (!orders.isEmpty()) {
             builder.enter(SqlBuilder.ScopeType.ORDER_BY);
             for (Order order : orders) {
                 builder.separator();
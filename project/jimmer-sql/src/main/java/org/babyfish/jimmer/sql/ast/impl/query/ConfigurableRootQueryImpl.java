@@ -1,6 +1,7 @@
 package org.babyfish.jimmer.sql.ast.impl.query;
 
 import org.babyfish.jimmer.sql.ast.Expression;
+import org.babyfish.jimmer.sql.ast.PropExpression;
 import org.babyfish.jimmer.sql.ast.Selection;
 import org.babyfish.jimmer.sql.ast.impl.Ast;
 import org.babyfish.jimmer.sql.ast.impl.AstContext;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class ConfigurableRootQueryImpl<T extends Table<?>, R>
         extends AbstractConfigurableTypedQueryImpl
@@ -111,6 +113,33 @@ public class ConfigurableRootQueryImpl<T extends Table<?>, R>
         );
     }
 
+    @Override
+    public ConfigurableRootQuery<T, R> limit(int limit, int offset, Expression<?> partitionExpression) {
+        if (partitionExpression == null) {
+            return limit(limit, offset);
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("'limit' can not be less than 0");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("'offsetValue' can not be less than 0");
+        }
+        if (limit > Integer.MAX_VALUE - offset) {
+            throw new IllegalArgumentException("'limit' > Int.MAX_VALUE - offsetValue");
+        }
+        for (Selection<?> selection : getData().selections) {
+            if (!(selection instanceof PropExpression<?>)) {
+                throw new IllegalArgumentException(
+                        "Only property expressions can be selected by the query with partition"
+                );
+            }
+        }
+        return new ConfigurableRootQueryImpl<>(
+                getData().limit(limit, offset, partitionExpression),
+                getBaseQuery()
+        );
+    }
+
     @Override
     public ConfigurableRootQuery<T, R> withoutSortingAndPaging() {
         TypedQueryData data = getData();
@@ -232,6 +261,38 @@ public class ConfigurableRootQueryImpl<T extends Table<?>, R>
         );
     }
 
+    @Override
+    public <X> X stream(Connection con, int batchSize, Function<Stream<R>, X> block) {
+        TypedQueryData data = getData();
+        if (data.limit == 0) {
+            return block.apply(Stream.empty());
+        }
+        JSqlClientImplementor sqlClient = getBaseQuery().getSqlClient();
+        int finalBatchSize = batchSize > 0 ? batchSize : sqlClient.getDefaultBatchSize();
+        if (con != null) {
+            return streamImpl(con, finalBatchSize, block);
+        }
+        return sqlClient.getSlaveConnectionManager(data.forUpdate).execute(newConn ->
+                streamImpl(newConn, finalBatchSize, block)
+        );
+    }
+
+    private <X> X streamImpl(Connection con, int batchSize, Function<Stream<R>, X> block) {
+        JSqlClientImplementor sqlClient = getBaseQuery().getSqlClient();
+        Tuple3<String, List<Object>, List<Integer>> sqlResult = preExecute(new SqlBuilder(new AstContext(sqlClient)));
+        return Selectors.stream(
+                sqlClient,
+                con,
+                sqlResult.get_1(),
+                sqlResult.get_2(),
+                sqlResult.get_3(),
+                getData().selections,
+                getBaseQuery().getPurpose(),
+                batchSize,
+                block
+        );
+    }
+
     private Tuple3<String, List<Object>, List<Integer>> preExecute(SqlBuilder builder) {
         AstVisitor visitor = new UseTableVisitor(builder.getAstContext());
         accept(visitor);
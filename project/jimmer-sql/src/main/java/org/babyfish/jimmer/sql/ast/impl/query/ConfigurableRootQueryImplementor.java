@@ -1,6 +1,7 @@
 package org.babyfish.jimmer.sql.ast.impl.query;
 
 import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.Expression;
 import org.babyfish.jimmer.sql.ast.query.ConfigurableRootQuery;
 import org.babyfish.jimmer.sql.ast.query.Order;
 import org.babyfish.jimmer.sql.ast.table.Table;
@@ -14,4 +15,13 @@ public interface ConfigurableRootQueryImplementor<T extends Table<?>, R>
     List<Order> getOrders();
 
     JSqlClientImplementor getSqlClient();
+
+    /**
+     * Apply limit and offset to each partition rather than the whole result,
+     * it is rendered by the window function `row_number()` so that
+     * the dialect must support window function.
+     *
+     * <p>Only the single column property expressions can be selected by this query.</p>
+     */
+    ConfigurableRootQuery<T, R> limit(int limit, int offset, Expression<?> partitionExpression);
 }
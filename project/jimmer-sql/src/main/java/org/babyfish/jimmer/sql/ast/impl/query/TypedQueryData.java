@@ -1,5 +1,6 @@
 package org.babyfish.jimmer.sql.ast.impl.query;
 
+import org.babyfish.jimmer.sql.ast.Expression;
 import org.babyfish.jimmer.sql.ast.Selection;
 import org.babyfish.jimmer.sql.ast.impl.ExpressionImplementor;
 import org.babyfish.jimmer.sql.ast.impl.table.FetcherSelectionImpl;
@@ -33,6 +34,8 @@ class TypedQueryData {
 
     final boolean forUpdate;
 
+    final Expression<?> partitionExpression;
+
     private PropExpressionImplementor<?> idOnlyExpression;
 
     private boolean idOnlyExpressionResolved;
@@ -46,6 +49,7 @@ class TypedQueryData {
         withoutSortingAndPaging = false;
         reverseSorting = false;
         forUpdate = false;
+        partitionExpression = null;
     }
 
     private TypedQueryData(
@@ -56,7 +60,8 @@ class TypedQueryData {
             int offset,
             boolean withoutSortingAndPaging,
             boolean reverseSorting,
-            boolean forUpdate
+            boolean forUpdate,
+            Expression<?> partitionExpression
     ) {
         this.selections = selections;
         this.oldSelections = oldSelections;
@@ -66,6 +71,7 @@ class TypedQueryData {
         this.withoutSortingAndPaging = withoutSortingAndPaging;
         this.reverseSorting = reverseSorting;
         this.forUpdate = forUpdate;
+        this.partitionExpression = partitionExpression;
     }
 
     public TypedQueryData reselect(List<Selection<?>> selections) {
@@ -77,7 +83,8 @@ class TypedQueryData {
                 offset,
                 withoutSortingAndPaging,
                 reverseSorting,
-                forUpdate
+                forUpdate,
+                partitionExpression
         );
     }
 
@@ -90,7 +97,8 @@ class TypedQueryData {
                 offset,
                 withoutSortingAndPaging,
                 reverseSorting,
-                forUpdate
+                forUpdate,
+                partitionExpression
         );
     }
 
@@ -103,7 +111,22 @@ class TypedQueryData {
                 offset,
                 withoutSortingAndPaging,
                 reverseSorting,
-                forUpdate
+                forUpdate,
+                partitionExpression
+        );
+    }
+
+    public TypedQueryData limit(int limit, int offset, Expression<?> partitionExpression) {
+        return new TypedQueryData(
+                selections,
+                oldSelections,
+                distinct,
+                limit,
+                offset,
+                withoutSortingAndPaging,
+                reverseSorting,
+                forUpdate,
+                partitionExpression
         );
     }
 
@@ -116,7 +139,8 @@ class TypedQueryData {
                 offset,
                 true,
                 reverseSorting,
-                forUpdate
+                forUpdate,
+                partitionExpression
         );
     }
 
@@ -129,7 +153,8 @@ class TypedQueryData {
                 offset,
                 withoutSortingAndPaging,
                 true,
-                forUpdate
+                forUpdate,
+                partitionExpression
         );
     }
 
@@ -142,7 +167,8 @@ class TypedQueryData {
                 offset,
                 withoutSortingAndPaging,
                 reverseSorting,
-                true
+                true,
+                partitionExpression
         );
     }
 
@@ -175,6 +175,39 @@ public interface AbstractEntitySaveCommand {
 
         @OldChain
         Cfg setDeleteMode(DeleteMode mode);
+
+        /**
+         * Set the maximum number of rows that can be sent to database
+         * by one JDBC batch when a batch save command saves its root objects.
+         *
+         * <p>The root objects are grouped by their shapes(the set of loaded properties),
+         * each group is saved by one JDBC batch statement.
+         * The default value is 0, that means JDBC batch is disabled and each object
+         * is saved by its own statement.</p>
+         *
+         * <p>This configuration is ignored by simple save command.</p>
+         */
+        @OldChain
+        Cfg setBatchSize(int batchSize);
+
+        @OldChain
+        default Cfg setNativeUpsert() {
+            return setNativeUpsert(true);
+        }
+
+        /**
+         * Let the objects saved by {@link SaveMode#UPSERT} be saved by
+         * the insert-or-update statement of the dialect, such as
+         * `merge`, `insert ... on conflict` or `insert ... on duplicate key update`,
+         * rather than finding the existing object before inserting or updating it.
+         *
+         * <p>It is only used by the objects whose ids are specified
+         * and whose types have neither version property nor draft interceptor,
+         * when there are no triggers and the dialect supports upsert.
+         * Otherwise, the objects are still saved by the default way.</p>
+         */
+        @OldChain
+        Cfg setNativeUpsert(boolean nativeUpsert);
     }
 
     interface KeyPropCfg<T> {
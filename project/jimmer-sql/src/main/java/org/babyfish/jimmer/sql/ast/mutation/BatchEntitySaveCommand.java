@@ -128,4 +128,19 @@ public interface BatchEntitySaveCommand<E>
     default BatchEntitySaveCommand<E> setDeleteMode(DeleteMode mode) {
         return configure(cfg -> cfg.setDeleteMode(mode));
     }
+
+    @NewChain
+    default BatchEntitySaveCommand<E> setNativeUpsert() {
+        return configure(Cfg::setNativeUpsert);
+    }
+
+    @NewChain
+    default BatchEntitySaveCommand<E> setNativeUpsert(boolean nativeUpsert) {
+        return configure(cfg -> cfg.setNativeUpsert(nativeUpsert));
+    }
+
+    @NewChain
+    default BatchEntitySaveCommand<E> setBatchSize(int batchSize) {
+        return configure(cfg -> cfg.setBatchSize(batchSize));
+    }
 }
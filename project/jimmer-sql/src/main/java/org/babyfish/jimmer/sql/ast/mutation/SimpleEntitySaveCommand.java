@@ -119,4 +119,14 @@ public interface SimpleEntitySaveCommand<E>
     default SimpleEntitySaveCommand<E> setDeleteMode(DeleteMode mode) {
         return configure(cfg -> cfg.setDeleteMode(mode));
     }
+
+    @NewChain
+    default SimpleEntitySaveCommand<E> setNativeUpsert() {
+        return configure(Cfg::setNativeUpsert);
+    }
+
+    @NewChain
+    default SimpleEntitySaveCommand<E> setNativeUpsert(boolean nativeUpsert) {
+        return configure(cfg -> cfg.setNativeUpsert(nativeUpsert));
+    }
 }
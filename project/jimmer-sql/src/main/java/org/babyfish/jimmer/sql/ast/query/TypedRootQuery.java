@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface TypedRootQuery<R> extends Executable<List<R>> {
 
@@ -84,4 +85,33 @@ public interface TypedRootQuery<R> extends Executable<List<R>> {
     }
 
     void forEach(Connection con, int batchSize, Consumer<R> consumer);
+
+    default <X> X stream(Function<Stream<R>, X> block) {
+        return stream(null, -1, block);
+    }
+
+    default <X> X stream(Connection con, Function<Stream<R>, X> block) {
+        return stream(con, -1, block);
+    }
+
+    default <X> X stream(int batchSize, Function<Stream<R>, X> block) {
+        return stream(null, batchSize, block);
+    }
+
+    /**
+     * Read the rows lazily by database cursor.
+     *
+     * <p>Unlike {@link #execute(Connection)}, the rows are not loaded into memory together,
+     * only `batchSize` rows are read and fetched by object fetchers at a time,
+     * and the next batch is read only when the stream consumes it.</p>
+     *
+     * <p>The stream is only valid inside the block and cannot be returned.</p>
+     *
+     * @param con The connection, if it is null, the connection manager of sql client is used
+     * @param batchSize The count of rows read at a time, it is also the JDBC fetch size,
+     *                  the default batch size of sql client is used if it is not positive
+     * @param block The lambda to consume the stream
+     * @return The return value of the block
+     */
+    <X> X stream(Connection con, int batchSize, Function<Stream<R>, X> block);
 }
@@ -0,0 +1,760 @@
+package org.babyfish.jimmer.sql.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.PropId;
+import org.babyfish.jimmer.meta.TargetLevel;
+import org.babyfish.jimmer.runtime.DraftContext;
+import org.babyfish.jimmer.runtime.DraftSpi;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.runtime.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary serializer for remote caches.
+ *
+ * <p>Different from the JSON format of {@link ValueSerializer},
+ * the metadata of immutable types is used to write the data,
+ * properties are identified by their positions rather than names,
+ * integers are written as variable-length integers and a bitmap
+ * records which properties of partial objects are loaded.</p>
+ *
+ * <p>The bytes contain the fingerprint of the types, bytes written
+ * by incompatible versions of types are considered as cache missing.
+ * Values whose types are unknown to this serializer, for example,
+ * customized scalar types, are still written by the object mapper.</p>
+ *
+ * @param <T> The value type
+ */
+public class BinaryValueSerializer<T> extends ValueSerializer<T> {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 5;
+
+    private static final Map<Class<?>, Codec> SCALAR_CODEC_MAP;
+
+    private final Map<ImmutableType, ObjectCodec> objectCodecMap = new ConcurrentHashMap<>();
+
+    private final Codec codec;
+
+    private final boolean hasObjects;
+
+    private final int fingerprint;
+
+    public BinaryValueSerializer(@NotNull ImmutableType type) {
+        this(type, null, null);
+    }
+
+    public BinaryValueSerializer(@NotNull ImmutableProp prop) {
+        this(null, prop, null);
+    }
+
+    public BinaryValueSerializer(@NotNull ImmutableType type, ObjectMapper mapper) {
+        this(type, null, mapper);
+    }
+
+    public BinaryValueSerializer(@NotNull ImmutableProp prop, ObjectMapper mapper) {
+        this(null, prop, mapper);
+    }
+
+    private BinaryValueSerializer(ImmutableType type, ImmutableProp prop, ObjectMapper mapper) {
+        super(type, prop, mapper);
+        Set<ImmutableType> types = new LinkedHashSet<>();
+        if (prop == null) {
+            codec = objectCodec(type);
+            collectTypes(type, types);
+        } else if (prop.isAssociation(TargetLevel.ENTITY)) {
+            ImmutableProp targetIdProp = prop.getTargetType().getIdProp();
+            Codec idCodec = new NullableCodec(propCodec(targetIdProp));
+            codec = prop.isReferenceList(TargetLevel.OBJECT) ? new ListCodec(idCodec) : idCodec;
+            if (targetIdProp.getTargetType() != null) {
+                collectTypes(targetIdProp.getTargetType(), types);
+            }
+        } else {
+            codec = propCodec(prop);
+            if (prop.getTargetType() != null) {
+                collectTypes(prop.getTargetType(), types);
+            }
+        }
+        hasObjects = !types.isEmpty();
+        fingerprint = fingerprint(prop, types);
+    }
+
+    @Override
+    protected byte[] serializeValue(@NotNull T value) throws IOException {
+        Output out = new Output();
+        out.writeByte(FORMAT_VERSION);
+        out.writeFixedInt(fingerprint);
+        codec.write(out, value);
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected T deserializeValue(@NotNull byte[] value, DraftContext ctx) throws IOException {
+        if (ctx == null && hasObjects) {
+            return Internal.requiresNewDraftContext(newCtx -> {
+                try {
+                    return (T) read(value, newCtx);
+                } catch (IOException ex) {
+                    throw new SerializationException(ex);
+                }
+            });
+        }
+        return (T) read(value, ctx);
+    }
+
+    private Object read(byte[] value, DraftContext ctx) throws IOException {
+        if (!isCompatible(value)) {
+            throw new SerializationException(
+                    "The bytes cannot be deserialized by \"" + getClass().getName() + "\""
+            );
+        }
+        Input in = new Input(value, HEADER_SIZE);
+        Object result;
+        try {
+            result = codec.read(in, ctx);
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            // For example, unknown enum name or illegal zone id
+            throw new SerializationException(ex);
+        }
+        if (in.remaining() != 0) {
+            throw new SerializationException(
+                    "The bytes are corrupted, there are " +
+                            in.remaining() +
+                            " unexpected trailing byte(s)"
+            );
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean isCompatible(@NotNull byte[] value) {
+        return value.length >= HEADER_SIZE &&
+                value[0] == FORMAT_VERSION &&
+                new Input(value, 1).readFixedInt() == fingerprint;
+    }
+
+    private ObjectCodec objectCodec(ImmutableType type) {
+        ObjectCodec objectCodec = objectCodecMap.get(type);
+        if (objectCodec == null) {
+            // Property codecs are created lazily, so recursive types are supported
+            objectCodec = new ObjectCodec(type);
+            ObjectCodec existingCodec = objectCodecMap.putIfAbsent(type, objectCodec);
+            if (existingCodec != null) {
+                objectCodec = existingCodec;
+            }
+        }
+        return objectCodec;
+    }
+
+    private Codec propCodec(ImmutableProp prop) {
+        Codec elementCodec;
+        if (prop.getTargetType() != null) {
+            elementCodec = objectCodec(prop.getTargetType());
+        } else {
+            elementCodec = scalarCodec(prop.getElementClass(), prop.isScalarList() ? null : prop.getGenericType());
+        }
+        if (prop.isReferenceList(TargetLevel.OBJECT) || prop.isScalarList()) {
+            return new ListCodec(new NullableCodec(elementCodec));
+        }
+        return elementCodec;
+    }
+
+    private Codec scalarCodec(Class<?> type, Type genericType) {
+        Codec codec = SCALAR_CODEC_MAP.get(type);
+        if (codec != null) {
+            return codec;
+        }
+        if (type.isEnum()) {
+            return new EnumCodec(type);
+        }
+        ObjectMapper mapper = getObjectMapper();
+        return new JsonCodec(
+                mapper,
+                mapper.getTypeFactory().constructType(genericType != null ? genericType : type)
+        );
+    }
+
+    private static void collectTypes(ImmutableType type, Set<ImmutableType> types) {
+        if (!types.add(type)) {
+            return;
+        }
+        for (ImmutableProp prop : type.getProps().values()) {
+            if (prop.isMutable() && prop.getTargetType() != null) {
+                collectTypes(prop.getTargetType(), types);
+            }
+        }
+    }
+
+    private static int fingerprint(ImmutableProp prop, Set<ImmutableType> types) {
+        StringBuilder builder = new StringBuilder();
+        if (prop != null) {
+            builder.append(prop).append(':').append(prop.getElementClass().getName()).append(';');
+            if (prop.isAssociation(TargetLevel.ENTITY)) {
+                builder.append(prop.getTargetType().getIdProp().getElementClass().getName()).append(';');
+            }
+        }
+        for (ImmutableType type : types) {
+            builder.append(type).append('{');
+            for (ImmutableProp typeProp : type.getProps().values()) {
+                if (typeProp.isMutable()) {
+                    builder
+                            .append(typeProp.getName())
+                            .append(':')
+                            .append(typeProp.getElementClass().getName())
+                            .append(typeProp.isReferenceList(TargetLevel.OBJECT) || typeProp.isScalarList() ? "[]" : "")
+                            .append(';');
+                }
+            }
+            builder.append('}');
+        }
+        return builder.toString().hashCode();
+    }
+
+    private interface Codec {
+
+        void write(Output out, Object value) throws IOException;
+
+        Object read(Input in, DraftContext ctx) throws IOException;
+    }
+
+    private class ObjectCodec implements Codec {
+
+        private final ImmutableType type;
+
+        private volatile PropCodec[] propCodecs;
+
+        ObjectCodec(ImmutableType type) {
+            this.type = type;
+        }
+
+        @Override
+        public void write(Output out, Object value) throws IOException {
+            ImmutableSpi spi = (ImmutableSpi) value;
+            PropCodec[] propCodecs = propCodecs();
+            byte[] bitmap = new byte[(propCodecs.length + 7) / 8];
+            for (int i = 0; i < propCodecs.length; i++) {
+                PropId propId = propCodecs[i].propId;
+                if (spi.__isLoaded(propId) && spi.__isVisible(propId)) {
+                    bitmap[i >> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            out.writeRawBytes(bitmap);
+            for (int i = 0; i < propCodecs.length; i++) {
+                if ((bitmap[i >> 3] & (1 << (i & 7))) != 0) {
+                    PropCodec propCodec = propCodecs[i];
+                    propCodec.codec.write(out, spi.__get(propCodec.propId));
+                }
+            }
+        }
+
+        @Override
+        public Object read(Input in, DraftContext ctx) throws IOException {
+            PropCodec[] propCodecs = propCodecs();
+            byte[] bitmap = in.readRawBytes((propCodecs.length + 7) / 8);
+            DraftSpi draft = (DraftSpi) type.getDraftFactory().apply(ctx, null);
+            for (PropCodec propCodec : propCodecs) {
+                if (propCodec.hiddenByDefault) {
+                    draft.__show(propCodec.propId, false);
+                }
+            }
+            for (int i = 0; i < propCodecs.length; i++) {
+                if ((bitmap[i >> 3] & (1 << (i & 7))) != 0) {
+                    PropCodec propCodec = propCodecs[i];
+                    draft.__set(propCodec.propId, propCodec.codec.read(in, ctx));
+                    draft.__show(propCodec.propId, true);
+                }
+            }
+            return ctx.resolveObject(draft);
+        }
+
+        private PropCodec[] propCodecs() {
+            PropCodec[] propCodecs = this.propCodecs;
+            if (propCodecs == null) {
+                List<PropCodec> list = new ArrayList<>();
+                for (ImmutableProp prop : type.getProps().values()) {
+                    if (prop.isMutable()) {
+                        list.add(new PropCodec(prop, new NullableCodec(propCodec(prop))));
+                    }
+                }
+                this.propCodecs = propCodecs = list.toArray(new PropCodec[0]);
+            }
+            return propCodecs;
+        }
+    }
+
+    private static class PropCodec {
+
+        final PropId propId;
+
+        final boolean hiddenByDefault;
+
+        final Codec codec;
+
+        PropCodec(ImmutableProp prop, Codec codec) {
+            this.propId = prop.getId();
+            this.hiddenByDefault = !prop.getPropsDependOnSelf().isEmpty();
+            this.codec = codec;
+        }
+    }
+
+    private static class NullableCodec implements Codec {
+
+        private final Codec codec;
+
+        NullableCodec(Codec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public void write(Output out, Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(1);
+                codec.write(out, value);
+            }
+        }
+
+        @Override
+        public Object read(Input in, DraftContext ctx) throws IOException {
+            if (in.readByte() == 0) {
+                return null;
+            }
+            return codec.read(in, ctx);
+        }
+    }
+
+    private static class ListCodec implements Codec {
+
+        private final Codec elementCodec;
+
+        ListCodec(Codec elementCodec) {
+            this.elementCodec = elementCodec;
+        }
+
+        @Override
+        public void write(Output out, Object value) throws IOException {
+            List<?> list = (List<?>) value;
+            out.writeVarLong(list.size());
+            for (Object element : list) {
+                elementCodec.write(out, element);
+            }
+        }
+
+        @Override
+        public Object read(Input in, DraftContext ctx) throws IOException {
+            // Each element takes one byte at least
+            int size = in.readLength();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(elementCodec.read(in, ctx));
+            }
+            return list;
+        }
+    }
+
+    private static class EnumCodec implements Codec {
+
+        private final Class<?> enumType;
+
+        EnumCodec(Class<?> enumType) {
+            this.enumType = enumType;
+        }
+
+        @Override
+        public void write(Output out, Object value) {
+            out.writeString(((Enum<?>) value).name());
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public Object read(Input in, DraftContext ctx) {
+            return Enum.valueOf((Class<Enum>) enumType, in.readString());
+        }
+    }
+
+    private static class JsonCodec implements Codec {
+
+        private final ObjectMapper mapper;
+
+        private final JavaType javaType;
+
+        JsonCodec(ObjectMapper mapper, JavaType javaType) {
+            this.mapper = mapper;
+            this.javaType = javaType;
+        }
+
+        @Override
+        public void write(Output out, Object value) throws IOException {
+            out.writeBytes(mapper.writeValueAsBytes(value));
+        }
+
+        @Override
+        public Object read(Input in, DraftContext ctx) throws IOException {
+            return mapper.readValue(in.readBytes(), javaType);
+        }
+    }
+
+    private static abstract class SimpleCodec implements Codec {
+
+        @Override
+        public final void write(Output out, Object value) {
+            write0(out, value);
+        }
+
+        @Override
+        public final Object read(Input in, DraftContext ctx) {
+            return read0(in);
+        }
+
+        abstract void write0(Output out, Object value);
+
+        abstract Object read0(Input in);
+    }
+
+    private static void addCodec(Map<Class<?>, Codec> map, Codec codec, Class<?> ... types) {
+        for (Class<?> type : types) {
+            map.put(type, codec);
+        }
+    }
+
+    static {
+        Map<Class<?>, Codec> map = new HashMap<>();
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeByte((Boolean) value ? 1 : 0); }
+            Object read0(Input in) { return in.readByte() != 0; }
+        }, boolean.class, Boolean.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeByte((Byte) value); }
+            Object read0(Input in) { return in.readByte(); }
+        }, byte.class, Byte.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong((Short) value); }
+            Object read0(Input in) { return (short) in.readSignedVarLong(); }
+        }, short.class, Short.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong((Integer) value); }
+            Object read0(Input in) { return (int) in.readSignedVarLong(); }
+        }, int.class, Integer.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong((Long) value); }
+            Object read0(Input in) { return in.readSignedVarLong(); }
+        }, long.class, Long.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeFixedInt(Float.floatToIntBits((Float) value)); }
+            Object read0(Input in) { return Float.intBitsToFloat(in.readFixedInt()); }
+        }, float.class, Float.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeFixedLong(Double.doubleToLongBits((Double) value)); }
+            Object read0(Input in) { return Double.longBitsToDouble(in.readFixedLong()); }
+        }, double.class, Double.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeVarLong((Character) value); }
+            Object read0(Input in) { return (char) in.readVarLong(); }
+        }, char.class, Character.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeString((String) value); }
+            Object read0(Input in) { return in.readString(); }
+        }, String.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeBytes((byte[]) value); }
+            Object read0(Input in) { return in.readBytes(); }
+        }, byte[].class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeBytes(((BigInteger) value).toByteArray()); }
+            Object read0(Input in) { return new BigInteger(in.readBytes()); }
+        }, BigInteger.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeSignedVarLong(decimal.scale());
+                out.writeBytes(decimal.unscaledValue().toByteArray());
+            }
+            Object read0(Input in) {
+                int scale = (int) in.readSignedVarLong();
+                return new BigDecimal(new BigInteger(in.readBytes()), scale);
+            }
+        }, BigDecimal.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                UUID uuid = (UUID) value;
+                out.writeFixedLong(uuid.getMostSignificantBits());
+                out.writeFixedLong(uuid.getLeastSignificantBits());
+            }
+            Object read0(Input in) { return new UUID(in.readFixedLong(), in.readFixedLong()); }
+        }, UUID.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong(((java.util.Date) value).getTime()); }
+            Object read0(Input in) { return new java.util.Date(in.readSignedVarLong()); }
+        }, java.util.Date.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong(((java.sql.Date) value).getTime()); }
+            Object read0(Input in) { return new java.sql.Date(in.readSignedVarLong()); }
+        }, java.sql.Date.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong(((java.sql.Time) value).getTime()); }
+            Object read0(Input in) { return new java.sql.Time(in.readSignedVarLong()); }
+        }, java.sql.Time.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+                out.writeSignedVarLong(timestamp.getTime());
+                out.writeVarLong(timestamp.getNanos());
+            }
+            Object read0(Input in) {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readSignedVarLong());
+                timestamp.setNanos((int) in.readVarLong());
+                return timestamp;
+            }
+        }, java.sql.Timestamp.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                Instant instant = (Instant) value;
+                out.writeSignedVarLong(instant.getEpochSecond());
+                out.writeVarLong(instant.getNano());
+            }
+            Object read0(Input in) { return Instant.ofEpochSecond(in.readSignedVarLong(), in.readVarLong()); }
+        }, Instant.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeSignedVarLong(((LocalDate) value).toEpochDay()); }
+            Object read0(Input in) { return LocalDate.ofEpochDay(in.readSignedVarLong()); }
+        }, LocalDate.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { out.writeVarLong(((LocalTime) value).toNanoOfDay()); }
+            Object read0(Input in) { return LocalTime.ofNanoOfDay(in.readVarLong()); }
+        }, LocalTime.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) { writeLocalDateTime(out, (LocalDateTime) value); }
+            Object read0(Input in) { return readLocalDateTime(in); }
+        }, LocalDateTime.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                OffsetDateTime dateTime = (OffsetDateTime) value;
+                writeLocalDateTime(out, dateTime.toLocalDateTime());
+                out.writeSignedVarLong(dateTime.getOffset().getTotalSeconds());
+            }
+            Object read0(Input in) {
+                LocalDateTime localDateTime = readLocalDateTime(in);
+                return OffsetDateTime.of(
+                        localDateTime,
+                        ZoneOffset.ofTotalSeconds((int) in.readSignedVarLong())
+                );
+            }
+        }, OffsetDateTime.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                ZonedDateTime dateTime = (ZonedDateTime) value;
+                writeLocalDateTime(out, dateTime.toLocalDateTime());
+                out.writeSignedVarLong(dateTime.getOffset().getTotalSeconds());
+                out.writeString(dateTime.getZone().getId());
+            }
+            Object read0(Input in) {
+                LocalDateTime localDateTime = readLocalDateTime(in);
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) in.readSignedVarLong());
+                return ZonedDateTime.ofLocal(localDateTime, ZoneId.of(in.readString()), offset);
+            }
+        }, ZonedDateTime.class);
+        addCodec(map, new SimpleCodec() {
+            void write0(Output out, Object value) {
+                Duration duration = (Duration) value;
+                out.writeSignedVarLong(duration.getSeconds());
+                out.writeVarLong(duration.getNano());
+            }
+            Object read0(Input in) { return Duration.ofSeconds(in.readSignedVarLong(), in.readVarLong()); }
+        }, Duration.class);
+        SCALAR_CODEC_MAP = map;
+    }
+
+    private static void writeLocalDateTime(Output out, LocalDateTime dateTime) {
+        out.writeSignedVarLong(dateTime.toLocalDate().toEpochDay());
+        out.writeVarLong(dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime readLocalDateTime(Input in) {
+        LocalDate date = LocalDate.ofEpochDay(in.readSignedVarLong());
+        LocalTime time = LocalTime.ofNanoOfDay(in.readVarLong());
+        return LocalDateTime.of(date, time);
+    }
+
+    private static class Output {
+
+        private byte[] buf = new byte[64];
+
+        private int size;
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buf[size++] = (byte) b;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[size++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeFixedInt(int value) {
+            ensureCapacity(4);
+            buf[size++] = (byte) (value >>> 24);
+            buf[size++] = (byte) (value >>> 16);
+            buf[size++] = (byte) (value >>> 8);
+            buf[size++] = (byte) value;
+        }
+
+        void writeFixedLong(long value) {
+            writeFixedInt((int) (value >>> 32));
+            writeFixedInt((int) value);
+        }
+
+        void writeRawBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            writeRawBytes(bytes);
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensureCapacity(int count) {
+            if (size + count > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + count));
+            }
+        }
+    }
+
+    private static class Input {
+
+        private final byte[] buf;
+
+        private int pos;
+
+        Input(byte[] buf, int pos) {
+            this.buf = buf;
+            this.pos = pos;
+        }
+
+        int remaining() {
+            return buf.length - pos;
+        }
+
+        byte readByte() {
+            require(1);
+            return buf[pos++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (shift > 63) {
+                    throw new SerializationException("The bytes are corrupted, the variable-length integer is too long");
+                }
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readFixedInt() {
+            require(4);
+            return ((buf[pos++] & 0xFF) << 24) |
+                    ((buf[pos++] & 0xFF) << 16) |
+                    ((buf[pos++] & 0xFF) << 8) |
+                    (buf[pos++] & 0xFF);
+        }
+
+        long readFixedLong() {
+            long high = readFixedInt();
+            long low = readFixedInt();
+            return (high << 32) | (low & 0xFFFFFFFFL);
+        }
+
+        byte[] readRawBytes(int count) {
+            require(count);
+            byte[] bytes = Arrays.copyOfRange(buf, pos, pos + count);
+            pos += count;
+            return bytes;
+        }
+
+        byte[] readBytes() {
+            return readRawBytes(readLength());
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        /**
+         * Read a length which cannot exceed the remaining bytes
+         */
+        int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > remaining()) {
+                throw new SerializationException(
+                        "The bytes are corrupted, the length " +
+                                length +
+                                " exceeds the remaining " +
+                                remaining() +
+                                " byte(s)"
+                );
+            }
+            return (int) length;
+        }
+
+        private void require(int count) {
+            if (count > remaining()) {
+                throw new SerializationException(
+                        "The bytes are truncated, " +
+                                count +
+                                " byte(s) are required at position " +
+                                pos +
+                                " but only " +
+                                remaining() +
+                                " byte(s) remain"
+                );
+            }
+        }
+    }
+}
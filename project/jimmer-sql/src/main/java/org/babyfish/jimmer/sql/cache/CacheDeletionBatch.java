@@ -0,0 +1,79 @@
+package org.babyfish.jimmer.sql.cache;
+
+import java.util.*;
+
+/**
+ * Collects the keys deleted from located caches by the current thread,
+ * see {@link Caches#batchDeleting(Runnable)}.
+ */
+class CacheDeletionBatch {
+
+    private static final ThreadLocal<CacheDeletionBatch> LOCAL = new ThreadLocal<>();
+
+    private final Map<LocatedCacheImpl<?, ?>, Map<Object, Set<Object>>> keyMultiMap =
+            new LinkedHashMap<>();
+
+    private CacheDeletionBatch() {}
+
+    static CacheDeletionBatch current() {
+        return LOCAL.get();
+    }
+
+    static void execute(Runnable block) {
+        if (LOCAL.get() != null) {
+            block.run();
+            return;
+        }
+        CacheDeletionBatch batch = new CacheDeletionBatch();
+        LOCAL.set(batch);
+        Throwable error = null;
+        try {
+            block.run();
+        } catch (RuntimeException | Error ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            LOCAL.remove();
+            // The changes have been applied to the database,
+            // so the collected keys are always deleted
+            try {
+                batch.flush();
+            } catch (RuntimeException | Error ex) {
+                if (error == null) {
+                    throw ex;
+                }
+                error.addSuppressed(ex);
+            }
+        }
+    }
+
+    void add(LocatedCacheImpl<?, ?> cache, Collection<?> keys, Object reason) {
+        keyMultiMap
+                .computeIfAbsent(cache, it -> new LinkedHashMap<>())
+                .computeIfAbsent(reason, it -> new LinkedHashSet<>())
+                .addAll(keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        Throwable throwable = null;
+        for (Map.Entry<LocatedCacheImpl<?, ?>, Map<Object, Set<Object>>> e : keyMultiMap.entrySet()) {
+            LocatedCacheImpl<Object, ?> cache = (LocatedCacheImpl<Object, ?>) e.getKey();
+            for (Map.Entry<Object, Set<Object>> reasonEntry : e.getValue().entrySet()) {
+                try {
+                    cache.deleteAllImmediately(reasonEntry.getValue(), reasonEntry.getKey());
+                } catch (RuntimeException | Error ex) {
+                    if (throwable == null) {
+                        throwable = ex;
+                    }
+                }
+            }
+        }
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable != null) {
+            throw (Error) throwable;
+        }
+    }
+}
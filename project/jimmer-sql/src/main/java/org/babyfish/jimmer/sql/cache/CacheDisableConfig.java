@@ -49,4 +49,32 @@ public class CacheDisableConfig {
     Set<ImmutableProp> getDisabledProps() {
         return disabledProps;
     }
+
+    /*
+     * The configurations are compared so that
+     * the derived sql clients with same configuration can be shared
+     */
+    @Override
+    public int hashCode() {
+        if (disableAll) {
+            return 1;
+        }
+        return 31 * disabledTypes.hashCode() + disabledProps.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheDisableConfig other = (CacheDisableConfig) o;
+        if (disableAll || other.disableAll) {
+            return disableAll == other.disableAll;
+        }
+        return disabledTypes.equals(other.disabledTypes) &&
+                disabledProps.equals(other.disabledProps);
+    }
 }
@@ -22,4 +22,18 @@ public interface Caches {
     CacheAbandonedCallback getAbandonedCallback();
 
     boolean isAffectedBy(DatabaseEvent e);
+
+    /**
+     * Execute the block in batch deleting mode of current thread.
+     *
+     * <p>The keys deleted from the caches returned by {@link #getObjectCache(ImmutableType)}
+     * and {@link #getPropertyCache(ImmutableProp)} are not deleted immediately,
+     * they are collected and deduplicated, and each cache is deleted only once
+     * by all the collected keys (once per reason) after the block is executed.</p>
+     *
+     * <p>Nested calls share the batch of the outermost call.</p>
+     */
+    static void batchDeleting(Runnable block) {
+        CacheDeletionBatch.execute(block);
+    }
 }
@@ -131,49 +131,51 @@ class LocatedCacheImpl<K, V> implements LocatedCache<K, V> {
         });
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void delete(@NotNull K key) {
-        if (operator == null || CacheOperator.isSuspending()) {
-            raw.delete(key);
-        } else {
-            operator.delete((LocatedCache<Object, ?>) this, key, null);
-        }
+        delete(key, null);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public void delete(@NotNull K key, Object reason) {
-        if (operator == null || CacheOperator.isSuspending()) {
+        CacheDeletionBatch batch = CacheDeletionBatch.current();
+        if (batch != null) {
+            batch.add(this, Collections.singleton(key), reason);
+        } else if (operator == null || CacheOperator.isSuspending()) {
             raw.delete(key, reason);
         } else {
             operator.delete((LocatedCache<Object, ?>) this, key, reason);
         }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void deleteAll(@NotNull Collection<K> keys) {
+        deleteAll(keys, null);
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<K> keys, @Nullable Object reason) {
         if (keys.isEmpty()) {
             return;
         }
-        if (keys.size() == 1) {
-            delete(keys.iterator().next());
-        } else if (operator == null || CacheOperator.isSuspending()) {
-            raw.deleteAll(keys);
+        CacheDeletionBatch batch = CacheDeletionBatch.current();
+        if (batch != null) {
+            batch.add(this, keys, reason);
         } else {
-            operator.deleteAll((LocatedCache<Object, ?>) this, (Collection<Object>) keys, null);
+            deleteAllImmediately(keys, reason);
         }
     }
 
     @SuppressWarnings("unchecked")
-    @Override
-    public void deleteAll(@NotNull Collection<K> keys, @Nullable Object reason) {
-        if (keys.isEmpty()) {
-            return;
-        }
+    void deleteAllImmediately(@NotNull Collection<K> keys, @Nullable Object reason) {
         if (keys.size() == 1) {
-            delete(keys.iterator().next(), reason);
+            K key = keys.iterator().next();
+            if (operator == null || CacheOperator.isSuspending()) {
+                raw.delete(key, reason);
+            } else {
+                operator.delete((LocatedCache<Object, ?>) this, key, reason);
+            }
         } else if (operator == null || CacheOperator.isSuspending()) {
             raw.deleteAll(keys, reason);
         } else {
@@ -1,6 +1,5 @@
 package org.babyfish.jimmer.sql.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
@@ -23,6 +22,8 @@ public class ValueSerializer<T> {
 
     private static final byte[] NULL_BYTES = "<null>".getBytes(StandardCharsets.UTF_8);
 
+    private static final Object SKIPPED = new Object();
+
     private final ObjectMapper mapper;
 
     private final JavaType valueType;
@@ -45,7 +46,7 @@ public class ValueSerializer<T> {
         this(null, prop, mapper);
     }
 
-    private ValueSerializer(ImmutableType type, ImmutableProp prop, ObjectMapper mapper) {
+    protected ValueSerializer(ImmutableType type, ImmutableProp prop, ObjectMapper mapper) {
         if ((type == null) == (prop == null)) {
             throw new IllegalArgumentException("Internal bug: nullity of type and prop must be different");
         }
@@ -84,8 +85,8 @@ public class ValueSerializer<T> {
             return NULL_BYTES.clone();
         }
         try {
-            return mapper.writeValueAsBytes(value);
-        } catch (JsonProcessingException ex) {
+            return serializeValue(value);
+        } catch (IOException ex) {
             throw new SerializationException(ex);
         }
     }
@@ -115,17 +116,24 @@ public class ValueSerializer<T> {
         return Internal.requiresNewDraftContext(ctx -> deserializeImpl(value, ctx));
     }
 
+    @SuppressWarnings("unchecked")
     @NotNull
     public <K> Map<K, T> deserialize(@NotNull Map<K, byte[]> map) {
         Map<K, T> deserializedMap = new LinkedHashMap<>((map.size() * 4 + 2) / 3);
         if (!requireNewDraftContext) {
             for (Map.Entry<K, byte[]> e : map.entrySet()) {
-                deserializedMap.put(e.getKey(), deserializeImpl(e.getValue(), null));
+                Object deserializedValue = deserializeEntry(e.getValue(), null);
+                if (deserializedValue != SKIPPED) {
+                    deserializedMap.put(e.getKey(), (T) deserializedValue);
+                }
             }
         } else {
             Internal.requiresNewDraftContext(ctx -> {
                 for (Map.Entry<K, byte[]> e : map.entrySet()) {
-                    deserializedMap.put(e.getKey(), deserializeImpl(e.getValue(), ctx));
+                    Object deserializedValue = deserializeEntry(e.getValue(), ctx);
+                    if (deserializedValue != SKIPPED) {
+                        deserializedMap.put(e.getKey(), (T) deserializedValue);
+                    }
                 }
                 return null;
             });
@@ -133,17 +141,24 @@ public class ValueSerializer<T> {
         return deserializedMap;
     }
 
+    @SuppressWarnings("unchecked")
     @NotNull
     public <K1, K2> Map<K2, T> deserialize(@NotNull Map<K1, byte[]> map, @NotNull Function<K1, K2> keyMapper) {
         Map<K2, T> deserializedMap = new LinkedHashMap<>((map.size() * 4 + 2) / 3);
         if (!requireNewDraftContext) {
             for (Map.Entry<K1, byte[]> e : map.entrySet()) {
-                deserializedMap.put(keyMapper.apply(e.getKey()), deserializeImpl(e.getValue(), null));
+                Object deserializedValue = deserializeEntry(e.getValue(), null);
+                if (deserializedValue != SKIPPED) {
+                    deserializedMap.put(keyMapper.apply(e.getKey()), (T) deserializedValue);
+                }
             }
         } else {
             Internal.requiresNewDraftContext(ctx -> {
                 for (Map.Entry<K1, byte[]> e : map.entrySet()) {
-                    deserializedMap.put(keyMapper.apply(e.getKey()), deserializeImpl(e.getValue(), ctx));
+                    Object deserializedValue = deserializeEntry(e.getValue(), ctx);
+                    if (deserializedValue != SKIPPED) {
+                        deserializedMap.put(keyMapper.apply(e.getKey()), (T) deserializedValue);
+                    }
                 }
                 return null;
             });
@@ -151,6 +166,7 @@ public class ValueSerializer<T> {
         return deserializedMap;
     }
 
+    @SuppressWarnings("unchecked")
     @NotNull
     public <K> Map<K, T> deserialize(@NotNull Collection<K> keys, @NotNull Collection<byte[]> values) {
         Map<K, T> deserializedMap = new LinkedHashMap<>((keys.size() * 4 + 2) / 3);
@@ -160,8 +176,9 @@ public class ValueSerializer<T> {
             while (keyItr.hasNext() && byteArrItr.hasNext()) {
                 K key = keyItr.next();
                 byte[] byteArr = byteArrItr.next();
-                if (byteArr != null) {
-                    deserializedMap.put(key, deserializeImpl(byteArr, null));
+                Object deserializedValue = byteArr != null ? deserializeEntry(byteArr, null) : SKIPPED;
+                if (deserializedValue != SKIPPED) {
+                    deserializedMap.put(key, (T) deserializedValue);
                 }
             }
         } else {
@@ -171,8 +188,9 @@ public class ValueSerializer<T> {
                 while (keyItr.hasNext() && byteArrItr.hasNext()) {
                     K key = keyItr.next();
                     byte[] byteArr = byteArrItr.next();
-                    if (byteArr != null) {
-                        deserializedMap.put(key, deserializeImpl(byteArr, ctx));
+                    Object deserializedValue = byteArr != null ? deserializeEntry(byteArr, ctx) : SKIPPED;
+                    if (deserializedValue != SKIPPED) {
+                        deserializedMap.put(key, (T) deserializedValue);
                     }
                 }
                 return null;
@@ -181,13 +199,70 @@ public class ValueSerializer<T> {
         return deserializedMap;
     }
 
+    /**
+     * Serialize non-null value, the default format is JSON
+     */
+    protected byte[] serializeValue(@NotNull T value) throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    /**
+     * Deserialize the bytes of non-null value
+     *
+     * <p>Corrupted bytes must be reported by {@link IOException} or {@link SerializationException},
+     * {@link #deserialize(byte[])} throws it and the overloads for maps skip the entry.</p>
+     *
+     * @param value The bytes accepted by {@link #isCompatible(byte[])}
+     * @param ctx The draft context if the value is entity object, otherwise null
+     */
+    protected T deserializeValue(@NotNull byte[] value, DraftContext ctx) throws IOException {
+        return mapper.readValue(value, valueType);
+    }
+
+    /**
+     * Whether the bytes of non-null value can be deserialized by current serializer.
+     *
+     * <p>The bytes which cannot be accepted are considered as cache missing,
+     * for example, bytes written by an old version of the application.</p>
+     */
+    protected boolean isCompatible(@NotNull byte[] value) {
+        return true;
+    }
+
+    protected final ObjectMapper getObjectMapper() {
+        return mapper;
+    }
+
+    private boolean isAcceptable(byte[] value) {
+        return value == null || value.length == 0 || Arrays.equals(value, NULL_BYTES) || isCompatible(value);
+    }
+
+    /**
+     * Incompatible or corrupted bytes of an entry are considered as cache missing
+     */
+    private Object deserializeEntry(byte[] value, DraftContext ctx) {
+        if (!isAcceptable(value)) {
+            return SKIPPED;
+        }
+        try {
+            return deserializeImpl(value, ctx);
+        } catch (SerializationException ex) {
+            return SKIPPED;
+        }
+    }
+
     private T deserializeImpl(byte[] value, DraftContext ctx) {
         if (value == null || value.length == 0 || Arrays.equals(value, NULL_BYTES)) {
             return null;
         }
+        if (!isCompatible(value)) {
+            throw new SerializationException(
+                    "The bytes cannot be deserialized by \"" + getClass().getName() + "\""
+            );
+        }
         T deserializedValue;
         try {
-            deserializedValue = mapper.readValue(value, valueType);
+            deserializedValue = deserializeValue(value, ctx);
         } catch (IOException ex) {
             throw new SerializationException(ex);
         }
@@ -11,6 +11,10 @@ public class ChainCacheBuilder<K, V> {
 
     private Boolean hasParameterizedBinder = null;
 
+    private boolean coalescing;
+
+    private CoalescingStatistics coalescingStatistics;
+
     public ChainCacheBuilder<K, V> add(LoadingBinder<K, V> binder) {
         if (binder != null) {
             if (Boolean.TRUE.equals(hasParameterizedBinder)) {
@@ -51,14 +55,37 @@ public class ChainCacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Coalesce the concurrent loading of same keys from the final data source,
+     * when several threads miss the same keys at the same time, only one of them
+     * loads those keys and the others share its result.
+     */
+    public ChainCacheBuilder<K, V> coalesce() {
+        return coalesce(null);
+    }
+
+    /**
+     * Coalesce the concurrent loading of same keys from the final data source,
+     * when several threads miss the same keys at the same time, only one of them
+     * loads those keys and the others share its result.
+     *
+     * @param statistics Optional statistics to record loaded and coalesced keys
+     */
+    public ChainCacheBuilder<K, V> coalesce(CoalescingStatistics statistics) {
+        this.coalescing = true;
+        this.coalescingStatistics = statistics;
+        return this;
+    }
+
     public Cache<K, V> build() {
         List<Object> binders = this.binders;
         if (binders.isEmpty()) {
             return null;
         }
+        LoadingCoalescer<K, V> coalescer = coalescing ? new LoadingCoalescer<>(coalescingStatistics) : null;
         if (hasParameterizedBinder) {
-            return new ParameterizedChainCacheImpl<>(binders);
+            return new ParameterizedChainCacheImpl<>(binders, coalescer);
         }
-        return new ChainCacheImpl<>(binders);
+        return new ChainCacheImpl<>(binders, coalescer);
     }
 }
@@ -15,12 +15,11 @@ class ChainCacheImpl<K, V> implements Cache<K, V> {
 
     protected final Node<K, V> node;
 
-    @SuppressWarnings("unchecked")
-    public ChainCacheImpl(List<Object> binders) {
+    public ChainCacheImpl(List<Object> binders, LoadingCoalescer<K, V> coalescer) {
         if (binders.isEmpty()) {
             throw new IllegalArgumentException("binders cannot be empty");
         }
-        Node<K, V> node = this.createTailNode();
+        Node<K, V> node = this.createTailNode(coalescer);
         ListIterator<Object> itr = binders.listIterator(binders.size());
         while (itr.hasPrevious()) {
             Object binder = itr.previous();
@@ -48,8 +47,8 @@ class ChainCacheImpl<K, V> implements Cache<K, V> {
         return new SimpleNode<>((SimpleBinder<K, V>) binder, next);
     }
 
-    protected TailNode<K, V> createTailNode() {
-        return new TailNode<>();
+    protected TailNode<K, V> createTailNode(LoadingCoalescer<K, V> coalescer) {
+        return new TailNode<>(coalescer);
     }
 
     protected interface Node<K, V> extends CacheChain<K, V> {
@@ -127,10 +126,19 @@ class ChainCacheImpl<K, V> implements Cache<K, V> {
 
     protected static class TailNode<K, V> implements Node<K, V> {
 
+        protected final LoadingCoalescer<K, V> coalescer;
+
+        protected TailNode(LoadingCoalescer<K, V> coalescer) {
+            this.coalescer = coalescer;
+        }
+
         @NotNull
         @Override
         public Map<K, V> loadAll(@NotNull Collection<K> keys) {
             CacheLoader<K, V> loader = currentCacheLoader();
+            if (coalescer != null) {
+                return coalescer.loadAll(keys, null, loader);
+            }
             return loader.loadAll(keys);
         }
 
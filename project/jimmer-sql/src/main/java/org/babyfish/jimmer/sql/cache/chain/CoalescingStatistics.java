@@ -0,0 +1,47 @@
+package org.babyfish.jimmer.sql.cache.chain;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the chain caches whose loading is coalesced,
+ * one object can be shared by several caches.
+ *
+ * @see ChainCacheBuilder#coalesce(CoalescingStatistics)
+ */
+public class CoalescingStatistics {
+
+    private final LongAdder loadedKeyCount = new LongAdder();
+
+    private final LongAdder coalescedKeyCount = new LongAdder();
+
+    /**
+     * @return The count of keys loaded from the final data source.
+     */
+    public long getLoadedKeyCount() {
+        return loadedKeyCount.sum();
+    }
+
+    /**
+     * @return The count of keys which were being loaded by other threads,
+     * so that their results are shared rather than loaded again.
+     */
+    public long getCoalescedKeyCount() {
+        return coalescedKeyCount.sum();
+    }
+
+    void loaded(int count) {
+        loadedKeyCount.add(count);
+    }
+
+    void coalesced(int count) {
+        coalescedKeyCount.add(count);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingStatistics{" +
+                "loadedKeyCount=" + getLoadedKeyCount() +
+                ", coalescedKeyCount=" + getCoalescedKeyCount() +
+                '}';
+    }
+}
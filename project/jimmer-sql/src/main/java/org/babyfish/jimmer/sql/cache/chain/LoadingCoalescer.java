@@ -0,0 +1,160 @@
+package org.babyfish.jimmer.sql.cache.chain;
+
+import org.babyfish.jimmer.sql.cache.CacheLoader;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Deduplicates the in-flight loading of same keys across threads.
+ *
+ * <p>The first thread which misses a key loads it and the other
+ * threads which miss the same key at the same time wait for and
+ * share that result.</p>
+ *
+ * <p>A thread which is already loading never waits for other threads,
+ * otherwise, nested loading of different caches can cause deadlock.</p>
+ */
+class LoadingCoalescer<K, V> {
+
+    private static final Object MISSING = new Object();
+
+    private static final ThreadLocal<Boolean> LOADING_LOCAL = new ThreadLocal<>();
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> flightMap =
+            new ConcurrentHashMap<>();
+
+    private final CoalescingStatistics statistics;
+
+    LoadingCoalescer(CoalescingStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * @param discriminator Keys with different discriminators are never coalesced,
+     *                      for example, the parameter map of parameterized cache.
+     */
+    @SuppressWarnings("unchecked")
+    Map<K, V> loadAll(Collection<K> keys, Object discriminator, CacheLoader<K, V> loader) {
+        if (LOADING_LOCAL.get() != null) {
+            return load(keys, loader);
+        }
+        Map<K, CompletableFuture<Object>> ownedFutures = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> sharedFutures = new LinkedHashMap<>();
+        for (K key : keys) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> existingFuture =
+                    flightMap.putIfAbsent(flightKey(key, discriminator), future);
+            if (existingFuture == null) {
+                ownedFutures.put(key, future);
+            } else {
+                sharedFutures.put(key, existingFuture);
+            }
+        }
+        Map<K, V> map = new LinkedHashMap<>((keys.size() * 4 + 2) / 3);
+        if (!ownedFutures.isEmpty()) {
+            try {
+                Map<K, V> loadedMap = load(ownedFutures.keySet(), loader);
+                for (Map.Entry<K, CompletableFuture<Object>> e : ownedFutures.entrySet()) {
+                    K key = e.getKey();
+                    V value = loadedMap.get(key);
+                    if (value != null || loadedMap.containsKey(key)) {
+                        map.put(key, value);
+                        e.getValue().complete(value);
+                    } else {
+                        e.getValue().complete(MISSING);
+                    }
+                }
+            } catch (RuntimeException | Error ex) {
+                for (CompletableFuture<Object> future : ownedFutures.values()) {
+                    future.completeExceptionally(ex);
+                }
+                throw ex;
+            } finally {
+                for (Map.Entry<K, CompletableFuture<Object>> e : ownedFutures.entrySet()) {
+                    flightMap.remove(flightKey(e.getKey(), discriminator), e.getValue());
+                }
+            }
+            if (statistics != null) {
+                statistics.loaded(ownedFutures.size());
+            }
+        }
+        if (!sharedFutures.isEmpty()) {
+            Set<K> failedKeys = null;
+            for (Map.Entry<K, CompletableFuture<Object>> e : sharedFutures.entrySet()) {
+                Object value;
+                try {
+                    value = e.getValue().join();
+                } catch (CompletionException ex) {
+                    // The loading of other thread failed, maybe its transaction
+                    // has been rolled back, current thread loads it by itself.
+                    if (failedKeys == null) {
+                        failedKeys = new LinkedHashSet<>();
+                    }
+                    failedKeys.add(e.getKey());
+                    continue;
+                }
+                if (value != MISSING) {
+                    map.put(e.getKey(), (V) value);
+                }
+            }
+            if (statistics != null) {
+                statistics.coalesced(sharedFutures.size() - (failedKeys != null ? failedKeys.size() : 0));
+            }
+            if (failedKeys != null) {
+                map.putAll(load(failedKeys, loader));
+                if (statistics != null) {
+                    statistics.loaded(failedKeys.size());
+                }
+            }
+        }
+        return map;
+    }
+
+    private static <K, V> Map<K, V> load(Collection<K> keys, CacheLoader<K, V> loader) {
+        Boolean oldLoading = LOADING_LOCAL.get();
+        LOADING_LOCAL.set(Boolean.TRUE);
+        try {
+            return loader.loadAll(keys);
+        } finally {
+            if (oldLoading == null) {
+                LOADING_LOCAL.remove();
+            }
+        }
+    }
+
+    private static Object flightKey(Object key, Object discriminator) {
+        if (discriminator == null) {
+            return key;
+        }
+        return new FlightKey(key, discriminator);
+    }
+
+    private static class FlightKey {
+
+        private final Object key;
+
+        private final Object discriminator;
+
+        FlightKey(Object key, Object discriminator) {
+            this.key = key;
+            this.discriminator = discriminator;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) * 31 + discriminator.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FlightKey)) return false;
+            FlightKey other = (FlightKey) o;
+            return Objects.equals(key, other.key) && discriminator.equals(other.discriminator);
+        }
+    }
+}
@@ -9,8 +9,8 @@ import java.util.*;
 
 class ParameterizedChainCacheImpl<K, V> extends ChainCacheImpl<K, V> implements Cache.Parameterized<K, V> {
 
-    public ParameterizedChainCacheImpl(List<Object> binders) {
-        super(binders);
+    public ParameterizedChainCacheImpl(List<Object> binders, LoadingCoalescer<K, V> coalescer) {
+        super(binders, coalescer);
         boolean hasParameterizedBinder = false;
         for (Object binder : binders) {
             boolean isParameterizedBinder =
@@ -59,17 +59,24 @@ class ParameterizedChainCacheImpl<K, V> extends ChainCacheImpl<K, V> implements
     }
 
     @Override
-    protected TailNode<K, V> createTailNode() {
-        return new TailNode<>();
+    protected TailNode<K, V> createTailNode(LoadingCoalescer<K, V> coalescer) {
+        return new TailNode<>(coalescer);
     }
 
     protected interface ParameterizedNode<K, V> extends Node<K, V>, CacheChain.Parameterized<K, V> {}
 
     private static class TailNode<K, V> extends ChainCacheImpl.TailNode<K, V> implements ParameterizedNode<K, V> {
 
+        TailNode(LoadingCoalescer<K, V> coalescer) {
+            super(coalescer);
+        }
+
         @Override
         public @NotNull Map<K, V> loadAll(@NotNull Collection<K> keys, @NotNull SortedMap<String, Object> parameterMap) {
             CacheLoader<K, V> loader = currentCacheLoader();
+            if (coalescer != null) {
+                return coalescer.loadAll(keys, parameterMap.isEmpty() ? null : parameterMap, loader);
+            }
             return loader.loadAll(keys);
         }
     }
@@ -114,6 +121,7 @@ class ParameterizedChainCacheImpl<K, V> extends ChainCacheImpl<K, V> implements
             super(binder, next);
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public @NotNull Map<K, V> loadAll(
                 @NotNull Collection<K> keys,
@@ -129,7 +137,9 @@ class ParameterizedChainCacheImpl<K, V> extends ChainCacheImpl<K, V> implements
                         missedKeys.add(key);
                     }
                 }
-                Map<K, V> mapFromNext = next.loadAll(missedKeys);
+                Map<K, V> mapFromNext = next instanceof ParameterizedNode<?, ?> ?
+                        ((ParameterizedNode<K, V>) next).loadAll(missedKeys, parameterMap) :
+                        next.loadAll(missedKeys);
                 if (mapFromNext.size() < missedKeys.size()) {
                     mapFromNext = new HashMap<>(mapFromNext);
                     for (K missedKey : missedKeys) {
@@ -29,7 +29,8 @@ abstract class AbstractRemoteBinder<K, V> {
             ImmutableType type,
             ImmutableProp prop,
             Duration duration,
-            int randomPercent
+            int randomPercent,
+            ValueSerializer<V> valueSerializer
     ) {
         if (objectMapper != null) {
             if (!objectMapper.getRegisteredModuleIds().contains(ImmutableModule.class.getName())) {
@@ -55,10 +56,12 @@ abstract class AbstractRemoteBinder<K, V> {
         long millis = duration.toMillis();
         minMills = millis - randomPercent * millis / 100;
         maxMillis = millis + randomPercent * millis / 100;
-        if (type != null) {
-            valueSerializer = new ValueSerializer<>(type, objectMapper);
+        if (valueSerializer != null) {
+            this.valueSerializer = valueSerializer;
+        } else if (type != null) {
+            this.valueSerializer = new ValueSerializer<>(type, objectMapper);
         } else {
-            valueSerializer = new ValueSerializer<>(prop, objectMapper);
+            this.valueSerializer = new ValueSerializer<>(prop, objectMapper);
         }
     }
 
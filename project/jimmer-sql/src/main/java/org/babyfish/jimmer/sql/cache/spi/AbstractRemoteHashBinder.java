@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.sql.cache.SerializationException;
+import org.babyfish.jimmer.sql.cache.ValueSerializer;
 import org.babyfish.jimmer.sql.cache.chain.SimpleBinder;
 
 import java.io.IOException;
@@ -22,7 +23,23 @@ public abstract class AbstractRemoteHashBinder<K, V>
             Duration duration,
             int randomPercent
     ) {
-        super(objectMapper, type, prop, duration, randomPercent);
+        super(objectMapper, type, prop, duration, randomPercent, null);
+    }
+
+    /**
+     * @param valueSerializer The serializer of values, for example,
+     *                        {@link org.babyfish.jimmer.sql.cache.BinaryValueSerializer}.
+     *                        If it is null, the JSON serializer is used.
+     */
+    protected AbstractRemoteHashBinder(
+            ObjectMapper objectMapper,
+            ImmutableType type,
+            ImmutableProp prop,
+            Duration duration,
+            int randomPercent,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, type, prop, duration, randomPercent, valueSerializer);
     }
 
     @Override
@@ -3,6 +3,7 @@ package org.babyfish.jimmer.sql.cache.spi;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.cache.ValueSerializer;
 import org.babyfish.jimmer.sql.cache.chain.SimpleBinder;
 
 import java.time.Duration;
@@ -21,7 +22,23 @@ public abstract class AbstractRemoteValueBinder<K, V>
             Duration duration,
             int randomPercent
     ) {
-        super(objectMapper, type, prop, duration, randomPercent);
+        super(objectMapper, type, prop, duration, randomPercent, null);
+    }
+
+    /**
+     * @param valueSerializer The serializer of values, for example,
+     *                        {@link org.babyfish.jimmer.sql.cache.BinaryValueSerializer}.
+     *                        If it is null, the JSON serializer is used.
+     */
+    protected AbstractRemoteValueBinder(
+            ObjectMapper objectMapper,
+            ImmutableType type,
+            ImmutableProp prop,
+            Duration duration,
+            int randomPercent,
+            ValueSerializer<V> valueSerializer
+    ) {
+        super(objectMapper, type, prop, duration, randomPercent, valueSerializer);
     }
 
     @Override
@@ -35,6 +35,74 @@ public interface Dialect {
 
     default boolean isMultiInsertionSupported() { return true; }
 
+    /**
+     * The maximum number of elements that can be rendered into one `in(...)` list,
+     * the default value 1000 is the limit of Oracle.
+     *
+     * <p>Longer lists are always split into several lists joined by `or`(`and` for `not in`),
+     * whether the in-list padding is enabled or not.</p>
+     */
+    default int getMaxInListSize() { return 1000; }
+
+    /**
+     * Whether `expr = any(?)` bound by an array parameter is supported,
+     * see {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setInListToAnyEqualityEnabled(boolean)}
+     */
+    default boolean isAnyEqualityOfArraySupported() { return false; }
+
+    /**
+     * The type name of array elements passed to {@link java.sql.Connection#createArrayOf(String, Object[])}
+     * when an array parameter is bound, for example, the parameter of `expr = any(?)`.
+     *
+     * @param elementType The boxed element type, such as `Long` or `String`
+     * @return The sql type name, or null to bind the array by {@link java.sql.PreparedStatement#setObject(int, Object)}
+     */
+    default String getArrayElementTypeName(Class<?> elementType) { return null; }
+
+    default boolean isUpsertSupported() { return false; }
+
+    /**
+     * Whether the JDBC driver returns the affected row count of each statement
+     * of JDBC batch rather than `Statement.SUCCESS_NO_INFO`.
+     *
+     * <p>If it is false, the objects with version property are not
+     * updated by JDBC batch because optimistic lock cannot be checked.</p>
+     */
+    default boolean isBatchUpdateCountSupported() { return true; }
+
+    /**
+     * Whether the window function `row_number() over(partition by ... order by ...)`
+     * is supported, it is used to load the paginated associations of multiple objects
+     * by one statement.
+     */
+    default boolean isWindowFunctionSupported() { return false; }
+
+    /**
+     * The JDBC fetch size of cursor queries such as `forEach` and `stream`,
+     * so that the driver does not buffer the whole result in memory.
+     *
+     * <p>For MySQL, the fetch size is ignored unless the
+     * connection property `useCursorFetch=true` is specified.</p>
+     */
+    default int getCursorFetchSize(int batchSize) { return batchSize; }
+
+    /**
+     * Whether the JDBC driver ignores the fetch size unless the connection
+     * is in transaction. If it is true and the connection is auto-commit,
+     * the auto-commit is disabled temporarily during the cursor.
+     */
+    default boolean isCursorTransactionRequired() { return false; }
+
+    /**
+     * Render the dialect-specific insert-or-update statement,
+     * it is called only when {@link #isUpsertSupported()} returns true.
+     */
+    default void upsert(UpsertContext ctx) {
+        throw new UnsupportedOperationException(
+                "Upsert is not supported by '" + getClass().getName() + "'"
+        );
+    }
+
     @Nullable
     default String getConstantTableName() { return null; }
 
@@ -1,5 +1,8 @@
 package org.babyfish.jimmer.sql.dialect;
 
+import java.math.BigDecimal;
+import java.util.UUID;
+
 public class H2Dialect extends DefaultDialect {
 
     @Override
@@ -7,11 +10,69 @@ public class H2Dialect extends DefaultDialect {
         return true;
     }
 
+    @Override
+    public boolean isAnyEqualityOfArraySupported() {
+        return true;
+    }
+
+    @Override
+    public String getArrayElementTypeName(Class<?> elementType) {
+        if (elementType == Long.class) {
+            return "bigint";
+        }
+        if (elementType == Integer.class) {
+            return "integer";
+        }
+        if (elementType == Short.class) {
+            return "smallint";
+        }
+        if (elementType == Double.class) {
+            return "double precision";
+        }
+        if (elementType == Float.class) {
+            return "real";
+        }
+        if (elementType == BigDecimal.class) {
+            return "numeric";
+        }
+        if (elementType == String.class) {
+            return "varchar";
+        }
+        if (elementType == UUID.class) {
+            return "uuid";
+        }
+        return null;
+    }
+
     @Override
     public String getSelectIdFromSequenceSql(String sequenceName) {
         return "select nextval('" + sequenceName + "')";
     }
 
+    @Override
+    public boolean isWindowFunctionSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public void upsert(UpsertContext ctx) {
+        ctx
+                .sql("merge into ")
+                .appendTableName()
+                .sql("(")
+                .appendInsertedColumns("")
+                .sql(") key(")
+                .appendConflictColumns()
+                .sql(") values(")
+                .appendInsertingValues()
+                .sql(")");
+    }
+
     @Override
     public String transCacheOperatorTableDDL() {
         return "create table JIMMER_TRANS_CACHE_OPERATOR(" +
@@ -26,6 +26,28 @@ public class MySqlDialect implements Dialect {
         return true;
     }
 
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public void upsert(UpsertContext ctx) {
+        ctx
+                .sql("insert into ")
+                .appendTableName()
+                .sql("(")
+                .appendInsertedColumns("")
+                .sql(") values(")
+                .appendInsertingValues()
+                .sql(") on duplicate key update ");
+        if (ctx.hasUpdatedColumns()) {
+            ctx.appendUpdatingAssignments("values(", ")");
+        } else {
+            ctx.appendConflictColumns().sql(" = ").appendConflictColumns();
+        }
+    }
+
     @Override
     public String transCacheOperatorTableDDL() {
         return "create table JIMMER_TRANS_CACHE_OPERATOR(\n" +
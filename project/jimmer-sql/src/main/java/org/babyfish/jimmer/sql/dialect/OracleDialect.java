@@ -54,11 +54,50 @@ public class OracleDialect implements Dialect {
         return false;
     }
 
+    @Override
+    public boolean isBatchUpdateCountSupported() {
+        // The drivers older than 12c return `SUCCESS_NO_INFO`
+        return false;
+    }
+
     @Override
     public @Nullable String getConstantTableName() {
         return "dual";
     }
 
+    @Override
+    public boolean isWindowFunctionSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public void upsert(UpsertContext ctx) {
+        ctx
+                .sql("merge into ")
+                .appendTableName()
+                .sql(" tb_1_ using(select ")
+                .appendInsertingValuesAsColumns()
+                .sql(" from dual) tb_2_ on (")
+                .appendConflictPredicate("tb_1_", "tb_2_")
+                .sql(")");
+        if (ctx.hasUpdatedColumns()) {
+            ctx
+                    .sql(" when matched then update set ")
+                    .appendUpdatingAssignments("tb_2_.", "");
+        }
+        ctx
+                .sql(" when not matched then insert(")
+                .appendInsertedColumns("")
+                .sql(") values(")
+                .appendInsertedColumns("tb_2_.")
+                .sql(")");
+    }
+
     @Override
     public String transCacheOperatorTableDDL() {
         return "create table JIMMER_TRANS_CACHE_OPERATOR(\n" +
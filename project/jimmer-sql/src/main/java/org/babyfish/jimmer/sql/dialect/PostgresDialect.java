@@ -5,7 +5,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.babyfish.jimmer.sql.runtime.Reader;
 import org.postgresql.util.PGobject;
 
+import java.math.BigDecimal;
 import java.sql.Types;
+import java.util.UUID;
 
 public class PostgresDialect extends DefaultDialect {
 
@@ -52,6 +54,40 @@ public class PostgresDialect extends DefaultDialect {
         return true;
     }
 
+    @Override
+    public boolean isAnyEqualityOfArraySupported() {
+        return true;
+    }
+
+    @Override
+    public String getArrayElementTypeName(Class<?> elementType) {
+        if (elementType == Long.class) {
+            return "int8";
+        }
+        if (elementType == Integer.class) {
+            return "int4";
+        }
+        if (elementType == Short.class) {
+            return "int2";
+        }
+        if (elementType == Double.class) {
+            return "float8";
+        }
+        if (elementType == Float.class) {
+            return "float4";
+        }
+        if (elementType == BigDecimal.class) {
+            return "numeric";
+        }
+        if (elementType == String.class) {
+            return "text";
+        }
+        if (elementType == UUID.class) {
+            return "uuid";
+        }
+        return null;
+    }
+
     @Override
     public int resolveUnknownJdbcType(Class<?> sqlType) {
         if (sqlType.getName().equals("org.postgresql.util.PGobject")) {
@@ -68,6 +104,40 @@ public class PostgresDialect extends DefaultDialect {
         return null;
     }
 
+    @Override
+    public boolean isWindowFunctionSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isCursorTransactionRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public void upsert(UpsertContext ctx) {
+        ctx
+                .sql("insert into ")
+                .appendTableName()
+                .sql("(")
+                .appendInsertedColumns("")
+                .sql(") values(")
+                .appendInsertingValues()
+                .sql(") on conflict(")
+                .appendConflictColumns()
+                .sql(")");
+        if (ctx.hasUpdatedColumns()) {
+            ctx.sql(" do update set ").appendUpdatingAssignments("excluded.", "");
+        } else {
+            ctx.sql(" do nothing");
+        }
+    }
+
     @Override
     public String transCacheOperatorTableDDL() {
         return "create table JIMMER_TRANS_CACHE_OPERATOR(\n" +
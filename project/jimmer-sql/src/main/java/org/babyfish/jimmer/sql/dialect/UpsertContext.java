@@ -0,0 +1,48 @@
+package org.babyfish.jimmer.sql.dialect;
+
+/**
+ * The context used by {@link Dialect#upsert(UpsertContext)}
+ * to render one insert-or-update statement.
+ *
+ * <p>The conflict columns are the columns of id property,
+ * the inserted columns contain the conflict columns,
+ * the updated columns are the inserted columns except the conflict columns.</p>
+ */
+public interface UpsertContext {
+
+    boolean hasUpdatedColumns();
+
+    UpsertContext sql(String sql);
+
+    UpsertContext appendTableName();
+
+    /**
+     * Append `prefixA, prefixB, ...`
+     */
+    UpsertContext appendInsertedColumns(String prefix);
+
+    /**
+     * Append `A, B, ...`
+     */
+    UpsertContext appendConflictColumns();
+
+    /**
+     * Append `?, ?, ...`
+     */
+    UpsertContext appendInsertingValues();
+
+    /**
+     * Append `? A, ? B, ...`, it can be used by the projection of sub query
+     */
+    UpsertContext appendInsertingValuesAsColumns();
+
+    /**
+     * Append `targetAlias.A = sourceAlias.A and ...`
+     */
+    UpsertContext appendConflictPredicate(String targetAlias, String sourceAlias);
+
+    /**
+     * Append `A = prefixAsuffix, B = prefixBsuffix, ...`
+     */
+    UpsertContext appendUpdatingAssignments(String prefix, String suffix);
+}
@@ -2,9 +2,75 @@ package org.babyfish.jimmer.sql.event.binlog;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.util.Collection;
+
 public interface BinLog {
 
     void accept(String tableName, JsonNode oldData, JsonNode newData);
 
     void accept(String tableName, JsonNode oldData, JsonNode newData, String reason);
+
+    /**
+     * Accept a batch of row changes.
+     *
+     * <p>Unlike calling {@link #accept(String, JsonNode, JsonNode, String)} for each change,
+     * the affected cache keys are deduplicated and each cache is deleted only once
+     * by the whole batch.</p>
+     *
+     * <p>The default implementation calls {@link #accept(String, JsonNode, JsonNode, String)}
+     * for each change without deduplication.</p>
+     */
+    default void acceptAll(Collection<Change> changes) {
+        for (Change change : changes) {
+            accept(change.getTableName(), change.getOldData(), change.getNewData(), change.getReason());
+        }
+    }
+
+    class Change {
+
+        private final String tableName;
+
+        private final JsonNode oldData;
+
+        private final JsonNode newData;
+
+        private final String reason;
+
+        public Change(String tableName, JsonNode oldData, JsonNode newData) {
+            this(tableName, oldData, newData, null);
+        }
+
+        public Change(String tableName, JsonNode oldData, JsonNode newData, String reason) {
+            this.tableName = tableName;
+            this.oldData = oldData;
+            this.newData = newData;
+            this.reason = reason;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+
+        public JsonNode getOldData() {
+            return oldData;
+        }
+
+        public JsonNode getNewData() {
+            return newData;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Change{" +
+                    "tableName='" + tableName + '\'' +
+                    ", oldData=" + oldData +
+                    ", newData=" + newData +
+                    ", reason='" + reason + '\'' +
+                    '}';
+        }
+    }
 }
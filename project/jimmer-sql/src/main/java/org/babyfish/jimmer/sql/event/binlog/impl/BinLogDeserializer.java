@@ -1,9 +1,12 @@
 package org.babyfish.jimmer.sql.event.binlog.impl;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.node.NullNode;
+import org.babyfish.jimmer.DraftConsumerUncheckedException;
 import org.babyfish.jimmer.meta.EmbeddedLevel;
 import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
@@ -30,34 +33,91 @@ class BinLogDeserializer extends StdDeserializer<Object> {
         this.immutableType = immutableType;
     }
 
+    /**
+     * Read the columns one by one, only the value of each column
+     * is converted to tree node, not the whole row.
+     */
     @Override
     public Object deserialize(
             JsonParser jp,
             DeserializationContext ctx
     ) throws IOException {
-        MetadataStrategy strategy = parser.sqlClient().getMetadataStrategy();
-        JsonNode node = jp.getCodec().readTree(jp);
-        return Internal.produce(immutableType, null, draft -> {
-            Iterator<Map.Entry<String, JsonNode>> itr = node.fields();
-            while (itr.hasNext()) {
-                Map.Entry<String, JsonNode> fieldEntry = itr.next();
-                String columnName = fieldEntry.getKey();
-                JsonNode childNode = fieldEntry.getValue();
-                List<ImmutableProp> chain = immutableType.getPropChain(columnName, strategy);
-                ValueParser.addEntityProp((DraftSpi) draft, chain, childNode, parser);
+        return toEntity(parser, immutableType, visitor -> {
+            JsonToken token = jp.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = jp.nextToken();
+            }
+            while (token == JsonToken.FIELD_NAME) {
+                String columnName = jp.getCurrentName();
+                jp.nextToken();
+                JsonNode childNode = jp.getCodec().readTree(jp);
+                visitor.visit(columnName, childNode != null ? childNode : NullNode.getInstance());
+                token = jp.nextToken();
             }
-            for (ImmutableProp prop : immutableType.getProps().values()) {
-                if (prop.isMutable() && prop.isEmbedded(EmbeddedLevel.BOTH)) {
-                    if (!EmbeddableObjects.isCompleted(((DraftSpi) draft).__get(prop.getId()))) {
-                        if (!prop.isNullable()) {
-                            throw new IllegalArgumentException(
-                                    "Illegal binlog data, the property \"" + prop + "\" is not nullable"
-                            );
+        });
+    }
+
+    /**
+     * Map the tree node to entity directly, without converting it to string and parsing it again.
+     */
+    static Object toEntity(
+            BinLogParser parser,
+            ImmutableType immutableType,
+            JsonNode node
+    ) {
+        try {
+            return toEntity(parser, immutableType, visitor -> {
+                Iterator<Map.Entry<String, JsonNode>> itr = node.fields();
+                while (itr.hasNext()) {
+                    Map.Entry<String, JsonNode> fieldEntry = itr.next();
+                    visitor.visit(fieldEntry.getKey(), fieldEntry.getValue());
+                }
+            });
+        } catch (IOException ex) {
+            throw new AssertionError("Internal bug: tree node cannot raise IOException", ex);
+        }
+    }
+
+    private static Object toEntity(
+            BinLogParser parser,
+            ImmutableType immutableType,
+            ColumnSource source
+    ) throws IOException {
+        MetadataStrategy strategy = parser.sqlClient().getMetadataStrategy();
+        try {
+            return Internal.produce(immutableType, null, draft -> {
+                source.accept((columnName, childNode) -> {
+                    List<ImmutableProp> chain = immutableType.getPropChain(columnName, strategy);
+                    ValueParser.addEntityProp((DraftSpi) draft, chain, childNode, parser);
+                });
+                for (ImmutableProp prop : immutableType.getProps().values()) {
+                    if (prop.isMutable() && prop.isEmbedded(EmbeddedLevel.BOTH)) {
+                        if (!EmbeddableObjects.isCompleted(((DraftSpi) draft).__get(prop.getId()))) {
+                            if (!prop.isNullable()) {
+                                throw new IllegalArgumentException(
+                                        "Illegal binlog data, the property \"" + prop + "\" is not nullable"
+                                );
+                            }
+                            ((DraftSpi) draft).__set(prop.getId(), null);
                         }
-                        ((DraftSpi) draft).__set(prop.getId(), null);
                     }
                 }
+            });
+        } catch (DraftConsumerUncheckedException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
             }
-        });
+            throw ex;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ColumnSource {
+        void accept(ColumnVisitor visitor) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ColumnVisitor {
+        void visit(String columnName, JsonNode childNode);
     }
 }
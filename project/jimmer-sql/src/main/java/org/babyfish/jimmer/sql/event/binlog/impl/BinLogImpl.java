@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.sql.association.meta.AssociationType;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.cache.Caches;
 import org.babyfish.jimmer.sql.cache.TransactionCacheOperator;
 import org.babyfish.jimmer.sql.event.Triggers;
 import org.babyfish.jimmer.sql.event.binlog.BinLog;
@@ -13,6 +14,7 @@ import org.babyfish.jimmer.sql.runtime.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -102,6 +104,14 @@ public class BinLogImpl implements BinLog {
         }
     }
 
+    @Override
+    public void acceptAll(Collection<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Caches.batchDeleting(() -> BinLog.super.acceptAll(changes));
+    }
+
     public BinLogParser parser() {
         return parser;
     }
@@ -84,11 +84,20 @@ public class BinLogParser {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T parseEntity(@NotNull Class<T> type, JsonNode data) {
         if (data == null || data.isNull()) {
             return null;
         }
-        return parseEntity(type, data.toString());
+        ImmutableType immutableType = ImmutableType.tryGet(type);
+        if (immutableType != null) {
+            return (T) BinLogDeserializer.toEntity(this, immutableType, data);
+        }
+        try {
+            return mapper.treeToValue(data, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Illegal json: " + data, ex);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -99,11 +108,15 @@ public class BinLogParser {
         return (T)parseEntity(type.getJavaClass(), json);
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T parseEntity(@NotNull ImmutableType type, JsonNode data) {
+        if (type instanceof AssociationType) {
+            throw new IllegalArgumentException("type cannot be AssociationType");
+        }
         if (data == null || data.isNull()) {
             return null;
         }
-        return parseEntity(type, data.toString());
+        return (T) BinLogDeserializer.toEntity(this, type, data);
     }
 
     @SuppressWarnings("unchecked")
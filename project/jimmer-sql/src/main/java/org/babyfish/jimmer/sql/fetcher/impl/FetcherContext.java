@@ -5,19 +5,28 @@ import org.babyfish.jimmer.runtime.DraftSpi;
 import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.fetcher.Field;
 import org.babyfish.jimmer.sql.fetcher.RecursionStrategy;
+import org.babyfish.jimmer.sql.runtime.ExecutionException;
 import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+import org.babyfish.jimmer.sql.runtime.ReplicaSet;
+import org.babyfish.jimmer.sql.runtime.StatementCanceller;
 
 import java.sql.Connection;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 class FetcherContext {
 
     private static final ThreadLocal<FetcherContext> FETCHER_CONTEXT_LOCAL = new ThreadLocal<>();
 
+    // Nested fetcher contexts created by the worker threads are always executed sequentially,
+    // otherwise, bounded executor may be exhausted by the workers waiting for other workers.
+    private static final ThreadLocal<Boolean> CONCURRENT_WORKER_LOCAL = new ThreadLocal<>();
+
     private JSqlClientImplementor sqlClient;
 
     private Connection con;
@@ -88,13 +97,175 @@ class FetcherContext {
         }
     }
 
+    /**
+     * The batches of remote associations are requested asynchronously
+     * before the local associations are loaded, so that the requests
+     * to different micro services are not serialized.
+     */
     public void execute() {
+        Executor fetcherExecutor = sqlClient.getFetcherExecutor();
+        boolean concurrent = fetcherExecutor != null &&
+                CONCURRENT_WORKER_LOCAL.get() == null &&
+                isAutoCommit();
         while (!taskMap.isEmpty()) {
-            Iterator<Map.Entry<Field, FetcherTask>> itr = taskMap.entrySet().iterator();
-            Map.Entry<Field, FetcherTask> e = itr.next();
-            if (e.getValue().execute()) {
-                taskMap.remove(e.getKey());
+            Map<FetcherTask.Batch, CompletableFuture<Void>> remoteFutureMap = loadRemoteBatches();
+            RuntimeException error = null;
+            try {
+                if (concurrent) {
+                    executeLocalConcurrently(fetcherExecutor);
+                } else {
+                    executeLocal();
+                }
+            } catch (RuntimeException ex) {
+                error = ex;
+            }
+            for (CompletableFuture<Void> future : remoteFutureMap.values()) {
+                try {
+                    future.join();
+                } catch (CompletionException ex) {
+                    if (error == null) {
+                        error = unwrap(ex);
+                    }
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+            for (FetcherTask.Batch batch : remoteFutureMap.keySet()) {
+                batch.complete();
+            }
+            taskMap.values().removeIf(FetcherTask::isDone);
+        }
+    }
+
+    /**
+     * Issue all the pending batches of remote associations without waiting for them
+     */
+    private Map<FetcherTask.Batch, CompletableFuture<Void>> loadRemoteBatches() {
+        Map<FetcherTask.Batch, CompletableFuture<Void>> futureMap = new LinkedHashMap<>();
+        for (FetcherTask task : new ArrayList<>(taskMap.values())) {
+            if (task.isRemote()) {
+                while (!task.isDone()) {
+                    FetcherTask.Batch batch = task.prepare();
+                    if (batch != null) {
+                        futureMap.put(batch, batch.loadAsync());
+                    }
+                }
+            }
+        }
+        return futureMap;
+    }
+
+    private void executeLocal() {
+        for (FetcherTask task : new ArrayList<>(taskMap.values())) {
+            if (!task.isRemote()) {
+                while (!task.execute()) {
+                    // Load the next batch
+                }
+            }
+        }
+    }
+
+    /**
+     * The sibling tasks are loaded concurrently, one batch per task.
+     * The first batch is loaded by the current thread with the current connection,
+     * other batches are loaded by the executor with their own connections.
+     * All the drafts are modified by the current thread only.
+     */
+    private void executeLocalConcurrently(Executor fetcherExecutor) {
+        List<FetcherTask.Batch> batches = new ArrayList<>();
+        for (FetcherTask task : new ArrayList<>(taskMap.values())) {
+            if (!task.isRemote()) {
+                FetcherTask.Batch batch = task.prepare();
+                if (batch != null) {
+                    batches.add(batch);
+                }
+            }
+        }
+        if (batches.isEmpty()) {
+            return;
+        }
+        StatementCanceller canceller = StatementCanceller.current();
+        ReplicaSet.RequestState request = ReplicaSet.currentRequest();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batches.size() - 1);
+        for (FetcherTask.Batch batch : batches.subList(1, batches.size())) {
+            futures.add(
+                    CompletableFuture.runAsync(
+                            () -> loadByWorker(batch, canceller, request),
+                            fetcherExecutor
+                    )
+            );
+        }
+        RuntimeException error = null;
+        try {
+            batches.get(0).load(null);
+        } catch (RuntimeException ex) {
+            error = ex;
+        }
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException ex) {
+                if (error == null) {
+                    error = unwrap(ex);
+                }
             }
         }
+        if (error != null) {
+            throw error;
+        }
+        for (FetcherTask.Batch batch : batches) {
+            batch.complete();
+        }
+    }
+
+    private void loadByWorker(
+            FetcherTask.Batch batch,
+            StatementCanceller canceller,
+            ReplicaSet.RequestState request
+    ) {
+        Supplier<Void> loadBlock = () -> sqlClient.getSlaveConnectionManager(false).execute(workerCon -> {
+            CONCURRENT_WORKER_LOCAL.set(Boolean.TRUE);
+            try {
+                batch.load(workerCon);
+            } finally {
+                CONCURRENT_WORKER_LOCAL.remove();
+            }
+            return null;
+        });
+        // The workers choose master or slave as the current request does(read-your-writes)
+        Supplier<Void> block = request != null ? () -> request.execute(loadBlock) : loadBlock;
+        // The statements of workers are canceled together with the ones of the current thread
+        if (canceller != null) {
+            canceller.execute(block);
+        } else {
+            block.get();
+        }
+    }
+
+    /**
+     * Other connections cannot see the uncommitted data of current transaction,
+     * so concurrent loading is only used when the current connection is not in transaction.
+     */
+    private boolean isAutoCommit() {
+        try {
+            return con.getAutoCommit();
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ExecutionException(
+                "Failed to load data concurrently by fetcher",
+                cause != null ? cause : ex
+        );
     }
-}
\ No newline at end of file
+}
@@ -13,6 +13,7 @@ import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 class FetcherTask {
@@ -38,8 +39,8 @@ class FetcherTask {
         this.cache = cache;
         this.sqlClient = sqlClient;
         this.field = field;
-        this.batchSize = determineBatchSize();
         this.dataLoader = new DataLoader(sqlClient, con, field);
+        this.batchSize = determineBatchSize();
     }
 
     public void add(DraftSpi draft) {
@@ -63,8 +64,38 @@ class FetcherTask {
     }
 
     public boolean execute() {
+        Batch batch = prepare();
+        if (batch != null) {
+            batch.load(null);
+            batch.complete();
+        }
+        return pendingMap.isEmpty();
+    }
+
+    public boolean isDone() {
+        return pendingMap.isEmpty();
+    }
+
+    /**
+     * Whether the associated objects are loaded from another micro service
+     */
+    public boolean isRemote() {
+        return field.getProp().isRemote();
+    }
+
+    /**
+     * Take the next batch from the pending objects and handle
+     * the objects which can be resolved by cache directly.
+     *
+     * <p>The returned batch only reads the database when it is loaded,
+     * so that it can be loaded by another thread. All the drafts
+     * are modified when it is completed by the current thread.</p>
+     *
+     * @return The batch need to be loaded, or null if nothing need to be loaded.
+     */
+    public Batch prepare() {
         if (pendingMap.isEmpty()) {
-            return true;
+            return null;
         }
         Map<Object, TaskData> handledMap;
         if (pendingMap.size() > batchSize) {
@@ -99,21 +130,10 @@ class FetcherTask {
                 handledEntryItr.remove();
             }
         }
-        if (!handledMap.isEmpty()) {
-            Map<ImmutableSpi, ?> loadedMap = dataLoader.load(
-                    handledMap
-                            .values()
-                            .stream()
-                            .map(it -> it.getDrafts().get(0))
-                            .collect(Collectors.toList())
-            );
-            for (Map.Entry<Object, TaskData> e : handledMap.entrySet()) {
-                TaskData taskData = e.getValue();
-                Object value = loadedMap.get(taskData.getDrafts().get(0));
-                afterLoad(taskData, value, true);
-            }
+        if (handledMap.isEmpty()) {
+            return null;
         }
-        return pendingMap.isEmpty();
+        return new Batch(handledMap);
     }
 
     private boolean isLoaded(DraftSpi draft) {
@@ -183,7 +203,7 @@ class FetcherTask {
     }
 
     private int determineBatchSize() {
-        if (field.getLimit() != Integer.MAX_VALUE) {
+        if (field.getLimit() != Integer.MAX_VALUE && !dataLoader.isBatchPagingSupported()) {
             return 1;
         }
         int size = field.getBatchSize();
@@ -208,6 +228,60 @@ class FetcherTask {
         }
     }
 
+    class Batch {
+
+        private final Map<Object, TaskData> handledMap;
+
+        private Map<ImmutableSpi, ?> loadedMap;
+
+        private Batch(Map<Object, TaskData> handledMap) {
+            this.handledMap = handledMap;
+        }
+
+        /**
+         * @param con The connection used to load data,
+         *            null means the connection of the fetcher task.
+         */
+        public void load(Connection con) {
+            DataLoader loader = con != null ?
+                    new DataLoader(sqlClient, con, field) :
+                    dataLoader;
+            loadedMap = loader.load(
+                    handledMap
+                            .values()
+                            .stream()
+                            .map(it -> it.getDrafts().get(0))
+                            .collect(Collectors.toList())
+            );
+        }
+
+        /**
+         * Load data asynchronously, the local queries are executed by the current thread
+         * with the connection of the fetcher task, but the request to remote micro service
+         * is not waited, see {@link DataLoader#loadAsync(Collection)}.
+         */
+        public CompletableFuture<Void> loadAsync() {
+            return dataLoader.loadAsync(
+                    handledMap
+                            .values()
+                            .stream()
+                            .map(it -> it.getDrafts().get(0))
+                            .collect(Collectors.toList())
+            ).thenAccept(it -> loadedMap = it);
+        }
+
+        public void complete() {
+            if (loadedMap == null) {
+                throw new IllegalStateException("The batch has not been loaded");
+            }
+            for (Map.Entry<Object, TaskData> e : handledMap.entrySet()) {
+                TaskData taskData = e.getValue();
+                Object value = loadedMap.get(taskData.getDrafts().get(0));
+                afterLoad(taskData, value, true);
+            }
+        }
+    }
+
     private static class TaskData {
 
         private final Object key;
@@ -16,13 +16,29 @@ public class Fetchers {
 
     private Fetchers() {}
 
-    @SuppressWarnings("unchecked")
     public static void fetch(
             JSqlClientImplementor sqlClient,
             Connection con,
             List<Selection<?>> selections,
             List<?> rows
     ) {
+        fetch(sqlClient, con, selections, rows, false);
+    }
+
+    /**
+     * @param convertedByReader Whether the rows have been read by the readers
+     *                          created for these selections, so that the view
+     *                          selections accepted by {@link #isConvertedByReader}
+     *                          already hold view objects rather than entities.
+     */
+    @SuppressWarnings("unchecked")
+    public static void fetch(
+            JSqlClientImplementor sqlClient,
+            Connection con,
+            List<Selection<?>> selections,
+            List<?> rows,
+            boolean convertedByReader
+    ) {
 
         if (rows.isEmpty()) {
             return;
@@ -33,6 +49,9 @@ public class Fetchers {
             Selection<?> selection = selections.get(i);
             if (selection instanceof FetcherSelection<?>) {
                 FetcherSelection<?> fetcherSelection = (FetcherSelection<?>) selection;
+                if (convertedByReader && isConvertedByReader(sqlClient, fetcherSelection)) {
+                    continue;
+                }
                 Fetcher<?> fetcher = fetcherSelection.getFetcher();
                 if (!((FetcherImplementor<?>)fetcher).__isSimpleFetcher() ||
                         hasReferenceFilter(fetcher.getImmutableType(), sqlClient) ||
@@ -97,6 +116,27 @@ public class Fetchers {
         }
     }
 
+    /**
+     * Whether the view object of this selection can be created by the reader
+     * as soon as the row is read, rather than by {@link #fetch} after the whole
+     * result has been read.
+     *
+     * <p>This is only possible when the fetcher is simple and there is no
+     * reference filter, because otherwise the entities must be kept to
+     * load the associations before they can be converted.</p>
+     */
+    public static boolean isConvertedByReader(
+            JSqlClientImplementor sqlClient,
+            FetcherSelection<?> selection
+    ) {
+        if (selection.getConverter() == null) {
+            return false;
+        }
+        Fetcher<?> fetcher = selection.getFetcher();
+        return ((FetcherImplementor<?>)fetcher).__isSimpleFetcher() &&
+                !hasReferenceFilter(fetcher.getImmutableType(), sqlClient);
+    }
+
     private static void fetch(
             JSqlClientImplementor sqlClient,
             Connection con,
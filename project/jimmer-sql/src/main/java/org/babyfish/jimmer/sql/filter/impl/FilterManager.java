@@ -27,6 +27,8 @@ import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 public class FilterManager implements Filters {
@@ -50,6 +52,13 @@ public class FilterManager implements Filters {
 
     private final BuiltInFilters builtIns;
 
+    /*
+     * Shared by the root filter manager and all the managers derived from it,
+     * the managers with same disabled filters are interned so that
+     * their type caches are not rebuilt again and again
+     */
+    private final ConcurrentMap<Set<Filter<?>>, FilterManager> derivedManagerMap;
+
     private JSqlClientImplementor sqlClient;
 
     public FilterManager(
@@ -65,6 +74,8 @@ public class FilterManager implements Filters {
                 this.allFilters.stream().filter(it -> it instanceof CacheableFilter<?>).collect(Collectors.toList()),
                 Collections.emptyList()
         );
+        this.derivedManagerMap = new ConcurrentHashMap<>();
+        this.derivedManagerMap.put(this.disabledFilters, this);
     }
 
     private FilterManager(
@@ -72,13 +83,15 @@ public class FilterManager implements Filters {
             Set<Filter<?>> filters,
             Set<Filter<?>> disabledFilters,
             Map<String, List<Filter<Props>>> filterMap,
-            Map<String, List<Filter<Props>>> allCacheableFilterMap
+            Map<String, List<Filter<Props>>> allCacheableFilterMap,
+            ConcurrentMap<Set<Filter<?>>, FilterManager> derivedManagerMap
     ) {
         this.builtIns = builtIns;
         this.allFilters = filters;
         this.disabledFilters = disabledFilters;
         this.filterMap = filterMap;
         this.allCacheableFilterMap = allCacheableFilterMap;
+        this.derivedManagerMap = derivedManagerMap;
     }
 
     @Override
@@ -157,13 +170,7 @@ public class FilterManager implements Filters {
         if (disabledSet.size() == disabledFilters.size()) {
             return this;
         }
-        return new FilterManager(
-                builtIns,
-                allFilters,
-                disabledSet,
-                filterMap(allFilters, disabledSet),
-                allCacheableFilterMap
-        );
+        return derive(disabledSet);
     }
 
     public FilterManager disable(Collection<Filter<?>> filters) {
@@ -174,13 +181,7 @@ public class FilterManager implements Filters {
         if (disabledSet.size() == disabledFilters.size()) {
             return this;
         }
-        return new FilterManager(
-                builtIns,
-                allFilters,
-                disabledSet,
-                filterMap(allFilters, disabledSet),
-                allCacheableFilterMap
-        );
+        return derive(disabledSet);
     }
 
     public FilterManager enableByTypes(Collection<Class<?>> filterTypes) {
@@ -233,6 +234,20 @@ public class FilterManager implements Filters {
         return disable(allFilters);
     }
 
+    private FilterManager derive(Set<Filter<?>> disabledSet) {
+        return derivedManagerMap.computeIfAbsent(
+                disabledSet,
+                it -> new FilterManager(
+                        builtIns,
+                        allFilters,
+                        it,
+                        filterMap(allFilters, it),
+                        allCacheableFilterMap,
+                        derivedManagerMap
+                )
+        );
+    }
+
     public void initialize(JSqlClientImplementor sqlClient) {
         if (this.sqlClient != null) {
             throw new IllegalStateException("The filter manager has been initialized");
@@ -11,10 +11,12 @@ import org.babyfish.jimmer.sql.ast.Expression;
 import org.babyfish.jimmer.sql.ast.Selection;
 import org.babyfish.jimmer.sql.ast.impl.EntitiesImpl;
 import org.babyfish.jimmer.sql.ast.impl.query.AbstractMutableQueryImpl;
+import org.babyfish.jimmer.sql.ast.impl.query.ConfigurableRootQueryImplementor;
 import org.babyfish.jimmer.sql.ast.impl.query.Queries;
 import org.babyfish.jimmer.sql.ast.impl.query.SortableImplementor;
 import org.babyfish.jimmer.sql.ast.query.MutableQuery;
 import org.babyfish.jimmer.sql.ast.query.Sortable;
+import org.babyfish.jimmer.sql.ast.table.AssociationTable;
 import org.babyfish.jimmer.sql.ast.table.Props;
 import org.babyfish.jimmer.sql.ast.table.Table;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
@@ -30,6 +32,8 @@ import org.babyfish.jimmer.sql.filter.CacheableFilter;
 import org.babyfish.jimmer.sql.filter.Filter;
 import org.babyfish.jimmer.sql.filter.impl.FilterArgsImpl;
 import org.babyfish.jimmer.sql.meta.ColumnDefinition;
+import org.babyfish.jimmer.sql.meta.MetadataStrategy;
+import org.babyfish.jimmer.sql.meta.SingleColumn;
 import org.babyfish.jimmer.sql.meta.Storage;
 import org.babyfish.jimmer.sql.runtime.ExecutionException;
 import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
@@ -39,6 +43,8 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -191,11 +197,17 @@ public abstract class AbstractDataLoader {
             return Collections.emptyMap();
         }
         if (sources.size() > 1 && (limit != Integer.MAX_VALUE || offset != 0)) {
-            throw new IllegalArgumentException("Pagination data loader does not support batch loading");
+            if (!isBatchPagingSupported()) {
+                throw new IllegalArgumentException("Pagination data loader does not support batch loading");
+            }
+            return (Map<ImmutableSpi, Object>)(Map<?, ?>) loadPagedTargetMultiMap(sources);
         }
         if (resolver != null) {
             return loadTransients(sources);
         }
+        if (remote) {
+            return join(loadRemote(sources));
+        }
         if (storage instanceof ColumnDefinition) {
             return (Map<ImmutableSpi, Object>)(Map<?, ?>) loadParents(sources);
         }
@@ -205,6 +217,40 @@ public abstract class AbstractDataLoader {
         return (Map<ImmutableSpi, Object>)(Map<?, ?>) loadTargetMap(sources);
     }
 
+    /**
+     * Asynchronous version of {@link #load(Collection)}.
+     *
+     * <p>For remote association, the local queries are executed by the current thread
+     * immediately, and the returned future is completed by the asynchronous request of
+     * {@link org.babyfish.jimmer.sql.runtime.MicroServiceExchange}. Otherwise, everything
+     * is loaded by the current thread and the returned future is already completed.</p>
+     */
+    public CompletableFuture<Map<ImmutableSpi, Object>> loadAsync(Collection<ImmutableSpi> sources) {
+        if (!remote ||
+                resolver != null ||
+                sources.isEmpty() ||
+                (sources.size() > 1 && (limit != Integer.MAX_VALUE || offset != 0))) {
+            return CompletableFuture.completedFuture(load(sources));
+        }
+        return loadRemote(sources);
+    }
+
+    /**
+     * Can the paginated association of multiple objects be loaded by one statement?
+     * If it returns false, the pagination data loader can only load one object each time.
+     */
+    public boolean isBatchPagingSupported() {
+        if (remote || !prop.isReferenceList(TargetLevel.PERSISTENT)) {
+            return false;
+        }
+        if (!sqlClient.getDialect().isWindowFunctionSupported()) {
+            return false;
+        }
+        MetadataStrategy strategy = sqlClient.getMetadataStrategy();
+        return sourceIdProp.getStorage(strategy) instanceof SingleColumn &&
+                targetIdProp.getStorage(strategy) instanceof SingleColumn;
+    }
+
     @SuppressWarnings("unchecked")
     private Map<ImmutableSpi, Object> loadTransients(Collection<ImmutableSpi> sources) {
 
@@ -285,7 +331,7 @@ public abstract class AbstractDataLoader {
     private Map<ImmutableSpi, ImmutableSpi> loadParents(Collection<ImmutableSpi> sources) {
         Cache<Object, Object> fkCache = sqlClient.getCaches().getPropertyCache(prop);
         SortedMap<String, Object> parameters = getParameters();
-        if (!remote && !useCache(fkCache, parameters)) {
+        if (!useCache(fkCache, parameters)) {
             return loadParentsDirectly(sources);
         }
         Map<Object, Object> fkMap = new LinkedHashMap<>(
@@ -308,20 +354,15 @@ public abstract class AbstractDataLoader {
             }
         }
         if (!missedFkSourceIds.isEmpty()) {
-            Map<Object, Object> missedFkMap;
-            if (remote) {
-                missedFkMap = queryForeignKeyMap(missedFkSourceIds);
-            } else {
-                CacheEnvironment<Object, Object> env = new CacheEnvironment<>(
-                        sqlClient,
-                        con,
-                        this::queryForeignKeyMap,
-                        false
-                );
-                missedFkMap = parameters != null ?
-                        ((Cache.Parameterized<Object, Object>) fkCache).getAll(missedFkSourceIds, parameters, env) :
-                        fkCache.getAll(missedFkSourceIds, env);
-            }
+            CacheEnvironment<Object, Object> env = new CacheEnvironment<>(
+                    sqlClient,
+                    con,
+                    this::queryForeignKeyMap,
+                    false
+            );
+            Map<Object, Object> missedFkMap = parameters != null ?
+                    ((Cache.Parameterized<Object, Object>) fkCache).getAll(missedFkSourceIds, parameters, env) :
+                    fkCache.getAll(missedFkSourceIds, env);
             for (Object sourceId : missedFkSourceIds) {
                 Object fk = missedFkMap.get(sourceId);
                 if (fk != null) {
@@ -403,51 +444,21 @@ public abstract class AbstractDataLoader {
     private Map<ImmutableSpi, ImmutableSpi> loadTargetMap(Collection<ImmutableSpi> sources) {
         Cache<Object, Object> cache = sqlClient.getCaches().getPropertyCache(prop);
         SortedMap<String, Object> parameters = getParameters();
-        if (!remote && !useCache(cache, parameters)) {
+        if (!useCache(cache, parameters)) {
             return loadTargetMapDirectly(sources);
         }
-        if (remote && prop.getMappedBy() != null) {
-            List<Tuple2<Object, ImmutableSpi>> tuples;
-            try {
-                tuples = sqlClient
-                        .getMicroServiceExchange()
-                        .findByAssociatedIds(
-                                prop.getTargetType().getMicroServiceName(),
-                                prop.getMappedBy(),
-                                toSourceIds(sources),
-                                FetcherFactory.excludeMicroServiceNameExceptRoot(fetcher, prop.getDeclaringType().getMicroServiceName())
-                        );
-            } catch (Exception ex) {
-                throw new ExecutionException(
-                        "Cannot load the remote association \"" +
-                                prop +
-                                "\" because error raised",
-                        ex
-                );
-            }
-            return Utils.joinCollectionAndMap(
-                    sources,
-                    this::toSourceId,
-                    Tuple2.toMap(tuples)
-            );
-        }
         List<Object> sourceIds = toSourceIds(sources);
-        Map<Object, Object> idMap;
-        if (remote) {
-            idMap = Tuple2.toMap(querySourceTargetIdPairs(sourceIds));
-        } else {
-            CacheEnvironment<Object, Object> env = new CacheEnvironment<>(
-                    sqlClient,
-                    con,
-                    it -> Tuple2.toMap(
-                            querySourceTargetIdPairs(it)
-                    ),
-                    false
-            );
-            idMap = parameters != null ?
-                    ((Cache.Parameterized<Object, Object>) cache).getAll(sourceIds, parameters, env) :
-                    cache.getAll(sourceIds, env);
-        }
+        CacheEnvironment<Object, Object> env = new CacheEnvironment<>(
+                sqlClient,
+                con,
+                it -> Tuple2.toMap(
+                        querySourceTargetIdPairs(it)
+                ),
+                false
+        );
+        Map<Object, Object> idMap = parameters != null ?
+                ((Cache.Parameterized<Object, Object>) cache).getAll(sourceIds, parameters, env) :
+                cache.getAll(sourceIds, env);
         Map<Object, ImmutableSpi> targetMap = Utils.toMap(
                 this::toTargetId,
                 findTargets(new LinkedHashSet<>(idMap.values()))
@@ -482,53 +493,21 @@ public abstract class AbstractDataLoader {
     private Map<ImmutableSpi, List<ImmutableSpi>> loadTargetMultiMap(Collection<ImmutableSpi> sources) {
         Cache<Object, List<Object>> cache = sqlClient.getCaches().getPropertyCache(prop);
         SortedMap<String, Object> parameters = getParameters();
-        if (!remote && !useCache(cache, parameters)) {
+        if (!useCache(cache, parameters)) {
             return loadTargetMultiMapDirectly(sources);
         }
-        if (remote && prop.getMappedBy() != null) {
-            List<Tuple2<Object, ImmutableSpi>> tuples;
-            try {
-                tuples = sqlClient
-                        .getMicroServiceExchange()
-                        .findByAssociatedIds(
-                                prop.getTargetType().getMicroServiceName(),
-                                prop.getMappedBy(),
-                                toSourceIds(sources),
-                                FetcherFactory.excludeMicroServiceNameExceptRoot(fetcher, prop.getDeclaringType().getMicroServiceName())
-                        );
-            } catch (Exception ex) {
-                throw new ExecutionException(
-                        "Cannot load the remote association \"" +
-                                prop +
-                                "\" because error raised",
-                        ex
-                );
-            }
-            return Utils.joinCollectionAndMap(
-                    sources,
-                    this::toSourceId,
-                    Tuple2.toMultiMap(tuples)
-            );
-        }
         List<Object> sourceIds = toSourceIds(sources);
-        Map<Object, List<Object>> idMultiMap;
-        if (remote) {
-            idMultiMap = Tuple2.toMultiMap(
-                    querySourceTargetIdPairs(sourceIds)
-            );
-        } else {
-            CacheEnvironment<Object, List<Object>> env = new CacheEnvironment<>(
-                    sqlClient,
-                    con,
-                    it -> Tuple2.toMultiMap(
-                            querySourceTargetIdPairs(it)
-                    ),
-                    false
-            );
-            idMultiMap = parameters != null ?
-                    ((Cache.Parameterized<Object, List<Object>>) cache).getAll(sourceIds, parameters, env) :
-                    cache.getAll(sourceIds, env);
-        }
+        CacheEnvironment<Object, List<Object>> env = new CacheEnvironment<>(
+                sqlClient,
+                con,
+                it -> Tuple2.toMultiMap(
+                        querySourceTargetIdPairs(it)
+                ),
+                false
+        );
+        Map<Object, List<Object>> idMultiMap = parameters != null ?
+                ((Cache.Parameterized<Object, List<Object>>) cache).getAll(sourceIds, parameters, env) :
+                cache.getAll(sourceIds, env);
         Map<Object, ImmutableSpi> targetMap = Utils.toMap(
                 this::toTargetId,
                 findTargets(
@@ -568,6 +547,126 @@ public abstract class AbstractDataLoader {
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Map<ImmutableSpi, Object>> loadRemote(Collection<ImmutableSpi> sources) {
+        CompletableFuture<? extends Map<ImmutableSpi, ?>> future;
+        if (storage instanceof ColumnDefinition) {
+            future = loadRemoteParents(sources);
+        } else if (prop.isReferenceList(TargetLevel.ENTITY)) {
+            future = loadRemoteTargetMultiMap(sources);
+        } else {
+            future = loadRemoteTargetMap(sources);
+        }
+        return (CompletableFuture<Map<ImmutableSpi, Object>>) future;
+    }
+
+    private CompletableFuture<Map<ImmutableSpi, ImmutableSpi>> loadRemoteParents(Collection<ImmutableSpi> sources) {
+        Map<Object, Object> fkMap = new LinkedHashMap<>(
+                (sources.size() * 4 + 2) / 3
+        );
+        Collection<Object> missedFkSourceIds = new ArrayList<>();
+        for (ImmutableSpi source : sources) {
+            if (source.__isLoaded(prop.getId())) {
+                ImmutableSpi target = (ImmutableSpi) source.__get(prop.getId());
+                if (target != null) {
+                    fkMap.put(toSourceId(source), toTargetId(target));
+                }
+            } else {
+                missedFkSourceIds.add(toSourceId(source));
+            }
+        }
+        if (!missedFkSourceIds.isEmpty()) {
+            Map<Object, Object> missedFkMap = queryForeignKeyMap(missedFkSourceIds);
+            for (Object sourceId : missedFkSourceIds) {
+                Object fk = missedFkMap.get(sourceId);
+                if (fk != null) {
+                    fkMap.put(sourceId, fk);
+                }
+            }
+        }
+        return findRemoteTargets(new LinkedHashSet<>(fkMap.values())).thenApply(targets ->
+                Utils.joinCollectionAndMap(
+                        sources,
+                        this::toSourceId,
+                        Utils.joinMaps(fkMap, Utils.toMap(this::toTargetId, targets))
+                )
+        );
+    }
+
+    private CompletableFuture<Map<ImmutableSpi, ImmutableSpi>> loadRemoteTargetMap(Collection<ImmutableSpi> sources) {
+        if (prop.getMappedBy() != null) {
+            return findRemoteAssociatedTargets(sources).thenApply(tuples ->
+                    Utils.joinCollectionAndMap(
+                            sources,
+                            this::toSourceId,
+                            Tuple2.toMap(tuples)
+                    )
+            );
+        }
+        Map<Object, Object> idMap = Tuple2.toMap(querySourceTargetIdPairs(toSourceIds(sources)));
+        return findRemoteTargets(new LinkedHashSet<>(idMap.values())).thenApply(targets ->
+                Utils.joinCollectionAndMap(
+                        sources,
+                        this::toSourceId,
+                        Utils.joinMaps(idMap, Utils.toMap(this::toTargetId, targets))
+                )
+        );
+    }
+
+    private CompletableFuture<Map<ImmutableSpi, List<ImmutableSpi>>> loadRemoteTargetMultiMap(
+            Collection<ImmutableSpi> sources
+    ) {
+        if (prop.getMappedBy() != null) {
+            return findRemoteAssociatedTargets(sources).thenApply(tuples ->
+                    Utils.joinCollectionAndMap(
+                            sources,
+                            this::toSourceId,
+                            Tuple2.toMultiMap(tuples)
+                    )
+            );
+        }
+        Map<Object, List<Object>> idMultiMap = Tuple2.toMultiMap(
+                querySourceTargetIdPairs(toSourceIds(sources))
+        );
+        return findRemoteTargets(
+                idMultiMap
+                        .values()
+                        .stream()
+                        .flatMap(Collection::stream)
+                        .distinct()
+                        .collect(Collectors.toList())
+        ).thenApply(targets ->
+                Utils.joinCollectionAndMap(
+                        sources,
+                        this::toSourceId,
+                        Utils.joinMultiMapAndMap(idMultiMap, Utils.toMap(this::toTargetId, targets))
+                )
+        );
+    }
+
+    private Map<ImmutableSpi, List<ImmutableSpi>> loadPagedTargetMultiMap(Collection<ImmutableSpi> sources) {
+        List<Object> sourceIds = toSourceIds(sources);
+        Map<Object, List<Object>> idMultiMap = Tuple2.toMultiMap(
+                queryPagedSourceTargetIdPairs(sourceIds)
+        );
+        Map<Object, ImmutableSpi> targetMap = Utils.toMap(
+                this::toTargetId,
+                findTargets(
+                        idMultiMap
+                                .values()
+                                .stream()
+                                .flatMap(Collection::stream)
+                                .distinct()
+                                .collect(Collectors.toList())
+                )
+        );
+        return Utils.joinCollectionAndMap(
+                sources,
+                this::toSourceId,
+                Utils.joinMultiMapAndMap(idMultiMap, targetMap)
+        );
+    }
+
     private Map<Object, Object> queryForeignKeyMap(Collection<Object> sourceIds) {
         
         if (sourceIds.size() == 1) {
@@ -628,6 +727,39 @@ public abstract class AbstractDataLoader {
         return executeTupleQuery(sourceIds, target -> target.get(targetIdProp.getName()));
     }
 
+    /**
+     * Paginate the targets of each source by `row_number() over(partition by sourceId ...)`
+     */
+    @SuppressWarnings("unchecked")
+    private List<Tuple2<Object, Object>> queryPagedSourceTargetIdPairs(Collection<Object> sourceIds) {
+        if (propFilter == null && prop.getReal().isMiddleTableDefinition()) {
+            return Queries.createAssociationQuery(sqlClient, AssociationType.of(prop), ExecutionPurpose.LOAD, (q, association) -> {
+                Expression<Object> sourceIdExpr = association.source(prop.getDeclaringType()).get(sourceIdProp.getName());
+                Expression<Object> targetIdExpr = association.target().get(targetIdProp.getName());
+                q.where(sourceIdExpr.in(sourceIds));
+                if (!applyPropFilter(q, association.target(), sourceIds) && !applyGlobalFilter(q, association.target())) {
+                    applyDefaultOrder(q, association.target());
+                }
+                return ((ConfigurableRootQueryImplementor<AssociationTable<?, ?, ?, ?>, Tuple2<Object, Object>>)
+                        q.select(sourceIdExpr, targetIdExpr)
+                ).limit(limit, offset, sourceIdExpr);
+            }).execute(con);
+        }
+        return Queries.createQuery(sqlClient, prop.getTargetType(), ExecutionPurpose.LOAD, true, (q, target) -> {
+            Expression<Object> sourceIdExpr = target
+                    .inverseJoin(prop)
+                    .get(sourceIdProp.getName());
+            Expression<Object> targetIdExpr = target.get(targetIdProp.getName());
+            q.where(sourceIdExpr.in(sourceIds));
+            if (!applyPropFilter(q, target, sourceIds) & !applyGlobalFilter(q, target)) {
+                applyDefaultOrder(q, target);
+            }
+            return ((ConfigurableRootQueryImplementor<Table<?>, Tuple2<Object, Object>>)
+                    q.select(sourceIdExpr, targetIdExpr)
+            ).limit(limit, offset, sourceIdExpr);
+        }).execute(con);
+    }
+
     @SuppressWarnings("unchecked")
     private List<Tuple2<Object, ImmutableSpi>> querySourceTargetPairs(
             Collection<Object> sourceIds
@@ -760,31 +892,77 @@ public abstract class AbstractDataLoader {
 
     @SuppressWarnings("unchecked")
     private List<ImmutableSpi> findTargets(Collection<Object> targetIds) {
-        if (fetcher.getFieldMap().size() < 2 && !remote) {
+        if (fetcher.getFieldMap().size() < 2) {
             return makeIdOnlyTargets(targetIds);
         }
-        if (remote) {
-            try {
-                return sqlClient.getMicroServiceExchange().findByIds(
-                        prop.getTargetType().getMicroServiceName(),
-                        targetIds,
-                        FetcherFactory.excludeMicroServiceNameExceptRoot(fetcher, prop.getDeclaringType().getMicroServiceName())
-                );
-            } catch (Exception ex) {
-                throw new ExecutionException(
-                        "Cannot load the remote association \"" +
-                                prop +
-                                "\" because error raised",
-                        ex
-                );
-            }
-        }
         return ((EntitiesImpl)sqlClient.getEntities()).forLoader().forConnection(con).findByIds(
                 fetcher,
                 targetIds
         );
     }
 
+    private CompletableFuture<List<ImmutableSpi>> findRemoteTargets(Collection<Object> targetIds) {
+        CompletableFuture<List<ImmutableSpi>> future;
+        try {
+            future = sqlClient.getMicroServiceExchange().findByIdsAsync(
+                    prop.getTargetType().getMicroServiceName(),
+                    targetIds,
+                    FetcherFactory.excludeMicroServiceNameExceptRoot(fetcher, prop.getDeclaringType().getMicroServiceName())
+            );
+        } catch (RuntimeException ex) {
+            throw remoteError(ex);
+        }
+        return future.exceptionally(ex -> {
+            throw remoteError(ex);
+        });
+    }
+
+    private CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> findRemoteAssociatedTargets(
+            Collection<ImmutableSpi> sources
+    ) {
+        CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> future;
+        try {
+            future = sqlClient.getMicroServiceExchange().findByAssociatedIdsAsync(
+                    prop.getTargetType().getMicroServiceName(),
+                    prop.getMappedBy(),
+                    toSourceIds(sources),
+                    FetcherFactory.excludeMicroServiceNameExceptRoot(fetcher, prop.getDeclaringType().getMicroServiceName())
+            );
+        } catch (RuntimeException ex) {
+            throw remoteError(ex);
+        }
+        return future.exceptionally(ex -> {
+            throw remoteError(ex);
+        });
+    }
+
+    private ExecutionException remoteError(Throwable ex) {
+        if (ex instanceof CompletionException && ex.getCause() != null) {
+            ex = ex.getCause();
+        }
+        return new ExecutionException(
+                "Cannot load the remote association \"" +
+                        prop +
+                        "\" because error raised",
+                ex
+        );
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
     private List<ImmutableSpi> makeIdOnlyTargets(Collection<Object> targetIds) {
         return targetIds
                 .stream()
@@ -31,12 +31,25 @@ public class DatabaseValidators {
 
     private final Connection con;
 
+    private final boolean bulkMetadata;
+
     private final List<DatabaseValidationException.Item> items;
 
     private final Map<ImmutableType, org.babyfish.jimmer.lang.Ref<Table>> tableRefMap = new HashMap<>();
 
     private final Map<ImmutableProp, org.babyfish.jimmer.lang.Ref<Table>> middleTableRefMap = new HashMap<>();
 
+    // Only used by bulk mode, key is the capitalized table name
+    private Map<String, List<Table>> bulkTableMultiMap;
+
+    // Only used by bulk mode, key is the catalog and schema of tables
+    private final Map<Tuple2<String, String>, Map<Table, Map<String, Column>>> bulkColumnMap = new HashMap<>();
+
+    // Only used by bulk mode, key is the catalog and schema of tables,
+    // empty reference means the foreign keys of that schema must be loaded table by table
+    private final Map<Tuple2<String, String>, Ref<Map<Table, Map<Set<String>, ForeignKey>>>> bulkForeignKeyRefMap =
+            new HashMap<>();
+
     @Nullable
     public static DatabaseValidationException validate(
             EntityManager entityManager,
@@ -46,7 +59,37 @@ public class DatabaseValidators {
             String schema,
             Connection con
     ) throws SQLException {
-        return new DatabaseValidators(entityManager, microServiceName, strategy, catalog, schema, con).validate();
+        return validate(entityManager, microServiceName, strategy, catalog, schema, con, false);
+    }
+
+    /**
+     * @param bulkMetadata If it is true, the tables of the whole catalog/schema are loaded by
+     *                     one metadata call, the columns and the foreign keys are loaded by one
+     *                     call for each schema containing mapped tables, instead of several
+     *                     calls for each table. It is recommended for large schemas over remote
+     *                     connection, especially when the catalog or schema is specified.
+     *                     The foreign keys are loaded table by table if the driver does not
+     *                     support `DatabaseMetaData.getCrossReference` without table names.
+     */
+    @Nullable
+    public static DatabaseValidationException validate(
+            EntityManager entityManager,
+            String microServiceName,
+            MetadataStrategy strategy,
+            String catalog,
+            String schema,
+            Connection con,
+            boolean bulkMetadata
+    ) throws SQLException {
+        return new DatabaseValidators(
+                entityManager,
+                microServiceName,
+                strategy,
+                catalog,
+                schema,
+                con,
+                bulkMetadata
+        ).validate();
     }
 
     private DatabaseValidators(
@@ -55,7 +98,8 @@ public class DatabaseValidators {
             MetadataStrategy strategy,
             String catalog,
             String schema,
-            Connection con
+            Connection con,
+            boolean bulkMetadata
     ) {
         this.entityManager = entityManager;
         this.microServiceName = microServiceName;
@@ -63,6 +107,7 @@ public class DatabaseValidators {
         this.catalog = catalog != null && !catalog.isEmpty() ? catalog : null;
         this.schema = schema != null && !schema.isEmpty() ? schema : null;
         this.con = con;
+        this.bulkMetadata = bulkMetadata;
         this.items = new ArrayList<>();
     }
 
@@ -96,7 +141,8 @@ public class DatabaseValidators {
                         DatabaseIdentifiers.comparableIdentifier(idColumnDefinition.name(i))
                 );
             }
-            if (!idColumnNames.equals(table.primaryKeyColumns)) {
+            Set<String> primaryKeyColumns = table.getPrimaryKeyColumns(this);
+            if (!idColumnNames.equals(primaryKeyColumns)) {
                 items.add(
                         new DatabaseValidationException.Item(
                                 type,
@@ -104,7 +150,7 @@ public class DatabaseValidators {
                                 "Expected primary key columns are " +
                                         type.getIdProp().<ColumnDefinition>getStorage(strategy).toColumnNames() +
                                         ", but actual primary key columns are " +
-                                        table.primaryKeyColumns
+                                        primaryKeyColumns
                         )
                 );
             }
@@ -228,7 +274,7 @@ public class DatabaseValidators {
                 tableRef = Ref.empty();
             } else {
                 Table table = tables.iterator().next();
-                table = new Table(table, columnsOf(table), primaryKeyColumns(table));
+                table = new Table(table, columnsOf(table));
                 tableRef = Ref.of(table);
             }
             tableRefMap.put(type, tableRef);
@@ -265,11 +311,7 @@ public class DatabaseValidators {
                     tableRef = Ref.empty();
                 } else {
                     Table table = tables.iterator().next();
-                    table = new Table(
-                            table,
-                            columnsOf(table),
-                            primaryKeyColumns(table)
-                    );
+                    table = new Table(table, columnsOf(table));
                     tableRef = Ref.of(table);
                 }
             } else {
@@ -320,6 +362,18 @@ public class DatabaseValidators {
     }
 
     private Set<Table> tablesOf0(String catalogName, String schemaName, String tableName) throws SQLException {
+        Map<String, List<Table>> bulkTableMultiMap = bulkTableMultiMap();
+        if (bulkTableMultiMap != null) {
+            return bulkTableMultiMap
+                    .getOrDefault(tableName.toUpperCase(), Collections.emptyList())
+                    .stream()
+                    .filter(it -> catalogName == null || it.catalog == null || it.catalog.equals(catalogName))
+                    .filter(it -> schemaName == null || it.schema == null || it.schema.equals(schemaName))
+                    .filter(it -> it.catalog == null || catalog == null || it.catalog.equalsIgnoreCase(catalog))
+                    .filter(it -> it.schema == null || schema == null || it.schema.equalsIgnoreCase(schema))
+                    .filter(it -> it.name.equals(tableName))
+                    .collect(Collectors.toSet());
+        }
         Set<Table> tables = new LinkedHashSet<>();
         try (ResultSet rs = con.getMetaData().getTables(
                 catalogName,
@@ -345,7 +399,67 @@ public class DatabaseValidators {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Load all the tables of the catalog/schema by one call in bulk mode.
+     *
+     * <p>Returns null if it is not bulk mode, or nothing can be found
+     * because the case of the specified catalog/schema is different from
+     * the database, the validator falls back to the per-table calls.</p>
+     */
+    private Map<String, List<Table>> bulkTableMultiMap() throws SQLException {
+        if (!bulkMetadata) {
+            return null;
+        }
+        Map<String, List<Table>> multiMap = bulkTableMultiMap;
+        if (multiMap == null) {
+            multiMap = new HashMap<>();
+            try (ResultSet rs = con.getMetaData().getTables(catalog, schema, "%", null)) {
+                while (rs.next()) {
+                    Table table = new Table(
+                            rs.getString("TABLE_CAT"),
+                            rs.getString("TABLE_SCHEM"),
+                            rs.getString("TABLE_NAME")
+                    );
+                    multiMap.computeIfAbsent(table.name.toUpperCase(), it -> new ArrayList<>()).add(table);
+                }
+            }
+            if (multiMap.isEmpty()) {
+                multiMap = Collections.emptyMap();
+            }
+            bulkTableMultiMap = multiMap;
+        }
+        return multiMap.isEmpty() ? null : multiMap;
+    }
+
     private Map<String, Column> columnsOf(Table table) throws SQLException {
+        if (bulkTableMultiMap() != null) {
+            // Only the schemas containing mapped tables are loaded,
+            // even if the schema of validator is not specified
+            Tuple2<String, String> key = new Tuple2<>(table.catalog, table.schema);
+            Map<Table, Map<String, Column>> columnMultiMap = bulkColumnMap.get(key);
+            if (columnMultiMap == null) {
+                columnMultiMap = new HashMap<>();
+                try (ResultSet rs = con.getMetaData().getColumns(table.catalog, table.schema, "%", null)) {
+                    while (rs.next()) {
+                        Table owner = new Table(
+                                rs.getString("TABLE_CAT"),
+                                rs.getString("TABLE_SCHEM"),
+                                rs.getString("TABLE_NAME")
+                        );
+                        Column column = new Column(
+                                owner,
+                                rs.getString("COLUMN_NAME").toUpperCase(),
+                                rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable
+                        );
+                        columnMultiMap
+                                .computeIfAbsent(owner, it -> new HashMap<>())
+                                .put(column.name, column);
+                    }
+                }
+                bulkColumnMap.put(key, columnMultiMap);
+            }
+            return columnMultiMap.getOrDefault(table, Collections.emptyMap());
+        }
         Map<String, Column> columnMap = new HashMap<>();
         try (ResultSet rs = con.getMetaData().getColumns(
                 table.catalog,
@@ -382,49 +496,113 @@ public class DatabaseValidators {
     }
 
     private Map<Set<String>, ForeignKey> foreignKeys(Table table) throws SQLException {
-        Map<Tuple2<String, Table>, Map<String, String>> map = new HashMap<>();
+        if (bulkTableMultiMap() != null) {
+            Map<Table, Map<Set<String>, ForeignKey>> foreignKeyMultiMap =
+                    bulkForeignKeys(table.catalog, table.schema);
+            if (foreignKeyMultiMap != null) {
+                return foreignKeyMultiMap.getOrDefault(table, Collections.emptyMap());
+            }
+        }
         try (ResultSet rs = con.getMetaData().getImportedKeys(
                 table.catalog,
                 table.schema,
                 table.name
         )) {
-            while (rs.next()) {
-                String constraintName = rs.getString("FK_NAME").toUpperCase();
-                Table referencedTable = tablesOf(
-                        upper(rs.getString("PKTABLE_CAT")),
-                        upper(rs.getString("PKTABLE_SCHEM")),
-                        rs.getString("PKTABLE_NAME").toUpperCase()
-                ).iterator().next();
-                String columnName = upper(rs.getString("FKCOLUMN_NAME"));
-                String referencedColumnName = upper(rs.getString("PKCOLUMN_NAME"));
-                map.computeIfAbsent(
-                        new Tuple2<>(constraintName, referencedTable),
-                        it -> new LinkedHashMap<>()
-                ).put(columnName, referencedColumnName);
+            return foreignKeys(rs, table).getOrDefault(table, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Load the foreign keys of all the tables of the catalog/schema by one call in bulk mode.
+     *
+     * <p>Returns null if the driver requires the table names, or returns nothing
+     * without them, the validator falls back to the per-table calls.</p>
+     */
+    private Map<Table, Map<Set<String>, ForeignKey>> bulkForeignKeys(
+            String catalogName,
+            String schemaName
+    ) throws SQLException {
+        Tuple2<String, String> key = new Tuple2<>(catalogName, schemaName);
+        Ref<Map<Table, Map<Set<String>, ForeignKey>>> ref = bulkForeignKeyRefMap.get(key);
+        if (ref == null) {
+            Map<Table, Map<Set<String>, ForeignKey>> foreignKeyMultiMap;
+            try (ResultSet rs = con.getMetaData().getCrossReference(
+                    null,
+                    null,
+                    null,
+                    catalogName,
+                    schemaName,
+                    null
+            )) {
+                foreignKeyMultiMap = foreignKeys(rs, null);
+            } catch (SQLException ex) {
+                foreignKeyMultiMap = Collections.emptyMap();
             }
+            ref = foreignKeyMultiMap.isEmpty() ? Ref.empty() : Ref.of(foreignKeyMultiMap);
+            bulkForeignKeyRefMap.put(key, ref);
+        }
+        return ref.getValue();
+    }
+
+    /**
+     * @param owner The table whose imported keys are read,
+     *              null means the owners are read from the result set.
+     */
+    private Map<Table, Map<Set<String>, ForeignKey>> foreignKeys(
+            ResultSet rs,
+            @Nullable Table owner
+    ) throws SQLException {
+        Map<Table, Map<Tuple2<String, Table>, Map<String, String>>> map = new HashMap<>();
+        while (rs.next()) {
+            Table table = owner != null ?
+                    owner :
+                    new Table(
+                            rs.getString("FKTABLE_CAT"),
+                            rs.getString("FKTABLE_SCHEM"),
+                            rs.getString("FKTABLE_NAME")
+                    );
+            String constraintName = rs.getString("FK_NAME").toUpperCase();
+            Table referencedTable = tablesOf(
+                    upper(rs.getString("PKTABLE_CAT")),
+                    upper(rs.getString("PKTABLE_SCHEM")),
+                    rs.getString("PKTABLE_NAME").toUpperCase()
+            ).iterator().next();
+            String columnName = upper(rs.getString("FKCOLUMN_NAME"));
+            String referencedColumnName = upper(rs.getString("PKCOLUMN_NAME"));
+            map
+                    .computeIfAbsent(table, it -> new HashMap<>())
+                    .computeIfAbsent(
+                            new Tuple2<>(constraintName, referencedTable),
+                            it -> new LinkedHashMap<>()
+                    )
+                    .put(columnName, referencedColumnName);
         }
         if (map.isEmpty()) {
             return Collections.emptyMap();
         }
-        Map<Set<String>, ForeignKey> foreignKeyMap = new HashMap<>();
-        for (Map.Entry<Tuple2<String, Table>, Map<String, String>> e : map.entrySet()) {
-            String constraintName = e.getKey().get_1();
-            Table referencedTable = e.getKey().get_2();
-            Map<String, String> subMap = e.getValue();
-            Set<String> columnNames = subMap.keySet();
-            Collection<String> referencedColumnNames = subMap.values();
-            ForeignKey foreignKey = new ForeignKey(
-                    constraintName,
-                    columnNames,
-                    referencedTable,
-                    new LinkedHashSet<>(referencedColumnNames)
-            );
-            foreignKeyMap.put(
-                    columnNames,
-                    foreignKey
-            );
-        }
-        return foreignKeyMap;
+        Map<Table, Map<Set<String>, ForeignKey>> foreignKeyMultiMap = new HashMap<>();
+        for (Map.Entry<Table, Map<Tuple2<String, Table>, Map<String, String>>> tableEntry : map.entrySet()) {
+            Map<Set<String>, ForeignKey> foreignKeyMap = new HashMap<>();
+            for (Map.Entry<Tuple2<String, Table>, Map<String, String>> e : tableEntry.getValue().entrySet()) {
+                String constraintName = e.getKey().get_1();
+                Table referencedTable = e.getKey().get_2();
+                Map<String, String> subMap = e.getValue();
+                Set<String> columnNames = subMap.keySet();
+                Collection<String> referencedColumnNames = subMap.values();
+                ForeignKey foreignKey = new ForeignKey(
+                        constraintName,
+                        columnNames,
+                        referencedTable,
+                        new LinkedHashSet<>(referencedColumnNames)
+                );
+                foreignKeyMap.put(
+                        columnNames,
+                        foreignKey
+                );
+            }
+            foreignKeyMultiMap.put(tableEntry.getKey(), foreignKeyMap);
+        }
+        return foreignKeyMultiMap;
     }
 
     private static String upper(String text) {
@@ -444,7 +622,7 @@ public class DatabaseValidators {
 
         final Map<String, Column> columnMap;
 
-        final Set<String> primaryKeyColumns;
+        private Set<String> _primaryKeyColumns;
 
         private Map<Set<String>, ForeignKey> _foreignKeyMap;
 
@@ -453,19 +631,26 @@ public class DatabaseValidators {
             this.schema = schema;
             this.name = name;
             this.columnMap = Collections.emptyMap();
-            this.primaryKeyColumns = Collections.emptySet();
         }
 
         public Table(
                 Table base,
-                Map<String, Column> columnMap,
-                Set<String> primaryKeyColumns
+                Map<String, Column> columnMap
         ) {
             this.catalog = base.catalog;
             this.schema = base.schema;
             this.name = base.name;
             this.columnMap = columnMap;
-            this.primaryKeyColumns = primaryKeyColumns;
+        }
+
+        // Rarely used, so it is loaded lazily
+        public Set<String> getPrimaryKeyColumns(DatabaseValidators databaseValidators) throws SQLException {
+            Set<String> columnNames = _primaryKeyColumns;
+            if (columnNames == null) {
+                columnNames = databaseValidators.primaryKeyColumns(this);
+                _primaryKeyColumns = columnNames;
+            }
+            return columnNames;
         }
 
         public ForeignKey getForeignKey(ForeignKeyContext ctx, ColumnDefinition columnDefinition) throws SQLException{
@@ -510,8 +695,8 @@ public class DatabaseValidators {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Table table = (Table) o;
-            return catalog.equals(table.catalog) &&
-                    schema.equals(table.schema) &&
+            return Objects.equals(catalog, table.catalog) &&
+                    Objects.equals(schema, table.schema) &&
                     name.equals(table.name);
         }
 
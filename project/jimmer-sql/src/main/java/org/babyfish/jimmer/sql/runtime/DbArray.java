@@ -0,0 +1,46 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import java.util.Arrays;
+
+/**
+ * The variable bound by one array parameter, see {@link SqlBuilder#arrayVariable(Object[])}.
+ *
+ * <p>Other arrays, such as the values of array properties, are not wrapped
+ * and still bound by {@link java.sql.PreparedStatement#setObject(int, Object)}.</p>
+ */
+public class DbArray {
+
+    private final Object[] elements;
+
+    public DbArray(Object[] elements) {
+        this.elements = elements;
+    }
+
+    public Object[] getElements() {
+        return elements;
+    }
+
+    public Class<?> getElementType() {
+        return elements.getClass().getComponentType();
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elements);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DbArray dbArray = (DbArray) o;
+        return Arrays.equals(elements, dbArray.elements);
+    }
+
+    @Override
+    public String toString() {
+        return "DbArray{" +
+                "elements=" + Arrays.toString(elements) +
+                '}';
+    }
+}
@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.*;
 import java.time.*;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -22,23 +23,24 @@ public class DefaultExecutor implements Executor {
         String sql = args.sql;
         List<Object> variables = args.variables;
         Dialect dialect = args.sqlClient.getDialect();
-        try (PreparedStatement stmt = args.statementFactory != null ?
-                args.statementFactory.preparedStatement(args.con, sql) :
-                args.con.prepareStatement(sql)
-        ) {
-            int size = variables.size();
-            for (int index = 0; index < size; index++) {
-                Object variable = variables.get(index);
-                if (variable instanceof DbNull) {
-                    stmt.setNull(
-                            index + 1,
-                            toJdbcType(((DbNull)variable).getType(), dialect)
-                    );
-                } else {
-                    stmt.setObject(index + 1, variable);
-                }
+        StatementCache statementCache = args.statementFactory == null ?
+                StatementCache.current(args.con) :
+                null;
+        List<Array> arrays = new ArrayList<>();
+        SqlFunction<PreparedStatement, R> block = stmt -> {
+            setParameters(stmt, variables, dialect, arrays);
+            return apply(stmt, args.block);
+        };
+        try {
+            if (statementCache != null) {
+                return executeByCache(statementCache, sql, block);
+            }
+            try (PreparedStatement stmt = args.statementFactory != null ?
+                    args.statementFactory.preparedStatement(args.con, sql) :
+                    args.con.prepareStatement(sql)
+            ) {
+                return block.apply(stmt);
             }
-            return args.block.apply(stmt);
         } catch (SQLException ex) {
             throw new ExecutionException(
                     "Cannot execute SQL statement: " +
@@ -47,6 +49,138 @@ public class DefaultExecutor implements Executor {
                             variables,
                     ex
             );
+        } finally {
+            free(arrays);
+        }
+    }
+
+    @Override
+    public <R> R executeBatch(@NotNull BatchArgs<R> args) {
+        String sql = args.sql;
+        Dialect dialect = args.sqlClient.getDialect();
+        StatementCache statementCache = args.statementFactory == null ?
+                StatementCache.current(args.con) :
+                null;
+        List<Array> arrays = new ArrayList<>();
+        SqlFunction<PreparedStatement, R> block = stmt -> {
+            for (List<Object> variables : args.variableLists) {
+                setParameters(stmt, variables, dialect, arrays);
+                stmt.addBatch();
+            }
+            return apply(stmt, args.block);
+        };
+        try {
+            if (statementCache != null) {
+                return executeByCache(statementCache, sql, block);
+            }
+            try (PreparedStatement stmt = args.statementFactory != null ?
+                    args.statementFactory.preparedStatement(args.con, sql) :
+                    args.con.prepareStatement(sql)
+            ) {
+                return block.apply(stmt);
+            }
+        } catch (SQLException ex) {
+            throw new ExecutionException(
+                    "Cannot execute batch SQL statement: " +
+                            sql +
+                            ", batch size: " +
+                            args.variableLists.size(),
+                    ex
+            );
+        } finally {
+            free(arrays);
+        }
+    }
+
+    /**
+     * The statement is not closed but returned to the cache,
+     * unless the execution failed.
+     */
+    private static <R> R executeByCache(
+            StatementCache statementCache,
+            String sql,
+            SqlFunction<PreparedStatement, R> block
+    ) throws SQLException {
+        StatementCache.Entry entry = statementCache.acquire(sql);
+        boolean broken = true;
+        try {
+            R result = block.apply(entry.statement);
+            broken = false;
+            return result;
+        } finally {
+            statementCache.release(sql, entry, broken);
+        }
+    }
+
+    private static <R> R apply(
+            PreparedStatement stmt,
+            SqlFunction<PreparedStatement, R> block
+    ) throws SQLException {
+        StatementCanceller canceller = StatementCanceller.current();
+        if (canceller == null) {
+            return block.apply(stmt);
+        }
+        canceller.enter(stmt);
+        try {
+            return block.apply(stmt);
+        } finally {
+            canceller.leave(stmt);
+        }
+    }
+
+    /**
+     * @param arrays The arrays created by the connection, they must be freed after execution
+     */
+    private void setParameters(
+            PreparedStatement stmt,
+            List<Object> variables,
+            Dialect dialect,
+            List<Array> arrays
+    ) throws SQLException {
+        int size = variables.size();
+        for (int index = 0; index < size; index++) {
+            Object variable = variables.get(index);
+            if (variable instanceof DbNull) {
+                stmt.setNull(
+                        index + 1,
+                        toJdbcType(((DbNull)variable).getType(), dialect)
+                );
+            } else if (variable instanceof DbArray) {
+                setArray(stmt, index + 1, (DbArray) variable, dialect, arrays);
+            } else {
+                stmt.setObject(index + 1, variable);
+            }
+        }
+    }
+
+    /*
+     * Not all drivers can bind object arrays by `setObject`,
+     * for example, postgres requires the element type.
+     */
+    private static void setArray(
+            PreparedStatement stmt,
+            int parameterIndex,
+            DbArray array,
+            Dialect dialect,
+            List<Array> arrays
+    ) throws SQLException {
+        String typeName = dialect.getArrayElementTypeName(array.getElementType());
+        if (typeName == null) {
+            stmt.setObject(parameterIndex, array.getElements());
+            return;
+        }
+        Array sqlArray = stmt.getConnection().createArrayOf(typeName, array.getElements());
+        arrays.add(sqlArray);
+        stmt.setArray(parameterIndex, sqlArray);
+    }
+
+    private static void free(List<Array> arrays) {
+        for (Array array : arrays) {
+            try {
+                array.free();
+            } catch (SQLException ex) {
+                // The statement has been executed, failing to release the array is not an error of it
+            }
         }
     }
 
@@ -457,6 +457,48 @@ public class EntityManager {
         data.getTypeMap(strategy);
     }
 
+    /**
+     * Resolve the lazy metadata of all entity types, such as target types,
+     * mappedBy/opposite properties, dependencies, converters and storages,
+     * so that the first operation of each type does not pay for it.
+     *
+     * <p>The prop ids, key props, association kinds, Kotlin properties, explicit
+     * column/join column/join table names, mappedBy and converter classes are
+     * registered by the generated code, so no annotation is read for them.
+     * The rest depends on the naming strategy and foreign key strategy.</p>
+     *
+     * <p>The metadata is resolved in the current thread one by one,
+     * the model errors are raised immediately.</p>
+     */
+    public void warmUp(MetadataStrategy strategy) {
+        validate(strategy);
+        for (ImmutableType type : data.map.keySet()) {
+            if (!type.isEntity()) {
+                continue;
+            }
+            type.getTableName(strategy);
+            type.getKeyProps();
+            type.getLogicalDeletedInfo();
+            type.getSelectableProps();
+            type.getSelectableScalarProps();
+            type.getSelectableReferenceProps();
+            for (ImmutableProp prop : type.getProps().values()) {
+                prop.getTargetType();
+                prop.getDependencies();
+                prop.getPropsDependOnSelf();
+                prop.getConverter();
+                prop.getIdViewBaseProp();
+                prop.getManyToManyViewBaseProp();
+                if (prop.isAssociation(TargetLevel.PERSISTENT)) {
+                    prop.getMappedBy();
+                    prop.getOpposite();
+                    prop.isTargetForeignKeyReal(strategy);
+                }
+                prop.getStorage(strategy);
+            }
+        }
+    }
+
     private static void tableSharedBy(Key key, ImmutableType type1, ImmutableType type2) {
         if (type1 instanceof AssociationType && type2 instanceof AssociationType) {
             AssociationType associationType1 = (AssociationType) type1;
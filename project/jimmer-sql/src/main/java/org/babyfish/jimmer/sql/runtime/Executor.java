@@ -6,11 +6,45 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.util.List;
+import java.util.function.BinaryOperator;
 
 public interface Executor {
 
     <R> R execute(@NotNull Args<R> args);
 
+    /**
+     * Execute one SQL statement with several groups of variables by JDBC batch.
+     *
+     * <p>The default implementation does not use JDBC batch, it executes
+     * each group of variables by {@link #execute(Args)} so that the user defined
+     * executors which do not override this method still see every statement,
+     * the results are merged by {@link BatchArgs#combiner}.</p>
+     */
+    default <R> R executeBatch(@NotNull BatchArgs<R> args) {
+        R result = null;
+        boolean first = true;
+        for (List<Object> variables : args.variableLists) {
+            R rowResult = execute(
+                    new Args<>(
+                            args.sqlClient,
+                            args.con,
+                            args.sql,
+                            variables,
+                            null,
+                            args.purpose,
+                            args.statementFactory,
+                            stmt -> {
+                                stmt.addBatch();
+                                return args.block.apply(stmt);
+                            }
+                    )
+            );
+            result = first ? rowResult : args.combiner.apply(result, rowResult);
+            first = false;
+        }
+        return result;
+    }
+
     /**
      * This method will never be invoked unless the current operation is `Query.forEach`
      *
@@ -109,4 +143,52 @@ public interface Executor {
             this.closingCursorId = closingCursorId;
         }
     }
+
+    class BatchArgs<R> {
+
+        public final JSqlClientImplementor sqlClient;
+
+        public final Connection con;
+
+        public final String sql;
+
+        public final List<List<Object>> variableLists;
+
+        public final ExecutionPurpose purpose;
+
+        @Nullable
+        public final ExecutorContext ctx;
+
+        public final StatementFactory statementFactory;
+
+        public final SqlFunction<PreparedStatement, R> block;
+
+        /**
+         * Merges the results of the block when the batch is
+         * split into several executions, for example, by the
+         * default implementation of {@link Executor#executeBatch(BatchArgs)}
+         */
+        public final BinaryOperator<R> combiner;
+
+        public BatchArgs(
+                JSqlClientImplementor sqlClient,
+                Connection con,
+                String sql,
+                List<List<Object>> variableLists,
+                ExecutionPurpose purpose,
+                StatementFactory statementFactory,
+                SqlFunction<PreparedStatement, R> block,
+                BinaryOperator<R> combiner
+        ) {
+            this.sqlClient = sqlClient;
+            this.con = con;
+            this.sql = sql;
+            this.variableLists = variableLists;
+            this.purpose = purpose;
+            this.ctx = ExecutorContext.create(sqlClient);
+            this.statementFactory = statementFactory;
+            this.block = block;
+            this.combiner = combiner;
+        }
+    }
 }
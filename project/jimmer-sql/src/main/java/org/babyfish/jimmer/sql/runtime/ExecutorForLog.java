@@ -42,6 +42,17 @@ class ExecutorForLog implements Executor {
         return simpleLog(args);
     }
 
+    @Override
+    public <R> R executeBatch(@NotNull BatchArgs<R> args) {
+        if (!LOGGER.isInfoEnabled()) {
+            return raw.executeBatch(args);
+        }
+        if (args.sqlClient.getSqlFormatter().isPretty()) {
+            return prettyBatchLog(args);
+        }
+        return simpleBatchLog(args);
+    }
+
     @Override
     public void openCursor(
             long cursorId,
@@ -158,6 +169,71 @@ class ExecutorForLog implements Executor {
         return result;
     }
 
+    private <R> R simpleBatchLog(BatchArgs<R> args) {
+        ExecutorContext ctx = args.ctx;
+        Logger logger = ctx != null ?
+                LoggerFactory.getLogger(ctx.getPrimaryElement().getClassName()) :
+                LOGGER;
+        logger.info(
+                "jimmer> batch sql: " +
+                        args.sql +
+                        ", batch variables: " +
+                        args.variableLists +
+                        ", purpose: " +
+                        args.purpose
+        );
+        if (ctx != null) {
+            for (StackTraceElement element : ctx.getMatchedElements()) {
+                logger.info(
+                        "jimmer stacktrace-element)> {}",
+                        element
+                );
+            }
+        }
+        return raw.executeBatch(args);
+    }
+
+    private <R> R prettyBatchLog(BatchArgs<R> args) {
+        R result = null;
+        Throwable throwable = null;
+        long millis = System.currentTimeMillis();
+        try {
+            result = raw.executeBatch(args);
+        } catch (RuntimeException | Error ex) {
+            throwable = ex;
+        }
+        millis = System.currentTimeMillis() - millis;
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("Execute batch SQL").append(REQUEST).append('\n');
+        if (args.ctx != null) {
+            builder.append("--- Business related stack trace information ---\n");
+            for (StackTraceElement element : args.ctx.getMatchedElements()) {
+                builder.append(element).append('\n');
+            }
+        }
+        builder.append("Purpose: ").append(args.purpose).append('\n');
+        builder.append("SQL: ").append(args.sql).append('\n');
+        builder.append("Batch size: ").append(args.variableLists.size()).append('\n');
+        appendPrettyResponse(
+                builder,
+                -1,
+                throwable,
+                millis
+        );
+        builder.append(RESPONSE).append("Execute batch SQL");
+
+        LOGGER.info(builder.toString());
+
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException)throwable;
+        }
+        if (throwable != null) {
+            throw (Error)throwable;
+        }
+        return result;
+    }
+
     private void appendPrettyRequest(
             StringBuilder builder,
             String sql,
@@ -240,6 +316,8 @@ class ExecutorForLog implements Executor {
         }
         if (variable instanceof DbNull) {
             builder.append("<null: ").append(((DbNull)variable).getType().getSimpleName()).append('>');
+        } else if (variable instanceof DbArray) {
+            builder.append(Arrays.toString(((DbArray)variable).getElements()));
         } else if (variable instanceof String) {
             String text = (String) variable;
             if (text.length() > maxVariableContentLength) {
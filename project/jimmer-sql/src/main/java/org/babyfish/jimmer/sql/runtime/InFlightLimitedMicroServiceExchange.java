@@ -0,0 +1,130 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent requests of each micro service,
+ * see {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setMicroServiceMaxInFlight(int)}.
+ *
+ * <p>The permit of asynchronous request is released when the future
+ * is completed, so the caller waits only when too many requests
+ * of the same micro service are still running.</p>
+ */
+public class InFlightLimitedMicroServiceExchange implements MicroServiceExchange {
+
+    private final MicroServiceExchange raw;
+
+    private final int maxInFlight;
+
+    private final ConcurrentMap<String, Semaphore> semaphoreMap = new ConcurrentHashMap<>();
+
+    public InFlightLimitedMicroServiceExchange(MicroServiceExchange raw, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("`maxInFlight` must be positive");
+        }
+        this.raw = raw;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public MicroServiceExchange getRaw() {
+        return raw;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public List<ImmutableSpi> findByIds(
+            String microServiceName,
+            Collection<?> ids,
+            Fetcher<?> fetcher
+    ) throws Exception {
+        Semaphore semaphore = acquire(microServiceName);
+        try {
+            return raw.findByIds(microServiceName, ids, fetcher);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    @Override
+    public List<Tuple2<Object, ImmutableSpi>> findByAssociatedIds(
+            String microServiceName,
+            ImmutableProp prop,
+            Collection<?> targetIds,
+            Fetcher<?> fetcher
+    ) throws Exception {
+        Semaphore semaphore = acquire(microServiceName);
+        try {
+            return raw.findByAssociatedIds(microServiceName, prop, targetIds, fetcher);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<ImmutableSpi>> findByIdsAsync(
+            String microServiceName,
+            Collection<?> ids,
+            Fetcher<?> fetcher
+    ) {
+        return limit(microServiceName, () -> raw.findByIdsAsync(microServiceName, ids, fetcher));
+    }
+
+    @Override
+    public CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> findByAssociatedIdsAsync(
+            String microServiceName,
+            ImmutableProp prop,
+            Collection<?> targetIds,
+            Fetcher<?> fetcher
+    ) {
+        return limit(
+                microServiceName,
+                () -> raw.findByAssociatedIdsAsync(microServiceName, prop, targetIds, fetcher)
+        );
+    }
+
+    private <R> CompletableFuture<R> limit(
+            String microServiceName,
+            Supplier<CompletableFuture<R>> block
+    ) {
+        Semaphore semaphore;
+        try {
+            semaphore = acquire(microServiceName);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            CompletableFuture<R> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+        CompletableFuture<R> future;
+        try {
+            future = block.get();
+        } catch (RuntimeException | Error ex) {
+            semaphore.release();
+            throw ex;
+        }
+        return future.whenComplete((r, ex) -> semaphore.release());
+    }
+
+    private Semaphore acquire(String microServiceName) throws InterruptedException {
+        Semaphore semaphore = semaphoreMap.computeIfAbsent(
+                microServiceName,
+                it -> new Semaphore(maxInFlight)
+        );
+        semaphore.acquire();
+        return semaphore;
+    }
+}
@@ -11,10 +11,14 @@ import org.babyfish.jimmer.sql.cache.CacheOperator;
 import org.babyfish.jimmer.sql.dialect.Dialect;
 import org.babyfish.jimmer.sql.event.TriggerType;
 import org.babyfish.jimmer.sql.filter.FilterConfig;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
 import org.babyfish.jimmer.sql.meta.IdGenerator;
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 public interface JSqlClientImplementor extends JSqlClient {
@@ -53,6 +57,17 @@ public interface JSqlClientImplementor extends JSqlClient {
 
     int getOffsetOptimizingThreshold();
 
+    /**
+     * @return The executor used by object fetcher to load
+     * sibling associations concurrently, or null if it is disabled.
+     */
+    @Nullable
+    Executor getFetcherExecutor();
+
+    boolean isInListPaddingEnabled();
+
+    boolean isInListToAnyEqualityEnabled();
+
     TransientResolver<?, ?> getResolver(ImmutableProp prop);
 
     Class<? extends TransientResolverProvider> getResolverProviderClass();
@@ -67,6 +82,8 @@ public interface JSqlClientImplementor extends JSqlClient {
 
     Reader<?> getReader(ImmutableProp prop);
 
+    Reader<?> getReader(Fetcher<?> fetcher);
+
     String getMicroServiceName();
 
     MicroServiceExchange getMicroServiceExchange();
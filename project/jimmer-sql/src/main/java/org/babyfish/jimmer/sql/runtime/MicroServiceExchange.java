@@ -7,6 +7,7 @@ import org.babyfish.jimmer.sql.fetcher.Fetcher;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface MicroServiceExchange {
 
@@ -22,4 +23,45 @@ public interface MicroServiceExchange {
             Collection<?> targetIds,
             Fetcher<?> fetcher
     ) throws Exception;
+
+    /**
+     * Asynchronous version of {@link #findByIds(String, Collection, Fetcher)}.
+     *
+     * <p>Object fetcher issues the requests of all the remote associations
+     * of the same level by this method before waiting for any of them.
+     * The default implementation calls the synchronous method directly,
+     * override it to send the request without blocking the current thread.</p>
+     */
+    default CompletableFuture<List<ImmutableSpi>> findByIdsAsync(
+            String microServiceName,
+            Collection<?> ids,
+            Fetcher<?> fetcher
+    ) {
+        CompletableFuture<List<ImmutableSpi>> future = new CompletableFuture<>();
+        try {
+            future.complete(findByIds(microServiceName, ids, fetcher));
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /**
+     * Asynchronous version of {@link #findByAssociatedIds(String, ImmutableProp, Collection, Fetcher)},
+     * see {@link #findByIdsAsync(String, Collection, Fetcher)} for more details.
+     */
+    default CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> findByAssociatedIdsAsync(
+            String microServiceName,
+            ImmutableProp prop,
+            Collection<?> targetIds,
+            Fetcher<?> fetcher
+    ) {
+        CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> future = new CompletableFuture<>();
+        try {
+            future.complete(findByAssociatedIds(microServiceName, prop, targetIds, fetcher));
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
 }
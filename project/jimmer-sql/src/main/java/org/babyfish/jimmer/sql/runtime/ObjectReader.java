@@ -16,6 +16,8 @@ class ObjectReader implements Reader<Object> {
 
     private final ImmutableType type;
 
+    private final PropId idPropId;
+
     private final Reader<?> idReader;
 
     private final PropId[] nonIdPropIds;
@@ -24,6 +26,7 @@ class ObjectReader implements Reader<Object> {
 
     ObjectReader(ImmutableType type, Reader<?> idReader, Map<ImmutableProp, Reader<?>> nonIdReaders) {
         this.type = type;
+        this.idPropId = type.getIdProp().getId();
         this.idReader = idReader;
         this.nonIdPropIds = nonIdReaders.keySet().stream().map(ImmutableProp::getId).toArray(PropId[]::new);
         this.nonIdReaders = nonIdReaders.values().toArray(EMPTY_READERS);
@@ -37,7 +40,7 @@ class ObjectReader implements Reader<Object> {
             return null;
         }
         DraftSpi spi = (DraftSpi) type.getDraftFactory().apply(ctx.draftContext(), null);
-        spi.__set(type.getIdProp().getId(), id);
+        spi.__set(idPropId, id);
         try {
             int size = nonIdReaders.length;
             for (int i = 0; i < size; i++) {
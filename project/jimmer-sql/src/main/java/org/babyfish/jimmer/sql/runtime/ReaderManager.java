@@ -2,6 +2,7 @@ package org.babyfish.jimmer.sql.runtime;
 
 import org.babyfish.jimmer.DraftConsumerUncheckedException;
 import org.babyfish.jimmer.impl.util.PropCache;
+import org.babyfish.jimmer.impl.util.StaticCache;
 import org.babyfish.jimmer.impl.util.TypeCache;
 import org.babyfish.jimmer.meta.*;
 import org.babyfish.jimmer.runtime.DraftSpi;
@@ -9,6 +10,8 @@ import org.babyfish.jimmer.sql.association.Association;
 import org.babyfish.jimmer.sql.association.meta.AssociationType;
 import org.babyfish.jimmer.sql.ast.impl.util.EmbeddableObjects;
 import org.babyfish.jimmer.sql.dialect.Dialect;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.fetcher.Field;
 import org.babyfish.jimmer.sql.meta.ColumnDefinition;
 import org.babyfish.jimmer.sql.meta.FormulaTemplate;
 import org.babyfish.jimmer.sql.meta.SqlTemplate;
@@ -28,6 +31,10 @@ public class ReaderManager {
 
     private static final Map<Class<?>, Reader<?>> BASE_READER_MAP;
 
+    // Dynamic fetchers, for example, the fetchers created by GraphQL requests,
+    // can create too many shapes
+    private static final int FETCHER_READER_CAPACITY = 1024;
+
     private final JSqlClientImplementor sqlClient;
 
     private TypeCache<Reader<?>> typeReaderCache =
@@ -36,6 +43,9 @@ public class ReaderManager {
     private PropCache<Reader<?>> propReaderCache =
             new PropCache<>(this::createPropReader, true);
 
+    private StaticCache<FetcherShape, Reader<?>> fetcherReaderCache =
+            new StaticCache<>(this::createFetcherReader, false, FETCHER_READER_CAPACITY);
+
     public ReaderManager(JSqlClientImplementor sqlClient) {
         this.sqlClient = sqlClient;
     }
@@ -53,6 +63,19 @@ public class ReaderManager {
         return propReaderCache.get(prop);
     }
 
+    /**
+     * Get the object reader of a fetcher.
+     *
+     * <p>Different fetcher objects selecting the same columns share
+     * the same reader, so that the reader needn't be created again
+     * and again for each execution of query. The properties without
+     * columns, such as one-to-many associations and transient properties,
+     * are not a part of the key of the cache.</p>
+     */
+    public Reader<?> reader(Fetcher<?> fetcher) {
+        return fetcherReaderCache.get(new FetcherShape(fetcher, this));
+    }
+
     @SuppressWarnings("unchecked")
     private Reader<?> createPropReader(ImmutableProp prop) {
 
@@ -95,6 +118,16 @@ public class ReaderManager {
         return new ObjectReader(immutableType, idReader, nonIdReaderMap);
     }
 
+    private Reader<?> createFetcherReader(FetcherShape shape) {
+        ImmutableType type = shape.type;
+        Reader<?> idReader = reader(type.getIdProp());
+        Map<ImmutableProp, Reader<?>> nonIdReaderMap = new LinkedHashMap<>();
+        for (ImmutableProp prop : shape.props) {
+            nonIdReaderMap.put(prop, reader(prop));
+        }
+        return new ObjectReader(type, idReader, nonIdReaderMap);
+    }
+
     @SuppressWarnings("unchecked")
     private Reader<?> scalarReader(ImmutableProp prop) {
         ImmutableType immutableType = prop.getTargetType();
@@ -584,4 +617,45 @@ public class ReaderManager {
         map.put(ZonedDateTime.class, new ZonedDateTimeReader());
         BASE_READER_MAP = map;
     }
+
+    private static class FetcherShape {
+
+        final ImmutableType type;
+
+        final ImmutableProp[] props;
+
+        private final int hash;
+
+        FetcherShape(Fetcher<?> fetcher, ReaderManager readerManager) {
+            Collection<Field> fields = fetcher.getFieldMap().values();
+            ImmutableProp[] props = new ImmutableProp[fields.size()];
+            int index = 0;
+            for (Field field : fields) {
+                ImmutableProp prop = field.getProp();
+                if (!prop.isId() && readerManager.reader(prop) != null) {
+                    props[index++] = prop;
+                }
+            }
+            this.type = fetcher.getImmutableType();
+            this.props = index == props.length ? props : Arrays.copyOf(props, index);
+            this.hash = type.hashCode() * 31 + Arrays.hashCode(this.props);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FetcherShape other = (FetcherShape) o;
+            return hash == other.hash && type.equals(other.type) && Arrays.equals(props, other.props);
+        }
+    }
 }
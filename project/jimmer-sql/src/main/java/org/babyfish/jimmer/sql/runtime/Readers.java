@@ -11,13 +11,11 @@ import org.babyfish.jimmer.sql.ast.impl.ExpressionImplementor;
 import org.babyfish.jimmer.sql.ast.impl.table.TableSelection;
 import org.babyfish.jimmer.sql.ast.table.Table;
 import org.babyfish.jimmer.sql.ast.table.spi.PropExpressionImplementor;
-import org.babyfish.jimmer.sql.fetcher.Fetcher;
-import org.babyfish.jimmer.sql.fetcher.Field;
 import org.babyfish.jimmer.sql.fetcher.impl.FetcherSelection;
+import org.babyfish.jimmer.sql.fetcher.impl.Fetchers;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Function;
 
 class Readers {
 
@@ -112,20 +110,12 @@ class Readers {
             return sqlClient.getReader(immutableType);
         }
         if (selection instanceof FetcherSelection<?>) {
-            Fetcher<?> fetcher = ((FetcherSelection<?>) selection).getFetcher();
-            ImmutableType type = fetcher.getImmutableType();
-            Reader<?> idReader = sqlClient.getReader(type.getIdProp());
-            Map<ImmutableProp, Reader<?>> nonIdReaderMap = new LinkedHashMap<>();
-            for (Field field : fetcher.getFieldMap().values()) {
-                ImmutableProp prop = field.getProp();
-                if (!prop.isId()) {
-                    Reader<?> subReader = sqlClient.getReader(prop);
-                    if (subReader != null) {
-                        nonIdReaderMap.put(prop, subReader);
-                    }
-                }
+            FetcherSelection<?> fetcherSelection = (FetcherSelection<?>) selection;
+            Reader<?> reader = sqlClient.getReader(fetcherSelection.getFetcher());
+            if (Fetchers.isConvertedByReader(sqlClient, fetcherSelection)) {
+                return convertingReader(reader, fetcherSelection.getConverter());
             }
-            return new ObjectReader(type, idReader, nonIdReaderMap);
+            return reader;
         }
         ExpressionImplementor<?> unwrapped = AbstractTypedEmbeddedPropExpression.<ExpressionImplementor<?>>unwrap(selection);
         if (unwrapped instanceof PropExpression<?>) {
@@ -136,4 +126,13 @@ class Readers {
         }
         return sqlClient.getReader(unwrapped.getType());
     }
+
+    @SuppressWarnings("unchecked")
+    private static Reader<?> convertingReader(Reader<?> reader, Function<?, ?> converter) {
+        Function<Object, Object> typedConverter = (Function<Object, Object>) converter;
+        return (rs, ctx) -> {
+            Object entity = reader.read(rs, ctx);
+            return entity != null ? typedConverter.apply(entity) : null;
+        };
+    }
 }
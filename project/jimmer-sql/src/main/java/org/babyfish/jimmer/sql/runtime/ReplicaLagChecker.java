@@ -0,0 +1,22 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Measures the replication lag of a replica, for example
+ *
+ * <ul>
+ *     <li>Postgres: `select extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000`</li>
+ *     <li>MySQL: `Seconds_Behind_Source` of `show replica status`</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface ReplicaLagChecker {
+
+    /**
+     * @param con A connection of the checked replica
+     * @return The replication lag in milliseconds
+     */
+    long getLagMillis(Connection con) throws SQLException;
+}
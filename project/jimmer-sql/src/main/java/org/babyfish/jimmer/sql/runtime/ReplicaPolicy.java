@@ -0,0 +1,65 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses the replica of {@link ReplicaSet} which executes the next read.
+ *
+ * <p>The candidates are never empty and only contain
+ * the replicas which are not ejected.</p>
+ */
+@FunctionalInterface
+public interface ReplicaPolicy {
+
+    ReplicaSet.Replica select(List<ReplicaSet.Replica> candidates);
+
+    static ReplicaPolicy roundRobin() {
+        AtomicInteger sequence = new AtomicInteger();
+        return candidates -> candidates.get(
+                (sequence.getAndIncrement() & Integer.MAX_VALUE) % candidates.size()
+        );
+    }
+
+    static ReplicaPolicy leastInFlight() {
+        return candidates -> {
+            ReplicaSet.Replica selected = null;
+            int min = Integer.MAX_VALUE;
+            int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                ReplicaSet.Replica replica = candidates.get((i + offset) % candidates.size());
+                int inFlight = replica.getInFlightCount();
+                if (inFlight < min) {
+                    min = inFlight;
+                    selected = replica;
+                }
+            }
+            return selected;
+        };
+    }
+
+    /**
+     * Randomly chooses a replica, the weight of each replica
+     * is the reciprocal of its average execution latency.
+     */
+    static ReplicaPolicy latencyWeighted() {
+        return candidates -> {
+            int size = candidates.size();
+            double[] weights = new double[size];
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                long latency = Math.max(candidates.get(i).getAverageLatencyNanos(), 1L);
+                total += weights[i] = 1D / latency;
+            }
+            double random = ThreadLocalRandom.current().nextDouble(total);
+            for (int i = 0; i < size; i++) {
+                random -= weights[i];
+                if (random < 0) {
+                    return candidates.get(i);
+                }
+            }
+            return candidates.get(size - 1);
+        };
+    }
+}
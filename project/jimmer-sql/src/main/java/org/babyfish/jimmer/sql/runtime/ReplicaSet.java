@@ -0,0 +1,490 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A group of read replicas which can be used as the slave connection manager
+ * of sql client, see {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setSlaveConnectionManager(ConnectionManager)}.
+ *
+ * <ul>
+ *     <li>Each read is executed by the replica chosen by the {@link ReplicaPolicy}</li>
+ *     <li>If a {@link ReplicaLagChecker} is specified, the replicas are checked periodically
+ *     by a scheduler so that reads never wait for the checks,
+ *     the replica whose lag exceeds the threshold or whose check fails is ejected
+ *     until a later check succeeds. The first check is done one interval after this
+ *     object is built, call {@link #checkHealth()} at startup to check them immediately,
+ *     and call {@link #close()} to stop the checks</li>
+ *     <li>If all replicas are ejected, the fallback connection manager is used,
+ *     or all replicas are used if there is no fallback</li>
+ * </ul>
+ *
+ * <p>Read-your-writes: within {@link #executeRequest(Supplier)}, once a statement
+ * modifies data, all subsequent queries of that request are executed by the
+ * master connection manager of sql client. The state of the request can be
+ * passed to other threads by {@link #currentRequest()} and {@link RequestState#execute(Supplier)}.</p>
+ */
+public class ReplicaSet implements ConnectionManager, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaSet.class);
+
+    private static final ThreadLocal<RequestState> REQUEST_STATE_LOCAL = new ThreadLocal<>();
+
+    private final List<Replica> replicas;
+
+    private final ReplicaPolicy policy;
+
+    @Nullable
+    private final ReplicaLagChecker lagChecker;
+
+    private final long maxLagMillis;
+
+    @Nullable
+    private final ConnectionManager fallback;
+
+    @Nullable
+    private final ScheduledExecutorService ownedScheduler;
+
+    @Nullable
+    private final ScheduledFuture<?> checkFuture;
+
+    private ReplicaSet(Builder builder) {
+        List<Replica> replicas = new ArrayList<>(builder.replicaMap.size());
+        for (Map.Entry<String, ConnectionManager> e : builder.replicaMap.entrySet()) {
+            replicas.add(new Replica(e.getKey(), e.getValue()));
+        }
+        this.replicas = Collections.unmodifiableList(replicas);
+        this.policy = builder.policy;
+        this.lagChecker = builder.lagChecker;
+        this.maxLagMillis = builder.maxLag.toMillis();
+        this.fallback = builder.fallback;
+        if (lagChecker != null) {
+            ScheduledExecutorService scheduler = builder.scheduler;
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "jimmer-replica-checker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                ownedScheduler = scheduler;
+            } else {
+                ownedScheduler = null;
+            }
+            long intervalNanos = builder.checkInterval.toNanos();
+            checkFuture = scheduler.scheduleWithFixedDelay(
+                    this::checkHealthSafely,
+                    intervalNanos,
+                    intervalNanos,
+                    TimeUnit.NANOSECONDS
+            );
+        } else {
+            ownedScheduler = null;
+            checkFuture = null;
+        }
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public <R> R execute(Function<Connection, R> block) {
+        Replica replica = select();
+        if (replica == null) {
+            return fallback.execute(block);
+        }
+        return replica.execute(block);
+    }
+
+    /**
+     * Checks the lag of all replicas immediately, it is unnecessary
+     * to call it periodically because the replicas are checked
+     * by the scheduler once the check interval has elapsed.
+     */
+    public void checkHealth() {
+        if (lagChecker == null) {
+            return;
+        }
+        for (Replica replica : replicas) {
+            replica.check();
+        }
+    }
+
+    /**
+     * Stops the periodic checks, the scheduler specified by
+     * {@link Builder#setScheduler(ScheduledExecutorService)} is not shut down.
+     */
+    @Override
+    public void close() {
+        if (checkFuture != null) {
+            checkFuture.cancel(false);
+        }
+        if (ownedScheduler != null) {
+            ownedScheduler.shutdownNow();
+        }
+    }
+
+    private void checkHealthSafely() {
+        try {
+            checkHealth();
+        } catch (RuntimeException ex) {
+            // Subsequent executions of the scheduled task are suppressed if it throws
+            LOGGER.error("Failed to check the replicas", ex);
+        }
+    }
+
+    /**
+     * Only reads the state of the last checks, never checks replicas by itself.
+     */
+    private Replica select() {
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (!replica.ejected) {
+                candidates.add(replica);
+            }
+        }
+        if (candidates.isEmpty()) {
+            if (fallback != null) {
+                return null;
+            }
+            candidates = replicas;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        return policy.select(candidates);
+    }
+
+    /**
+     * Execute the block as a request, if any statement modifying data is executed by
+     * this request, the subsequent queries of this request will be executed by
+     * master connection manager rather than slave connection manager.
+     *
+     * <p>Nested calls share the state of the outermost request.</p>
+     */
+    public static <R> R executeRequest(Supplier<R> block) {
+        if (REQUEST_STATE_LOCAL.get() != null) {
+            return block.get();
+        }
+        return new RequestState().execute(block);
+    }
+
+    /**
+     * The state of the current request, or null if there is no request,
+     * see {@link #executeRequest(Supplier)}.
+     */
+    @Nullable
+    public static RequestState currentRequest() {
+        return REQUEST_STATE_LOCAL.get();
+    }
+
+    /**
+     * Whether the current request has modified data
+     * so that the queries must be executed by master.
+     */
+    public static boolean isMasterRequired() {
+        RequestState state = REQUEST_STATE_LOCAL.get();
+        return state != null && state.modified;
+    }
+
+    /**
+     * Wrap the executor of sql client so that the statements modifying data
+     * are recorded by the current request, see {@link #executeRequest(Supplier)}.
+     */
+    public static Executor trackModifications(Executor executor) {
+        if (executor instanceof ModificationTrackingExecutor) {
+            return executor;
+        }
+        return new ModificationTrackingExecutor(executor);
+    }
+
+    private static void onExecute(ExecutionPurpose purpose) {
+        if (purpose == ExecutionPurpose.UPDATE ||
+                purpose == ExecutionPurpose.DELETE ||
+                purpose == ExecutionPurpose.MUTATE) {
+            RequestState state = REQUEST_STATE_LOCAL.get();
+            if (state != null) {
+                state.modified = true;
+            }
+        }
+    }
+
+    public class Replica {
+
+        private final String name;
+
+        private final ConnectionManager connectionManager;
+
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+
+        private final AtomicLong averageLatencyNanos = new AtomicLong();
+
+        private volatile boolean ejected;
+
+        private volatile long lagMillis = -1;
+
+        Replica(String name, ConnectionManager connectionManager) {
+            this.name = name;
+            this.connectionManager = connectionManager;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getInFlightCount() {
+            return inFlightCount.get();
+        }
+
+        /**
+         * Exponentially weighted moving average of execution time,
+         * 0 if nothing has been executed
+         */
+        public long getAverageLatencyNanos() {
+            return averageLatencyNanos.get();
+        }
+
+        /**
+         * The lag of last check, -1 if it is unknown
+         */
+        public long getLagMillis() {
+            return lagMillis;
+        }
+
+        public boolean isEjected() {
+            return ejected;
+        }
+
+        <R> R execute(Function<Connection, R> block) {
+            inFlightCount.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                return connectionManager.execute(block);
+            } finally {
+                inFlightCount.decrementAndGet();
+                long latency = System.nanoTime() - start;
+                long average;
+                do {
+                    average = averageLatencyNanos.get();
+                } while (!averageLatencyNanos.compareAndSet(
+                        average,
+                        average == 0 ? latency : average - (average >> 3) + (latency >> 3)
+                ));
+            }
+        }
+
+        void check() {
+            long lag;
+            try {
+                lag = connectionManager.execute(con -> {
+                    try {
+                        return lagChecker.getLagMillis(con);
+                    } catch (SQLException ex) {
+                        throw new ExecutionException("Cannot check the lag of replica \"" + name + "\"", ex);
+                    }
+                });
+            } catch (RuntimeException ex) {
+                if (!ejected) {
+                    LOGGER.warn("The replica \"" + name + "\" is ejected because its lag cannot be checked", ex);
+                }
+                lagMillis = -1;
+                ejected = true;
+                return;
+            }
+            lagMillis = lag;
+            boolean tooLarge = lag > maxLagMillis;
+            if (tooLarge != ejected) {
+                if (tooLarge) {
+                    LOGGER.warn(
+                            "The replica \"{}\" is ejected because its lag {}ms exceeds {}ms",
+                            name,
+                            lag,
+                            maxLagMillis
+                    );
+                } else {
+                    LOGGER.info("The replica \"{}\" is recovered, its lag is {}ms", name, lag);
+                }
+                ejected = tooLarge;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Replica{" +
+                    "name='" + name + '\'' +
+                    ", inFlightCount=" + inFlightCount +
+                    ", averageLatencyNanos=" + averageLatencyNanos +
+                    ", lagMillis=" + lagMillis +
+                    ", ejected=" + ejected +
+                    '}';
+        }
+    }
+
+    /**
+     * The state of a request, see {@link #executeRequest(Supplier)}
+     */
+    public static final class RequestState {
+
+        volatile boolean modified;
+
+        private RequestState() {}
+
+        /**
+         * Execute the block as a part of this request in the current thread,
+         * for example, by a worker thread of the request.
+         */
+        public <R> R execute(Supplier<R> block) {
+            RequestState oldState = REQUEST_STATE_LOCAL.get();
+            REQUEST_STATE_LOCAL.set(this);
+            try {
+                return block.get();
+            } finally {
+                if (oldState != null) {
+                    REQUEST_STATE_LOCAL.set(oldState);
+                } else {
+                    REQUEST_STATE_LOCAL.remove();
+                }
+            }
+        }
+    }
+
+    private static class ModificationTrackingExecutor implements Executor {
+
+        private final Executor raw;
+
+        ModificationTrackingExecutor(Executor raw) {
+            this.raw = raw;
+        }
+
+        @Override
+        public <R> R execute(@NotNull Args<R> args) {
+            onExecute(args.purpose);
+            return raw.execute(args);
+        }
+
+        @Override
+        public <R> R executeBatch(@NotNull BatchArgs<R> args) {
+            onExecute(args.purpose);
+            return raw.executeBatch(args);
+        }
+
+        @Override
+        public void openCursor(
+                long cursorId,
+                String sql,
+                List<Object> variables,
+                List<Integer> variablePositions,
+                ExecutionPurpose purpose,
+                @Nullable ExecutorContext ctx,
+                JSqlClientImplementor sqlClient
+        ) {
+            raw.openCursor(cursorId, sql, variables, variablePositions, purpose, ctx, sqlClient);
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<String, ConnectionManager> replicaMap = new LinkedHashMap<>();
+
+        private ReplicaPolicy policy;
+
+        private ReplicaLagChecker lagChecker;
+
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        private Duration checkInterval = Duration.ofSeconds(10);
+
+        private ConnectionManager fallback;
+
+        private ScheduledExecutorService scheduler;
+
+        Builder() {}
+
+        public Builder addReplica(@NotNull String name, @NotNull ConnectionManager connectionManager) {
+            if (replicaMap.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicated replica name \"" + name + "\"");
+            }
+            replicaMap.put(name, Objects.requireNonNull(connectionManager, "connectionManager cannot be null"));
+            return this;
+        }
+
+        /**
+         * Default value is {@link ReplicaPolicy#roundRobin()}
+         */
+        public Builder setPolicy(ReplicaPolicy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        public Builder setLagChecker(ReplicaLagChecker lagChecker) {
+            this.lagChecker = lagChecker;
+            return this;
+        }
+
+        /**
+         * The replica whose lag exceeds this value will be ejected, default value is 5 seconds
+         */
+        public Builder setMaxLag(@NotNull Duration maxLag) {
+            this.maxLag = maxLag;
+            return this;
+        }
+
+        /**
+         * The interval of lag checking, default value is 10 seconds
+         */
+        public Builder setCheckInterval(@NotNull Duration checkInterval) {
+            this.checkInterval = checkInterval;
+            return this;
+        }
+
+        /**
+         * The connection manager used when all replicas are ejected, usually master
+         */
+        public Builder setFallback(ConnectionManager fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        /**
+         * The scheduler used to check the lag of replicas, it is not shut down by {@link ReplicaSet#close()}.
+         *
+         * <p>If it is not specified, a single daemon thread is created for each replica set with lag checker.</p>
+         */
+        public Builder setScheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public ReplicaSet build() {
+            if (replicaMap.isEmpty()) {
+                throw new IllegalStateException("No replica is added");
+            }
+            if (checkInterval.isNegative() || checkInterval.isZero()) {
+                throw new IllegalStateException("The check interval must be positive");
+            }
+            if (policy == null) {
+                policy = ReplicaPolicy.roundRobin();
+            }
+            return new ReplicaSet(this);
+        }
+    }
+}
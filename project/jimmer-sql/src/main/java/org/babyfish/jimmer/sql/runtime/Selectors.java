@@ -2,15 +2,19 @@ package org.babyfish.jimmer.sql.runtime;
 
 import org.babyfish.jimmer.runtime.Internal;
 import org.babyfish.jimmer.sql.ast.Selection;
+import org.babyfish.jimmer.sql.dialect.Dialect;
 import org.babyfish.jimmer.sql.fetcher.impl.Fetchers;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
-import java.util.ArrayList;
-import java.util.List;
+import java.sql.SQLException;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Selectors {
 
@@ -53,11 +57,10 @@ public class Selectors {
                         }
                 )
         );
-        Fetchers.fetch(sqlClient, con, selections, rows);
+        Fetchers.fetch(sqlClient, con, selections, rows, true);
         return rows;
     }
 
-    @SuppressWarnings("unchecked")
     public static <R> void forEach(
             JSqlClientImplementor sqlClient,
             Connection con,
@@ -68,10 +71,44 @@ public class Selectors {
             ExecutionPurpose purpose,
             int batchSize,
             Consumer<R> consumer
+    ) {
+        Selectors.<R, Void>stream(
+                sqlClient,
+                con,
+                sql,
+                variables,
+                variablePositions,
+                selections,
+                purpose,
+                batchSize,
+                stream -> {
+                    stream.forEach(consumer);
+                    return null;
+                }
+        );
+    }
+
+    /**
+     * Read rows lazily by cursor, only `batchSize` rows are materialized
+     * and fetched by object fetchers at a time.
+     *
+     * <p>The stream is only valid in the block</p>
+     */
+    public static <R, X> X stream(
+            JSqlClientImplementor sqlClient,
+            Connection con,
+            String sql,
+            List<Object> variables,
+            @Nullable List<Integer> variablePositions,
+            List<Selection<?>> selections,
+            ExecutionPurpose purpose,
+            int batchSize,
+            Function<Stream<R>, X> block
     ) {
         Executor executor = sqlClient.getExecutor();
+        Dialect dialect = sqlClient.getDialect();
         long cursorId = CURSOR_ID_SEQUENCE.incrementAndGet();
-        Executor.Args<Void> args = new Executor.Args<>(
+        Executor.Args<X> args = new Executor.Args<>(
                 sqlClient,
                 con,
                 sql,
@@ -81,37 +118,126 @@ public class Selectors {
                 null,
                 stmt -> {
                     Reader<?> reader = Readers.createReader(sqlClient, selections);
-                    return Internal.usingSqlDraftContext((draftContext, isRoot) -> {
-                        Reader.Context ctx = new Reader.Context(draftContext, isRoot);
-                        List<R> results = new ArrayList<>();
-                        try (ResultSet resultSet = stmt.executeQuery()) {
-                            while (resultSet.next()) {
-                                results.add((R) reader.read(resultSet, ctx));
-                                ctx.resetCol();
-                                if (results.size() >= batchSize) {
-                                    Fetchers.fetch(sqlClient, con, selections, results);
-                                    for (R result : results) {
-                                        consumer.accept(result);
-                                    }
-                                    results.clear();
-                                }
+                    stmt.setFetchSize(dialect.getCursorFetchSize(batchSize));
+                    boolean disableAutoCommit = dialect.isCursorTransactionRequired() && con.getAutoCommit();
+                    if (disableAutoCommit) {
+                        con.setAutoCommit(false);
+                    }
+                    try {
+                        return Internal.usingSqlDraftContext((draftContext, isRoot) -> {
+                            Reader.Context ctx = new Reader.Context(draftContext, isRoot);
+                            try (ResultSet resultSet = stmt.executeQuery()) {
+                                Iterator<R> itr = new CursorIterator<>(
+                                        sqlClient,
+                                        con,
+                                        selections,
+                                        resultSet,
+                                        reader,
+                                        ctx,
+                                        batchSize
+                                );
+                                Stream<R> stream = StreamSupport.stream(
+                                        Spliterators.spliteratorUnknownSize(itr, Spliterator.ORDERED),
+                                        false
+                                );
+                                return block.apply(stream);
                             }
+                        });
+                    } finally {
+                        if (disableAutoCommit) {
+                            con.setAutoCommit(true);
                         }
-                        Fetchers.fetch(sqlClient, con, selections, results);
-                        for (R result : results) {
-                            consumer.accept(result);
-                        }
-                        return null;
-                    });
+                    }
                 },
                 cursorId
         );
         executor.openCursor(cursorId, sql, variables, variablePositions, purpose, args.ctx, sqlClient);
         Long oldCursorId = Cursors.setCurrentCursorId(cursorId);
         try {
-            executor.execute(args);
+            return executor.execute(args);
         } finally {
             Cursors.setCurrentCursorId(oldCursorId);
         }
     }
+
+    private static class CursorIterator<R> implements Iterator<R> {
+
+        private final JSqlClientImplementor sqlClient;
+
+        private final Connection con;
+
+        private final List<Selection<?>> selections;
+
+        private final ResultSet resultSet;
+
+        private final Reader<?> reader;
+
+        private final Reader.Context ctx;
+
+        private final int batchSize;
+
+        private List<R> rows = Collections.emptyList();
+
+        private int index;
+
+        private boolean eof;
+
+        CursorIterator(
+                JSqlClientImplementor sqlClient,
+                Connection con,
+                List<Selection<?>> selections,
+                ResultSet resultSet,
+                Reader<?> reader,
+                Reader.Context ctx,
+                int batchSize
+        ) {
+            this.sqlClient = sqlClient;
+            this.con = con;
+            this.selections = selections;
+            this.resultSet = resultSet;
+            this.reader = reader;
+            this.ctx = ctx;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (index < rows.size()) {
+                return true;
+            }
+            if (eof) {
+                return false;
+            }
+            readBatch();
+            return index < rows.size();
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return rows.get(index++);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readBatch() {
+            List<R> rows = new ArrayList<>(batchSize);
+            try {
+                while (rows.size() < batchSize) {
+                    if (!resultSet.next()) {
+                        eof = true;
+                        break;
+                    }
+                    rows.add((R) reader.read(resultSet, ctx));
+                    ctx.resetCol();
+                }
+            } catch (SQLException ex) {
+                throw new ExecutionException("Cannot read the rows of cursor", ex);
+            }
+            Fetchers.fetch(sqlClient, con, selections, rows, true);
+            this.rows = rows;
+            this.index = 0;
+        }
+    }
 }
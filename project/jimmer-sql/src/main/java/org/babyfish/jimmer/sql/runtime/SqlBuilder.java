@@ -450,6 +450,21 @@ public class SqlBuilder {
         return this;
     }
 
+    /**
+     * Append one `?` bound by an array whose elements have been converted to sql values,
+     * it is used by `expr = any(?)`.
+     */
+    public SqlBuilder arrayVariable(Object[] array) {
+        validate();
+        preAppend();
+        builder.append('?');
+        variables.add(new DbArray(array));
+        if (variablePositions != null) {
+            variablePositions.add(builder.length());
+        }
+        return this;
+    }
+
     @SuppressWarnings("unchecked")
     private SqlBuilder nonTupleVariable(Object value) {
         if (value instanceof ImmutableSpi) {
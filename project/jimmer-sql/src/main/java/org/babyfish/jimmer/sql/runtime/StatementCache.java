@@ -0,0 +1,172 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Reuses the prepared statements of a connection in a scope,
+ * see {@link #execute(Connection, Supplier)}.
+ *
+ * <p>Jimmer renders the same SQL text for the queries of the same shape,
+ * especially when {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setInListPaddingEnabled(boolean)}
+ * or {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setInListToAnyEqualityEnabled(boolean)}
+ * is enabled, so the statements prepared by {@link DefaultExecutor} for that connection
+ * are kept open and reused until the scope ends, instead of being prepared and closed for each execution.</p>
+ *
+ * <p>The statements cannot outlive the scope, so it is safe for pooled connections.</p>
+ *
+ * <p>The scope can be opened for each connection provided by the connection managers
+ * of sql client automatically, see
+ * {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setStatementCacheCapacity(int)}.</p>
+ */
+public class StatementCache {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final ThreadLocal<StatementCache> LOCAL = new ThreadLocal<>();
+
+    private final Connection con;
+
+    private final StatementCache parent;
+
+    private final Map<String, Entry> entryMap;
+
+    private StatementCache(Connection con, int capacity, StatementCache parent) {
+        this.con = con;
+        this.parent = parent;
+        this.entryMap = new LinkedHashMap<String, Entry>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > capacity) {
+                    closeQuietly(eldest.getValue().statement);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static <R> R execute(Connection con, Supplier<R> block) {
+        return execute(con, DEFAULT_CAPACITY, block);
+    }
+
+    /**
+     * Execute the block, the statements prepared for the connection
+     * by {@link DefaultExecutor} in the block are reused and closed
+     * when the block returns.
+     *
+     * @param con The connection whose statements are reused
+     * @param capacity The max count of open statements,
+     *                 the least recently used statement is closed when it is exceeded
+     * @param block The block
+     */
+    public static <R> R execute(Connection con, int capacity, Supplier<R> block) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("`capacity` must be positive");
+        }
+        StatementCache parent = LOCAL.get();
+        if (find(parent, con) != null) {
+            return block.get();
+        }
+        StatementCache cache = new StatementCache(con, capacity, parent);
+        LOCAL.set(cache);
+        try {
+            return block.get();
+        } finally {
+            if (parent != null) {
+                LOCAL.set(parent);
+            } else {
+                LOCAL.remove();
+            }
+            cache.close();
+        }
+    }
+
+    static StatementCache current(Connection con) {
+        return find(LOCAL.get(), con);
+    }
+
+    private static StatementCache find(StatementCache cache, Connection con) {
+        while (cache != null) {
+            if (cache.con == con) {
+                return cache;
+            }
+            cache = cache.parent;
+        }
+        return null;
+    }
+
+    /**
+     * Take the statement from the cache, the caller must call
+     * {@link #release(String, Entry, boolean)} after using it.
+     */
+    Entry acquire(String sql) throws SQLException {
+        // Taken away from the map while it is used, so that the
+        // nested execution of the same sql prepares another one
+        Entry entry = entryMap.remove(sql);
+        if (entry == null) {
+            PreparedStatement statement = con.prepareStatement(sql);
+            return new Entry(statement, statement.getFetchSize());
+        }
+        entry.restore();
+        return entry;
+    }
+
+    void release(String sql, Entry entry, boolean broken) {
+        if (!broken) {
+            try {
+                entry.statement.clearParameters();
+            } catch (SQLException ex) {
+                broken = true;
+            }
+        }
+        if (broken) {
+            closeQuietly(entry.statement);
+            return;
+        }
+        Entry conflictEntry = entryMap.put(sql, entry);
+        if (conflictEntry != null) {
+            closeQuietly(conflictEntry.statement);
+        }
+    }
+
+    private void close() {
+        Iterator<Entry> itr = entryMap.values().iterator();
+        while (itr.hasNext()) {
+            closeQuietly(itr.next().statement);
+            itr.remove();
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ex) {
+            // Ignore, the statement is discarded
+        }
+    }
+
+    static class Entry {
+
+        final PreparedStatement statement;
+
+        // The fetch size may be changed by cursor
+        final int initialFetchSize;
+
+        Entry(PreparedStatement statement, int initialFetchSize) {
+            this.statement = statement;
+            this.initialFetchSize = initialFetchSize;
+        }
+
+        void restore() throws SQLException {
+            if (statement.getFetchSize() != initialFetchSize) {
+                statement.setFetchSize(initialFetchSize);
+            }
+        }
+    }
+}
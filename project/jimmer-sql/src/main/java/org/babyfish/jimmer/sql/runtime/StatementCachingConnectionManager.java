@@ -0,0 +1,53 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import java.sql.Connection;
+import java.util.function.Function;
+
+/**
+ * Opens the scope of {@link StatementCache} for each connection
+ * provided by the raw connection manager,
+ * see {@link org.babyfish.jimmer.sql.JSqlClient.Builder#setStatementCacheCapacity(int)}.
+ *
+ * <p>The scope ends when the raw connection manager finishes the block,
+ * so the cached statements never outlive the connection borrowed by it.</p>
+ */
+public class StatementCachingConnectionManager implements ConnectionManager {
+
+    private final ConnectionManager raw;
+
+    private final int capacity;
+
+    public StatementCachingConnectionManager(ConnectionManager raw, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("`capacity` must be positive");
+        }
+        this.raw = raw;
+        this.capacity = capacity;
+    }
+
+    public ConnectionManager getRaw() {
+        return raw;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public <R> R execute(Function<Connection, R> block) {
+        return raw.execute(con ->
+                StatementCache.execute(con, capacity, () -> block.apply(con))
+        );
+    }
+
+    /**
+     * Get the connection manager configured by user
+     * if it is wrapped by this class, otherwise return itself.
+     */
+    public static ConnectionManager unwrap(ConnectionManager connectionManager) {
+        if (connectionManager instanceof StatementCachingConnectionManager) {
+            return ((StatementCachingConnectionManager) connectionManager).raw;
+        }
+        return connectionManager;
+    }
+}
@@ -0,0 +1,92 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Allows other threads to cancel the statements executed by a block,
+ * see {@link #execute(Supplier)} and {@link #cancel()}.
+ *
+ * <p>The statements executed by {@link DefaultExecutor} in the block,
+ * including the ones executed by the concurrent workers of object fetchers,
+ * are registered into this object, {@link #cancel()} calls
+ * {@link PreparedStatement#cancel()} of the running statements,
+ * and the statements executed after that fail immediately.</p>
+ *
+ * <p>The statements executed by a custom {@link Executor} which does not
+ * delegate to {@link DefaultExecutor}, and the requests sent to other
+ * micro services, are not registered so that they cannot be canceled.</p>
+ */
+public class StatementCanceller {
+
+    private static final ThreadLocal<StatementCanceller> LOCAL = new ThreadLocal<>();
+
+    // Several statements can be running, for example,
+    // object fetchers are executed when a cursor is open
+    private final Set<PreparedStatement> statements =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private boolean canceled;
+
+    public <R> R execute(Supplier<R> block) {
+        StatementCanceller old = LOCAL.get();
+        LOCAL.set(this);
+        try {
+            return block.get();
+        } finally {
+            if (old != null) {
+                LOCAL.set(old);
+            } else {
+                LOCAL.remove();
+            }
+        }
+    }
+
+    public void cancel() {
+        PreparedStatement[] arr;
+        synchronized (this) {
+            if (canceled) {
+                return;
+            }
+            canceled = true;
+            arr = statements.toArray(new PreparedStatement[0]);
+        }
+        for (PreparedStatement statement : arr) {
+            try {
+                statement.cancel();
+            } catch (SQLException ex) {
+                // Ignore, the driver does not support it or the statement is completed
+            }
+        }
+    }
+
+    public synchronized boolean isCanceled() {
+        return canceled;
+    }
+
+    /**
+     * Get the canceller of the current thread, it should be propagated
+     * to the other threads that execute statements for the current block.
+     */
+    @Nullable
+    public static StatementCanceller current() {
+        return LOCAL.get();
+    }
+
+    synchronized void enter(PreparedStatement statement) throws SQLException {
+        if (canceled) {
+            throw new SQLException("The execution has been canceled");
+        }
+        statements.add(statement);
+    }
+
+    synchronized void leave(PreparedStatement statement) {
+        statements.remove(statement);
+    }
+}
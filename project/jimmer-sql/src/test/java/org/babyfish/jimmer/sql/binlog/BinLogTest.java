@@ -1,5 +1,7 @@
 package org.babyfish.jimmer.sql.binlog;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.babyfish.jimmer.sql.JSqlClient;
 import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
 import org.babyfish.jimmer.sql.event.binlog.impl.BinLogParser;
@@ -44,6 +46,18 @@ public class BinLogTest {
         );
     }
 
+    @Test
+    public void testTreeNodeByJsonNode() throws Exception {
+        JsonNode data = new ObjectMapper().readTree(
+                "{\"Node_Id\": 2, \"[Name]\": 3, \"`Parent_Id`\": null}"
+        );
+        TreeNode treeNode = parser.parseEntity(TreeNode.class, data);
+        Assertions.assertEquals(
+                "{\"id\":2,\"name\":\"3\",\"parent\":null}",
+                treeNode.toString()
+        );
+    }
+
     @Test
     public void testAuthor() {
         String json = "{\"id\": \"" +
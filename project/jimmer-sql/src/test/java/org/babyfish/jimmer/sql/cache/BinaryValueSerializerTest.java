@@ -0,0 +1,116 @@
+package org.babyfish.jimmer.sql.cache;
+
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.model.Book;
+import org.babyfish.jimmer.sql.model.BookDraft;
+import org.babyfish.jimmer.sql.model.BookProps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class BinaryValueSerializerTest {
+
+    @Test
+    public void testObject() {
+        Book book = BookDraft.$.produce(draft -> {
+            draft.setId(UUID.fromString("64873631-5d82-4bae-8eb8-72dd955bfc56"));
+            draft.setName("GraphQL in Action");
+            draft.setEdition(3);
+            draft.setPrice(new BigDecimal("80.00"));
+            draft.applyStore(store -> store.setId(UUID.fromString("2fa3955e-3e83-49b9-902e-0465c109c779")));
+        });
+        ValueSerializer<Book> jsonSerializer = new ValueSerializer<>(ImmutableType.get(Book.class));
+        ValueSerializer<Book> binarySerializer = new BinaryValueSerializer<>(ImmutableType.get(Book.class));
+        byte[] bytes = binarySerializer.serialize(book);
+        Assertions.assertTrue(bytes.length < jsonSerializer.serialize(book).length);
+        Assertions.assertEquals(
+                "{" +
+                        "\"id\":\"64873631-5d82-4bae-8eb8-72dd955bfc56\"," +
+                        "\"name\":\"GraphQL in Action\"," +
+                        "\"edition\":3," +
+                        "\"price\":80.00," +
+                        "\"store\":{\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\"}" +
+                        "}",
+                binarySerializer.deserialize(bytes).toString()
+        );
+    }
+
+    @Test
+    public void testReferenceList() {
+        List<UUID> authorIds = Arrays.asList(
+                UUID.fromString("fd6bb6cf-336d-416c-8005-1ae11a6694b5"),
+                null,
+                UUID.fromString("1e93da94-af84-44f4-82d1-d8a9fd52ea94")
+        );
+        ValueSerializer<List<UUID>> serializer = new BinaryValueSerializer<>(BookProps.AUTHORS.unwrap());
+        Assertions.assertEquals(authorIds, serializer.deserialize(serializer.serialize(authorIds)));
+        Assertions.assertNull(serializer.deserialize(serializer.serialize(null)));
+    }
+
+    @Test
+    public void testIncompatibleBytes() {
+        ValueSerializer<Book> jsonSerializer = new ValueSerializer<>(ImmutableType.get(Book.class));
+        ValueSerializer<Book> binarySerializer = new BinaryValueSerializer<>(ImmutableType.get(Book.class));
+        Book book = BookDraft.$.produce(draft -> {
+            draft.setId(UUID.fromString("64873631-5d82-4bae-8eb8-72dd955bfc56"));
+        });
+        Map<String, Book> map = binarySerializer.deserialize(
+                Collections.singletonMap("key", jsonSerializer.serialize(book))
+        );
+        Assertions.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testTruncatedBytes() {
+        ValueSerializer<Book> serializer = new BinaryValueSerializer<>(ImmutableType.get(Book.class));
+        Book book = BookDraft.$.produce(draft -> {
+            draft.setId(UUID.fromString("64873631-5d82-4bae-8eb8-72dd955bfc56"));
+            draft.setName("GraphQL in Action");
+            draft.setEdition(3);
+        });
+        byte[] bytes = serializer.serialize(book);
+        for (int length = 1; length < bytes.length; length++) {
+            byte[] truncatedBytes = Arrays.copyOf(bytes, length);
+            Assertions.assertThrows(
+                    SerializationException.class,
+                    () -> serializer.deserialize(truncatedBytes)
+            );
+            Assertions.assertTrue(
+                    serializer.deserialize(Collections.singletonMap("key", truncatedBytes)).isEmpty()
+            );
+        }
+        byte[] extendedBytes = Arrays.copyOf(bytes, bytes.length + 1);
+        Assertions.assertThrows(
+                SerializationException.class,
+                () -> serializer.deserialize(extendedBytes)
+        );
+    }
+
+    @Test
+    public void testCorruptedLength() {
+        ValueSerializer<List<UUID>> serializer = new BinaryValueSerializer<>(BookProps.AUTHORS.unwrap());
+        byte[] bytes = serializer.serialize(
+                Collections.singletonList(UUID.fromString("fd6bb6cf-336d-416c-8005-1ae11a6694b5"))
+        );
+        // The list size is the first byte after the header
+        bytes[5] = 0x7F;
+        Assertions.assertThrows(
+                SerializationException.class,
+                () -> serializer.deserialize(bytes)
+        );
+        Map<String, byte[]> bytesMap = new LinkedHashMap<>();
+        bytesMap.put("bad", bytes);
+        bytesMap.put("good", serializer.serialize(Collections.emptyList()));
+        Assertions.assertEquals(
+                Collections.singletonMap("good", Collections.emptyList()),
+                serializer.deserialize(bytesMap)
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package org.babyfish.jimmer.sql.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.sql.event.binlog.BinLog;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.babyfish.jimmer.sql.common.Constants.*;
+
+public class CacheDeletionBatchTest extends AbstractTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JSqlClient sqlClient;
+
+    private List<String> deleteMessages;
+
+    @BeforeEach
+    public void initialize() {
+        deleteMessages = new ArrayList<>();
+        sqlClient = getSqlClient(it -> {
+            it.setCaches(cfg -> {
+                cfg.setCacheFactory(
+                        new CacheFactory() {
+                            @Override
+                            public @Nullable Cache<?, ?> createObjectCache(@NotNull ImmutableType type) {
+                                return new RecordingCache(type.getJavaClass().getSimpleName());
+                            }
+                        }
+                );
+            });
+        });
+    }
+
+    @Test
+    public void testAcceptAll() {
+        sqlClient.getBinLog().acceptAll(changes());
+        // Both keys are deleted by one call, the duplicated key is deleted once
+        Assertions.assertEquals(
+                Collections.singletonList(
+                        "Book[" + learningGraphQLId1 + ", " + learningGraphQLId2 + "]"
+                ),
+                deleteMessages
+        );
+    }
+
+    @Test
+    public void testAcceptOneByOne() {
+        for (BinLog.Change change : changes()) {
+            sqlClient.getBinLog().accept(
+                    change.getTableName(),
+                    change.getOldData(),
+                    change.getNewData(),
+                    change.getReason()
+            );
+        }
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "Book[" + learningGraphQLId1 + "]",
+                        "Book[" + learningGraphQLId1 + "]",
+                        "Book[" + learningGraphQLId2 + "]"
+                ),
+                deleteMessages
+        );
+    }
+
+    private static List<BinLog.Change> changes() {
+        return Arrays.asList(
+                new BinLog.Change("book", book(learningGraphQLId1, 50), book(learningGraphQLId1, 51)),
+                new BinLog.Change("book", book(learningGraphQLId1, 51), book(learningGraphQLId1, 52)),
+                new BinLog.Change("book", book(learningGraphQLId2, 55), book(learningGraphQLId2, 56))
+        );
+    }
+
+    private static JsonNode book(UUID id, int price) {
+        try {
+            return MAPPER.readTree(
+                    "{" +
+                            "\"id\":\"" + id + "\"," +
+                            "\"name\":\"Learning GraphQL\"," +
+                            "\"price\":" + price + "," +
+                            "\"store_id\":\"" + oreillyId + "\"" +
+                            "}"
+            );
+        } catch (JsonProcessingException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private class RecordingCache implements Cache<Object, Object> {
+
+        private final String name;
+
+        RecordingCache(String name) {
+            this.name = name;
+        }
+
+        @NotNull
+        @Override
+        public Map<Object, Object> getAll(
+                @NotNull Collection<Object> keys,
+                @NotNull CacheEnvironment<Object, Object> env
+        ) {
+            return env.getLoader().loadAll(keys);
+        }
+
+        @Override
+        public void deleteAll(@NotNull Collection<Object> keys, @Nullable Object reason) {
+            deleteMessages.add(name + new ArrayList<>(keys));
+        }
+    }
+}
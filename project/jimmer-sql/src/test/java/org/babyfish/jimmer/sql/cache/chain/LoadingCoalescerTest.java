@@ -0,0 +1,200 @@
+package org.babyfish.jimmer.sql.cache.chain;
+
+import org.babyfish.jimmer.sql.cache.Cache;
+import org.babyfish.jimmer.sql.cache.CacheEnvironment;
+import org.babyfish.jimmer.sql.cache.CacheLoader;
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class LoadingCoalescerTest extends AbstractTest {
+
+    @Test
+    public void testConcurrentCallersShareOneLoad() throws Exception {
+        CoalescingStatistics statistics = new CoalescingStatistics();
+        LoadingCoalescer<Long, String> coalescer = new LoadingCoalescer<>(statistics);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CacheLoader<Long, String> loader = keys -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return values(keys);
+        };
+        AtomicReference<Map<Long, String>> ownerResult = new AtomicReference<>();
+        Thread owner = new Thread(() -> ownerResult.set(coalescer.loadAll(Collections.singleton(1L), null, loader)));
+        owner.start();
+        loading.await();
+
+        AtomicReference<Map<Long, String>> waiterResult = new AtomicReference<>();
+        Thread waiter = new Thread(() -> waiterResult.set(coalescer.loadAll(Collections.singleton(1L), null, loader)));
+        waiter.start();
+        awaitBlocked(waiter);
+        release.countDown();
+        owner.join();
+        waiter.join();
+
+        Assertions.assertEquals(Collections.singletonMap(1L, "value-1"), ownerResult.get());
+        Assertions.assertEquals(Collections.singletonMap(1L, "value-1"), waiterResult.get());
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals(1, statistics.getLoadedKeyCount());
+        Assertions.assertEquals(1, statistics.getCoalescedKeyCount());
+    }
+
+    @Test
+    public void testOwnerFailureFallsBackToWaiter() throws Exception {
+        CoalescingStatistics statistics = new CoalescingStatistics();
+        LoadingCoalescer<Long, String> coalescer = new LoadingCoalescer<>(statistics);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CacheLoader<Long, String> loader = keys -> {
+            if (loadCount.incrementAndGet() == 1) {
+                loading.countDown();
+                await(release);
+                throw new IllegalStateException("Owner failed");
+            }
+            return values(keys);
+        };
+        AtomicReference<Throwable> ownerError = new AtomicReference<>();
+        Thread owner = new Thread(() -> {
+            try {
+                coalescer.loadAll(Collections.singleton(1L), null, loader);
+            } catch (Throwable ex) {
+                ownerError.set(ex);
+            }
+        });
+        owner.start();
+        loading.await();
+
+        AtomicReference<Map<Long, String>> waiterResult = new AtomicReference<>();
+        Thread waiter = new Thread(() -> waiterResult.set(coalescer.loadAll(Collections.singleton(1L), null, loader)));
+        waiter.start();
+        awaitBlocked(waiter);
+        release.countDown();
+        owner.join();
+        waiter.join();
+
+        Assertions.assertEquals("Owner failed", ownerError.get().getMessage());
+        Assertions.assertEquals(Collections.singletonMap(1L, "value-1"), waiterResult.get());
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertEquals(1, statistics.getLoadedKeyCount());
+        Assertions.assertEquals(0, statistics.getCoalescedKeyCount());
+    }
+
+    @Test
+    public void testNestedLoadingDoesNotWait() {
+        LoadingCoalescer<Long, String> coalescer = new LoadingCoalescer<>(null);
+        List<Collection<Long>> loadedKeys = new ArrayList<>();
+        CacheLoader<Long, String>[] loaderRef = new CacheLoader[1];
+        loaderRef[0] = keys -> {
+            loadedKeys.add(new ArrayList<>(keys));
+            if (loadedKeys.size() == 1) {
+                // Nested loading of the same key in flight, it must not wait for itself
+                Map<Long, String> nestedMap = coalescer.loadAll(keys, null, loaderRef[0]);
+                Assertions.assertEquals(values(keys), nestedMap);
+            }
+            return values(keys);
+        };
+        Assertions.assertEquals(
+                Collections.singletonMap(1L, "value-1"),
+                coalescer.loadAll(Collections.singleton(1L), null, loaderRef[0])
+        );
+        Assertions.assertEquals("[[1], [1]]", loadedKeys.toString());
+    }
+
+    @Test
+    public void testMissingAndDiscriminatedKeys() {
+        CoalescingStatistics statistics = new CoalescingStatistics();
+        LoadingCoalescer<Long, String> coalescer = new LoadingCoalescer<>(statistics);
+        Map<Long, String> map = coalescer.loadAll(
+                Arrays.asList(1L, 3L),
+                Collections.singletonMap("tenant", "a"),
+                keys -> values(Collections.singleton(1L))
+        );
+        Assertions.assertEquals(Collections.singletonMap(1L, "value-1"), map);
+        Assertions.assertEquals(2, statistics.getLoadedKeyCount());
+        Assertions.assertEquals(0, statistics.getCoalescedKeyCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testParameterMapIsForwarded() {
+        List<SortedMap<String, Object>> parameterMaps = new ArrayList<>();
+        Cache.Parameterized<Long, String> cache = (Cache.Parameterized<Long, String>)
+                new ChainCacheBuilder<Long, String>()
+                        .add(new MapBinder(null))
+                        .add(new MapBinder(parameterMaps))
+                        .coalesce()
+                        .build();
+        SortedMap<String, Object> parameterMap = new TreeMap<>();
+        parameterMap.put("tenant", "a");
+        jdbc(con -> {
+            Map<Long, String> map = cache.getAll(
+                    Collections.singleton(1L),
+                    parameterMap,
+                    new CacheEnvironment<>(getSqlClient(), con, LoadingCoalescerTest::values, false)
+            );
+            Assertions.assertEquals(Collections.singletonMap(1L, "value-1"), map);
+        });
+        // `getAll` and `setAll` of the second binder
+        Assertions.assertEquals(Arrays.asList(parameterMap, parameterMap), parameterMaps);
+    }
+
+    private static Map<Long, String> values(Collection<Long> keys) {
+        Map<Long, String> map = new LinkedHashMap<>();
+        for (Long key : keys) {
+            map.put(key, "value-" + key);
+        }
+        return map;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // The waiter is blocked by the future of the owner
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static class MapBinder implements SimpleBinder.Parameterized<Long, String> {
+
+        private final List<SortedMap<String, Object>> parameterMaps;
+
+        MapBinder(List<SortedMap<String, Object>> parameterMaps) {
+            this.parameterMaps = parameterMaps;
+        }
+
+        @Override
+        public Map<Long, String> getAll(Collection<Long> keys, SortedMap<String, Object> parameterMap) {
+            if (parameterMaps != null) {
+                parameterMaps.add(parameterMap);
+            }
+            return new HashMap<>();
+        }
+
+        @Override
+        public void setAll(Map<Long, String> map, SortedMap<String, Object> parameterMap) {
+            if (parameterMaps != null) {
+                parameterMaps.add(parameterMap);
+            }
+        }
+
+        @Override
+        public void deleteAll(Collection<Long> keys, Object reason) {
+        }
+    }
+}
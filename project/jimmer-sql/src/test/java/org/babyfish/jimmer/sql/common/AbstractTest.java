@@ -72,6 +72,16 @@ public class AbstractTest extends Tests {
             executions.add(new Execution(args.sql, args.variables));
             return DefaultExecutor.INSTANCE.execute(args);
         }
+
+        @Override
+        public <R> R executeBatch(@NotNull BatchArgs<R> args) {
+            List<Object> variables = new ArrayList<>();
+            for (List<Object> variableList : args.variableLists) {
+                variables.addAll(variableList);
+            }
+            executions.add(new Execution(args.sql, variables));
+            return DefaultExecutor.INSTANCE.executeBatch(args);
+        }
     }
 
     protected JSqlClient getSqlClient() {
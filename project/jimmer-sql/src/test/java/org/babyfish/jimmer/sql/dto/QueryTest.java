@@ -1,9 +1,14 @@
 package org.babyfish.jimmer.sql.dto;
 
+import org.babyfish.jimmer.sql.JoinType;
 import org.babyfish.jimmer.sql.common.AbstractQueryTest;
 import org.babyfish.jimmer.sql.common.Constants;
+import org.babyfish.jimmer.sql.model.BookStoreTable;
 import org.babyfish.jimmer.sql.model.BookTable;
+import org.babyfish.jimmer.sql.model.TreeNodeTable;
+import org.babyfish.jimmer.sql.model.dto.BookStoreView;
 import org.babyfish.jimmer.sql.model.dto.BookView;
+import org.babyfish.jimmer.sql.model.dto.SimpleTreeNodeView;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -204,4 +209,92 @@ public class QueryTest extends AbstractQueryTest {
                 }
         );
     }
+
+    @Test
+    public void testQueryNestedAssociations() {
+        BookStoreTable table = BookStoreTable.$;
+        executeAndExpect(
+                getSqlClient()
+                        .createQuery(table)
+                        .where(table.name().eq("MANNING"))
+                        .select(
+                                table.fetch(BookStoreView.class)
+                        ),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ID, tb_1_.NAME " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "where tb_1_.NAME = ?"
+                    );
+                    ctx.statement(1).sql(
+                            "select tb_1_.ID, tb_1_.NAME, tb_1_.EDITION " +
+                                    "from BOOK tb_1_ " +
+                                    "where tb_1_.STORE_ID = ?"
+                    );
+                    ctx.statement(2).sql(
+                            "select " +
+                                    "--->tb_2_.BOOK_ID, " +
+                                    "--->tb_1_.ID, tb_1_.FIRST_NAME " +
+                                    "from AUTHOR tb_1_ " +
+                                    "inner join BOOK_AUTHOR_MAPPING tb_2_ " +
+                                    "--->on tb_1_.ID = tb_2_.AUTHOR_ID " +
+                                    "where tb_2_.BOOK_ID in (?, ?, ?)"
+                    );
+                    ctx.rows(rows -> {
+                        Assertions.assertEquals(1, rows.size());
+                        BookStoreView store = rows.get(0);
+                        Assertions.assertEquals("MANNING", store.getName());
+                        Assertions.assertEquals(3, store.getBooks().size());
+                        for (BookStoreView.TargetOf_books book : store.getBooks()) {
+                            Assertions.assertEquals("GraphQL in Action", book.getName());
+                            Assertions.assertEquals(1, book.getAuthors().size());
+                            Assertions.assertEquals("Samer", book.getAuthors().get(0).getFirstName());
+                        }
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testQueryNullViews() {
+        TreeNodeTable table = TreeNodeTable.$;
+        executeAndExpect(
+                getSqlClient()
+                        .createQuery(table)
+                        .where(table.id().in(Arrays.asList(1L, 2L)))
+                        .orderBy(table.id())
+                        .select(
+                                table.fetch(SimpleTreeNodeView.class),
+                                table.parent(JoinType.LEFT).fetch(SimpleTreeNodeView.class)
+                        ),
+                ctx -> {
+                    ctx.sql(
+                            "select " +
+                                    "--->tb_1_.NODE_ID, tb_1_.NAME, tb_1_.PARENT_ID, " +
+                                    "--->tb_2_.NODE_ID, tb_2_.NAME, tb_2_.PARENT_ID " +
+                                    "from TREE_NODE tb_1_ " +
+                                    "left join TREE_NODE tb_2_ on tb_1_.PARENT_ID = tb_2_.NODE_ID " +
+                                    "where tb_1_.NODE_ID in (?, ?) " +
+                                    "order by tb_1_.NODE_ID asc"
+                    );
+                    ctx.rows(rows -> {
+                        Assertions.assertEquals(2, rows.size());
+
+                        // The root node has neither parent id nor parent view
+                        SimpleTreeNodeView home = rows.get(0).get_1();
+                        Assertions.assertEquals(1L, home.getId());
+                        Assertions.assertEquals("Home", home.getName());
+                        Assertions.assertNull(home.getParentId());
+                        Assertions.assertNull(rows.get(0).get_2());
+
+                        SimpleTreeNodeView food = rows.get(1).get_1();
+                        Assertions.assertEquals("Food", food.getName());
+                        Assertions.assertEquals(1L, food.getParentId());
+                        SimpleTreeNodeView parent = rows.get(1).get_2();
+                        Assertions.assertEquals("Home", parent.getName());
+                        Assertions.assertNull(parent.getParentId());
+                    });
+                }
+        );
+    }
 }
@@ -0,0 +1,190 @@
+package org.babyfish.jimmer.sql.fetcher;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractQueryTest;
+import org.babyfish.jimmer.sql.model.*;
+import org.babyfish.jimmer.sql.runtime.ConnectionManager;
+import org.babyfish.jimmer.sql.runtime.DefaultExecutor;
+import org.babyfish.jimmer.sql.runtime.ExecutionException;
+import org.babyfish.jimmer.sql.runtime.Executor;
+import org.babyfish.jimmer.sql.runtime.ReplicaSet;
+import org.h2.Driver;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class ConcurrentFetcherTest extends AbstractQueryTest {
+
+    private ExecutorService fetcherExecutor;
+
+    private final AtomicInteger masterCount = new AtomicInteger();
+
+    private final AtomicInteger slaveCount = new AtomicInteger();
+
+    private final Map<String, Connection> connectionMap =
+            Collections.synchronizedMap(new LinkedHashMap<>());
+
+    @BeforeEach
+    public void initialize() {
+        fetcherExecutor = Executors.newFixedThreadPool(2);
+        masterCount.set(0);
+        slaveCount.set(0);
+        connectionMap.clear();
+    }
+
+    @AfterEach
+    public void uninitialize() {
+        fetcherExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelBatches() {
+        JSqlClient sqlClient = sqlClient(null);
+        jdbc(con -> {
+            List<Book> books = query(sqlClient, con);
+            assertBooks(books, "Samer");
+            Assertions.assertEquals(0, masterCount.get());
+            Assertions.assertEquals(1, slaveCount.get());
+            Connection storeCon = connectionMap.get("BOOK_STORE");
+            Connection authorCon = connectionMap.get("AUTHOR");
+            Assertions.assertSame(con, storeCon);
+            Assertions.assertNotNull(authorCon);
+            Assertions.assertNotSame(con, authorCon);
+        });
+    }
+
+    @Test
+    public void testReadYourWritesInWorkers() {
+        JSqlClient sqlClient = sqlClient(null);
+        AuthorTable author = AuthorTable.$;
+        jdbc(con -> {
+            List<Book> books = ReplicaSet.executeRequest(() -> {
+                sqlClient
+                        .createUpdate(author)
+                        .set(author.firstName(), author.firstName())
+                        .where(author.firstName().eq("Samer"))
+                        .execute(con);
+                return query(sqlClient, con);
+            });
+            assertBooks(books, "Samer");
+            // The worker uses master because the request has modified data
+            Assertions.assertEquals(1, masterCount.get());
+            Assertions.assertEquals(0, slaveCount.get());
+        });
+    }
+
+    @Test
+    public void testFailingWorker() {
+        JSqlClient sqlClient = sqlClient("AUTHOR");
+        jdbc(con -> {
+            ExecutionException ex = Assertions.assertThrows(
+                    ExecutionException.class,
+                    () -> query(sqlClient, con)
+            );
+            Assertions.assertEquals("Worker failed: AUTHOR", ex.getMessage());
+            Assertions.assertEquals(1, slaveCount.get());
+        });
+    }
+
+    @Test
+    public void testCallerTransaction() {
+        JSqlClient sqlClient = sqlClient(null);
+        jdbc(null, true, con -> {
+            try (PreparedStatement stmt = con.prepareStatement(
+                    "update AUTHOR set FIRST_NAME = ? where FIRST_NAME = ?"
+            )) {
+                stmt.setString(1, "Samer*");
+                stmt.setString(2, "Samer");
+                stmt.executeUpdate();
+            }
+            List<Book> books = query(sqlClient, con);
+            // Uncommitted change is visible because
+            // the caller's connection is used by all the statements
+            assertBooks(books, "Samer*");
+            Assertions.assertEquals(0, masterCount.get());
+            Assertions.assertEquals(0, slaveCount.get());
+            for (Connection statementCon : connectionMap.values()) {
+                Assertions.assertSame(con, statementCon);
+            }
+        });
+    }
+
+    private List<Book> query(JSqlClient sqlClient, Connection con) {
+        BookTable table = BookTable.$;
+        return sqlClient
+                .createQuery(table)
+                .where(table.name().eq("GraphQL in Action"))
+                .orderBy(table.edition())
+                .select(
+                        table.fetch(
+                                BookFetcher.$
+                                        .name()
+                                        .store(BookStoreFetcher.$.name())
+                                        .authors(AuthorFetcher.$.firstName())
+                        )
+                )
+                .execute(con);
+    }
+
+    private static void assertBooks(List<Book> books, String authorFirstName) {
+        Assertions.assertEquals(3, books.size());
+        for (Book book : books) {
+            Assertions.assertEquals("MANNING", book.store().name());
+            Assertions.assertEquals(1, book.authors().size());
+            Assertions.assertEquals(authorFirstName, book.authors().get(0).firstName());
+        }
+    }
+
+    private JSqlClient sqlClient(String failedTableName) {
+        return getSqlClient(builder -> {
+            builder
+                    .setFetcherExecutor(fetcherExecutor)
+                    .setConnectionManager(connectionManager(masterCount))
+                    .setSlaveConnectionManager(connectionManager(slaveCount))
+                    .setExecutor(new Executor() {
+                        @Override
+                        public <R> R execute(@NotNull Args<R> args) {
+                            String tableName = tableName(args.sql);
+                            connectionMap.put(tableName, args.con);
+                            if (tableName.equals(failedTableName)) {
+                                throw new ExecutionException("Worker failed: " + tableName);
+                            }
+                            return DefaultExecutor.INSTANCE.execute(args);
+                        }
+                    });
+        });
+    }
+
+    private static String tableName(String sql) {
+        for (String tableName : new String[] { "BOOK_STORE", "AUTHOR", "BOOK" }) {
+            if (sql.contains(" " + tableName + " ")) {
+                return tableName;
+            }
+        }
+        return sql;
+    }
+
+    private static ConnectionManager connectionManager(AtomicInteger counter) {
+        return new ConnectionManager() {
+            @Override
+            public <R> R execute(Function<Connection, R> block) {
+                counter.incrementAndGet();
+                try (Connection con = new Driver().connect(JDBC_URL, null)) {
+                    return block.apply(con);
+                } catch (java.sql.SQLException ex) {
+                    throw new ExecutionException(ex.getMessage(), ex);
+                }
+            }
+        };
+    }
+}
@@ -95,6 +95,72 @@ public class SingleTest extends AbstractQueryTest {
         );
     }
 
+    @Test
+    public void testOneToManyByWindowFunction() {
+        executeAndExpect(
+                getLambdaClient().createQuery(BookStoreTable.class, (q, store) -> {
+                    q.orderBy(store.name());
+                    return q.select(
+                            store.fetch(
+                                    BookStoreFetcher.$.name().books(
+                                            BookFetcher.$,
+                                            it -> it.limit(3, 1).filter(args -> {
+                                                args
+                                                        .orderBy(args.getTable().name())
+                                                        .orderBy(args.getTable().edition().desc());
+                                            })
+                                    )
+                            )
+                    );
+                }),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.ID, tb_1_.NAME " +
+                                    "from BOOK_STORE tb_1_ " +
+                                    "order by tb_1_.NAME asc");
+                    ctx.statement(1).sql(
+                            "select partition_.partition_col_0_, partition_.partition_col_1_ " +
+                                    "from (" +
+                                    "--->select " +
+                                    "--->--->tb_1_.STORE_ID partition_col_0_, " +
+                                    "--->--->tb_1_.ID partition_col_1_, " +
+                                    "--->--->row_number() over(" +
+                                    "--->--->--->partition by tb_1_.STORE_ID " +
+                                    "--->--->--->order by tb_1_.NAME asc, tb_1_.EDITION desc" +
+                                    "--->--->) partition_row_number_ " +
+                                    "--->from BOOK tb_1_ " +
+                                    "--->where tb_1_.STORE_ID in (?, ?)" +
+                                    ") partition_ " +
+                                    "where partition_.partition_row_number_ > ? " +
+                                    "and partition_.partition_row_number_ <= ? " +
+                                    "order by partition_.partition_row_number_ asc"
+                    ).variables(manningId, oreillyId, 1, 4);
+                    // Rank 2~4 of each store, MANNING has 3 books only
+                    ctx.rows(
+                            "[" +
+                                    "--->{" +
+                                    "--->--->\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\"," +
+                                    "--->--->\"name\":\"MANNING\"," +
+                                    "--->--->\"books\":[" +
+                                    "--->--->--->{\"id\":\"e37a8344-73bb-4b23-ba76-82eac11f03e6\"}," +
+                                    "--->--->--->{\"id\":\"a62f7aa3-9490-4612-98b5-98aae0e77120\"}" +
+                                    "--->--->]" +
+                                    "--->}," +
+                                    "--->{" +
+                                    "--->--->\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\"," +
+                                    "--->--->\"name\":\"O'REILLY\"," +
+                                    "--->--->\"books\":[" +
+                                    "--->--->--->{\"id\":\"8e169cfb-2373-4e44-8cce-1f1277f730d1\"}," +
+                                    "--->--->--->{\"id\":\"8f30bc8a-49f9-481d-beca-5fe2d147c831\"}," +
+                                    "--->--->--->{\"id\":\"64873631-5d82-4bae-8eb8-72dd955bfc56\"}" +
+                                    "--->--->]" +
+                                    "--->}" +
+                                    "]"
+                    );
+                }
+        );
+    }
+
     @Test
     public void testManyToMany() {
         executeAndExpect(
@@ -0,0 +1,86 @@
+package org.babyfish.jimmer.sql.microservice;
+
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.runtime.ImmutableSpi;
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.ast.tuple.Tuple2;
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.sql.fetcher.Fetcher;
+import org.babyfish.jimmer.sql.model.microservice.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+public class MicroServicePipelineTest extends AbstractTest {
+
+    @Test
+    public void testRemoteAssociationsAreRequestedConcurrently() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            // Each request waits until the other one is issued
+            CountDownLatch latch = new CountDownLatch(2);
+            MicroServiceExchangeImpl exchange = new MicroServiceExchangeImpl() {
+                @Override
+                public CompletableFuture<List<ImmutableSpi>> findByIdsAsync(
+                        String microServiceName,
+                        Collection<?> ids,
+                        Fetcher<?> fetcher
+                ) {
+                    return async(() -> findByIds(microServiceName, ids, fetcher));
+                }
+                @Override
+                public CompletableFuture<List<Tuple2<Object, ImmutableSpi>>> findByAssociatedIdsAsync(
+                        String microServiceName,
+                        ImmutableProp prop,
+                        Collection<?> targetIds,
+                        Fetcher<?> fetcher
+                ) {
+                    return async(() -> findByAssociatedIds(microServiceName, prop, targetIds, fetcher));
+                }
+                private <R> CompletableFuture<R> async(Supplier<R> block) {
+                    return CompletableFuture.supplyAsync(() -> {
+                        latch.countDown();
+                        try {
+                            if (!latch.await(5, TimeUnit.SECONDS)) {
+                                throw new IllegalStateException("The remote requests are serialized");
+                            }
+                        } catch (InterruptedException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                        return block.get();
+                    }, executorService);
+                }
+            };
+            JSqlClient sqlClient = getSqlClient(builder ->
+                    builder
+                            .setMicroServiceName("order-item-service")
+                            .setMicroServiceExchange(exchange)
+                            .setMicroServiceMaxInFlight(1)
+            );
+            OrderItemTable table = OrderItemTable.$;
+            jdbc(con -> {
+                List<OrderItem> orderItems = sqlClient
+                        .createQuery(table)
+                        .where(table.id().eq(1L))
+                        .select(
+                                table.fetch(
+                                        OrderItemFetcher.$
+                                                .allScalarFields()
+                                                .order(OrderFetcher.$.allScalarFields())
+                                                .products(ProductFetcher.$.allScalarFields())
+                                )
+                        )
+                        .execute(con);
+                Assertions.assertEquals(1, orderItems.size());
+                Assertions.assertEquals("ms-order-1", orderItems.get(0).order().name());
+                Assertions.assertFalse(orderItems.get(0).products().isEmpty());
+            });
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -1045,20 +1045,21 @@ public class CascadeSaveTest extends AbstractMutationTest {
                 ctx -> {
                     ctx.statement(it -> {
                         it.sql(
-                                "select tb_1_.ID, tb_1_.NAME " +
-                                        "from BOOK_STORE tb_1_ where tb_1_.ID = ?"
+                                "select tb_1_.ID, tb_1_.NAME, tb_1_.EDITION " +
+                                        "from BOOK tb_1_ " +
+                                        "where (tb_1_.NAME, tb_1_.EDITION) in ((?, ?), (?, ?))"
                         );
+                        it.variables("A", 1, "B", 1);
                     });
                     ctx.statement(it -> {
                         it.sql(
-                                "insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?)"
+                                "select tb_1_.ID, tb_1_.NAME " +
+                                        "from BOOK_STORE tb_1_ where tb_1_.ID = ?"
                         );
                     });
                     ctx.statement(it -> {
                         it.sql(
-                                "select tb_1_.ID, tb_1_.NAME, tb_1_.EDITION " +
-                                        "from BOOK tb_1_ " +
-                                        "where tb_1_.NAME = ? and tb_1_.EDITION = ?"
+                                "insert into BOOK_STORE(ID, NAME, VERSION) values(?, ?, ?)"
                         );
                     });
                     ctx.statement(it -> {
@@ -1067,13 +1068,6 @@ public class CascadeSaveTest extends AbstractMutationTest {
                                         "values(?, ?, ?, ?, ?)"
                         );
                     });
-                    ctx.statement(it -> {
-                        it.sql(
-                                "select tb_1_.ID, tb_1_.NAME, tb_1_.EDITION " +
-                                        "from BOOK tb_1_ " +
-                                        "where tb_1_.NAME = ? and tb_1_.EDITION = ?"
-                        );
-                    });
                     ctx.statement(it -> {
                         it.sql(
                                 "insert into BOOK(ID, NAME, EDITION, PRICE, STORE_ID) " +
@@ -0,0 +1,89 @@
+package org.babyfish.jimmer.sql.mutation;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.sql.dialect.Dialect;
+import org.babyfish.jimmer.sql.dialect.MySqlDialect;
+import org.babyfish.jimmer.sql.dialect.OracleDialect;
+import org.babyfish.jimmer.sql.dialect.PostgresDialect;
+import org.babyfish.jimmer.sql.model.TreeNode;
+import org.babyfish.jimmer.sql.model.TreeNodeDraft;
+import org.babyfish.jimmer.sql.runtime.DbNull;
+import org.babyfish.jimmer.sql.runtime.Executor;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The upsert statements of the databases other than H2 are only rendered,
+ * not executed.
+ */
+public class NativeUpsertTest extends AbstractTest {
+
+    @Test
+    public void testMySql() {
+        assertUpsert(
+                new MySqlDialect(),
+                "insert into TREE_NODE(NODE_ID, NAME, PARENT_ID) values(?, ?, ?) " +
+                        "on duplicate key update NAME = values(NAME), PARENT_ID = values(PARENT_ID)"
+        );
+    }
+
+    @Test
+    public void testPostgres() {
+        assertUpsert(
+                new PostgresDialect(),
+                "insert into TREE_NODE(NODE_ID, NAME, PARENT_ID) values(?, ?, ?) " +
+                        "on conflict(NODE_ID) do update set NAME = excluded.NAME, PARENT_ID = excluded.PARENT_ID"
+        );
+    }
+
+    @Test
+    public void testOracle() {
+        assertUpsert(
+                new OracleDialect(),
+                "merge into TREE_NODE tb_1_ " +
+                        "using(select ? NODE_ID, ? NAME, ? PARENT_ID from dual) tb_2_ " +
+                        "on (tb_1_.NODE_ID = tb_2_.NODE_ID) " +
+                        "when matched then update set NAME = tb_2_.NAME, PARENT_ID = tb_2_.PARENT_ID " +
+                        "when not matched then insert(NODE_ID, NAME, PARENT_ID) " +
+                        "values(tb_2_.NODE_ID, tb_2_.NAME, tb_2_.PARENT_ID)"
+        );
+    }
+
+    private void assertUpsert(Dialect dialect, String sql) {
+        List<String> sqlList = new ArrayList<>();
+        List<List<Object>> variablesList = new ArrayList<>();
+        JSqlClient sqlClient = getSqlClient(builder -> {
+            builder.setDialect(dialect).setExecutor(new Executor() {
+                @SuppressWarnings("unchecked")
+                @Override
+                public <R> R execute(@NotNull Args<R> args) {
+                    sqlList.add(args.sql);
+                    variablesList.add(args.variables);
+                    return (R) (Integer) 1;
+                }
+            });
+        });
+        jdbc(con -> {
+            sqlClient
+                    .getEntities()
+                    .saveCommand(
+                            TreeNodeDraft.$.produce(node -> {
+                                node.setId(1L).setName("Home").setParent((TreeNode) null);
+                            })
+                    )
+                    .setNativeUpsert()
+                    .execute(con);
+        });
+        Assertions.assertEquals(Arrays.asList(sql), sqlList);
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList(1L, "Home", new DbNull(long.class))),
+                variablesList
+        );
+    }
+}
@@ -3,20 +3,25 @@ package org.babyfish.jimmer.sql.mutation;
 import org.babyfish.jimmer.Draft;
 import org.babyfish.jimmer.sql.DissociateAction;
 import org.babyfish.jimmer.sql.DraftInterceptor;
+import org.babyfish.jimmer.sql.JSqlClient;
 import org.babyfish.jimmer.sql.ast.mutation.AffectedTable;
+import org.babyfish.jimmer.sql.ast.mutation.BatchSaveResult;
 import org.babyfish.jimmer.sql.ast.mutation.SaveMode;
 import org.babyfish.jimmer.sql.ast.mutation.SimpleSaveResult;
 import org.babyfish.jimmer.sql.common.AbstractMutationTest;
 import static org.babyfish.jimmer.sql.common.Constants.*;
 
 import org.babyfish.jimmer.sql.common.Constants;
+import org.babyfish.jimmer.sql.dialect.H2Dialect;
 import org.babyfish.jimmer.sql.model.*;
 import org.babyfish.jimmer.sql.model.inheritance.Administrator;
 import org.babyfish.jimmer.sql.model.inheritance.AdministratorMetadata;
 import org.babyfish.jimmer.sql.model.inheritance.AdministratorMetadataDraft;
 import org.babyfish.jimmer.sql.model.inheritance.NamedEntityDraft;
 import org.babyfish.jimmer.sql.runtime.DbNull;
+import org.babyfish.jimmer.sql.runtime.DefaultExecutor;
 import org.babyfish.jimmer.sql.runtime.ExecutionException;
+import org.babyfish.jimmer.sql.runtime.Executor;
 import org.babyfish.jimmer.sql.runtime.SaveErrorCode;
 import org.babyfish.jimmer.sql.runtime.SaveException;
 import org.jetbrains.annotations.NotNull;
@@ -25,7 +30,10 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.sql.PreparedStatement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 public class SaveTest extends AbstractMutationTest {
@@ -875,6 +883,403 @@ public class SaveTest extends AbstractMutationTest {
         );
     }
 
+    @Test
+    public void testBatchSaveByJdbcBatch() {
+        setAutoIds(TreeNode.class, 100L, 101L, 102L);
+        executeAndExpectResult(
+                getSqlClient()
+                        .getEntities()
+                        .batchSaveCommand(
+                                Arrays.asList(
+                                        TreeNodeDraft.$.produce(node -> {
+                                            node.setName("batch-node-1").setParent((TreeNode) null);
+                                        }),
+                                        TreeNodeDraft.$.produce(node -> {
+                                            node.setName("batch-node-2").setParent((TreeNode) null);
+                                        }),
+                                        TreeNodeDraft.$.produce(node -> {
+                                            node.setName("batch-node-3").setParent((TreeNode) null);
+                                        })
+                                )
+                        )
+                        .configure(cfg -> cfg.setMode(SaveMode.INSERT_ONLY).setBatchSize(2)),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql("insert into TREE_NODE(NODE_ID, NAME, PARENT_ID) values(?, ?, ?)");
+                        it.variables(
+                                100L, "batch-node-1", new DbNull(long.class),
+                                101L, "batch-node-2", new DbNull(long.class)
+                        );
+                    });
+                    ctx.statement(it -> {
+                        it.sql("insert into TREE_NODE(NODE_ID, NAME, PARENT_ID) values(?, ?, ?)");
+                        it.variables(102L, "batch-node-3", new DbNull(long.class));
+                    });
+                    ctx.entity(it -> {
+                        it.original("{\"name\":\"batch-node-1\",\"parent\":null}");
+                        it.modified(
+                                "{\"id\":100,\"name\":\"batch-node-1\",\"parent\":null}"
+                        );
+                    });
+                    ctx.entity(it -> {
+                        it.modified(
+                                "{\"id\":101,\"name\":\"batch-node-2\",\"parent\":null}"
+                        );
+                    });
+                    ctx.entity(it -> {
+                        it.modified(
+                                "{\"id\":102,\"name\":\"batch-node-3\",\"parent\":null}"
+                        );
+                    });
+                    ctx.totalRowCount(3);
+                    ctx.rowCount(AffectedTable.of(TreeNode.class), 3);
+                }
+        );
+    }
+
+    @Test
+    public void testNativeUpsert() {
+        executeAndExpectResult(
+                getSqlClient()
+                        .getEntities()
+                        .saveCommand(
+                                TreeNodeDraft.$.produce(node -> {
+                                    node.setId(1L).setName("Home").setParent((TreeNode) null);
+                                })
+                        )
+                        .setNativeUpsert(),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql(
+                                "merge into TREE_NODE(NODE_ID, NAME, PARENT_ID) " +
+                                        "key(NODE_ID) values(?, ?, ?)"
+                        );
+                        it.variables(1L, "Home", new DbNull(long.class));
+                    });
+                    ctx.entity(it -> {
+                        it.original("{\"id\":1,\"name\":\"Home\",\"parent\":null}");
+                        it.modified("{\"id\":1,\"name\":\"Home\",\"parent\":null}");
+                    });
+                    ctx.totalRowCount(1);
+                    ctx.rowCount(AffectedTable.of(TreeNode.class), 1);
+                }
+        );
+    }
+
+    @Test
+    public void testBatchNativeUpsert() {
+        executeAndExpectResult(
+                getSqlClient()
+                        .getEntities()
+                        .batchSaveCommand(
+                                Arrays.asList(
+                                        TreeNodeDraft.$.produce(node -> {
+                                            node.setId(1L).setName("Home").setParent((TreeNode) null);
+                                        }),
+                                        TreeNodeDraft.$.produce(node -> {
+                                            node.setId(100L).setName("Garden").setParent((TreeNode) null);
+                                        })
+                                )
+                        )
+                        .setNativeUpsert(),
+                ctx -> {
+                    // The objects are not found before native upsert
+                    ctx.statement(it -> {
+                        it.sql(
+                                "merge into TREE_NODE(NODE_ID, NAME, PARENT_ID) " +
+                                        "key(NODE_ID) values(?, ?, ?)"
+                        );
+                        it.variables(1L, "Home", new DbNull(long.class));
+                    });
+                    ctx.statement(it -> {
+                        it.sql(
+                                "merge into TREE_NODE(NODE_ID, NAME, PARENT_ID) " +
+                                        "key(NODE_ID) values(?, ?, ?)"
+                        );
+                        it.variables(100L, "Garden", new DbNull(long.class));
+                    });
+                    ctx.entity(it -> {
+                        it.original("{\"id\":1,\"name\":\"Home\",\"parent\":null}");
+                        it.modified("{\"id\":1,\"name\":\"Home\",\"parent\":null}");
+                    });
+                    ctx.entity(it -> {
+                        it.original("{\"id\":100,\"name\":\"Garden\",\"parent\":null}");
+                        it.modified("{\"id\":100,\"name\":\"Garden\",\"parent\":null}");
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(TreeNode.class), 2);
+                }
+        );
+    }
+
+    @Test
+    public void testBatchUpdateByJdbcBatch() {
+        executeAndExpectResult(
+                getSqlClient()
+                        .getEntities()
+                        .batchSaveCommand(
+                                Arrays.asList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(oreillyId).setName("O'REILLY+").setVersion(0);
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(manningId).setName("MANNING+").setVersion(0);
+                                        })
+                                )
+                        )
+                        .configure(cfg -> cfg.setMode(SaveMode.UPDATE_ONLY).setBatchSize(10)),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql(
+                                "update BOOK_STORE " +
+                                        "set NAME = ?, VERSION = VERSION + 1 " +
+                                        "where ID = ? and VERSION = ?"
+                        );
+                        it.variables(
+                                "O'REILLY+", oreillyId, 0,
+                                "MANNING+", manningId, 0
+                        );
+                    });
+                    ctx.entity(it -> {
+                        it.modified(
+                                "{\"id\":\"d38c10da-6be8-4924-b9b9-5e81899612a0\",\"name\":\"O'REILLY+\",\"version\":1}"
+                        );
+                    });
+                    ctx.entity(it -> {
+                        it.modified(
+                                "{\"id\":\"2fa3955e-3e83-49b9-902e-0465c109c779\",\"name\":\"MANNING+\",\"version\":1}"
+                        );
+                    });
+                    ctx.totalRowCount(2);
+                    ctx.rowCount(AffectedTable.of(BookStore.class), 2);
+                }
+        );
+    }
+
+    @Test
+    public void testBatchUpdateByJdbcBatchWithIllegalVersion() {
+        executeAndExpectResult(
+                getSqlClient()
+                        .getEntities()
+                        .batchSaveCommand(
+                                Arrays.asList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(oreillyId).setName("O'REILLY+").setVersion(0);
+                                        }),
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(manningId).setName("MANNING+").setVersion(1);
+                                        })
+                                )
+                        )
+                        .configure(cfg -> cfg.setMode(SaveMode.UPDATE_ONLY).setBatchSize(10)),
+                ctx -> {
+                    ctx.statement(it -> {
+                        it.sql(
+                                "update BOOK_STORE " +
+                                        "set NAME = ?, VERSION = VERSION + 1 " +
+                                        "where ID = ? and VERSION = ?"
+                        );
+                        it.variables(
+                                "O'REILLY+", oreillyId, 0,
+                                "MANNING+", manningId, 1
+                        );
+                    });
+                    ctx.throwable(it -> {
+                        it.message(
+                                "Save error caused by the path: \"<root>\": " +
+                                        "Cannot update the entity whose type is " +
+                                        "\"org.babyfish.jimmer.sql.model.BookStore\", " +
+                                        "id is \"2fa3955e-3e83-49b9-902e-0465c109c779\" and version is \"1\""
+                        );
+                        it.type(SaveException.class);
+                        it.detail(ex -> {
+                            Assertions.assertEquals(
+                                    SaveErrorCode.ILLEGAL_VERSION,
+                                    ((SaveException)ex).getCode()
+                            );
+                        });
+                    });
+                }
+        );
+    }
+
+    @Test
+    public void testBatchSaveResultsByJdbcBatch() {
+        List<Integer> executedRowCounts = new ArrayList<>();
+        JSqlClient sqlClient = getSqlClient(builder -> {
+            // Does not override `executeBatch`
+            builder.setExecutor(new Executor() {
+                @Override
+                public <R> R execute(@NotNull Args<R> args) {
+                    executedRowCounts.add(args.variables.size());
+                    return DefaultExecutor.INSTANCE.execute(args);
+                }
+            });
+        });
+        jdbc(null, true, con -> {
+            BatchSaveResult<BookStore> result = sqlClient
+                    .getEntities()
+                    .batchSaveCommand(
+                            Arrays.asList(
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(oreillyId).setName("O'REILLY+").setVersion(0);
+                                    }),
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(manningId).setName("MANNING+").setVersion(0);
+                                    })
+                            )
+                    )
+                    .configure(cfg -> cfg.setMode(SaveMode.UPDATE_ONLY).setBatchSize(10))
+                    .execute(con);
+            // Each row is executed by the user executor
+            Assertions.assertEquals(Arrays.asList(3, 3), executedRowCounts);
+            Assertions.assertEquals(2, result.getTotalAffectedRowCount());
+            for (SimpleSaveResult<BookStore> simpleResult : result.getSimpleResults()) {
+                Assertions.assertEquals(1, simpleResult.getTotalAffectedRowCount());
+                Assertions.assertEquals(1, simpleResult.getAffectedRowCount(AffectedTable.of(BookStore.class)));
+            }
+        });
+    }
+
+    @Test
+    public void testBatchSavePreloadsByChunks() {
+        UUID newId = UUID.fromString("56506a3c-801b-4f7d-a41d-e889cdc3d67d");
+        JSqlClient sqlClient = getSqlClient(builder -> {
+            builder.setDialect(
+                    new H2Dialect() {
+                        @Override
+                        public int getMaxInListSize() {
+                            return 2;
+                        }
+                    }
+            );
+        });
+        jdbc(null, true, con -> {
+            sqlClient
+                    .getEntities()
+                    .batchSaveCommand(
+                            Arrays.asList(
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(oreillyId).setName("O'REILLY+").setVersion(0);
+                                    }),
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(manningId).setName("MANNING+").setVersion(0);
+                                    }),
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(newId).setName("TURING").setVersion(0);
+                                    })
+                            )
+                    )
+                    .execute(con);
+        });
+        List<Execution> selects = new ArrayList<>();
+        for (Execution execution : getExecutions()) {
+            if (execution.getSql().startsWith("select ")) {
+                selects.add(execution);
+            }
+        }
+        // 3 objects are preloaded by 2 chunks, none of them is found one by one
+        Assertions.assertEquals(2, selects.size());
+        Assertions.assertEquals(2, selects.get(0).getVariables().size());
+        Assertions.assertEquals(1, selects.get(1).getVariables().size());
+    }
+
+    @Test
+    public void testBatchUpdateByJdbcBatchInChunks() {
+        List<String> executedKinds = new ArrayList<>();
+        JSqlClient sqlClient = getSqlClient(builder -> {
+            builder.setExecutor(recording(executedKinds));
+        });
+        jdbc(null, true, con -> {
+            BatchSaveResult<BookStore> result = sqlClient
+                    .getEntities()
+                    .batchSaveCommand(
+                            Arrays.asList(
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(oreillyId).setName("O'REILLY+").setVersion(0);
+                                    }),
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(manningId).setName("MANNING+").setVersion(0);
+                                    })
+                            )
+                    )
+                    .configure(cfg -> cfg.setMode(SaveMode.UPDATE_ONLY).setBatchSize(1))
+                    .execute(con);
+            // More objects than the batch size, one JDBC batch per chunk
+            Assertions.assertEquals(Arrays.asList("batch:1", "batch:1"), executedKinds);
+            Assertions.assertEquals(2, result.getTotalAffectedRowCount());
+        });
+    }
+
+    @Test
+    public void testBatchUpdateWithoutBatchRowCounts() {
+        List<String> executedKinds = new ArrayList<>();
+        JSqlClient sqlClient = getSqlClient(builder -> {
+            builder.setExecutor(recording(executedKinds));
+            builder.setDialect(
+                    new H2Dialect() {
+                        @Override
+                        public boolean isBatchUpdateCountSupported() {
+                            return false;
+                        }
+                    }
+            );
+        });
+        jdbc(null, true, con -> {
+            BatchSaveResult<BookStore> result = sqlClient
+                    .getEntities()
+                    .batchSaveCommand(
+                            Arrays.asList(
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(oreillyId).setName("O'REILLY+").setVersion(0);
+                                    }),
+                                    BookStoreDraft.$.produce(store -> {
+                                        store.setId(manningId).setName("MANNING+").setVersion(0);
+                                    })
+                            )
+                    )
+                    .configure(cfg -> cfg.setMode(SaveMode.UPDATE_ONLY).setBatchSize(10))
+                    .execute(con);
+            // The versions cannot be checked by batch, falls back to one statement per object
+            Assertions.assertEquals(Arrays.asList("single", "single"), executedKinds);
+            Assertions.assertEquals(2, result.getTotalAffectedRowCount());
+        });
+        SaveException ex = Assertions.assertThrows(SaveException.class, () -> {
+            jdbc(null, true, con -> {
+                sqlClient
+                        .getEntities()
+                        .batchSaveCommand(
+                                Collections.singletonList(
+                                        BookStoreDraft.$.produce(store -> {
+                                            store.setId(manningId).setName("MANNING+").setVersion(1);
+                                        })
+                                )
+                        )
+                        .configure(cfg -> cfg.setMode(SaveMode.UPDATE_ONLY).setBatchSize(10))
+                        .execute(con);
+            });
+        });
+        Assertions.assertEquals(SaveErrorCode.ILLEGAL_VERSION, ex.getCode());
+    }
+
+    private static Executor recording(List<String> executedKinds) {
+        return new Executor() {
+            @Override
+            public <R> R execute(@NotNull Args<R> args) {
+                if (args.sql.startsWith("update ")) {
+                    executedKinds.add("single");
+                }
+                return DefaultExecutor.INSTANCE.execute(args);
+            }
+
+            @Override
+            public <R> R executeBatch(@NotNull BatchArgs<R> args) {
+                executedKinds.add("batch:" + args.variableLists.size());
+                return DefaultExecutor.INSTANCE.executeBatch(args);
+            }
+        };
+    }
+
     @Test
     public void testSaveNullParent() {
         SaveException ex = Assertions.assertThrows(SaveException.class, () -> {
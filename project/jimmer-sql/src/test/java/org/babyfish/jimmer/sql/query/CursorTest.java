@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class CursorTest extends AbstractQueryTest {
 
@@ -152,4 +153,29 @@ public class CursorTest extends AbstractQueryTest {
                 }
         );
     }
+
+    @Test
+    public void stream() {
+        connectAndExpect(
+                con -> {
+                    return getLambdaClient().createQuery(BookTable.class, (q, book) -> {
+                        return q
+                                .where(book.edition().eq(3))
+                                .orderBy(book.name().asc())
+                                .select(book.name());
+                    }).stream(con, 2, stream -> stream.limit(3).collect(Collectors.toList()));
+                },
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.NAME " +
+                                    "from BOOK tb_1_ " +
+                                    "where tb_1_.EDITION = ? " +
+                                    "order by tb_1_.NAME asc"
+                    );
+                    ctx.rows(
+                            "[\"Effective TypeScript\",\"GraphQL in Action\",\"Learning GraphQL\"]"
+                    );
+                }
+        );
+    }
 }
@@ -5,6 +5,7 @@ import org.babyfish.jimmer.sql.common.AbstractQueryTest;
 import org.babyfish.jimmer.sql.filter.Filter;
 import org.babyfish.jimmer.sql.filter.FilterArgs;
 import org.babyfish.jimmer.sql.model.inheritance.*;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -887,4 +888,23 @@ public class GlobalFilterTest extends AbstractQueryTest {
                 }
         );
     }
+
+    @Test
+    public void testDerivedClientsAreShared() {
+        JSqlClient sqlClient = getSqlClient();
+        JSqlClient disabledClient1 = sqlClient.filters(it -> {
+            it.disable(sqlClient.getFilters().builtIns().getDeclaredNotDeletedFilter(NamedEntity.class));
+        });
+        JSqlClient disabledClient2 = sqlClient.filters(it -> {
+            it.disable(sqlClient.getFilters().builtIns().getDeclaredNotDeletedFilter(NamedEntity.class));
+        });
+        Assertions.assertNotSame(sqlClient, disabledClient1);
+        Assertions.assertSame(disabledClient1, disabledClient2);
+        Assertions.assertSame(
+                sqlClient.getFilters(),
+                disabledClient1.filters(it -> {
+                    it.enable(sqlClient.getFilters().builtIns().getDeclaredNotDeletedFilter(NamedEntity.class));
+                }).getFilters()
+        );
+    }
 }
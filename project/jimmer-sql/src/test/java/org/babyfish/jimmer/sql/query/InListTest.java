@@ -0,0 +1,253 @@
+package org.babyfish.jimmer.sql.query;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractQueryTest;
+import org.babyfish.jimmer.sql.dialect.*;
+import org.babyfish.jimmer.sql.model.BookTable;
+import org.babyfish.jimmer.sql.runtime.DbArray;
+import org.babyfish.jimmer.sql.runtime.DefaultExecutor;
+import org.babyfish.jimmer.sql.runtime.ExecutionPurpose;
+import org.babyfish.jimmer.sql.runtime.Executor;
+import org.babyfish.jimmer.sql.runtime.JSqlClientImplementor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class InListTest extends AbstractQueryTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+            "Learning GraphQL",
+            "GraphQL in Action",
+            "Effective TypeScript"
+    );
+
+    @Test
+    public void testPadding() {
+        JSqlClient sqlClient = getSqlClient(it -> it.setInListPaddingEnabled(true));
+        BookTable table = BookTable.$;
+        executeAndExpect(
+                sqlClient
+                        .createQuery(table)
+                        .where(table.name().in(NAMES))
+                        .select(table.edition()),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.EDITION " +
+                                    "from BOOK tb_1_ " +
+                                    "where tb_1_.NAME in (?, ?, ?, ?)"
+                    ).variables(
+                            "Learning GraphQL",
+                            "GraphQL in Action",
+                            "Effective TypeScript",
+                            "Effective TypeScript"
+                    );
+                    ctx.rows(rows -> Assertions.assertEquals(9, rows.size()));
+                }
+        );
+    }
+
+    @Test
+    public void testAnyEquality() {
+        JSqlClient sqlClient = getSqlClient(it -> it.setInListToAnyEqualityEnabled(true));
+        BookTable table = BookTable.$;
+        executeAndExpect(
+                sqlClient
+                        .createQuery(table)
+                        .where(table.name().in(NAMES))
+                        .select(table.edition()),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.EDITION " +
+                                    "from BOOK tb_1_ " +
+                                    "where tb_1_.NAME = any(?)"
+                    );
+                    ctx.rows(rows -> Assertions.assertEquals(9, rows.size()));
+                }
+        );
+    }
+
+    @Test
+    public void testChunking() {
+        JSqlClient sqlClient = getSqlClient(it -> {
+            it.setDialect(
+                    new H2Dialect() {
+                        @Override
+                        public int getMaxInListSize() {
+                            return 2;
+                        }
+                    }
+            );
+        });
+        BookTable table = BookTable.$;
+        executeAndExpect(
+                sqlClient
+                        .createQuery(table)
+                        .where(table.name().notIn(NAMES))
+                        .select(table.edition()),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.EDITION " +
+                                    "from BOOK tb_1_ " +
+                                    "where (tb_1_.NAME not in (?, ?) and tb_1_.NAME not in (?))"
+                    ).variables(
+                            "Learning GraphQL",
+                            "GraphQL in Action",
+                            "Effective TypeScript"
+                    );
+                    ctx.rows(rows -> Assertions.assertEquals(3, rows.size()));
+                }
+        );
+    }
+
+    @Test
+    public void testChunkingByDialectLimit() {
+        List<String> names = new ArrayList<>(NAMES);
+        for (int i = names.size(); i < 1001; i++) {
+            names.add("Unknown book " + i);
+        }
+        BookTable table = BookTable.$;
+        for (Dialect dialect : new Dialect[] {
+                new H2Dialect(),
+                new MySqlDialect(),
+                new OracleDialect(),
+                new PostgresDialect(),
+                new SqlServerDialect()
+        }) {
+            JSqlClient sqlClient = getSqlClient(it -> it.setDialect(dialect));
+            executeAndExpect(
+                    sqlClient
+                            .createQuery(table)
+                            .where(table.name().in(names))
+                            .select(table.edition()),
+                    ctx -> {
+                        ctx.sql(
+                                "select tb_1_.EDITION " +
+                                        "from BOOK tb_1_ " +
+                                        "where (" +
+                                        inList(1000) +
+                                        " or " +
+                                        inList(1) +
+                                        ")"
+                        ).variables(new ArrayList<>(names));
+                        ctx.rows(rows -> Assertions.assertEquals(9, rows.size()));
+                    }
+            );
+        }
+    }
+
+    @Test
+    public void testNoChunkingUnderDialectLimit() {
+        List<String> names = new ArrayList<>(NAMES);
+        for (int i = names.size(); i < 1000; i++) {
+            names.add("Unknown book " + i);
+        }
+        BookTable table = BookTable.$;
+        executeAndExpect(
+                getSqlClient(it -> it.setDialect(new OracleDialect()))
+                        .createQuery(table)
+                        .where(table.name().in(names))
+                        .select(table.edition()),
+                ctx -> {
+                    ctx.sql(
+                            "select tb_1_.EDITION " +
+                                    "from BOOK tb_1_ " +
+                                    "where " +
+                                    inList(1000)
+                    );
+                    ctx.rows(rows -> Assertions.assertEquals(9, rows.size()));
+                }
+        );
+    }
+
+    @Test
+    public void testPostgresArrayBinding() {
+        JSqlClientImplementor sqlClient = (JSqlClientImplementor) getSqlClient(it -> it.setDialect(new PostgresDialect()));
+        List<String> calls = new ArrayList<>();
+        PreparedStatement[] statementRef = new PreparedStatement[1];
+        Connection con = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            return statementRef[0];
+                        case "createArrayOf":
+                            calls.add("createArrayOf(" + args[0] + ", " + Arrays.toString((Object[]) args[1]) + ")");
+                            return Proxy.newProxyInstance(
+                                    Array.class.getClassLoader(),
+                                    new Class[] { Array.class },
+                                    (arrProxy, arrMethod, arrArgs) -> {
+                                        if (arrMethod.getName().equals("free")) {
+                                            calls.add("free");
+                                        }
+                                        return null;
+                                    }
+                            );
+                        default:
+                            return null;
+                    }
+                }
+        );
+        statementRef[0] = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class[] { PreparedStatement.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getConnection":
+                            return con;
+                        case "setArray":
+                        case "setObject":
+                            calls.add(method.getName() + "(" + args[0] + ")");
+                            return null;
+                        default:
+                            return null;
+                    }
+                }
+        );
+        DefaultExecutor.INSTANCE.execute(
+                new Executor.Args<>(
+                        sqlClient,
+                        con,
+                        "select 1 from BOOK where ID = any(?) and TAGS = ? and NAME = ?",
+                        Arrays.<Object>asList(
+                                new DbArray(new Long[] { 1L, 2L }),
+                                // Arrays which are not created by `SqlBuilder.arrayVariable` are bound as they are
+                                new String[] { "tag" },
+                                "Learning GraphQL"
+                        ),
+                        null,
+                        ExecutionPurpose.QUERY,
+                        null,
+                        stmt -> null
+                )
+        );
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "createArrayOf(int8, [1, 2])",
+                        "setArray(1)",
+                        "setObject(2)",
+                        "setObject(3)",
+                        "free"
+                ),
+                calls
+        );
+    }
+
+    private static String inList(int size) {
+        StringBuilder builder = new StringBuilder("tb_1_.NAME in (");
+        for (int i = 0; i < size; i++) {
+            if (i != 0) {
+                builder.append(", ");
+            }
+            builder.append('?');
+        }
+        return builder.append(')').toString();
+    }
+}
@@ -0,0 +1,31 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.sql.model.AuthorFetcher;
+import org.babyfish.jimmer.sql.model.BookFetcher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReaderManagerTest extends AbstractTest {
+
+    @Test
+    public void testEqualShapesShareReader() {
+        JSqlClientImplementor sqlClient = (JSqlClientImplementor) getSqlClient();
+        Reader<?> reader = sqlClient.getReader(BookFetcher.$.name().edition());
+        Assertions.assertSame(
+                reader,
+                sqlClient.getReader(BookFetcher.$.name().edition())
+        );
+        // Many-to-many association has no column
+        Assertions.assertSame(
+                reader,
+                sqlClient.getReader(
+                        BookFetcher.$.name().edition().authors(AuthorFetcher.$.firstName())
+                )
+        );
+        Assertions.assertNotSame(
+                reader,
+                sqlClient.getReader(BookFetcher.$.name().edition().price())
+        );
+    }
+}
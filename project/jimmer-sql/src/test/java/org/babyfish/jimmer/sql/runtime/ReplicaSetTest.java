@@ -0,0 +1,206 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.sql.model.BookTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class ReplicaSetTest extends AbstractTest {
+
+    @Test
+    public void testRoundRobin() {
+        List<String> log = new ArrayList<>();
+        ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("a", recorder("a", log))
+                .addReplica("b", recorder("b", log))
+                .addReplica("c", recorder("c", log))
+                .build();
+        for (int i = 0; i < 6; i++) {
+            replicaSet.execute(con -> null);
+        }
+        Assertions.assertEquals(Arrays.asList("a", "b", "c", "a", "b", "c"), log);
+    }
+
+    @Test
+    public void testEjectLaggingReplica() {
+        List<String> log = new ArrayList<>();
+        ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("fast", recorder("fast", log))
+                .addReplica("slow", recorder("slow", log))
+                .setLagChecker(con -> log.remove(log.size() - 1).equals("slow") ? 60_000L : 0L)
+                .setMaxLag(Duration.ofSeconds(1))
+                .setCheckInterval(Duration.ofHours(1))
+                .build();
+        replicaSet.checkHealth();
+        for (int i = 0; i < 4; i++) {
+            replicaSet.execute(con -> null);
+        }
+        Assertions.assertEquals(Arrays.asList("fast", "fast", "fast", "fast"), log);
+        Assertions.assertTrue(replicaSet.getReplicas().get(1).isEjected());
+        Assertions.assertEquals(60_000L, replicaSet.getReplicas().get(1).getLagMillis());
+    }
+
+    @Test
+    public void testFallbackWhenAllReplicasAreEjected() {
+        List<String> log = new ArrayList<>();
+        ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("replica", recorder("replica", log))
+                .setLagChecker(con -> {
+                    log.remove(log.size() - 1);
+                    return 60_000L;
+                })
+                .setFallback(recorder("master", log))
+                .build();
+        replicaSet.checkHealth();
+        replicaSet.execute(con -> null);
+        Assertions.assertEquals(Arrays.asList("master"), log);
+    }
+
+    @Test
+    public void testFirstCheckIsDelayed() {
+        List<String> log = new ArrayList<>();
+        AtomicInteger checkCount = new AtomicInteger();
+        ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("replica", recorder("replica", log))
+                .setLagChecker(con -> {
+                    checkCount.incrementAndGet();
+                    return 60_000L;
+                })
+                .setFallback(recorder("master", log))
+                .build();
+        replicaSet.execute(con -> null);
+        Assertions.assertEquals(0, checkCount.get());
+        Assertions.assertEquals(Arrays.asList("replica"), log);
+    }
+
+    @Test
+    public void testScheduledCheck() throws InterruptedException {
+        List<String> log = Collections.synchronizedList(new ArrayList<>());
+        List<String> reads = new ArrayList<>();
+        Set<Thread> checkThreads = ConcurrentHashMap.newKeySet();
+        try (ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("replica", recorder("replica", log))
+                .setLagChecker(con -> {
+                    checkThreads.add(Thread.currentThread());
+                    return 60_000L;
+                })
+                .setCheckInterval(Duration.ofMillis(10))
+                .setFallback(recorder("master", reads))
+                .build()
+        ) {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!replicaSet.getReplicas().get(0).isEjected()) {
+                Assertions.assertTrue(System.currentTimeMillis() < deadline, "The replica is not checked");
+                Thread.sleep(10);
+            }
+            replicaSet.execute(con -> null);
+            Assertions.assertEquals(Arrays.asList("master"), reads);
+        }
+        // The reads never check the replicas by themselves
+        Assertions.assertFalse(checkThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testLeastInFlight() {
+        List<String> log = new ArrayList<>();
+        ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("a", recorder("a", log))
+                .addReplica("b", recorder("b", log))
+                .setPolicy(ReplicaPolicy.leastInFlight())
+                .build();
+        for (int i = 0; i < 10; i++) {
+            log.clear();
+            // The outer replica is in flight when the nested read is executed
+            replicaSet.execute(con -> replicaSet.execute(nestedCon -> null));
+            Assertions.assertEquals(2, log.size());
+            Assertions.assertNotEquals(log.get(0), log.get(1));
+        }
+        for (ReplicaSet.Replica replica : replicaSet.getReplicas()) {
+            Assertions.assertEquals(0, replica.getInFlightCount());
+        }
+    }
+
+    @Test
+    public void testLatencyWeighted() {
+        List<String> log = new ArrayList<>();
+        ReplicaSet replicaSet = ReplicaSet
+                .newBuilder()
+                .addReplica("fast", recorder("fast", log))
+                .addReplica("slow", recorder("slow", log))
+                .setPolicy(ReplicaPolicy.latencyWeighted())
+                .build();
+        ReplicaSet.Replica fast = replicaSet.getReplicas().get(0);
+        ReplicaSet.Replica slow = replicaSet.getReplicas().get(1);
+        fast.execute(con -> null);
+        slow.execute(con -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                throw new AssertionError(ex);
+            }
+            return null;
+        });
+        Assertions.assertTrue(slow.getAverageLatencyNanos() > fast.getAverageLatencyNanos() * 100);
+        log.clear();
+        for (int i = 0; i < 100; i++) {
+            replicaSet.execute(con -> null);
+        }
+        Assertions.assertTrue(Collections.frequency(log, "fast") >= 90, log::toString);
+    }
+
+    @Test
+    public void testReadYourWrites() {
+        List<String> log = new ArrayList<>();
+        jdbc(null, true, con -> {
+            JSqlClient sqlClient = getSqlClient(it -> {
+                it.setConnectionManager(recorder("master", log, con));
+                it.setSlaveConnectionManager(recorder("slave", log, con));
+            });
+            BookTable table = BookTable.$;
+            ReplicaSet.executeRequest(() -> {
+                sqlClient.createQuery(table).select(table.name()).execute();
+                sqlClient
+                        .createUpdate(table)
+                        .set(table.price(), table.price().plus(BigDecimal.ONE))
+                        .where(table.name().eq("GraphQL in Action"))
+                        .execute();
+                return sqlClient.createQuery(table).select(table.name()).execute();
+            });
+            sqlClient.createQuery(table).select(table.name()).execute();
+        });
+        Assertions.assertEquals(Arrays.asList("slave", "master", "master", "slave"), log);
+    }
+
+    private static ConnectionManager recorder(String name, List<String> log) {
+        return recorder(name, log, null);
+    }
+
+    private static ConnectionManager recorder(String name, List<String> log, Connection con) {
+        return new ConnectionManager() {
+            @Override
+            public <R> R execute(Function<Connection, R> block) {
+                log.add(name);
+                return block.apply(con);
+            }
+        };
+    }
+}
@@ -0,0 +1,139 @@
+package org.babyfish.jimmer.sql.runtime;
+
+import org.babyfish.jimmer.sql.JSqlClient;
+import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.sql.model.BookTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class StatementCacheTest extends AbstractTest {
+
+    @Test
+    public void testReuseStatement() {
+        JSqlClient sqlClient = getSqlClient();
+        BookTable table = BookTable.$;
+        jdbc(con -> {
+            List<PreparedStatement> statements = new ArrayList<>();
+            Connection recordingCon = recording(con, statements);
+            List<Integer> counts = StatementCache.execute(recordingCon, () -> {
+                List<Integer> list = new ArrayList<>();
+                for (String name : new String[] { "Learning GraphQL", "GraphQL in Action", "Effective TypeScript" }) {
+                    list.add(
+                            sqlClient
+                                    .createQuery(table)
+                                    .where(table.name().eq(name))
+                                    .select(table.edition())
+                                    .execute(recordingCon)
+                                    .size()
+                    );
+                }
+                Assertions.assertEquals(1, statements.size());
+                Assertions.assertFalse(isClosed(statements.get(0)));
+                return list;
+            });
+            Assertions.assertEquals(3, counts.size());
+            for (int count : counts) {
+                Assertions.assertEquals(3, count);
+            }
+            Assertions.assertTrue(statements.get(0).isClosed());
+        });
+    }
+
+    @Test
+    public void testNoReuseOutOfScope() {
+        BookTable table = BookTable.$;
+        jdbc(con -> {
+            List<PreparedStatement> statements = new ArrayList<>();
+            Connection recordingCon = recording(con, statements);
+            for (int i = 0; i < 2; i++) {
+                getSqlClient()
+                        .createQuery(table)
+                        .where(table.name().eq("Learning GraphQL"))
+                        .select(table.edition())
+                        .execute(recordingCon);
+            }
+            Assertions.assertEquals(2, statements.size());
+            for (PreparedStatement statement : statements) {
+                Assertions.assertTrue(statement.isClosed());
+            }
+        });
+    }
+
+    @Test
+    public void testScopeOpenedByConnectionManager() {
+        BookTable table = BookTable.$;
+        jdbc(con -> {
+            List<PreparedStatement> statements = new ArrayList<>();
+            Connection recordingCon = recording(con, statements);
+            JSqlClient sqlClient = getSqlClient(it -> {
+                it.setConnectionManager(
+                        new ConnectionManager() {
+                            @Override
+                            public <R> R execute(Function<Connection, R> block) {
+                                return block.apply(recordingCon);
+                            }
+                        }
+                );
+                it.setStatementCacheCapacity(8);
+            });
+            sqlClient.getConnectionManager().execute(c -> {
+                for (int i = 0; i < 3; i++) {
+                    sqlClient
+                            .createQuery(table)
+                            .where(table.name().eq("Learning GraphQL"))
+                            .select(table.edition())
+                            .execute();
+                }
+                Assertions.assertEquals(1, statements.size());
+                Assertions.assertFalse(isClosed(statements.get(0)));
+                return null;
+            });
+            Assertions.assertTrue(statements.get(0).isClosed());
+
+            // Each query borrows the connection by itself, so the scope is closed after it
+            sqlClient
+                    .createQuery(table)
+                    .where(table.name().eq("Learning GraphQL"))
+                    .select(table.edition())
+                    .execute();
+            Assertions.assertEquals(2, statements.size());
+            Assertions.assertTrue(statements.get(1).isClosed());
+        });
+    }
+
+    private static boolean isClosed(PreparedStatement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static Connection recording(Connection con, List<PreparedStatement> statements) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[] { Connection.class },
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(con, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                    if (method.getName().equals("prepareStatement")) {
+                        statements.add((PreparedStatement) result);
+                    }
+                    return result;
+                }
+        );
+    }
+}
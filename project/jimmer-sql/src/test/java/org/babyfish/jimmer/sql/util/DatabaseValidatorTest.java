@@ -1,15 +1,25 @@
 package org.babyfish.jimmer.sql.util;
 
 import org.babyfish.jimmer.sql.common.AbstractTest;
+import org.babyfish.jimmer.meta.ImmutableProp;
+import org.babyfish.jimmer.meta.ImmutableType;
 import org.babyfish.jimmer.sql.meta.ForeignKeyStrategy;
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
+import org.babyfish.jimmer.sql.model.BookStore;
 import org.babyfish.jimmer.sql.model.JimmerModule;
+import org.babyfish.jimmer.sql.model.TreeNode;
 import org.babyfish.jimmer.sql.runtime.DatabaseValidationException;
 import org.babyfish.jimmer.sql.runtime.DatabaseValidators;
 import org.babyfish.jimmer.sql.runtime.DefaultDatabaseNamingStrategy;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
 public class DatabaseValidatorTest extends AbstractTest {
 
     @Test
@@ -26,4 +36,187 @@ public class DatabaseValidatorTest extends AbstractTest {
             Assertions.assertNull(ex);
         });
     }
+
+    @Test
+    public void testH2WithBulkMetadata() {
+        jdbc(con -> {
+            DatabaseValidationException ex = DatabaseValidators.validate(
+                    JimmerModule.ENTITY_MANAGER,
+                    "",
+                    new MetadataStrategy(DefaultDatabaseNamingStrategy.UPPER_CASE, ForeignKeyStrategy.REAL),
+                    null,
+                    null,
+                    con,
+                    true
+            );
+            Assertions.assertNull(ex);
+        });
+    }
+
+    @Test
+    public void testH2WithBulkForeignKeys() {
+        List<String> calls = new ArrayList<>();
+        jdbc(con -> {
+            DatabaseValidationException ex = DatabaseValidators.validate(
+                    JimmerModule.ENTITY_MANAGER,
+                    "",
+                    new MetadataStrategy(DefaultDatabaseNamingStrategy.UPPER_CASE, ForeignKeyStrategy.REAL),
+                    null,
+                    null,
+                    crossReferenceSupported(con, calls),
+                    true
+            );
+            Assertions.assertNull(ex);
+        });
+        // Columns and foreign keys are loaded by one call for each schema of mapped tables,
+        // other schemas such as INFORMATION_SCHEMA are not loaded
+        Assertions.assertEquals(
+                Collections.singletonList("getTables(null)"),
+                calls.stream().filter(it -> it.startsWith("getTables(")).collect(Collectors.toList())
+        );
+        Assertions.assertFalse(calls.stream().anyMatch(it -> it.startsWith("getImportedKeys(")), calls.toString());
+        Assertions.assertFalse(calls.contains("getColumns(null)"), calls.toString());
+        Assertions.assertFalse(calls.contains("getColumns(INFORMATION_SCHEMA)"), calls.toString());
+        Assertions.assertTrue(calls.contains("getColumns(PUBLIC)"), calls.toString());
+        Assertions.assertTrue(calls.contains("getCrossReference(PUBLIC)"), calls.toString());
+        Assertions.assertEquals(new HashSet<>(calls).size(), calls.size(), calls.toString());
+    }
+
+    @Test
+    public void testH2WithBulkMetadataAndMissingTableAndColumn() {
+        DefaultDatabaseNamingStrategy namingStrategy = new DefaultDatabaseNamingStrategy(false) {
+            @Override
+            public String tableName(ImmutableType type) {
+                if (type.getJavaClass() == TreeNode.class) {
+                    return "MISSING_TREE_NODE";
+                }
+                return super.tableName(type);
+            }
+
+            @Override
+            public String columnName(ImmutableProp prop) {
+                if (prop.getDeclaringType().getJavaClass() == BookStore.class &&
+                        prop.getName().equals("website")) {
+                    return "MISSING_WEBSITE";
+                }
+                return super.columnName(prop);
+            }
+        };
+        jdbc(con -> {
+            DatabaseValidationException ex = DatabaseValidators.validate(
+                    JimmerModule.ENTITY_MANAGER,
+                    "",
+                    new MetadataStrategy(namingStrategy, ForeignKeyStrategy.REAL),
+                    null,
+                    null,
+                    con,
+                    true
+            );
+            Assertions.assertNotNull(ex);
+            List<String> messages = ex
+                    .getItems()
+                    .stream()
+                    .map(DatabaseValidationException.Item::getMessage)
+                    .sorted()
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(2, messages.size());
+            Assertions.assertTrue(
+                    messages.get(0).startsWith("There is no column \"MISSING_WEBSITE\" in table"),
+                    messages.get(0)
+            );
+            Assertions.assertTrue(messages.get(0).endsWith(".BOOK_STORE\""), messages.get(0));
+            Assertions.assertEquals("There is no table \"MISSING_TREE_NODE\"", messages.get(1));
+        });
+    }
+
+    /**
+     * Like some drivers, H2 requires table names for `getCrossReference`,
+     * so the cross reference of all tables is simulated by `getImportedKeys`
+     */
+    private static Connection crossReferenceSupported(Connection con, List<String> calls) throws SQLException {
+        DatabaseMetaData rawMetaData = con.getMetaData();
+        DatabaseMetaData metaData = (DatabaseMetaData) Proxy.newProxyInstance(
+                DatabaseMetaData.class.getClassLoader(),
+                new Class[] { DatabaseMetaData.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTables":
+                        case "getColumns":
+                        case "getImportedKeys":
+                            calls.add(method.getName() + "(" + args[1] + ")");
+                            break;
+                        case "getCrossReference":
+                            calls.add("getCrossReference(" + args[4] + ")");
+                            if (args[2] == null && args[5] == null) {
+                                return importedKeysOfAllTables(rawMetaData, (String) args[3], (String) args[4]);
+                            }
+                            break;
+                    }
+                    try {
+                        return method.invoke(rawMetaData, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                }
+        );
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class[] { Connection.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getMetaData")) {
+                        return metaData;
+                    }
+                    try {
+                        return method.invoke(con, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                }
+        );
+    }
+
+    private static ResultSet importedKeysOfAllTables(
+            DatabaseMetaData metaData,
+            String catalog,
+            String schema
+    ) throws SQLException {
+        List<String> tableNames = new ArrayList<>();
+        try (ResultSet rs = metaData.getTables(catalog, schema, "%", null)) {
+            while (rs.next()) {
+                tableNames.add(rs.getString("TABLE_NAME"));
+            }
+        }
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (String tableName : tableNames) {
+            try (ResultSet rs = metaData.getImportedKeys(catalog, schema, tableName)) {
+                ResultSetMetaData rsMetaData = rs.getMetaData();
+                while (rs.next()) {
+                    Map<String, String> row = new HashMap<>();
+                    for (int i = 1; i <= rsMetaData.getColumnCount(); i++) {
+                        row.put(rsMetaData.getColumnLabel(i).toUpperCase(), rs.getString(i));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        Iterator<Map<String, String>> itr = rows.iterator();
+        Map<String, String>[] current = new Map[1];
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            current[0] = itr.hasNext() ? itr.next() : null;
+                            return current[0] != null;
+                        case "getString":
+                            return current[0].get(((String) args[0]).toUpperCase());
+                        case "close":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }
+        );
+    }
 }
@@ -1,10 +1,17 @@
 package org.babyfish.jimmer.sql.util;
 
+import org.babyfish.jimmer.meta.ImmutableProp;
 import org.babyfish.jimmer.meta.ImmutableType;
+import org.babyfish.jimmer.meta.impl.StaticMapping;
 import org.babyfish.jimmer.sql.association.meta.AssociationType;
 import org.babyfish.jimmer.sql.meta.ForeignKeyStrategy;
 import org.babyfish.jimmer.sql.meta.MetadataStrategy;
+import org.babyfish.jimmer.sql.meta.MiddleTable;
+import org.babyfish.jimmer.sql.meta.SingleColumn;
+import org.babyfish.jimmer.sql.model.Book;
+import org.babyfish.jimmer.sql.model.BookStore;
 import org.babyfish.jimmer.sql.model.JimmerModule;
+import org.babyfish.jimmer.sql.model.TreeNode;
 import org.babyfish.jimmer.sql.model.inheritance.*;
 import org.babyfish.jimmer.sql.runtime.DefaultDatabaseNamingStrategy;
 import org.junit.jupiter.api.Assertions;
@@ -12,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class EntityManagerTest {
@@ -81,4 +89,76 @@ public class EntityManagerTest {
                 JimmerModule.ENTITY_MANAGER.getNonNullTypeByServiceAndTable("", "`Administrator_Role_Mapping`", strategy)
         );
     }
+
+    @Test
+    public void testWarmUp() {
+        MetadataStrategy strategy = new MetadataStrategy(
+                DefaultDatabaseNamingStrategy.UPPER_CASE,
+                ForeignKeyStrategy.REAL
+        );
+        JimmerModule.ENTITY_MANAGER.warmUp(strategy);
+        Assertions.assertEquals(
+                "org.babyfish.jimmer.sql.model.inheritance.Role.administrators",
+                ImmutableType.get(Administrator.class).getProp("roles").getOpposite().toString()
+        );
+    }
+
+    @Test
+    public void testMappingRegisteredByGeneratedCode() {
+        ImmutableProp storeProp = ImmutableType.get(Book.class).getProp("store");
+        ImmutableProp booksProp = ImmutableType.get(BookStore.class).getProp("books");
+        Assertions.assertEquals("", StaticMapping.of(storeProp).getMappedBy());
+        Assertions.assertEquals("store", StaticMapping.of(booksProp).getMappedBy());
+        Assertions.assertSame(storeProp, booksProp.getMappedBy());
+        Assertions.assertSame(booksProp, storeProp.getOpposite());
+
+        Assertions.assertEquals(
+                "NODE_ID",
+                StaticMapping.of(ImmutableType.get(TreeNode.class).getIdProp()).getColumnName()
+        );
+
+        StaticMapping orderMapping = StaticMapping.of(
+                ImmutableType.get(org.babyfish.jimmer.sql.model.embedded.OrderItem.class).getProp("order")
+        );
+        Assertions.assertEquals(
+                "[FK_ORDER_X->ORDER_X, FK_ORDER_Y->ORDER_Y]",
+                joinColumns(orderMapping.getJoinColumns())
+        );
+
+        StaticMapping.JoinTableInfo productsTable = StaticMapping.of(
+                ImmutableType.get(org.babyfish.jimmer.sql.model.embedded.OrderItem.class).getProp("products")
+        ).getJoinTable();
+        Assertions.assertEquals("ORDER_ITEM_PRODUCT_MAPPING", productsTable.getName());
+        Assertions.assertEquals(
+                "[FK_ORDER_ITEM_A->ORDER_ITEM_A, FK_ORDER_ITEM_B->ORDER_ITEM_B, FK_ORDER_ITEM_C->ORDER_ITEM_C]",
+                joinColumns(productsTable.getJoinColumns())
+        );
+        Assertions.assertEquals(
+                "[FK_PRODUCT_ALPHA->PRODUCT_ALPHA, FK_PRODUCT_BETA->PRODUCT_BETA]",
+                joinColumns(productsTable.getInverseColumns())
+        );
+
+        // Inherited from mapped super class
+        ImmutableProp rolesProp = ImmutableType.get(Administrator.class).getProp("roles");
+        Assertions.assertEquals(
+                "ADMINISTRATOR_ROLE_MAPPING",
+                StaticMapping.of(rolesProp).getJoinTable().getName()
+        );
+        MetadataStrategy strategy = new MetadataStrategy(
+                DefaultDatabaseNamingStrategy.UPPER_CASE,
+                ForeignKeyStrategy.REAL
+        );
+        MiddleTable middleTable = rolesProp.getStorage(strategy);
+        Assertions.assertEquals("ADMINISTRATOR_ROLE_MAPPING", middleTable.getTableName());
+        Assertions.assertEquals("ADMINISTRATOR_ID", ((SingleColumn) middleTable.getColumnDefinition()).getName());
+        Assertions.assertEquals("ROLE_ID", ((SingleColumn) middleTable.getTargetColumnDefinition()).getName());
+    }
+
+    private static String joinColumns(List<StaticMapping.JoinColumnInfo> joinColumns) {
+        return joinColumns
+                .stream()
+                .map(it -> it.getName() + "->" + it.getReferencedColumnName())
+                .collect(Collectors.toList())
+                .toString();
+    }
 }
@@ -9,3 +9,4 @@ include("jimmer-sql-kotlin")
 include("jimmer-client")
 include("jimmer-spring-boot-starter")
 include("jimmer-dto-compiler")
+include("jimmer-benchmark")